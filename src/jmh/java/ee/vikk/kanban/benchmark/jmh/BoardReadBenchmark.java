@@ -0,0 +1,87 @@
+package ee.vikk.kanban.benchmark.jmh;
+
+import ee.vikk.kanban.model.Board;
+import ee.vikk.kanban.model.Column;
+import ee.vikk.kanban.model.ColumnDAO;
+import ee.vikk.kanban.model.Task;
+import ee.vikk.kanban.model.TaskSearchResult;
+import ee.vikk.kanban.repository.TaskProjection;
+import ee.vikk.kanban.repository.TaskQuery;
+import ee.vikk.kanban.service.BoardService;
+import ee.vikk.kanban.service.TaskService;
+import ee.vikk.kanban.service.ValidationException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Board hydration, column listing and search against one board of the dataset
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BoardReadBenchmark {
+
+    private BoardService boardService;
+    private TaskService taskService;
+    private ColumnDAO columnDAO;
+    private Integer boardId;
+
+    @Setup
+    public void setUp(KanbanDataset dataset) {
+        boardService = new BoardService();
+        taskService = new TaskService();
+        columnDAO = new ColumnDAO();
+        boardId = dataset.getBoardId();
+    }
+
+    @Benchmark
+    public Board loadBoard() throws SQLException {
+        return boardService.getBoardWithTasks(boardId);
+    }
+
+    @Benchmark
+    public Board loadBoardSummaries() throws SQLException {
+        return boardService.getBoardWithTaskSummaries(boardId);
+    }
+
+    // Goes through the metadata cache, so this measures cache hits
+    @Benchmark
+    public Board listColumnsCached() throws SQLException {
+        return boardService.getBoardWithColumns(boardId);
+    }
+
+    @Benchmark
+    public List<Column> listColumns() throws SQLException {
+        return columnDAO.findByBoardId(boardId);
+    }
+
+    @Benchmark
+    public List<TaskSearchResult> searchBoard() throws SQLException, ValidationException {
+        return taskService.search(boardId, KanbanDataset.SEARCH_TERM, 50);
+    }
+
+    // Filtered query over every board, so its cost follows the dataset size
+    @Benchmark
+    public List<Task> searchAllBoards() throws SQLException, ValidationException {
+        return taskService.findTasks(TaskQuery.builder()
+            .text(KanbanDataset.SEARCH_TERM)
+            .projection(TaskProjection.SUMMARY)
+            .limit(50)
+            .build());
+    }
+}
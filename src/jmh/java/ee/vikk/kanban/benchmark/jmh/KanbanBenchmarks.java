@@ -0,0 +1,40 @@
+package ee.vikk.kanban.benchmark.jmh;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the JMH benchmarks and writes the results as JSON, so runs can be
+ * compared with each other. Accepts the usual JMH command line options, for
+ * example "BoardRead -p taskCount=1000 -p mode=MEMORY"; -rf and -rff replace
+ * the JSON defaults.
+ * Run with:
+ * mvn -Pjmh test-compile exec:exec [-Djmh.args="..."]
+ */
+public class KanbanBenchmarks {
+    /** Result file used unless -rff names another */
+    public static final String DEFAULT_RESULT_FILE = "target/jmh-result.json";
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        if (commandLine.shouldHelp()) {
+            commandLine.showHelp();
+            return;
+        }
+
+        ChainedOptionsBuilder options = new OptionsBuilder().parent(commandLine);
+        if (!commandLine.getResultFormat().hasValue()) {
+            options.resultFormat(ResultFormatType.JSON);
+        }
+        if (!commandLine.getResult().hasValue()) {
+            options.result(DEFAULT_RESULT_FILE);
+        }
+        if (commandLine.getIncludes().isEmpty()) {
+            options.include(KanbanBenchmarks.class.getPackageName() + ".");
+        }
+        new Runner(options.build()).run();
+    }
+}
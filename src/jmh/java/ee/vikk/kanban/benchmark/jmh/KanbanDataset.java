@@ -0,0 +1,87 @@
+package ee.vikk.kanban.benchmark.jmh;
+
+import ee.vikk.kanban.database.DatabaseConfig;
+import ee.vikk.kanban.database.DatabaseConnection;
+import ee.vikk.kanban.workload.GeneratedWorkload;
+import ee.vikk.kanban.workload.WorkloadGenerator;
+import ee.vikk.kanban.workload.WorkloadSpec;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * Database seeded once per benchmark run by WorkloadGenerator with boards of
+ * BOARD_SIZE tasks each, so every dataset size has boards of the same shape
+ * and only the total row count changes. Benchmarks work on the board in the
+ * middle of the dataset.
+ */
+@State(Scope.Benchmark)
+public class KanbanDataset {
+    /** Tasks on every seeded board */
+    public static final int BOARD_SIZE = 1_000;
+    /** Subject word of about one generated title in sixteen, for search benchmarks */
+    public static final String SEARCH_TERM = "invoice";
+
+    @Param({"1000", "100000", "1000000"})
+    public int taskCount;
+
+    @Param({"FILE", "MEMORY"})
+    public DatabaseConfig.Mode mode;
+
+    private Path directory;
+    private Integer boardId;
+    private List<Integer> columnIds;
+    private List<Integer> taskIds;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        directory = Files.createTempDirectory("kanban-jmh");
+        Properties properties = new Properties();
+        properties.setProperty(DatabaseConfig.DB_MODE, mode.name());
+        properties.setProperty(DatabaseConfig.DB_PATH,
+            mode == DatabaseConfig.Mode.FILE ? directory.resolve("bench.db").toString() : "kanban-jmh");
+        DatabaseConnection.configure(DatabaseConfig.fromProperties(properties));
+        DatabaseConnection.initializeDatabase();
+
+        GeneratedWorkload workload = new WorkloadGenerator().generate(WorkloadSpec.builder()
+            .boards(Math.max(1, taskCount / BOARD_SIZE))
+            .tasksPerBoard(BOARD_SIZE, BOARD_SIZE)
+            .build());
+        List<Integer> boardIds = workload.getBoardIds();
+        boardId = boardIds.get(boardIds.size() / 2);
+        columnIds = workload.getColumnIds(boardId);
+        taskIds = workload.getTaskIds(boardId);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        DatabaseConnection.closeConnection();
+        try (var files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.deleteIfExists(file);
+            }
+        }
+        Files.deleteIfExists(directory);
+    }
+
+    // Getters
+    public Integer getBoardId() {
+        return boardId;
+    }
+
+    public List<Integer> getColumnIds() {
+        return columnIds;
+    }
+
+    public List<Integer> getTaskIds() {
+        return taskIds;
+    }
+}
@@ -0,0 +1,57 @@
+package ee.vikk.kanban.benchmark.jmh;
+
+import ee.vikk.kanban.model.Task;
+import ee.vikk.kanban.service.TaskService;
+import ee.vikk.kanban.service.ValidationException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single task inserts and moves through TaskService, each its own transaction
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskWriteBenchmark {
+
+    private TaskService taskService;
+    private List<Integer> columnIds;
+    private List<Integer> taskIds;
+    private int operation;
+
+    @Setup
+    public void setUp(KanbanDataset dataset) {
+        taskService = new TaskService();
+        columnIds = dataset.getColumnIds();
+        taskIds = dataset.getTaskIds();
+    }
+
+    @Benchmark
+    public Task insertTask() throws SQLException, ValidationException {
+        Integer columnId = columnIds.get(operation++ % columnIds.size());
+        return taskService.createTask(columnId, "Benchmark task " + operation, "Inserted by the benchmark");
+    }
+
+    // Cycles through the board's seeded tasks, moving each to the end of the next column
+    @Benchmark
+    public void moveTask() throws SQLException, ValidationException {
+        Integer taskId = taskIds.get(operation % taskIds.size());
+        Integer targetColumnId = columnIds.get(operation++ % columnIds.size());
+        taskService.moveTask(taskId, targetColumnId);
+    }
+}
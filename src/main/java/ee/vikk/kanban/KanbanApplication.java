@@ -1,6 +1,8 @@
 package ee.vikk.kanban;
 
+import ee.vikk.kanban.database.DatabaseConfig;
 import ee.vikk.kanban.database.DatabaseConnection;
+import ee.vikk.kanban.metrics.Metrics;
 import javafx.application.Application;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Scene;
@@ -16,10 +18,11 @@ public class KanbanApplication extends Application {
 
     @Override
     public void start(Stage stage) throws IOException {
-        // Initialize database
+        // Resolve configuration once and initialize database
         try {
+            DatabaseConnection.configure(DatabaseConfig.load());
             DatabaseConnection.initializeDatabase();
-        } catch (SQLException e) {
+        } catch (SQLException | IllegalArgumentException | IllegalStateException e) {
             System.err.println("Failed to initialize database: " + e.getMessage());
             return;
         }
@@ -38,6 +41,7 @@ public class KanbanApplication extends Application {
     @Override
     public void stop() throws Exception {
         super.stop();
+        Metrics.dumpOnShutdown();
         DatabaseConnection.closeConnection();
     }
 
@@ -1,15 +1,25 @@
 package ee.vikk.kanban.controller;
 
+import ee.vikk.kanban.database.DatabaseConnection;
+import ee.vikk.kanban.database.SlowQuery;
+import ee.vikk.kanban.database.SlowQueryLog;
+import ee.vikk.kanban.metrics.BoardRenderEvent;
 import ee.vikk.kanban.model.Board;
 import ee.vikk.kanban.model.Column;
 import ee.vikk.kanban.model.Task;
-import ee.vikk.kanban.service.BoardService;
-import ee.vikk.kanban.service.TaskService;
-import ee.vikk.kanban.service.ColumnService;
-import ee.vikk.kanban.service.ValidationException;
+import ee.vikk.kanban.model.TaskSearchResult;
+import ee.vikk.kanban.repository.TaskProjection;
+import ee.vikk.kanban.repository.TaskQuery;
+import ee.vikk.kanban.service.AsyncKanbanService;
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.fxml.Initializable;
 import javafx.geometry.Insets;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
 import javafx.scene.control.*;
 import javafx.scene.input.*;
 import javafx.scene.layout.HBox;
@@ -17,10 +27,15 @@ import javafx.scene.layout.Priority;
 import javafx.scene.layout.VBox;
 
 import java.net.URL;
-import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.ResourceBundle;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
 
 /**
  * Controller for board view with columns and tasks
@@ -36,16 +51,22 @@ public class BoardController implements Initializable {
     @FXML
     private Label statusLabel;
 
-    private BoardService boardService;
-    private TaskService taskService;
-    private ColumnService columnService;
+    @FXML
+    private ProgressIndicator progressIndicator;
+
+    private AsyncKanbanService kanbanService;
+    private static final int SEARCH_LIMIT = 50;
+
     private Board currentBoard;
+    private int pendingCalls;
+
+    // Displayed tasks by ID; each column's task list is the observable list behind its ListView,
+    // so a change to one list updates only the cells that show it
+    private final Map<Integer, Task> displayedTasks = new HashMap<>();
 
     @Override
     public void initialize(URL location, ResourceBundle resources) {
-        boardService = new BoardService();
-        taskService = new TaskService();
-        columnService = new ColumnService();
+        kanbanService = new AsyncKanbanService();
     }
 
     /**
@@ -53,27 +74,66 @@ public class BoardController implements Initializable {
      * @param boardId Board ID to load
      */
     public void loadBoard(Integer boardId) {
-        try {
-            currentBoard = boardService.getBoardWithColumns(boardId);
-            if (currentBoard == null) {
+        runInBackground(kanbanService.getBoardWithTaskSummaries(boardId), "Failed to load board", board -> {
+            if (board == null) {
                 showError("Board not found");
                 return;
             }
-            
+
+            currentBoard = board;
             boardTitleLabel.setText(currentBoard.getName());
             displayColumns();
             setStatusMessage("Loaded board: " + currentBoard.getName());
-            
-        } catch (SQLException e) {
-            showError("Failed to load board: " + e.getMessage());
-        }
+        });
+    }
+
+    /**
+     * Reload the current board with all its tasks and redisplay it
+     */
+    private void refreshBoard() {
+        runInBackground(kanbanService.getBoardWithTaskSummaries(currentBoard.getId()), "Failed to reload board", board -> {
+            if (board != null) {
+                currentBoard = board;
+                displayColumns();
+            }
+        });
+    }
+
+    /**
+     * Show progress until a background call completes, then handle its result
+     * on the FX application thread
+     * @param call Future of the background call
+     * @param failureMessage Error message prefix shown if the call fails
+     * @param onSuccess Handler for the result
+     * @param <T> Result type
+     */
+    private <T> void runInBackground(CompletableFuture<T> call, String failureMessage, Consumer<T> onSuccess) {
+        pendingCalls++;
+        progressIndicator.setVisible(true);
+        call.whenComplete((result, error) -> Platform.runLater(() -> {
+            if (--pendingCalls == 0) {
+                progressIndicator.setVisible(false);
+            }
+            if (error != null) {
+                showError(failureMessage + ": " + causeMessage(error));
+            } else {
+                onSuccess.accept(result);
+            }
+        }));
+    }
+
+    private static String causeMessage(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        return cause.getMessage();
     }
 
     /**
      * Display columns with their tasks
      */
     private void displayColumns() {
+        BoardRenderEvent event = BoardRenderEvent.begin(BoardRenderEvent.BOARD, currentBoard.getId(), 0);
         columnsContainer.getChildren().clear();
+        displayedTasks.clear();
         
         for (Column column : currentBoard.getColumns()) {
             VBox columnBox = createColumnBox(column);
@@ -83,6 +143,73 @@ public class BoardController implements Initializable {
         // Add "Add Column" button at the end
         VBox addColumnBox = createAddColumnBox();
         columnsContainer.getChildren().add(addColumnBox);
+
+        commitAfterLayout(event, columnsContainer, displayedTasks.size());
+    }
+
+    /**
+     * Commit a render event once the next layout pass has built the list skins
+     * and their cells, so the event covers the nodes actually shown
+     * @param event Render event, committed only if it is enabled
+     * @param root Rendered board or column
+     * @param tasks Tasks shown by the rendered columns
+     */
+    private void commitAfterLayout(BoardRenderEvent event, Parent root, int tasks) {
+        if (!event.shouldCommit()) {
+            return;
+        }
+        Scene scene = columnsContainer.getScene();
+        if (scene == null) {
+            event.commit(countNodes(root), countTaskCells(root), tasks);
+            return;
+        }
+
+        boolean[] committed = new boolean[1];
+        Runnable[] listener = new Runnable[1];
+        listener[0] = () -> {
+            if (committed[0]) {
+                return;
+            }
+            committed[0] = true;
+            event.commit(countNodes(root), countTaskCells(root), tasks);
+            // The scene is still iterating its listeners
+            Platform.runLater(() -> scene.removePostLayoutPulseListener(listener[0]));
+        };
+        scene.addPostLayoutPulseListener(listener[0]);
+    }
+
+    /**
+     * Count a node and its descendants
+     * @param node Root node
+     * @return Number of nodes in the subtree
+     */
+    private static int countNodes(Node node) {
+        int count = 1;
+        if (node instanceof Parent) {
+            for (Node child : ((Parent) node).getChildrenUnmodifiable()) {
+                count += countNodes(child);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Count the task cells that show a task
+     * @param node Root node
+     * @return Number of visible, non-empty task cells in the subtree
+     */
+    private static int countTaskCells(Node node) {
+        if (node instanceof TaskCell) {
+            TaskCell cell = (TaskCell) node;
+            return cell.isVisible() && !cell.isEmpty() ? 1 : 0;
+        }
+        int count = 0;
+        if (node instanceof Parent) {
+            for (Node child : ((Parent) node).getChildrenUnmodifiable()) {
+                count += countTaskCells(child);
+            }
+        }
+        return count;
     }
 
     /**
@@ -91,6 +218,7 @@ public class BoardController implements Initializable {
      * @return VBox representing the column
      */
     private VBox createColumnBox(Column column) {
+        BoardRenderEvent event = BoardRenderEvent.begin(BoardRenderEvent.COLUMN, currentBoard.getId(), column.getId());
         VBox columnBox = new VBox(10);
         columnBox.getStyleClass().add("column-box");
         columnBox.setPrefWidth(300);
@@ -107,74 +235,130 @@ public class BoardController implements Initializable {
         addTaskButton.getStyleClass().add("add-task-button");
         addTaskButton.setOnAction(e -> showAddTaskDialog(column));
         
-        // Tasks container
-        VBox tasksContainer = new VBox(5);
-        tasksContainer.getStyleClass().add("tasks-container");
-        
-        // Load tasks for this column
-        try {
-            List<Task> tasks = taskService.getTasksByColumn(column.getId());
-            for (Task task : tasks) {
-                VBox taskBox = createTaskBox(task);
-                tasksContainer.getChildren().add(taskBox);
-            }
-        } catch (SQLException e) {
-            showError("Failed to load tasks for column: " + column.getName());
+        // Tasks list, which only builds cards for the visible tasks
+        ObservableList<Task> tasks = FXCollections.observableArrayList(column.getTasks());
+        column.setTasks(tasks);
+        for (Task task : tasks) {
+            displayedTasks.put(task.getId(), task);
         }
+
+        ListView<Task> tasksList = new ListView<>(tasks);
+        tasksList.getStyleClass().addAll("tasks-container", "tasks-list");
+        tasksList.setCellFactory(list -> new TaskCell(this::showEditTaskDialog));
         
-        columnBox.getChildren().addAll(columnHeader, addTaskButton, tasksContainer);
-        VBox.setVgrow(tasksContainer, Priority.ALWAYS);
+        columnBox.getChildren().addAll(columnHeader, addTaskButton, tasksList);
+        VBox.setVgrow(tasksList, Priority.ALWAYS);
 
-        // Setup drop target for the tasks container
-        setupDropTarget(tasksContainer, column);
+        // Setup drop target for the tasks list
+        setupDropTarget(tasksList, column);
 
+        commitAfterLayout(event, columnBox, tasks.size());
         return columnBox;
     }
 
     /**
-     * Create a task box
-     * @param task Task to create box for
-     * @return VBox representing the task
+     * Show a created task at the end of its column
+     * @param task Created task
      */
-    private VBox createTaskBox(Task task) {
-        VBox taskBox = new VBox(5);
-        taskBox.getStyleClass().add("task-box");
-        taskBox.setPadding(new Insets(8));
-        
-        // Task title
-        Label titleLabel = new Label(task.getTitle());
-        titleLabel.getStyleClass().add("task-title");
-        titleLabel.setWrapText(true);
-        
-        // Task description (if exists)
-        if (task.getDescription() != null && !task.getDescription().trim().isEmpty()) {
-            Label descLabel = new Label(task.getDescription());
-            descLabel.getStyleClass().add("task-description");
-            descLabel.setWrapText(true);
-            taskBox.getChildren().add(descLabel);
+    private void showCreatedTask(Task task) {
+        Column column = findDisplayedColumn(task.getColumnId());
+        if (column == null) {
+            refreshBoard();
+            return;
         }
-        
-        // Priority indicator
-        if (task.getPriority() != null) {
-            Label priorityLabel = new Label(task.getPriority().name());
-            priorityLabel.getStyleClass().add("task-priority");
-            priorityLabel.getStyleClass().add("priority-" + task.getPriority().name().toLowerCase());
-            taskBox.getChildren().add(priorityLabel);
+        displayedTasks.put(task.getId(), task);
+        column.addTask(task);
+    }
+
+    /**
+     * Update an edited task and redraw the cell showing it
+     * @param task Displayed task
+     * @param title New title
+     * @param description New description, may be null
+     */
+    private void showUpdatedTask(Task task, String title, String description) {
+        task.setTitle(title);
+        task.setDescription(description);
+
+        Column column = findDisplayedColumn(task.getColumnId());
+        int index = column != null ? column.getTasks().indexOf(task) : -1;
+        if (index < 0) {
+            refreshBoard();
+            return;
+        }
+        // Replacing the element makes its cell, and no other, update its labels
+        column.getTasks().set(index, task);
+    }
+
+    /**
+     * Remove a deleted task from its column
+     * @param task Deleted task
+     */
+    private void showDeletedTask(Task task) {
+        displayedTasks.remove(task.getId());
+        Column column = findDisplayedColumn(task.getColumnId());
+        if (column != null) {
+            column.getTasks().remove(task);
+        }
+    }
+
+    /**
+     * Move a task from its column to the end of the target column, which is
+     * where the move places it
+     * @param taskId Moved task ID
+     * @param targetColumn Target column
+     */
+    private void showMovedTask(Integer taskId, Column targetColumn) {
+        Task task = displayedTasks.get(taskId);
+        Column sourceColumn = task != null ? findDisplayedColumn(task.getColumnId()) : null;
+        if (sourceColumn == null) {
+            refreshBoard();
+            return;
         }
-        
-        taskBox.getChildren().add(0, titleLabel);
-        
-        // Add click handler for editing
-        taskBox.setOnMouseClicked(e -> {
-            if (e.getClickCount() == 2) {
-                showEditTaskDialog(task);
-            }
-        });
 
-        // Add drag and drop functionality
-        setupDragAndDrop(taskBox, task);
+        sourceColumn.getTasks().remove(task);
+        task.setColumnId(targetColumn.getId());
+        targetColumn.addTask(task);
+    }
 
-        return taskBox;
+    /**
+     * Append a created column's box before the "Add Column" box
+     * @param column Created column
+     */
+    private void showAddedColumn(Column column) {
+        currentBoard.addColumn(column);
+        int addColumnBoxIndex = columnsContainer.getChildren().size() - 1;
+        columnsContainer.getChildren().add(addColumnBoxIndex, createColumnBox(column));
+    }
+
+    /**
+     * Show only the given tasks, each in its column
+     * @param tasks Tasks to show, ordered by column and rank
+     */
+    private void showFilteredTasks(List<Task> tasks) {
+        Map<Integer, List<Task>> tasksByColumn = new HashMap<>();
+        for (Task task : tasks) {
+            tasksByColumn.computeIfAbsent(task.getColumnId(), id -> new ArrayList<>()).add(task);
+        }
+
+        displayedTasks.clear();
+        for (Column column : currentBoard.getColumns()) {
+            List<Task> columnTasks = tasksByColumn.getOrDefault(column.getId(), List.of());
+            // createColumnBox made the column's list the one behind its ListView; one change redraws it once
+            ((ObservableList<Task>) column.getTasks()).setAll(columnTasks);
+            for (Task task : columnTasks) {
+                displayedTasks.put(task.getId(), task);
+            }
+        }
+    }
+
+    private Column findDisplayedColumn(Integer columnId) {
+        for (Column column : currentBoard.getColumns()) {
+            if (column.getId().equals(columnId)) {
+                return column;
+            }
+        }
+        return null;
     }
 
     /**
@@ -182,7 +366,7 @@ public class BoardController implements Initializable {
      * @param column Column to add task to
      */
     private void showAddTaskDialog(Column column) {
-        Dialog<Task> dialog = new Dialog<>();
+        Dialog<ButtonType> dialog = new Dialog<>();
         dialog.setTitle("Add New Task");
         dialog.setHeaderText("Add task to column: " + column.getName());
 
@@ -213,23 +397,15 @@ public class BoardController implements Initializable {
             addButton.setDisable(newValue.trim().isEmpty());
         });
 
-        dialog.setResultConverter(dialogButton -> {
-            if (dialogButton == addButtonType) {
-                try {
-                    return taskService.createTask(column.getId(), titleField.getText().trim(), 
-                                                descriptionArea.getText().trim().isEmpty() ? null : descriptionArea.getText().trim());
-                } catch (SQLException | ValidationException e) {
-                    showError("Failed to create task: " + e.getMessage());
-                    return null;
-                }
-            }
-            return null;
-        });
-
-        Optional<Task> result = dialog.showAndWait();
-        if (result.isPresent()) {
-            setStatusMessage("Task created: " + result.get().getTitle());
-            displayColumns(); // Refresh the view
+        Optional<ButtonType> result = dialog.showAndWait();
+        if (result.isPresent() && result.get() == addButtonType) {
+            String description = descriptionArea.getText().trim();
+            CompletableFuture<Task> created = kanbanService.createTask(currentBoard.getId(), column.getId(),
+                    titleField.getText().trim(), description.isEmpty() ? null : description);
+            runInBackground(created, "Failed to create task", task -> {
+                setStatusMessage("Task created: " + task.getTitle());
+                showCreatedTask(task);
+            });
         }
     }
 
@@ -238,7 +414,17 @@ public class BoardController implements Initializable {
      * @param task Task to edit
      */
     private void showEditTaskDialog(Task task) {
-        Dialog<Boolean> dialog = new Dialog<>();
+        if (!task.isDescriptionLoaded()) {
+            // Cards are loaded without descriptions; fetch this one before editing
+            runInBackground(kanbanService.getTaskDescription(currentBoard.getId(), task.getId()),
+                    "Failed to load task", description -> {
+                task.setDescription(description);
+                showEditTaskDialog(task);
+            });
+            return;
+        }
+
+        Dialog<ButtonType> dialog = new Dialog<>();
         dialog.setTitle("Edit Task");
         dialog.setHeaderText("Edit task: " + task.getTitle());
 
@@ -260,40 +446,33 @@ public class BoardController implements Initializable {
 
         dialog.getDialogPane().setContent(content);
 
-        dialog.setResultConverter(dialogButton -> {
-            if (dialogButton == saveButtonType) {
-                try {
-                    taskService.updateTask(task.getId(), titleField.getText().trim(), 
-                                         descriptionArea.getText().trim().isEmpty() ? null : descriptionArea.getText().trim());
-                    return true;
-                } catch (SQLException | ValidationException e) {
-                    showError("Failed to update task: " + e.getMessage());
-                    return false;
-                }
-            } else if (dialogButton == deleteButtonType) {
-                Alert confirmAlert = new Alert(Alert.AlertType.CONFIRMATION);
-                confirmAlert.setTitle("Delete Task");
-                confirmAlert.setHeaderText("Are you sure you want to delete this task?");
-                confirmAlert.setContentText(task.getTitle());
-                
-                Optional<ButtonType> confirmResult = confirmAlert.showAndWait();
-                if (confirmResult.isPresent() && confirmResult.get() == ButtonType.OK) {
-                    try {
-                        taskService.deleteTask(task.getId());
-                        return true;
-                    } catch (SQLException | ValidationException e) {
-                        showError("Failed to delete task: " + e.getMessage());
-                        return false;
-                    }
-                }
-            }
-            return false;
-        });
+        Optional<ButtonType> result = dialog.showAndWait();
+        if (result.isEmpty()) {
+            return;
+        }
 
-        Optional<Boolean> result = dialog.showAndWait();
-        if (result.isPresent() && result.get()) {
-            setStatusMessage("Task updated");
-            displayColumns(); // Refresh the view
+        if (result.get() == saveButtonType) {
+            String title = titleField.getText().trim();
+            String description = descriptionArea.getText().trim().isEmpty() ? null : descriptionArea.getText().trim();
+            CompletableFuture<Void> updated = kanbanService.updateTask(currentBoard.getId(), task.getId(),
+                    title, description);
+            runInBackground(updated, "Failed to update task", ignored -> {
+                setStatusMessage("Task updated");
+                showUpdatedTask(task, title, description);
+            });
+        } else if (result.get() == deleteButtonType) {
+            Alert confirmAlert = new Alert(Alert.AlertType.CONFIRMATION);
+            confirmAlert.setTitle("Delete Task");
+            confirmAlert.setHeaderText("Are you sure you want to delete this task?");
+            confirmAlert.setContentText(task.getTitle());
+
+            Optional<ButtonType> confirmResult = confirmAlert.showAndWait();
+            if (confirmResult.isPresent() && confirmResult.get() == ButtonType.OK) {
+                runInBackground(kanbanService.deleteTask(currentBoard.getId(), task.getId()), "Failed to delete task", ignored -> {
+                    setStatusMessage("Task deleted");
+                    showDeletedTask(task);
+                });
+            }
         }
     }
 
@@ -324,33 +503,11 @@ public class BoardController implements Initializable {
     }
 
     /**
-     * Setup drag functionality for a task box
-     * @param taskBox Task box to make draggable
-     * @param task Task data
-     */
-    private void setupDragAndDrop(VBox taskBox, Task task) {
-        taskBox.setOnDragDetected(event -> {
-            Dragboard dragboard = taskBox.startDragAndDrop(TransferMode.MOVE);
-            ClipboardContent content = new ClipboardContent();
-            content.putString(task.getId().toString());
-            dragboard.setContent(content);
-
-            taskBox.getStyleClass().add("task-dragging");
-            event.consume();
-        });
-
-        taskBox.setOnDragDone(event -> {
-            taskBox.getStyleClass().remove("task-dragging");
-            event.consume();
-        });
-    }
-
-    /**
-     * Setup drop target for a tasks container
-     * @param tasksContainer Container to accept drops
+     * Setup drop target for a tasks list
+     * @param tasksContainer Tasks list to accept drops
      * @param targetColumn Target column
      */
-    private void setupDropTarget(VBox tasksContainer, Column targetColumn) {
+    private void setupDropTarget(ListView<Task> tasksContainer, Column targetColumn) {
         tasksContainer.setOnDragOver(event -> {
             if (event.getGestureSource() != tasksContainer &&
                 event.getDragboard().hasString()) {
@@ -377,15 +534,14 @@ public class BoardController implements Initializable {
             boolean success = false;
 
             if (dragboard.hasString()) {
-                try {
-                    Integer taskId = Integer.parseInt(dragboard.getString());
-                    taskService.moveTask(taskId, targetColumn.getId());
-                    success = true;
+                // The drop is accepted now; the move is saved in the background
+                Integer taskId = Integer.parseInt(dragboard.getString());
+                success = true;
+                runInBackground(kanbanService.moveTask(currentBoard.getId(), taskId, targetColumn.getId()),
+                        "Failed to move task", ignored -> {
                     setStatusMessage("Task moved to " + targetColumn.getName());
-                    displayColumns(); // Refresh the view
-                } catch (SQLException | ValidationException e) {
-                    showError("Failed to move task: " + e.getMessage());
-                }
+                    showMovedTask(taskId, targetColumn);
+                });
             }
 
             event.setDropCompleted(success);
@@ -426,17 +582,181 @@ public class BoardController implements Initializable {
 
         dialog.showAndWait().ifPresent(columnName -> {
             if (!columnName.trim().isEmpty()) {
-                try {
-                    columnService.addColumn(currentBoard.getId(), columnName.trim());
+                runInBackground(kanbanService.addColumn(currentBoard.getId(), columnName.trim()),
+                        "Failed to add column", column -> {
                     setStatusMessage("Column '" + columnName + "' added successfully");
+                    showAddedColumn(column);
+                });
+            }
+        });
+    }
 
-                    // Refresh board data and display
-                    currentBoard = boardService.getBoardWithColumns(currentBoard.getId());
-                    displayColumns();
-                } catch (SQLException | ValidationException e) {
-                    showError("Failed to add column: " + e.getMessage());
-                }
+    /**
+     * Show dialog to search the board's tasks, updating the results as the query is typed
+     */
+    @FXML
+    private void showSearchDialog() {
+        if (currentBoard == null) {
+            return;
+        }
+
+        Dialog<ButtonType> dialog = new Dialog<>();
+        dialog.setTitle("Search Tasks");
+        dialog.setHeaderText("Search tasks on board: " + currentBoard.getName());
+        dialog.getDialogPane().getButtonTypes().add(ButtonType.CLOSE);
+
+        TextField queryField = new TextField();
+        queryField.setPromptText("Words or word beginnings");
+
+        ObservableList<TaskSearchResult> results = FXCollections.observableArrayList();
+        ListView<TaskSearchResult> resultsList = new ListView<>(results);
+        resultsList.setPrefSize(450, 350);
+        resultsList.setPlaceholder(new Label("No matching tasks"));
+        resultsList.setCellFactory(list -> new SearchResultCell(result -> {
+            Task task = displayedTasks.get(result.getTask().getId());
+            if (task != null) {
+                dialog.close();
+                showEditTaskDialog(task);
+            }
+        }));
+
+        // Searches for one board run in submission order, so the last result applied is the latest query
+        queryField.textProperty().addListener((observable, oldValue, newValue) -> {
+            if (newValue.trim().isEmpty()) {
+                results.clear();
+                return;
             }
+            runInBackground(kanbanService.searchTasks(currentBoard.getId(), newValue, SEARCH_LIMIT),
+                    "Failed to search tasks", found -> {
+                if (newValue.equals(queryField.getText())) {
+                    results.setAll(found);
+                    setStatusMessage("Found " + found.size() + " tasks");
+                }
+            });
         });
+
+        VBox content = new VBox(10, queryField, resultsList);
+        content.setPadding(new Insets(10));
+        VBox.setVgrow(resultsList, Priority.ALWAYS);
+        dialog.getDialogPane().setContent(content);
+        dialog.setResizable(true);
+
+        Platform.runLater(queryField::requestFocus);
+        dialog.show();
+    }
+
+    /**
+     * Show dialog to filter the board's tasks by priority; the filter runs as
+     * a task query and "Show All" reloads the whole board
+     */
+    @FXML
+    private void showPriorityFilterDialog() {
+        if (currentBoard == null) {
+            return;
+        }
+
+        Dialog<ButtonType> dialog = new Dialog<>();
+        dialog.setTitle("Filter by Priority");
+        dialog.setHeaderText("Show tasks with priority:");
+
+        ButtonType applyButtonType = new ButtonType("Apply", ButtonBar.ButtonData.OK_DONE);
+        ButtonType showAllButtonType = new ButtonType("Show All", ButtonBar.ButtonData.OTHER);
+        dialog.getDialogPane().getButtonTypes().addAll(applyButtonType, showAllButtonType, ButtonType.CANCEL);
+
+        VBox content = new VBox(10);
+        content.setPadding(new Insets(10));
+        Map<Task.Priority, CheckBox> checkBoxes = new HashMap<>();
+        for (Task.Priority priority : Task.Priority.values()) {
+            CheckBox checkBox = new CheckBox(priority.name());
+            checkBoxes.put(priority, checkBox);
+            content.getChildren().add(checkBox);
+        }
+        dialog.getDialogPane().setContent(content);
+
+        // Enable/disable apply button based on the selection
+        Button applyButton = (Button) dialog.getDialogPane().lookupButton(applyButtonType);
+        applyButton.setDisable(true);
+        checkBoxes.values().forEach(checkBox -> checkBox.selectedProperty().addListener((observable, oldValue, newValue) ->
+            applyButton.setDisable(checkBoxes.values().stream().noneMatch(CheckBox::isSelected))));
+
+        Optional<ButtonType> result = dialog.showAndWait();
+        if (result.isEmpty()) {
+            return;
+        }
+
+        if (result.get() == applyButtonType) {
+            List<Task.Priority> priorities = new ArrayList<>();
+            for (Task.Priority priority : Task.Priority.values()) {
+                if (checkBoxes.get(priority).isSelected()) {
+                    priorities.add(priority);
+                }
+            }
+            TaskQuery query = TaskQuery.builder()
+                .board(currentBoard.getId())
+                .priorities(priorities)
+                .projection(TaskProjection.SUMMARY)
+                .build();
+            runInBackground(kanbanService.findTasks(currentBoard.getId(), query), "Failed to filter tasks", tasks -> {
+                showFilteredTasks(tasks);
+                setStatusMessage("Showing " + tasks.size() + " tasks with priority " + priorities);
+            });
+        } else if (result.get() == showAllButtonType) {
+            refreshBoard();
+            setStatusMessage("Showing all tasks");
+        }
+    }
+
+    /**
+     * Read the applied database settings in the background, then show them
+     * with the statements the slow query log still holds
+     */
+    @FXML
+    private void showSlowQueryDialog() {
+        runInBackground(kanbanService.submit(DatabaseConnection::getAppliedPragmas), "Failed to read database settings",
+            this::showSlowQueryDialog);
+    }
+
+    /**
+     * Show the database settings and the statements the slow query log still holds, newest first
+     * @param pragmas PRAGMA values SQLite reports for the connection
+     */
+    private void showSlowQueryDialog(Map<String, String> pragmas) {
+        SlowQueryLog log = DatabaseConnection.getSlowQueryLog();
+        List<SlowQuery> queries = log.getRecent();
+
+        Dialog<ButtonType> dialog = new Dialog<>();
+        dialog.setTitle("Slow Queries");
+        if (!log.getConfig().isEnabled()) {
+            dialog.setHeaderText("Slow query log is disabled");
+        } else {
+            dialog.setHeaderText("Statements over " + log.getConfig().getThresholdMillis() + " ms: "
+                + log.getTotalCount() + " since start (" + log.getSuppressedCount() + " over the log limit, without plan), last "
+                + queries.size() + " shown");
+        }
+        ButtonType clearButtonType = new ButtonType("Clear", ButtonBar.ButtonData.OTHER);
+        dialog.getDialogPane().getButtonTypes().addAll(clearButtonType, ButtonType.CLOSE);
+
+        StringBuilder text = new StringBuilder();
+        text.append("Database ").append(DatabaseConnection.getConfig().getUrl()).append(" using ")
+            .append(DatabaseConnection.getConfig().getPerformanceProfile()).append(" profile: ").append(pragmas)
+            .append(System.lineSeparator()).append(System.lineSeparator());
+        for (SlowQuery query : queries) {
+            text.append(query.format()).append(System.lineSeparator()).append(System.lineSeparator());
+        }
+        if (queries.isEmpty()) {
+            text.append("No slow queries");
+        }
+        TextArea queriesArea = new TextArea(text.toString());
+        queriesArea.setEditable(false);
+        queriesArea.setStyle("-fx-font-family: monospace;");
+        queriesArea.setPrefSize(700, 450);
+        dialog.getDialogPane().setContent(queriesArea);
+        dialog.setResizable(true);
+
+        Optional<ButtonType> result = dialog.showAndWait();
+        if (result.isPresent() && result.get() == clearButtonType) {
+            log.clear();
+            setStatusMessage("Cleared slow query log");
+        }
     }
 }
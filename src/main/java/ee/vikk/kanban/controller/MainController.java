@@ -1,8 +1,8 @@
 package ee.vikk.kanban.controller;
 
 import ee.vikk.kanban.model.Board;
-import ee.vikk.kanban.service.BoardService;
-import ee.vikk.kanban.service.ValidationException;
+import ee.vikk.kanban.service.AsyncKanbanService;
+import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
 import javafx.fxml.Initializable;
@@ -13,10 +13,11 @@ import javafx.scene.layout.VBox;
 import javafx.stage.Stage;
 
 import java.net.URL;
-import java.sql.SQLException;
-import java.util.List;
 import java.util.Optional;
 import java.util.ResourceBundle;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
 
 /**
  * Main controller for the KanBan application
@@ -32,11 +33,15 @@ public class MainController implements Initializable {
     @FXML
     private Label statusLabel;
 
-    private BoardService boardService;
+    @FXML
+    private ProgressIndicator progressIndicator;
+
+    private AsyncKanbanService kanbanService;
+    private int pendingCalls;
 
     @Override
     public void initialize(URL location, ResourceBundle resources) {
-        boardService = new BoardService();
+        kanbanService = new AsyncKanbanService();
         loadBoards();
         
         createBoardButton.setOnAction(e -> createNewBoard());
@@ -46,10 +51,9 @@ public class MainController implements Initializable {
      * Load and display all boards
      */
     private void loadBoards() {
-        try {
+        runInBackground(kanbanService.getAllBoards(), "Failed to load boards", boards -> {
             boardListContainer.getChildren().clear();
-            List<Board> boards = boardService.getAllBoards();
-            
+
             if (boards.isEmpty()) {
                 Label emptyLabel = new Label("No boards found. Create your first board!");
                 emptyLabel.getStyleClass().add("empty-message");
@@ -62,9 +66,35 @@ public class MainController implements Initializable {
             }
             
             setStatusMessage("Loaded " + boards.size() + " boards");
-        } catch (SQLException e) {
-            showError("Failed to load boards: " + e.getMessage());
-        }
+        });
+    }
+
+    /**
+     * Show progress until a background call completes, then handle its result
+     * on the FX application thread
+     * @param call Future of the background call
+     * @param failureMessage Error message prefix shown if the call fails
+     * @param onSuccess Handler for the result
+     * @param <T> Result type
+     */
+    private <T> void runInBackground(CompletableFuture<T> call, String failureMessage, Consumer<T> onSuccess) {
+        pendingCalls++;
+        progressIndicator.setVisible(true);
+        call.whenComplete((result, error) -> Platform.runLater(() -> {
+            if (--pendingCalls == 0) {
+                progressIndicator.setVisible(false);
+            }
+            if (error != null) {
+                showError(failureMessage + ": " + causeMessage(error));
+            } else {
+                onSuccess.accept(result);
+            }
+        }));
+    }
+
+    private static String causeMessage(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        return cause.getMessage();
     }
 
     /**
@@ -94,16 +124,11 @@ public class MainController implements Initializable {
 
         Optional<String> result = dialog.showAndWait();
         if (result.isPresent() && !result.get().trim().isEmpty()) {
-            try {
-                Board newBoard = boardService.createBoard(result.get().trim());
+            runInBackground(kanbanService.createBoard(result.get().trim()), "Failed to create board", newBoard -> {
                 setStatusMessage("Created board: " + newBoard.getName());
                 loadBoards(); // Refresh the board list
                 openBoard(newBoard); // Open the newly created board
-            } catch (SQLException e) {
-                showError("Failed to create board: " + e.getMessage());
-            } catch (ValidationException e) {
-                showError("Validation error: " + e.getMessage());
-            }
+            });
         }
     }
 
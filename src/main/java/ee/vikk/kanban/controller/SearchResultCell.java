@@ -0,0 +1,78 @@
+package ee.vikk.kanban.controller;
+
+import ee.vikk.kanban.model.TaskSearchResult;
+import javafx.scene.control.Label;
+import javafx.scene.control.ListCell;
+import javafx.scene.layout.VBox;
+import javafx.scene.text.Text;
+import javafx.scene.text.TextFlow;
+
+import java.util.function.Consumer;
+
+/**
+ * List cell showing a task search result: the task title and a snippet of the
+ * matching text with the matched terms highlighted
+ */
+class SearchResultCell extends ListCell<TaskSearchResult> {
+    private final VBox resultBox = new VBox(3);
+    private final Label titleLabel = new Label();
+    private final TextFlow snippetFlow = new TextFlow();
+
+    /**
+     * Constructor with open handler
+     * @param onOpen Handler called with the result when it is double-clicked
+     */
+    SearchResultCell(Consumer<TaskSearchResult> onOpen) {
+        titleLabel.getStyleClass().add("task-title");
+        snippetFlow.getStyleClass().add("search-snippet");
+        resultBox.getChildren().addAll(titleLabel, snippetFlow);
+
+        // Let the snippet wrap at the list width instead of widening the cell
+        setPrefWidth(0);
+
+        setOnMouseClicked(e -> {
+            if (e.getClickCount() == 2 && getItem() != null) {
+                onOpen.accept(getItem());
+            }
+        });
+    }
+
+    @Override
+    protected void updateItem(TaskSearchResult result, boolean empty) {
+        super.updateItem(result, empty);
+        if (empty || result == null) {
+            setGraphic(null);
+            return;
+        }
+
+        titleLabel.setText(result.getTask().getTitle());
+        snippetFlow.getChildren().clear();
+        String snippet = result.getSnippet() != null ? result.getSnippet() : "";
+        int start = 0;
+        while (start < snippet.length()) {
+            int matchStart = snippet.indexOf(TaskSearchResult.MATCH_START, start);
+            if (matchStart < 0) {
+                addText(snippet.substring(start), false);
+                break;
+            }
+            int matchEnd = snippet.indexOf(TaskSearchResult.MATCH_END, matchStart);
+            if (matchEnd < 0) {
+                matchEnd = snippet.length();
+            }
+            addText(snippet.substring(start, matchStart), false);
+            addText(snippet.substring(matchStart + 1, matchEnd), true);
+            start = matchEnd + 1;
+        }
+
+        setGraphic(resultBox);
+    }
+
+    private void addText(String value, boolean highlighted) {
+        if (value.isEmpty()) {
+            return;
+        }
+        Text text = new Text(value);
+        text.getStyleClass().add(highlighted ? "search-match" : "search-text");
+        snippetFlow.getChildren().add(text);
+    }
+}
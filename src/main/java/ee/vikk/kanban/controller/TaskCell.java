@@ -0,0 +1,98 @@
+package ee.vikk.kanban.controller;
+
+import ee.vikk.kanban.model.Task;
+import javafx.geometry.Insets;
+import javafx.scene.control.Label;
+import javafx.scene.control.ListCell;
+import javafx.scene.input.ClipboardContent;
+import javafx.scene.input.Dragboard;
+import javafx.scene.input.TransferMode;
+import javafx.scene.layout.VBox;
+
+import java.util.function.Consumer;
+
+/**
+ * List cell showing a task card. A column's ListView only creates cells for
+ * the visible rows and reuses them while scrolling, so each cell builds its
+ * card nodes once and only updates their text for the task it currently shows.
+ * Cards show the title and priority; descriptions are only loaded for editing.
+ */
+class TaskCell extends ListCell<Task> {
+    private static final String[] PRIORITY_CLASSES = {"priority-low", "priority-medium", "priority-high"};
+
+    private final VBox taskBox = new VBox(5);
+    private final Label titleLabel = new Label();
+    private final Label priorityLabel = new Label();
+
+    /**
+     * Constructor with edit handler
+     * @param onEdit Handler called with the task when its card is double-clicked
+     */
+    TaskCell(Consumer<Task> onEdit) {
+        taskBox.getStyleClass().add("task-box");
+        taskBox.setPadding(new Insets(8));
+
+        titleLabel.getStyleClass().add("task-title");
+        titleLabel.setWrapText(true);
+        priorityLabel.getStyleClass().add("task-priority");
+        taskBox.getChildren().addAll(titleLabel, priorityLabel);
+
+        // Let labels wrap at the list width instead of widening the cell
+        setPrefWidth(0);
+
+        // Add click handler for editing
+        setOnMouseClicked(e -> {
+            if (e.getClickCount() == 2 && getItem() != null) {
+                onEdit.accept(getItem());
+            }
+        });
+
+        setupDrag();
+    }
+
+    @Override
+    protected void updateItem(Task task, boolean empty) {
+        super.updateItem(task, empty);
+        if (empty || task == null) {
+            setGraphic(null);
+            return;
+        }
+
+        titleLabel.setText(task.getTitle());
+
+        // Priority indicator
+        boolean hasPriority = task.getPriority() != null;
+        priorityLabel.getStyleClass().removeAll(PRIORITY_CLASSES);
+        if (hasPriority) {
+            priorityLabel.setText(task.getPriority().name());
+            priorityLabel.getStyleClass().add("priority-" + task.getPriority().name().toLowerCase());
+        }
+        priorityLabel.setVisible(hasPriority);
+        priorityLabel.setManaged(hasPriority);
+
+        setGraphic(taskBox);
+    }
+
+    /**
+     * Setup dragging of the task this cell currently shows
+     */
+    private void setupDrag() {
+        setOnDragDetected(event -> {
+            if (getItem() == null) {
+                return;
+            }
+            Dragboard dragboard = startDragAndDrop(TransferMode.MOVE);
+            ClipboardContent content = new ClipboardContent();
+            content.putString(getItem().getId().toString());
+            dragboard.setContent(content);
+
+            taskBox.getStyleClass().add("task-dragging");
+            event.consume();
+        });
+
+        setOnDragDone(event -> {
+            taskBox.getStyleClass().remove("task-dragging");
+            event.consume();
+        });
+    }
+}
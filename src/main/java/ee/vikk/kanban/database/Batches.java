@@ -0,0 +1,103 @@
+package ee.vikk.kanban.database;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Helpers for executing JDBC batches against SQLite
+ */
+public final class Batches {
+
+    private Batches() {
+    }
+
+    /**
+     * Execute a batch of single-row INSERTs into an AUTOINCREMENT table and
+     * return the generated IDs in insert order. Must run inside a transaction:
+     * SQLite holds the write lock until commit, so the batch gets consecutive
+     * row IDs ending at last_insert_rowid().
+     * @param stmt Prepared INSERT with the batch added
+     * @param table Table the rows were inserted into
+     * @param count Number of rows in the batch
+     * @return Generated IDs in insert order
+     * @throws SQLException if the batch fails or the IDs are not consecutive
+     */
+    public static int[] executeInsert(PreparedStatement stmt, String table, int count) throws SQLException {
+        if (stmt.getConnection().getAutoCommit()) {
+            throw new SQLException("Batch insert into " + table + " must run inside a transaction");
+        }
+
+        stmt.executeBatch();
+
+        int lastId;
+        try (Statement query = stmt.getConnection().createStatement();
+             ResultSet rs = query.executeQuery("SELECT last_insert_rowid()")) {
+            rs.next();
+            lastId = rs.getInt(1);
+        }
+
+        int firstId = lastId - count + 1;
+        try (Statement query = stmt.getConnection().createStatement();
+             ResultSet rs = query.executeQuery(
+                 "SELECT COUNT(*) FROM " + table + " WHERE id BETWEEN " + firstId + " AND " + lastId)) {
+            if (!rs.next() || rs.getInt(1) != count) {
+                throw new SQLException("Batch insert into " + table + " did not produce consecutive IDs");
+            }
+        }
+
+        int[] ids = new int[count];
+        for (int i = 0; i < count; i++) {
+            ids[i] = firstId + i;
+        }
+        return ids;
+    }
+
+    /**
+     * Read back the ranks of rows saved by executeInsert. Ranks left null in the
+     * batch are computed by the INSERT, so they are only known after it ran.
+     * @param conn Connection the batch was inserted on
+     * @param table Table the rows were inserted into
+     * @param ids Consecutive IDs returned by executeInsert
+     * @return Ranks in the order of the IDs
+     * @throws SQLException if the ranks cannot be read
+     */
+    public static String[] readRanks(Connection conn, String table, int[] ids) throws SQLException {
+        String[] ranks = new String[ids.length];
+        if (ids.length == 0) {
+            return ranks;
+        }
+
+        try (PreparedStatement query = conn.prepareStatement(
+                 "SELECT id, rank FROM " + table + " WHERE id BETWEEN ? AND ? ORDER BY id")) {
+            query.setInt(1, ids[0]);
+            query.setInt(2, ids[ids.length - 1]);
+            try (ResultSet rs = query.executeQuery()) {
+                while (rs.next()) {
+                    ranks[rs.getInt("id") - ids[0]] = rs.getString("rank");
+                }
+            }
+        }
+        return ranks;
+    }
+
+    /**
+     * Execute a batch of UPDATE or DELETE statements
+     * @param stmt Prepared statement with the batch added
+     * @return Total number of affected rows
+     * @throws SQLException if the batch fails
+     */
+    public static int executeUpdate(PreparedStatement stmt) throws SQLException {
+        int total = 0;
+        for (int count : stmt.executeBatch()) {
+            if (count > 0) {
+                total += count;
+            } else if (count == Statement.SUCCESS_NO_INFO) {
+                total++;
+            }
+        }
+        return total;
+    }
+}
@@ -0,0 +1,18 @@
+package ee.vikk.kanban.database;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Factory for opening new physical database connections
+ */
+@FunctionalInterface
+public interface ConnectionFactory {
+
+    /**
+     * Open a new physical connection
+     * @return New connection
+     * @throws SQLException if connection fails
+     */
+    Connection create() throws SQLException;
+}
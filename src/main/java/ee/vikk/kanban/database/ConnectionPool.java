@@ -0,0 +1,333 @@
+package ee.vikk.kanban.database;
+
+import javax.sql.DataSource;
+import java.io.PrintWriter;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLTimeoutException;
+import java.util.Deque;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Logger;
+
+/**
+ * Bounded pool of reusable database connections.
+ * Closing a borrowed connection returns it to the pool instead of closing
+ * the physical connection, so DAOs can keep using try-with-resources.
+ */
+public class ConnectionPool implements DataSource, AutoCloseable {
+    private final ConnectionFactory factory;
+    private final PoolConfig config;
+    private final Semaphore permits;
+    private final Deque<IdleConnection> idle = new ConcurrentLinkedDeque<>();
+    private final ScheduledExecutorService evictor;
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicLong created = new AtomicLong();
+    private final AtomicLong destroyed = new AtomicLong();
+    private final LongAdder borrows = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+    private volatile boolean closed;
+
+    /**
+     * Constructor with connection factory and settings
+     * @param factory Factory used to open physical connections
+     * @param config Pool settings
+     */
+    public ConnectionPool(ConnectionFactory factory, PoolConfig config) {
+        if (config.getMaxSize() < 1) {
+            throw new IllegalArgumentException("Pool size must be at least 1");
+        }
+        this.factory = factory;
+        this.config = config;
+        this.permits = new Semaphore(config.getMaxSize(), true);
+
+        long evictionInterval = Math.max(1_000, config.getIdleTimeoutMillis() / 2);
+        this.evictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "kanban-pool-evictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.evictor.scheduleWithFixedDelay(this::evictIdleConnections,
+                evictionInterval, evictionInterval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Borrow a connection from the pool, waiting up to the configured timeout
+     * @return Pooled connection that returns itself to the pool on close
+     * @throws SQLException if the pool is closed, the wait times out or connecting fails
+     */
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (closed) {
+            throw new SQLException("Connection pool is closed");
+        }
+
+        long start = System.nanoTime();
+        try {
+            if (!permits.tryAcquire(config.getConnectionTimeoutMillis(), TimeUnit.MILLISECONDS)) {
+                timeouts.increment();
+                throw new SQLTimeoutException("Timed out after " + config.getConnectionTimeoutMillis()
+                        + " ms waiting for a database connection");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a database connection", e);
+        }
+        recordWait(System.nanoTime() - start);
+
+        try {
+            Connection physical = takeIdleOrCreate();
+            active.incrementAndGet();
+            borrows.increment();
+            return (Connection) Proxy.newProxyInstance(
+                    ConnectionPool.class.getClassLoader(),
+                    new Class<?>[]{Connection.class},
+                    new PooledConnection(physical));
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Pooled connections do not take credentials");
+    }
+
+    /**
+     * Get current pool statistics
+     * @return Metrics snapshot
+     */
+    public PoolMetrics getMetrics() {
+        return new PoolMetrics(
+                config.getMaxSize(),
+                active.get(),
+                idle.size(),
+                created.get(),
+                destroyed.get(),
+                borrows.sum(),
+                timeouts.sum(),
+                totalWaitNanos.sum(),
+                maxWaitNanos.get()
+        );
+    }
+
+    /**
+     * Get pool settings
+     * @return Pool configuration
+     */
+    public PoolConfig getConfig() {
+        return config;
+    }
+
+    /**
+     * Close the pool and all idle connections.
+     * Borrowed connections are closed when they are returned.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        evictor.shutdownNow();
+        IdleConnection entry;
+        while ((entry = idle.pollFirst()) != null) {
+            destroy(entry.connection);
+        }
+    }
+
+    /**
+     * Check if pool has been closed
+     * @return true if closed, false otherwise
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Take the most recently used idle connection or open a new one
+     * @return Physical connection
+     * @throws SQLException if a new connection cannot be opened
+     */
+    private Connection takeIdleOrCreate() throws SQLException {
+        IdleConnection entry;
+        while ((entry = idle.pollFirst()) != null) {
+            long idleMillis = System.currentTimeMillis() - entry.lastUsed;
+            if (idleMillis < config.getValidationIntervalMillis() || isUsable(entry.connection)) {
+                return entry.connection;
+            }
+            destroy(entry.connection);
+        }
+
+        Connection connection = factory.create();
+        created.incrementAndGet();
+        return connection;
+    }
+
+    /**
+     * Return a physical connection to the pool
+     * @param physical Physical connection
+     */
+    private void release(Connection physical) {
+        try {
+            boolean reusable = !closed && !physical.isClosed();
+            if (reusable && !physical.getAutoCommit()) {
+                physical.rollback();
+                physical.setAutoCommit(true);
+            }
+            if (reusable) {
+                physical.clearWarnings();
+                idle.offerFirst(new IdleConnection(physical, System.currentTimeMillis()));
+            } else {
+                destroy(physical);
+            }
+        } catch (SQLException e) {
+            destroy(physical);
+        } finally {
+            active.decrementAndGet();
+            permits.release();
+        }
+    }
+
+    /**
+     * Close idle connections that exceeded the idle timeout, keeping at least minIdle
+     */
+    private void evictIdleConnections() {
+        long cutoff = System.currentTimeMillis() - config.getIdleTimeoutMillis();
+        while (idle.size() > config.getMinIdle()) {
+            IdleConnection oldest = idle.peekLast();
+            if (oldest == null || oldest.lastUsed > cutoff || !idle.removeLastOccurrence(oldest)) {
+                return;
+            }
+            destroy(oldest.connection);
+        }
+    }
+
+    private boolean isUsable(Connection connection) {
+        try {
+            return connection.isValid(config.getValidationTimeoutSeconds());
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private void destroy(Connection connection) {
+        destroyed.incrementAndGet();
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            System.err.println("Error closing pooled connection: " + e.getMessage());
+        }
+    }
+
+    private void recordWait(long waitNanos) {
+        totalWaitNanos.add(waitNanos);
+        maxWaitNanos.accumulateAndGet(waitNanos, Math::max);
+    }
+
+    @Override
+    public PrintWriter getLogWriter() {
+        return null;
+    }
+
+    @Override
+    public void setLogWriter(PrintWriter out) {
+        // Logging goes through the application log
+    }
+
+    @Override
+    public void setLoginTimeout(int seconds) {
+        config.setConnectionTimeoutMillis(seconds * 1000L);
+    }
+
+    @Override
+    public int getLoginTimeout() {
+        return (int) (config.getConnectionTimeoutMillis() / 1000);
+    }
+
+    @Override
+    public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+        throw new SQLFeatureNotSupportedException();
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        if (iface.isInstance(this)) {
+            return iface.cast(this);
+        }
+        throw new SQLException("Not a wrapper for " + iface.getName());
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) {
+        return iface.isInstance(this);
+    }
+
+    /**
+     * Idle physical connection with the time it was returned
+     */
+    private static class IdleConnection {
+        private final Connection connection;
+        private final long lastUsed;
+
+        IdleConnection(Connection connection, long lastUsed) {
+            this.connection = connection;
+            this.lastUsed = lastUsed;
+        }
+    }
+
+    /**
+     * Logical connection handed to callers; close() returns the physical connection
+     */
+    private class PooledConnection implements InvocationHandler {
+        private final Connection physical;
+        private boolean returned;
+
+        PooledConnection(Connection physical) {
+            this.physical = physical;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (!returned) {
+                        returned = true;
+                        release(physical);
+                    }
+                    return null;
+                case "isClosed":
+                    return returned || physical.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "PooledConnection[" + physical + "]";
+                default:
+                    break;
+            }
+
+            if (returned) {
+                throw new SQLException("Connection has already been returned to the pool");
+            }
+
+            try {
+                return method.invoke(physical, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
@@ -0,0 +1,303 @@
+package ee.vikk.kanban.database;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.regex.Pattern;
+
+/**
+ * Database runtime configuration, resolved once at startup.
+ * Sources in increasing order of precedence: built-in defaults, classpath
+ * kanban.properties, classpath kanban-&lt;profile&gt;.properties, the file named by
+ * kanban.config / KANBAN_CONFIG, KANBAN_* environment variables and kanban.*
+ * system properties.
+ */
+public class DatabaseConfig {
+    public static final String PROFILE = "kanban.profile";
+    public static final String CONFIG_FILE = "kanban.config";
+    public static final String DB_MODE = "kanban.db.mode";
+    public static final String DB_PATH = "kanban.db.path";
+    public static final String DB_URL = "kanban.db.url";
+    public static final String DB_PERFORMANCE_PROFILE = "kanban.db.performance-profile";
+    public static final String POOL_SIZE = "kanban.pool.size";
+    public static final String POOL_MIN_IDLE = "kanban.pool.min-idle";
+    public static final String POOL_CONNECTION_TIMEOUT = "kanban.pool.connection-timeout-ms";
+    public static final String POOL_IDLE_TIMEOUT = "kanban.pool.idle-timeout-ms";
+    public static final String SLOW_QUERY_THRESHOLD = "kanban.slow-query.threshold-ms";
+    public static final String SLOW_QUERY_BUFFER_SIZE = "kanban.slow-query.buffer-size";
+    public static final String SLOW_QUERY_LOG_LIMIT = "kanban.slow-query.log-limit";
+    public static final String PRAGMA_PREFIX = "kanban.db.pragma.";
+
+    private static final String[] KEYS = {
+        PROFILE, CONFIG_FILE, DB_MODE, DB_PATH, DB_URL, DB_PERFORMANCE_PROFILE,
+        POOL_SIZE, POOL_MIN_IDLE, POOL_CONNECTION_TIMEOUT, POOL_IDLE_TIMEOUT,
+        SLOW_QUERY_THRESHOLD, SLOW_QUERY_BUFFER_SIZE, SLOW_QUERY_LOG_LIMIT
+    };
+    private static final String ENV_PRAGMA_PREFIX = "KANBAN_DB_PRAGMA_";
+    private static final Pattern PRAGMA_NAME = Pattern.compile("[a-z_]+");
+    private static final Pattern PRAGMA_VALUE = Pattern.compile("-?[A-Za-z0-9_]+");
+
+    private final String profile;
+    private final Mode mode;
+    private final String path;
+    private final String url;
+    private final PerformanceProfile performanceProfile;
+    private final PoolConfig poolConfig;
+    private final SlowQueryConfig slowQueryConfig;
+    private final Map<String, String> pragmas;
+
+    /**
+     * Database access mode
+     */
+    public enum Mode {
+        FILE, MEMORY, READ_ONLY;
+
+        /**
+         * Parse mode from configuration value such as "file", "memory" or "read-only"
+         * @param value Configuration value
+         * @return Matching mode
+         */
+        public static Mode parse(String value) {
+            try {
+                return valueOf(value.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unknown database mode: " + value, e);
+            }
+        }
+    }
+
+    /**
+     * Constructor with all fields
+     * @param profile Active profile name
+     * @param mode Database access mode
+     * @param path Database file path (or in-memory database name)
+     * @param url Explicit JDBC URL, or null to derive it from mode and path
+     * @param performanceProfile Named PRAGMA profile the settings start from
+     * @param poolConfig Connection pool settings
+     * @param slowQueryConfig Slow query log settings
+     * @param pragmas PRAGMA statements applied to every new connection
+     */
+    public DatabaseConfig(String profile, Mode mode, String path, String url,
+                          PerformanceProfile performanceProfile, PoolConfig poolConfig,
+                          SlowQueryConfig slowQueryConfig, Map<String, String> pragmas) {
+        this.profile = profile;
+        this.mode = mode;
+        this.path = path;
+        this.url = url;
+        this.performanceProfile = performanceProfile;
+        this.poolConfig = poolConfig;
+        this.slowQueryConfig = slowQueryConfig;
+        this.pragmas = Collections.unmodifiableMap(new LinkedHashMap<>(pragmas));
+    }
+
+    /**
+     * Resolve configuration from all sources
+     * @return Resolved configuration
+     */
+    public static DatabaseConfig load() {
+        String profile = lookup(PROFILE, "default");
+
+        Properties merged = new Properties();
+        loadResource(merged, "/kanban.properties");
+        loadResource(merged, "/kanban-" + profile + ".properties");
+
+        String configFile = lookup(CONFIG_FILE, null);
+        if (configFile != null) {
+            loadFile(merged, Path.of(configFile));
+        }
+
+        for (String key : KEYS) {
+            String value = System.getenv(toEnvName(key));
+            if (value != null) {
+                merged.setProperty(key, value);
+            }
+        }
+        System.getenv().forEach((name, value) -> {
+            if (name.startsWith(ENV_PRAGMA_PREFIX)) {
+                String pragma = name.substring(ENV_PRAGMA_PREFIX.length()).toLowerCase(Locale.ROOT);
+                merged.setProperty(PRAGMA_PREFIX + pragma, value);
+            }
+        });
+
+        for (String name : System.getProperties().stringPropertyNames()) {
+            if (name.startsWith("kanban.")) {
+                merged.setProperty(name, System.getProperty(name));
+            }
+        }
+
+        merged.setProperty(PROFILE, profile);
+        return fromProperties(merged);
+    }
+
+    /**
+     * Build configuration from already merged properties
+     * @param properties Configuration properties
+     * @return Configuration
+     */
+    public static DatabaseConfig fromProperties(Properties properties) {
+        String profile = properties.getProperty(PROFILE, "default");
+        Mode mode = Mode.parse(properties.getProperty(DB_MODE, "file"));
+        String path = properties.getProperty(DB_PATH, "kanban.db");
+        String url = properties.getProperty(DB_URL);
+        PerformanceProfile performanceProfile =
+                PerformanceProfile.parse(properties.getProperty(DB_PERFORMANCE_PROFILE, "performance"));
+
+        PoolConfig poolConfig = new PoolConfig();
+        poolConfig.setMaxSize(intProperty(properties, POOL_SIZE, poolConfig.getMaxSize()));
+        poolConfig.setMinIdle(intProperty(properties, POOL_MIN_IDLE, poolConfig.getMinIdle()));
+        poolConfig.setConnectionTimeoutMillis(
+                longProperty(properties, POOL_CONNECTION_TIMEOUT, poolConfig.getConnectionTimeoutMillis()));
+        poolConfig.setIdleTimeoutMillis(
+                longProperty(properties, POOL_IDLE_TIMEOUT, poolConfig.getIdleTimeoutMillis()));
+
+        SlowQueryConfig slowQueryConfig = new SlowQueryConfig();
+        slowQueryConfig.setThresholdMillis(
+                longProperty(properties, SLOW_QUERY_THRESHOLD, slowQueryConfig.getThresholdMillis()));
+        slowQueryConfig.setBufferSize(intProperty(properties, SLOW_QUERY_BUFFER_SIZE, slowQueryConfig.getBufferSize()));
+        slowQueryConfig.setLogLimitPerMinute(
+                intProperty(properties, SLOW_QUERY_LOG_LIMIT, slowQueryConfig.getLogLimitPerMinute()));
+
+        // Explicit pragma settings override the ones from the performance profile
+        Map<String, String> pragmas = new LinkedHashMap<>(performanceProfile.pragmasFor(mode));
+        properties.stringPropertyNames().stream()
+                .filter(name -> name.startsWith(PRAGMA_PREFIX))
+                .sorted()
+                .forEach(name -> pragmas.put(name.substring(PRAGMA_PREFIX.length()),
+                                             properties.getProperty(name).trim()));
+        validatePragmas(pragmas);
+
+        return new DatabaseConfig(profile, mode, path, url, performanceProfile, poolConfig, slowQueryConfig, pragmas);
+    }
+
+    /**
+     * Get JDBC URL for the configured database
+     * @return JDBC URL
+     */
+    public String getUrl() {
+        if (url != null && !url.isBlank()) {
+            return url;
+        }
+        if (mode == Mode.MEMORY) {
+            String name = path.endsWith(".db") ? path.substring(0, path.length() - 3) : path;
+            return "jdbc:sqlite:file:" + name + "?mode=memory&cache=shared";
+        }
+        return "jdbc:sqlite:" + path;
+    }
+
+    // Getters
+    public String getProfile() {
+        return profile;
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public PerformanceProfile getPerformanceProfile() {
+        return performanceProfile;
+    }
+
+    public PoolConfig getPoolConfig() {
+        return poolConfig;
+    }
+
+    public SlowQueryConfig getSlowQueryConfig() {
+        return slowQueryConfig;
+    }
+
+    public Map<String, String> getPragmas() {
+        return pragmas;
+    }
+
+    public boolean isReadOnly() {
+        return mode == Mode.READ_ONLY;
+    }
+
+    @Override
+    public String toString() {
+        return "DatabaseConfig{" +
+                "profile='" + profile + '\'' +
+                ", mode=" + mode +
+                ", url='" + getUrl() + '\'' +
+                ", performanceProfile=" + performanceProfile +
+                ", pool=" + poolConfig +
+                ", slowQuery=" + slowQueryConfig +
+                ", pragmas=" + pragmas +
+                '}';
+    }
+
+    /**
+     * Look up a single setting from system properties or environment
+     * @param key Property key
+     * @param defaultValue Value to use when not set
+     * @return Setting value
+     */
+    private static String lookup(String key, String defaultValue) {
+        String value = System.getProperty(key);
+        if (value == null) {
+            value = System.getenv(toEnvName(key));
+        }
+        return value != null ? value : defaultValue;
+    }
+
+    private static String toEnvName(String key) {
+        return key.toUpperCase(Locale.ROOT).replace('.', '_').replace('-', '_');
+    }
+
+    private static void loadResource(Properties target, String resource) {
+        try (InputStream in = DatabaseConfig.class.getResourceAsStream(resource)) {
+            if (in != null) {
+                target.load(in);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to read configuration resource " + resource, e);
+        }
+    }
+
+    private static void loadFile(Properties target, Path file) {
+        try (Reader reader = Files.newBufferedReader(file)) {
+            target.load(reader);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to read configuration file " + file, e);
+        }
+    }
+
+    private static int intProperty(Properties properties, String key, int defaultValue) {
+        return (int) longProperty(properties, key, defaultValue);
+    }
+
+    private static long longProperty(Properties properties, String key, long defaultValue) {
+        String value = properties.getProperty(key);
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid number for " + key + ": " + value, e);
+        }
+    }
+
+    /**
+     * Reject PRAGMA names and values that could inject SQL
+     * @param pragmas PRAGMA settings to validate
+     */
+    private static void validatePragmas(Map<String, String> pragmas) {
+        pragmas.forEach((name, value) -> {
+            if (!PRAGMA_NAME.matcher(name).matches() || !PRAGMA_VALUE.matcher(value).matches()) {
+                throw new IllegalArgumentException("Invalid pragma setting: " + name + "=" + value);
+            }
+        });
+    }
+}
@@ -1,125 +1,174 @@
 package ee.vikk.kanban.database;
 
+import org.sqlite.SQLiteConfig;
+
 import java.sql.Connection;
 import java.sql.DriverManager;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  * Database connection manager for SQLite database
  */
 public class DatabaseConnection {
-    private static final String DATABASE_URL = "jdbc:sqlite:kanban.db";
-    private static final String TEST_DATABASE_URL = "jdbc:sqlite:test-kanban.db";
-    private static Connection connection;
+    private static DatabaseConfig config;
+    private static ConnectionPool pool;
+    private static TransactionalDataSource dataSource;
+    private static Connection memoryAnchor;
+    private static SlowQueryLog slowQueryLog;
+
+    /**
+     * Use the given configuration, replacing any open pool
+     * @param databaseConfig Resolved database configuration
+     */
+    public static synchronized void configure(DatabaseConfig databaseConfig) {
+        closeConnection();
+        config = databaseConfig;
+        slowQueryLog = null;
+    }
 
     /**
-     * Get database connection instance
+     * Get active configuration, resolving it on first use
+     * @return Database configuration
+     */
+    public static synchronized DatabaseConfig getConfig() {
+        if (config == null) {
+            config = DatabaseConfig.load();
+        }
+        return config;
+    }
+
+    /**
+     * Get the pooled, transaction-aware data source, creating the pool on first use
+     * @return DataSource for the SQLite database
+     */
+    public static synchronized TransactionalDataSource getDataSource() {
+        if (pool == null || pool.isClosed()) {
+            DatabaseConfig activeConfig = getConfig();
+            SlowQueryLog activeLog = getSlowQueryLog();
+            if (activeConfig.getMode() == DatabaseConfig.Mode.MEMORY) {
+                // A shared in-memory database only lives while a connection is open
+                try {
+                    memoryAnchor = openConnection(activeConfig, activeLog);
+                } catch (SQLException e) {
+                    throw new IllegalStateException("Failed to open in-memory database", e);
+                }
+            }
+            pool = new ConnectionPool(() -> openConnection(activeConfig, activeLog), activeConfig.getPoolConfig());
+            dataSource = new TransactionalDataSource(pool);
+        }
+        return dataSource;
+    }
+
+    /**
+     * Borrow a connection from the pool. Closing it returns it to the pool.
      * @return Connection to SQLite database
      * @throws SQLException if connection fails
      */
     public static Connection getConnection() throws SQLException {
-        if (connection == null || connection.isClosed()) {
-            String url = isTestEnvironment() ? TEST_DATABASE_URL : DATABASE_URL;
-            connection = DriverManager.getConnection(url);
-        }
-        return connection;
+        return getDataSource().getConnection();
     }
 
     /**
-     * Check if we are running in test environment
-     * @return true if running tests, false otherwise
+     * Get connection pool statistics
+     * @return Pool metrics snapshot
      */
-    private static boolean isTestEnvironment() {
-        // Check if JUnit is in the stack trace
-        StackTraceElement[] stackTrace = Thread.currentThread().getStackTrace();
-        for (StackTraceElement element : stackTrace) {
-            String className = element.getClassName();
-            if (className.contains("junit") ||
-                className.contains("Test") ||
-                className.endsWith("Test")) {
-                return true;
-            }
+    public static synchronized PoolMetrics getPoolMetrics() {
+        getDataSource();
+        return pool.getMetrics();
+    }
+
+    /**
+     * Get the log of statements slower than the configured threshold
+     * @return Slow query log of every pooled connection
+     */
+    public static synchronized SlowQueryLog getSlowQueryLog() {
+        if (slowQueryLog == null) {
+            slowQueryLog = new SlowQueryLog(getConfig().getSlowQueryConfig());
         }
-        return false;
+        return slowQueryLog;
     }
 
     /**
-     * Initialize database tables
-     * @throws SQLException if table creation fails
+     * Read back the current value of every configured PRAGMA from a live connection
+     * @return PRAGMA names and the values SQLite reports for them
+     * @throws SQLException if database operation fails
      */
-    public static void initializeDatabase() throws SQLException {
+    public static Map<String, String> getAppliedPragmas() throws SQLException {
+        Map<String, String> applied = new LinkedHashMap<>();
         try (Connection conn = getConnection();
              Statement stmt = conn.createStatement()) {
-            
-            // Create boards table
-            stmt.execute("""
-                CREATE TABLE IF NOT EXISTS boards (
-                    id INTEGER PRIMARY KEY AUTOINCREMENT,
-                    name TEXT NOT NULL,
-                    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
-                )
-            """);
+            for (String name : getConfig().getPragmas().keySet()) {
+                try (ResultSet rs = stmt.executeQuery("PRAGMA " + name)) {
+                    applied.put(name, rs.next() ? rs.getString(1) : null);
+                }
+            }
+        }
+        return applied;
+    }
 
-            // Create columns table
-            stmt.execute("""
-                CREATE TABLE IF NOT EXISTS columns (
-                    id INTEGER PRIMARY KEY AUTOINCREMENT,
-                    board_id INTEGER NOT NULL,
-                    name TEXT NOT NULL,
-                    position INTEGER NOT NULL,
-                    color TEXT DEFAULT '#808080',
-                    FOREIGN KEY (board_id) REFERENCES boards(id)
-                )
-            """);
+    /**
+     * Open a new physical connection, apply configured pragmas and register SQL functions.
+     * Unless the slow query log is disabled, statements run through the returned
+     * connection are timed.
+     * @param databaseConfig Database configuration
+     * @param log Slow query log of the connection
+     * @return New physical connection
+     * @throws SQLException if connection fails
+     */
+    private static Connection openConnection(DatabaseConfig databaseConfig, SlowQueryLog log) throws SQLException {
+        SQLiteConfig sqliteConfig = new SQLiteConfig();
+        sqliteConfig.setReadOnly(databaseConfig.isReadOnly());
 
-            // Create tasks table
-            stmt.execute("""
-                CREATE TABLE IF NOT EXISTS tasks (
-                    id INTEGER PRIMARY KEY AUTOINCREMENT,
-                    column_id INTEGER NOT NULL,
-                    title TEXT NOT NULL,
-                    description TEXT,
-                    priority TEXT CHECK(priority IN ('LOW', 'MEDIUM', 'HIGH')),
-                    position INTEGER NOT NULL,
-                    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
-                    due_date DATE,
-                    FOREIGN KEY (column_id) REFERENCES columns(id)
-                )
-            """);
+        Connection connection = DriverManager.getConnection(databaseConfig.getUrl(), sqliteConfig.toProperties());
+        try (Statement stmt = connection.createStatement()) {
+            for (Map.Entry<String, String> pragma : databaseConfig.getPragmas().entrySet()) {
+                stmt.execute("PRAGMA " + pragma.getKey() + " = " + pragma.getValue());
+            }
+            SqlFunctions.register(connection);
+        } catch (SQLException e) {
+            connection.close();
+            throw e;
+        }
+        if (databaseConfig.getSlowQueryConfig().isEnabled()) {
+            return TimedConnection.wrap(connection, log);
+        }
+        return connection;
+    }
 
-            // Create tags table
-            stmt.execute("""
-                CREATE TABLE IF NOT EXISTS tags (
-                    id INTEGER PRIMARY KEY AUTOINCREMENT,
-                    name TEXT NOT NULL UNIQUE,
-                    color TEXT NOT NULL
-                )
-            """);
+    /**
+     * Initialize database tables by applying pending schema migrations
+     * @throws SQLException if a migration fails
+     */
+    public static void initializeDatabase() throws SQLException {
+        if (getConfig().isReadOnly()) {
+            return;
+        }
 
-            // Create task_tags junction table
-            stmt.execute("""
-                CREATE TABLE IF NOT EXISTS task_tags (
-                    task_id INTEGER NOT NULL,
-                    tag_id INTEGER NOT NULL,
-                    PRIMARY KEY (task_id, tag_id),
-                    FOREIGN KEY (task_id) REFERENCES tasks(id),
-                    FOREIGN KEY (tag_id) REFERENCES tags(id)
-                )
-            """);
+        try (Connection conn = getConnection()) {
+            new SchemaMigrator().migrate(conn);
         }
     }
 
     /**
-     * Close database connection
+     * Close the connection pool and all idle connections
      */
-    public static void closeConnection() {
-        try {
-            if (connection != null && !connection.isClosed()) {
-                connection.close();
+    public static synchronized void closeConnection() {
+        if (pool != null) {
+            pool.close();
+            pool = null;
+            dataSource = null;
+        }
+        if (memoryAnchor != null) {
+            try {
+                memoryAnchor.close();
+            } catch (SQLException e) {
+                System.err.println("Error closing database connection: " + e.getMessage());
             }
-        } catch (SQLException e) {
-            System.err.println("Error closing database connection: " + e.getMessage());
+            memoryAnchor = null;
         }
     }
 }
@@ -0,0 +1,73 @@
+package ee.vikk.kanban.database;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * A single versioned schema change
+ */
+public class Migration {
+    private final int version;
+    private final String description;
+    private final Step step;
+
+    /**
+     * Schema change applied on the migration connection inside its transaction
+     */
+    @FunctionalInterface
+    public interface Step {
+        void apply(Connection connection) throws SQLException;
+    }
+
+    /**
+     * Constructor with custom migration step
+     * @param version Schema version this migration produces
+     * @param description Human readable description
+     * @param step Migration logic
+     */
+    public Migration(int version, String description, Step step) {
+        this.version = version;
+        this.description = description;
+        this.step = step;
+    }
+
+    /**
+     * Constructor with plain SQL statements
+     * @param version Schema version this migration produces
+     * @param description Human readable description
+     * @param statements SQL statements executed in order
+     */
+    public Migration(int version, String description, String... statements) {
+        this(version, description, connection -> {
+            try (Statement stmt = connection.createStatement()) {
+                for (String sql : statements) {
+                    stmt.execute(sql);
+                }
+            }
+        });
+    }
+
+    /**
+     * Apply this migration
+     * @param connection Connection with an open transaction
+     * @throws SQLException if database operation fails
+     */
+    public void apply(Connection connection) throws SQLException {
+        step.apply(connection);
+    }
+
+    // Getters
+    public int getVersion() {
+        return version;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    @Override
+    public String toString() {
+        return "V" + version + " " + description;
+    }
+}
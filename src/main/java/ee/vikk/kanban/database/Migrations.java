@@ -0,0 +1,217 @@
+package ee.vikk.kanban.database;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Application schema migrations, in version order.
+ * Never edit a released migration; add a new one instead.
+ */
+public final class Migrations {
+    // Rank digits and minimum key width as of version 5. Frozen here rather than taken
+    // from the Rank class, so later changes to Rank cannot change what version 5 writes.
+    private static final String RANK_DIGITS = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz";
+    private static final int RANK_WIDTH = 4;
+
+    private Migrations() {
+    }
+
+    /**
+     * Get all application migrations
+     * @return Migrations in version order
+     */
+    public static List<Migration> all() {
+        return List.of(
+            new Migration(1, "Create base tables",
+                """
+                CREATE TABLE IF NOT EXISTS boards (
+                    id INTEGER PRIMARY KEY AUTOINCREMENT,
+                    name TEXT NOT NULL,
+                    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+                )
+                """,
+                """
+                CREATE TABLE IF NOT EXISTS columns (
+                    id INTEGER PRIMARY KEY AUTOINCREMENT,
+                    board_id INTEGER NOT NULL,
+                    name TEXT NOT NULL,
+                    position INTEGER NOT NULL,
+                    color TEXT DEFAULT '#808080',
+                    FOREIGN KEY (board_id) REFERENCES boards(id)
+                )
+                """,
+                """
+                CREATE TABLE IF NOT EXISTS tasks (
+                    id INTEGER PRIMARY KEY AUTOINCREMENT,
+                    column_id INTEGER NOT NULL,
+                    title TEXT NOT NULL,
+                    description TEXT,
+                    priority TEXT CHECK(priority IN ('LOW', 'MEDIUM', 'HIGH')),
+                    position INTEGER NOT NULL,
+                    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+                    due_date DATE,
+                    FOREIGN KEY (column_id) REFERENCES columns(id)
+                )
+                """,
+                """
+                CREATE TABLE IF NOT EXISTS tags (
+                    id INTEGER PRIMARY KEY AUTOINCREMENT,
+                    name TEXT NOT NULL UNIQUE,
+                    color TEXT NOT NULL
+                )
+                """,
+                """
+                CREATE TABLE IF NOT EXISTS task_tags (
+                    task_id INTEGER NOT NULL,
+                    tag_id INTEGER NOT NULL,
+                    PRIMARY KEY (task_id, tag_id),
+                    FOREIGN KEY (task_id) REFERENCES tasks(id),
+                    FOREIGN KEY (tag_id) REFERENCES tags(id)
+                )
+                """
+            ),
+            // Serves findByColumnId ordering and the MAX(position) lookup in getNextPosition
+            new Migration(2, "Index tasks by column and position",
+                "CREATE INDEX IF NOT EXISTS idx_tasks_column_position ON tasks (column_id, position)"
+            ),
+            // Serves findByBoardId ordering
+            new Migration(3, "Index columns by board and position",
+                "CREATE INDEX IF NOT EXISTS idx_columns_board_position ON columns (board_id, position)"
+            ),
+            // Primary key covers task -> tags; this covers tag -> tasks
+            new Migration(4, "Index task tags by tag",
+                "CREATE INDEX IF NOT EXISTS idx_task_tags_tag_task ON task_tags (tag_id, task_id)"
+            ),
+            // Fractional ranking keys; ordering now uses rank, position stays the insertion sequence
+            new Migration(5, "Add rank ordering keys to tasks and columns", connection -> {
+                try (Statement stmt = connection.createStatement()) {
+                    stmt.execute("ALTER TABLE tasks ADD COLUMN rank TEXT");
+                    stmt.execute("ALTER TABLE columns ADD COLUMN rank TEXT");
+                }
+                backfillRanks(connection, "tasks", "column_id");
+                backfillRanks(connection, "columns", "board_id");
+                try (Statement stmt = connection.createStatement()) {
+                    stmt.execute("CREATE INDEX IF NOT EXISTS idx_tasks_column_rank ON tasks (column_id, rank)");
+                    stmt.execute("CREATE INDEX IF NOT EXISTS idx_columns_board_rank ON columns (board_id, rank)");
+                }
+            }),
+            // External-content FTS5 index over task text; rows live only in tasks and the
+            // triggers keep the index in step. Prefix indexes serve 2- and 3-character prefix queries.
+            new Migration(6, "Add full-text search index for tasks",
+                """
+                CREATE VIRTUAL TABLE IF NOT EXISTS tasks_fts USING fts5(
+                    title, description,
+                    content = 'tasks', content_rowid = 'id',
+                    tokenize = 'unicode61 remove_diacritics 2',
+                    prefix = '2 3'
+                )
+                """,
+                """
+                CREATE TRIGGER IF NOT EXISTS tasks_fts_after_insert AFTER INSERT ON tasks BEGIN
+                    INSERT INTO tasks_fts (rowid, title, description) VALUES (new.id, new.title, new.description);
+                END
+                """,
+                """
+                CREATE TRIGGER IF NOT EXISTS tasks_fts_after_delete AFTER DELETE ON tasks BEGIN
+                    INSERT INTO tasks_fts (tasks_fts, rowid, title, description)
+                    VALUES ('delete', old.id, old.title, old.description);
+                END
+                """,
+                """
+                CREATE TRIGGER IF NOT EXISTS tasks_fts_after_update AFTER UPDATE OF title, description ON tasks BEGIN
+                    INSERT INTO tasks_fts (tasks_fts, rowid, title, description)
+                    VALUES ('delete', old.id, old.title, old.description);
+                    INSERT INTO tasks_fts (rowid, title, description) VALUES (new.id, new.title, new.description);
+                END
+                """,
+                "INSERT INTO tasks_fts (tasks_fts) VALUES ('rebuild')"
+            ),
+            // Deletes used to remove only the parent row; drop what they left behind, parents first
+            new Migration(7, "Delete orphaned columns, tasks and tag assignments",
+                "DELETE FROM columns WHERE board_id NOT IN (SELECT id FROM boards)",
+                "DELETE FROM tasks WHERE column_id NOT IN (SELECT id FROM columns)",
+                """
+                DELETE FROM task_tags
+                WHERE task_id NOT IN (SELECT id FROM tasks) OR tag_id NOT IN (SELECT id FROM tags)
+                """
+            ),
+            // Lists are ordered by rank and nothing reads position any more, so these
+            // indexes only cost a write on every insert, move and update
+            new Migration(8, "Drop position ordering indexes",
+                "DROP INDEX IF EXISTS idx_tasks_column_position",
+                "DROP INDEX IF EXISTS idx_columns_board_position"
+            )
+        );
+    }
+
+    /**
+     * Give existing rows evenly spaced ranks that follow their current position order
+     * @param connection Migration connection
+     * @param table Table to backfill
+     * @param parentColumn Column that groups rows into one ordered list
+     * @throws SQLException if database operation fails
+     */
+    private static void backfillRanks(Connection connection, String table, String parentColumn) throws SQLException {
+        String select = "SELECT id, " + parentColumn + " FROM " + table + " ORDER BY " + parentColumn + ", position, id";
+        List<int[]> rows = new ArrayList<>();
+        try (Statement stmt = connection.createStatement();
+             ResultSet rs = stmt.executeQuery(select)) {
+            while (rs.next()) {
+                rows.add(new int[]{rs.getInt(1), rs.getInt(2)});
+            }
+        }
+
+        try (PreparedStatement stmt = connection.prepareStatement("UPDATE " + table + " SET rank = ? WHERE id = ?")) {
+            int start = 0;
+            while (start < rows.size()) {
+                int end = start;
+                while (end < rows.size() && rows.get(end)[1] == rows.get(start)[1]) {
+                    end++;
+                }
+                List<String> ranks = spreadRanks(end - start);
+                for (int i = start; i < end; i++) {
+                    stmt.setString(1, ranks.get(i - start));
+                    stmt.setInt(2, rows.get(i)[0]);
+                    stmt.addBatch();
+                }
+                start = end;
+            }
+            stmt.executeBatch();
+        }
+    }
+
+    /**
+     * Generate evenly spaced base-62 rank keys, as Rank.spread did when version 5 was released
+     * @param count Number of keys
+     * @return Ascending keys without trailing '0' digits
+     */
+    private static List<String> spreadRanks(int count) {
+        int base = RANK_DIGITS.length();
+        int width = RANK_WIDTH;
+        while (Math.pow(base, width) < 2.0 * (count + 1)) {
+            width++;
+        }
+        long step = (long) Math.pow(base, width) / (count + 1);
+
+        List<String> keys = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            long value = i * step;
+            char[] digits = new char[width];
+            for (int d = width - 1; d >= 0; d--) {
+                digits[d] = RANK_DIGITS.charAt((int) (value % base));
+                value /= base;
+            }
+            int end = width;
+            while (end > 1 && digits[end - 1] == '0') {
+                end--;
+            }
+            keys.add(new String(digits, 0, end));
+        }
+        return keys;
+    }
+}
@@ -0,0 +1,67 @@
+package ee.vikk.kanban.database;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Named sets of SQLite PRAGMA settings applied to every new connection
+ */
+public enum PerformanceProfile {
+    /**
+     * SQLite defaults: rollback journal and a full fsync on every commit
+     */
+    DEFAULT(),
+
+    /**
+     * WAL journal with NORMAL sync, a 32 MiB page cache, 256 MiB of memory-mapped
+     * reads, in-memory temp tables and a busy timeout for concurrent pool connections
+     */
+    PERFORMANCE(
+        "journal_mode", "WAL",
+        "synchronous", "NORMAL",
+        "cache_size", "-32768",
+        "mmap_size", "268435456",
+        "temp_store", "MEMORY",
+        "busy_timeout", "5000"
+    );
+
+    private final Map<String, String> pragmas;
+
+    PerformanceProfile(String... nameValuePairs) {
+        Map<String, String> values = new LinkedHashMap<>();
+        for (int i = 0; i < nameValuePairs.length; i += 2) {
+            values.put(nameValuePairs[i], nameValuePairs[i + 1]);
+        }
+        this.pragmas = Collections.unmodifiableMap(values);
+    }
+
+    /**
+     * Get PRAGMA settings of this profile that apply to the given mode.
+     * The journal mode is left alone for in-memory and read-only databases,
+     * which cannot switch to WAL.
+     * @param mode Database access mode
+     * @return PRAGMA names and values in the order they must be applied
+     */
+    public Map<String, String> pragmasFor(DatabaseConfig.Mode mode) {
+        Map<String, String> values = new LinkedHashMap<>(pragmas);
+        if (mode != DatabaseConfig.Mode.FILE) {
+            values.remove("journal_mode");
+        }
+        return values;
+    }
+
+    /**
+     * Parse profile from configuration value such as "performance"
+     * @param value Configuration value
+     * @return Matching profile
+     */
+    public static PerformanceProfile parse(String value) {
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown performance profile: " + value, e);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package ee.vikk.kanban.database;
+
+/**
+ * Connection pool settings
+ */
+public class PoolConfig {
+    private int maxSize;
+    private int minIdle;
+    private long connectionTimeoutMillis;
+    private long idleTimeoutMillis;
+    private long validationIntervalMillis;
+    private int validationTimeoutSeconds;
+
+    /**
+     * Default constructor with default settings
+     */
+    public PoolConfig() {
+        this.maxSize = 4;
+        this.minIdle = 1;
+        this.connectionTimeoutMillis = 30_000;
+        this.idleTimeoutMillis = 300_000;
+        this.validationIntervalMillis = 5_000;
+        this.validationTimeoutSeconds = 2;
+    }
+
+    /**
+     * Constructor with pool size
+     * @param maxSize Maximum number of open connections
+     */
+    public PoolConfig(int maxSize) {
+        this();
+        this.maxSize = maxSize;
+    }
+
+    // Getters and setters
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public void setMaxSize(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public int getMinIdle() {
+        return minIdle;
+    }
+
+    public void setMinIdle(int minIdle) {
+        this.minIdle = minIdle;
+    }
+
+    public long getConnectionTimeoutMillis() {
+        return connectionTimeoutMillis;
+    }
+
+    public void setConnectionTimeoutMillis(long connectionTimeoutMillis) {
+        this.connectionTimeoutMillis = connectionTimeoutMillis;
+    }
+
+    public long getIdleTimeoutMillis() {
+        return idleTimeoutMillis;
+    }
+
+    public void setIdleTimeoutMillis(long idleTimeoutMillis) {
+        this.idleTimeoutMillis = idleTimeoutMillis;
+    }
+
+    public long getValidationIntervalMillis() {
+        return validationIntervalMillis;
+    }
+
+    public void setValidationIntervalMillis(long validationIntervalMillis) {
+        this.validationIntervalMillis = validationIntervalMillis;
+    }
+
+    public int getValidationTimeoutSeconds() {
+        return validationTimeoutSeconds;
+    }
+
+    public void setValidationTimeoutSeconds(int validationTimeoutSeconds) {
+        this.validationTimeoutSeconds = validationTimeoutSeconds;
+    }
+
+    @Override
+    public String toString() {
+        return "PoolConfig{" +
+                "maxSize=" + maxSize +
+                ", minIdle=" + minIdle +
+                ", connectionTimeoutMillis=" + connectionTimeoutMillis +
+                ", idleTimeoutMillis=" + idleTimeoutMillis +
+                ", validationIntervalMillis=" + validationIntervalMillis +
+                ", validationTimeoutSeconds=" + validationTimeoutSeconds +
+                '}';
+    }
+}
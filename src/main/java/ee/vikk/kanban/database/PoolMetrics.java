@@ -0,0 +1,101 @@
+package ee.vikk.kanban.database;
+
+/**
+ * Point-in-time snapshot of connection pool statistics
+ */
+public class PoolMetrics {
+    private final int maxSize;
+    private final int active;
+    private final int idle;
+    private final long created;
+    private final long destroyed;
+    private final long borrows;
+    private final long timeouts;
+    private final long totalWaitNanos;
+    private final long maxWaitNanos;
+
+    /**
+     * Constructor with all fields
+     * @param maxSize Maximum pool size
+     * @param active Connections currently borrowed
+     * @param idle Connections currently idle in the pool
+     * @param created Physical connections opened so far
+     * @param destroyed Physical connections closed so far
+     * @param borrows Successful borrows so far
+     * @param timeouts Borrows that timed out waiting for a connection
+     * @param totalWaitNanos Total time spent waiting for a connection
+     * @param maxWaitNanos Longest single wait for a connection
+     */
+    public PoolMetrics(int maxSize, int active, int idle, long created, long destroyed,
+                       long borrows, long timeouts, long totalWaitNanos, long maxWaitNanos) {
+        this.maxSize = maxSize;
+        this.active = active;
+        this.idle = idle;
+        this.created = created;
+        this.destroyed = destroyed;
+        this.borrows = borrows;
+        this.timeouts = timeouts;
+        this.totalWaitNanos = totalWaitNanos;
+        this.maxWaitNanos = maxWaitNanos;
+    }
+
+    // Getters
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public int getActive() {
+        return active;
+    }
+
+    public int getIdle() {
+        return idle;
+    }
+
+    public long getCreated() {
+        return created;
+    }
+
+    public long getDestroyed() {
+        return destroyed;
+    }
+
+    public long getBorrows() {
+        return borrows;
+    }
+
+    public long getTimeouts() {
+        return timeouts;
+    }
+
+    public long getTotalWaitNanos() {
+        return totalWaitNanos;
+    }
+
+    public long getMaxWaitNanos() {
+        return maxWaitNanos;
+    }
+
+    /**
+     * Get average time a borrow waited for a connection
+     * @return Average wait in milliseconds
+     */
+    public double getAverageWaitMillis() {
+        return borrows == 0 ? 0.0 : totalWaitNanos / (double) borrows / 1_000_000.0;
+    }
+
+    @Override
+    public String toString() {
+        return "PoolMetrics{" +
+                "maxSize=" + maxSize +
+                ", active=" + active +
+                ", idle=" + idle +
+                ", created=" + created +
+                ", destroyed=" + destroyed +
+                ", borrows=" + borrows +
+                ", timeouts=" + timeouts +
+                ", avgWaitMs=" + String.format("%.3f", getAverageWaitMillis()) +
+                ", maxWaitMs=" + String.format("%.3f", maxWaitNanos / 1_000_000.0) +
+                '}';
+    }
+}
@@ -0,0 +1,79 @@
+package ee.vikk.kanban.database;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Helpers for streaming query results row by row instead of collecting them
+ */
+public final class ResultSetStreams {
+
+    // Rows SQLite steps through per fetch; only the current row is mapped at a time
+    static final int FETCH_SIZE = 256;
+
+    /**
+     * Mapper from the current row of a result set
+     * @param <T> Mapped type
+     */
+    @FunctionalInterface
+    public interface RowMapper<T> {
+        T map(ResultSet rs) throws SQLException;
+    }
+
+    private ResultSetStreams() {
+    }
+
+    /**
+     * Execute a query and return a stream that maps its rows lazily. The stream
+     * owns the statement and connection: it must be closed, preferably with
+     * try-with-resources, and holds its pooled connection until then. Errors
+     * while reading rows are thrown as UncheckedSQLException.
+     * @param conn Connection the statement belongs to
+     * @param stmt Prepared query with its parameters bound
+     * @param mapper Row mapper
+     * @param <T> Mapped type
+     * @return Lazily mapped rows
+     * @throws SQLException if the query fails; the statement and connection are closed
+     */
+    public static <T> Stream<T> stream(Connection conn, PreparedStatement stmt, RowMapper<T> mapper) throws SQLException {
+        ResultSet rs;
+        try {
+            stmt.setFetchSize(FETCH_SIZE);
+            rs = stmt.executeQuery();
+        } catch (SQLException e) {
+            close(null, stmt, conn);
+            throw e;
+        }
+
+        Spliterator<T> rows = new Spliterators.AbstractSpliterator<>(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+            @Override
+            public boolean tryAdvance(Consumer<? super T> action) {
+                try {
+                    if (!rs.next()) {
+                        return false;
+                    }
+                    action.accept(mapper.map(rs));
+                    return true;
+                } catch (SQLException e) {
+                    throw new UncheckedSQLException(e);
+                }
+            }
+        };
+        return StreamSupport.stream(rows, false).onClose(() -> close(rs, stmt, conn));
+    }
+
+    private static void close(ResultSet rs, PreparedStatement stmt, Connection conn) {
+        try (conn; stmt; rs) {
+            // Closed in reverse order by try-with-resources
+        } catch (SQLException e) {
+            throw new UncheckedSQLException(e);
+        }
+    }
+}
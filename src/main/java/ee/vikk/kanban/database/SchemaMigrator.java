@@ -0,0 +1,122 @@
+package ee.vikk.kanban.database;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Applies ordered schema migrations and records them in the schema_version table.
+ * Each migration runs in its own transaction; an up-to-date database costs one
+ * version lookup.
+ */
+public class SchemaMigrator {
+    private final List<Migration> migrations;
+
+    /**
+     * Constructor with migrations to apply
+     * @param migrations Migrations in any order, with unique versions
+     */
+    public SchemaMigrator(List<Migration> migrations) {
+        List<Migration> sorted = new ArrayList<>(migrations);
+        sorted.sort(Comparator.comparingInt(Migration::getVersion));
+        for (int i = 1; i < sorted.size(); i++) {
+            if (sorted.get(i).getVersion() == sorted.get(i - 1).getVersion()) {
+                throw new IllegalArgumentException("Duplicate migration version: " + sorted.get(i).getVersion());
+            }
+        }
+        this.migrations = sorted;
+    }
+
+    /**
+     * Default constructor with the application migrations
+     */
+    public SchemaMigrator() {
+        this(Migrations.all());
+    }
+
+    /**
+     * Bring the database schema up to the latest version
+     * @param connection Connection to migrate
+     * @return Number of migrations applied
+     * @throws SQLException if a migration fails; that migration is rolled back
+     */
+    public int migrate(Connection connection) throws SQLException {
+        int current = getCurrentVersion(connection);
+        if (migrations.isEmpty() || current >= getLatestVersion()) {
+            return 0;
+        }
+
+        int applied = 0;
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try {
+            for (Migration migration : migrations) {
+                if (migration.getVersion() <= current) {
+                    continue;
+                }
+                try {
+                    migration.apply(connection);
+                    recordVersion(connection, migration);
+                    connection.commit();
+                    applied++;
+                } catch (SQLException e) {
+                    connection.rollback();
+                    throw new SQLException("Migration " + migration + " failed: " + e.getMessage(), e);
+                }
+            }
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute("PRAGMA optimize");
+        }
+        return applied;
+    }
+
+    /**
+     * Get the latest schema version known to this migrator
+     * @return Latest version, or 0 if there are no migrations
+     */
+    public int getLatestVersion() {
+        return migrations.isEmpty() ? 0 : migrations.get(migrations.size() - 1).getVersion();
+    }
+
+    /**
+     * Get the schema version recorded in the database, creating the version table if needed
+     * @param connection Database connection
+     * @return Current version, or 0 for a new database
+     * @throws SQLException if database operation fails
+     */
+    public int getCurrentVersion(Connection connection) throws SQLException {
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute("""
+                CREATE TABLE IF NOT EXISTS schema_version (
+                    version INTEGER PRIMARY KEY,
+                    description TEXT NOT NULL,
+                    applied_at TIMESTAMP NOT NULL
+                )
+            """);
+            try (ResultSet rs = stmt.executeQuery("SELECT COALESCE(MAX(version), 0) FROM schema_version")) {
+                return rs.next() ? rs.getInt(1) : 0;
+            }
+        }
+    }
+
+    private void recordVersion(Connection connection, Migration migration) throws SQLException {
+        String sql = "INSERT INTO schema_version (version, description, applied_at) VALUES (?, ?, ?)";
+        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+            stmt.setInt(1, migration.getVersion());
+            stmt.setString(2, migration.getDescription());
+            stmt.setTimestamp(3, Timestamp.valueOf(LocalDateTime.now()));
+            stmt.executeUpdate();
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package ee.vikk.kanban.database;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One statement that took longer than the slow query threshold
+ */
+public class SlowQuery {
+    private final LocalDateTime timestamp;
+    private final String thread;
+    private final String sql;
+    private final String parameters;
+    private final int batchSize;
+    private final long durationNanos;
+    private final String plan;
+
+    /**
+     * Constructor with all fields
+     * @param timestamp When the statement finished
+     * @param thread Name of the thread that ran it
+     * @param sql Statement text
+     * @param parameters Redacted bound parameters, such as "[1, '<5 chars>']"
+     * @param batchSize Number of batched parameter sets, 0 for a single execution
+     * @param durationNanos Execution time
+     * @param plan EXPLAIN QUERY PLAN output, or null when it was not captured
+     */
+    public SlowQuery(LocalDateTime timestamp, String thread, String sql, String parameters,
+                     int batchSize, long durationNanos, String plan) {
+        this.timestamp = timestamp;
+        this.thread = thread;
+        this.sql = sql;
+        this.parameters = parameters;
+        this.batchSize = batchSize;
+        this.durationNanos = durationNanos;
+        this.plan = plan;
+    }
+
+    // Getters
+    public LocalDateTime getTimestamp() {
+        return timestamp;
+    }
+
+    public String getThread() {
+        return thread;
+    }
+
+    public String getSql() {
+        return sql;
+    }
+
+    public String getParameters() {
+        return parameters;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public long getDurationNanos() {
+        return durationNanos;
+    }
+
+    public long getDurationMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(durationNanos);
+    }
+
+    public String getPlan() {
+        return plan;
+    }
+
+    /**
+     * Format the statement, its parameters and plan over several lines
+     * @return Multi-line description
+     */
+    public String format() {
+        StringBuilder text = new StringBuilder();
+        text.append(timestamp).append(" [").append(thread).append("] ")
+            .append(getDurationMillis()).append(" ms");
+        if (batchSize > 0) {
+            text.append(", batch of ").append(batchSize);
+        }
+        text.append(System.lineSeparator()).append("  ").append(sql.strip().replaceAll("\\s+", " "));
+        if (!parameters.isEmpty()) {
+            text.append(System.lineSeparator()).append("  parameters: ").append(parameters);
+        }
+        if (plan != null) {
+            plan.lines().forEach(line -> text.append(System.lineSeparator()).append("  ").append(line));
+        }
+        return text.toString();
+    }
+
+    @Override
+    public String toString() {
+        return "SlowQuery{" +
+                "durationMillis=" + getDurationMillis() +
+                ", sql='" + sql + '\'' +
+                ", parameters=" + parameters +
+                '}';
+    }
+}
@@ -0,0 +1,66 @@
+package ee.vikk.kanban.database;
+
+/**
+ * Slow query log settings
+ */
+public class SlowQueryConfig {
+    private long thresholdMillis;
+    private int bufferSize;
+    private int logLimitPerMinute;
+
+    /**
+     * Default constructor with default settings
+     */
+    public SlowQueryConfig() {
+        this.thresholdMillis = 100;
+        this.bufferSize = 50;
+        this.logLimitPerMinute = 10;
+    }
+
+    /**
+     * Constructor with threshold
+     * @param thresholdMillis Statements taking at least this long are slow; negative disables the log
+     */
+    public SlowQueryConfig(long thresholdMillis) {
+        this();
+        this.thresholdMillis = thresholdMillis;
+    }
+
+    public boolean isEnabled() {
+        return thresholdMillis >= 0;
+    }
+
+    // Getters and setters
+    public long getThresholdMillis() {
+        return thresholdMillis;
+    }
+
+    public void setThresholdMillis(long thresholdMillis) {
+        this.thresholdMillis = thresholdMillis;
+    }
+
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    public void setBufferSize(int bufferSize) {
+        this.bufferSize = bufferSize;
+    }
+
+    public int getLogLimitPerMinute() {
+        return logLimitPerMinute;
+    }
+
+    public void setLogLimitPerMinute(int logLimitPerMinute) {
+        this.logLimitPerMinute = logLimitPerMinute;
+    }
+
+    @Override
+    public String toString() {
+        return "SlowQueryConfig{" +
+                "thresholdMillis=" + thresholdMillis +
+                ", bufferSize=" + bufferSize +
+                ", logLimitPerMinute=" + logLimitPerMinute +
+                '}';
+    }
+}
@@ -0,0 +1,193 @@
+package ee.vikk.kanban.database;
+
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Log of statements slower than a threshold. The last slow statements are kept
+ * in a ring buffer for the diagnostics view; at most a configured number per
+ * minute are written to System.err together with their query plan. Statements
+ * over the limit are kept in the buffer without a plan, and their number is
+ * written once the minute is over, even if no further slow statement comes.
+ * <p>
+ * The plan is read with EXPLAIN QUERY PLAN on the caller's connection, on the
+ * calling thread and inside its transaction. It only compiles the statement
+ * and reads no table rows or write locks, but it does add to the latency of the
+ * slow call, which is why the log limit also bounds how often it runs.
+ */
+public class SlowQueryLog {
+    private static final long WINDOW_NANOS = TimeUnit.MINUTES.toNanos(1);
+    private static final ScheduledExecutorService REPORTER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "kanban-slow-query-log");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final SlowQueryConfig config;
+    private final long thresholdNanos;
+    private final long windowNanos;
+    private final SlowQuery[] recent;
+    private final LongAdder total = new LongAdder();
+    private final LongAdder suppressed = new LongAdder();
+    private int next;
+    private int size;
+    private long windowStart = System.nanoTime();
+    private int loggedInWindow;
+    private int suppressedInWindow;
+
+    /**
+     * Reads the query plan of a slow statement
+     */
+    @FunctionalInterface
+    interface PlanReader {
+        String explain() throws SQLException;
+    }
+
+    /**
+     * Constructor with settings
+     * @param config Slow query log settings
+     */
+    public SlowQueryLog(SlowQueryConfig config) {
+        this(config, WINDOW_NANOS);
+    }
+
+    /**
+     * Constructor with settings and log limit window
+     * @param config Slow query log settings
+     * @param windowNanos Length of the window the log limit applies to
+     */
+    SlowQueryLog(SlowQueryConfig config, long windowNanos) {
+        this.config = config;
+        this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, config.getThresholdMillis()));
+        this.windowNanos = windowNanos;
+        this.recent = new SlowQuery[Math.max(1, config.getBufferSize())];
+    }
+
+    /**
+     * Check whether a statement counts as slow
+     * @param durationNanos Execution time
+     * @return true if the log is enabled and the statement reached the threshold
+     */
+    public boolean isSlow(long durationNanos) {
+        return config.isEnabled() && durationNanos >= thresholdNanos;
+    }
+
+    /**
+     * Record a slow statement, reading and logging its plan unless the log limit is reached.
+     * The plan is read on the calling thread, inside the caller's transaction.
+     * @param sql Statement text
+     * @param parameters Redacted bound parameters
+     * @param batchSize Number of batched parameter sets, 0 for a single execution
+     * @param durationNanos Execution time
+     * @param planReader Reads the statement's query plan
+     * @return Recorded slow query
+     */
+    SlowQuery record(String sql, String parameters, int batchSize, long durationNanos, PlanReader planReader) {
+        boolean logged = acquireLogPermit();
+        String plan = null;
+        if (logged) {
+            try {
+                plan = planReader.explain();
+            } catch (SQLException e) {
+                plan = "(no query plan: " + e.getMessage() + ")";
+            }
+        }
+
+        SlowQuery query = new SlowQuery(LocalDateTime.now(), Thread.currentThread().getName(),
+                sql, parameters, batchSize, durationNanos, plan);
+        synchronized (this) {
+            recent[next] = query;
+            next = (next + 1) % recent.length;
+            size = Math.min(size + 1, recent.length);
+        }
+        total.increment();
+
+        if (logged) {
+            System.err.println("Slow query: " + query.format());
+        }
+        return query;
+    }
+
+    /**
+     * Take one of the log lines allowed in the current window. The first statement
+     * over the limit schedules the report of the suppressed ones for the window end.
+     * @return true if the statement may be logged, false if the limit is reached
+     */
+    private synchronized boolean acquireLogPermit() {
+        long now = System.nanoTime();
+        rollWindow(now);
+        if (loggedInWindow >= config.getLogLimitPerMinute()) {
+            if (suppressedInWindow++ == 0) {
+                REPORTER.schedule(() -> rollWindow(System.nanoTime()), windowStart + windowNanos - now, TimeUnit.NANOSECONDS);
+            }
+            suppressed.increment();
+            return false;
+        }
+        loggedInWindow++;
+        return true;
+    }
+
+    /**
+     * Start a new window once the current one is over, reporting the statements
+     * it did not log
+     * @param now Current System.nanoTime()
+     */
+    private synchronized void rollWindow(long now) {
+        if (now - windowStart < windowNanos) {
+            return;
+        }
+        if (suppressedInWindow > 0) {
+            System.err.println("Slow query log: " + suppressedInWindow + " slow statements were not logged in the last minute");
+        }
+        windowStart = now;
+        loggedInWindow = 0;
+        suppressedInWindow = 0;
+    }
+
+    /**
+     * Get the slow statements still in the ring buffer, first reporting the
+     * statements a finished window did not log
+     * @return Slow queries, newest first
+     */
+    public synchronized List<SlowQuery> getRecent() {
+        rollWindow(System.nanoTime());
+        List<SlowQuery> queries = new ArrayList<>(size);
+        for (int i = 1; i <= size; i++) {
+            queries.add(recent[(next - i + recent.length) % recent.length]);
+        }
+        return queries;
+    }
+
+    /**
+     * Empty the ring buffer
+     */
+    public synchronized void clear() {
+        Arrays.fill(recent, null);
+        next = 0;
+        size = 0;
+    }
+
+    // Getters
+    public SlowQueryConfig getConfig() {
+        return config;
+    }
+
+    public long getTotalCount() {
+        return total.sum();
+    }
+
+    /**
+     * Get the number of slow statements not logged because of the log limit
+     * @return Statements over the limit since start
+     */
+    public long getSuppressedCount() {
+        return suppressed.sum();
+    }
+}
@@ -0,0 +1,33 @@
+package ee.vikk.kanban.database;
+
+import java.util.Collection;
+import java.util.stream.Collectors;
+
+/**
+ * Helpers for binding a set of values as one statement parameter. SQLite reads
+ * the set back with {@code IN (SELECT value FROM json_each(?))}, so one
+ * statement covers any number of values.
+ */
+public final class SqlArrays {
+
+    private SqlArrays() {
+    }
+
+    /**
+     * Encode numbers as a JSON array
+     * @param values Numbers, such as row IDs
+     * @return JSON array, such as [1,2,3]
+     */
+    public static String jsonArray(Collection<? extends Number> values) {
+        return values.stream().map(String::valueOf).collect(Collectors.joining(",", "[", "]"));
+    }
+
+    /**
+     * Encode enum constants as a JSON array of their names
+     * @param values Enum constants
+     * @return JSON array, such as ["LOW","HIGH"]
+     */
+    public static String jsonNameArray(Collection<? extends Enum<?>> values) {
+        return values.stream().map(value -> "\"" + value.name() + "\"").collect(Collectors.joining(",", "[", "]"));
+    }
+}
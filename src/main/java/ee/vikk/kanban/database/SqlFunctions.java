@@ -0,0 +1,42 @@
+package ee.vikk.kanban.database;
+
+import ee.vikk.kanban.model.Rank;
+import org.sqlite.Function;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Application SQL functions registered on every physical connection
+ */
+public final class SqlFunctions {
+
+    private SqlFunctions() {
+    }
+
+    /**
+     * Register rank_after(key) and rank_between(lower, upper), which compute
+     * fractional ranking keys inside a single INSERT or UPDATE
+     * @param connection Physical SQLite connection
+     * @throws SQLException if registration fails
+     */
+    public static void register(Connection connection) throws SQLException {
+        Function.create(connection, "rank_after", new Function() {
+            @Override
+            protected void xFunc() throws SQLException {
+                result(Rank.after(value_text(0)));
+            }
+        }, 1, Function.FLAG_DETERMINISTIC);
+
+        Function.create(connection, "rank_between", new Function() {
+            @Override
+            protected void xFunc() throws SQLException {
+                try {
+                    result(Rank.between(value_text(0), value_text(1)));
+                } catch (IllegalArgumentException e) {
+                    error(e.getMessage());
+                }
+            }
+        }, 2, Function.FLAG_DETERMINISTIC);
+    }
+}
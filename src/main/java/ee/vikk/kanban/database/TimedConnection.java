@@ -0,0 +1,215 @@
+package ee.vikk.kanban.database;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Physical connection wrapper that times every statement execution and hands
+ * the slow ones to a SlowQueryLog together with their bound parameters and a
+ * reader for their query plan. The time of executeQuery() covers preparing
+ * and stepping to the first row; reading further rows is not included.
+ */
+final class TimedConnection implements InvocationHandler {
+    private final Connection physical;
+    private final SlowQueryLog log;
+    private Connection proxy;
+
+    private TimedConnection(Connection physical, SlowQueryLog log) {
+        this.physical = physical;
+        this.log = log;
+    }
+
+    /**
+     * Wrap a physical connection
+     * @param physical Connection to time
+     * @param log Log receiving slow statements
+     * @return Connection whose statements are timed
+     */
+    static Connection wrap(Connection physical, SlowQueryLog log) {
+        TimedConnection handler = new TimedConnection(physical, log);
+        handler.proxy = (Connection) Proxy.newProxyInstance(
+                TimedConnection.class.getClassLoader(), new Class<?>[]{Connection.class}, handler);
+        return handler.proxy;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        switch (method.getName()) {
+            case "equals":
+                return proxy == args[0];
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            case "toString":
+                return "TimedConnection[" + physical + "]";
+            default:
+                break;
+        }
+
+        Object result = invokeOn(physical, method, args);
+        switch (method.getName()) {
+            case "prepareStatement":
+                return wrapStatement(PreparedStatement.class, (Statement) result, (String) args[0]);
+            case "createStatement":
+                return wrapStatement(Statement.class, (Statement) result, null);
+            default:
+                return result;
+        }
+    }
+
+    private Statement wrapStatement(Class<? extends Statement> type, Statement statement, String sql) {
+        return (Statement) Proxy.newProxyInstance(TimedConnection.class.getClassLoader(),
+                new Class<?>[]{type}, new TimedStatement(statement, sql));
+    }
+
+    private static Object invokeOn(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Format bound parameters without their contents: numbers and booleans are
+     * kept, text and binary values are replaced by their length
+     * @param parameters Parameters by index, starting from 1
+     * @return Redacted parameter list, such as "[1, '&lt;12 chars&gt;', NULL]"; empty if none are bound
+     */
+    static String redact(Map<Integer, Object> parameters) {
+        if (parameters.isEmpty()) {
+            return "";
+        }
+        int count = parameters.keySet().stream().mapToInt(Integer::intValue).max().orElse(0);
+        List<String> redacted = new ArrayList<>(count);
+        for (int index = 1; index <= count; index++) {
+            redacted.add(redactValue(parameters.get(index)));
+        }
+        return redacted.toString();
+    }
+
+    private static String redactValue(Object value) {
+        if (value == null) {
+            return "NULL";
+        }
+        if (value instanceof Number || value instanceof Boolean) {
+            return value.toString();
+        }
+        if (value instanceof byte[]) {
+            return "<" + ((byte[]) value).length + " bytes>";
+        }
+        if (value instanceof CharSequence) {
+            return "'<" + ((CharSequence) value).length() + " chars>'";
+        }
+        return "<" + value.getClass().getSimpleName() + ">";
+    }
+
+    /**
+     * Run EXPLAIN QUERY PLAN for a statement on the physical connection
+     * @param sql Statement text
+     * @param parameters Parameters to bind, by index
+     * @return Plan with one line per step, children indented under their parent
+     * @throws SQLException if the statement cannot be explained
+     */
+    private String explain(String sql, Map<Integer, Object> parameters) throws SQLException {
+        StringBuilder plan = new StringBuilder("QUERY PLAN");
+        Map<Integer, Integer> depths = new HashMap<>();
+        try (PreparedStatement stmt = physical.prepareStatement("EXPLAIN QUERY PLAN " + sql)) {
+            for (Map.Entry<Integer, Object> parameter : parameters.entrySet()) {
+                stmt.setObject(parameter.getKey(), parameter.getValue());
+            }
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    int depth = depths.getOrDefault(rs.getInt("parent"), -1) + 1;
+                    depths.put(rs.getInt("id"), depth);
+                    plan.append(System.lineSeparator()).append("  ".repeat(depth + 1)).append(rs.getString("detail"));
+                }
+            }
+        }
+        return plan.toString();
+    }
+
+    /**
+     * Statement wrapper that remembers bound parameters and times executions
+     */
+    private class TimedStatement implements InvocationHandler {
+        private final Statement statement;
+        private final String sql;
+        private final Map<Integer, Object> parameters = new HashMap<>();
+        private final List<String> batchSql = new ArrayList<>();
+        private int batchSize;
+
+        TimedStatement(Statement statement, String sql) {
+            this.statement = statement;
+            this.sql = sql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            switch (name) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "TimedStatement[" + statement + "]";
+                case "getConnection":
+                    return TimedConnection.this.proxy;
+                case "clearParameters":
+                    parameters.clear();
+                    break;
+                case "addBatch":
+                    if (args != null) {
+                        batchSql.add((String) args[0]);
+                    }
+                    batchSize++;
+                    break;
+                case "clearBatch":
+                    batchSql.clear();
+                    batchSize = 0;
+                    break;
+                default:
+                    if (name.startsWith("set") && method.getDeclaringClass() == PreparedStatement.class) {
+                        parameters.put((Integer) args[0], name.equals("setNull") ? null : args[1]);
+                    }
+                    break;
+            }
+            if (!name.startsWith("execute")) {
+                return invokeOn(statement, method, args);
+            }
+
+            boolean batch = name.endsWith("Batch");
+            String executed = args != null && args.length > 0 ? (String) args[0] : sql;
+            if (batch && sql == null) {
+                executed = String.join(";" + System.lineSeparator(), batchSql);
+            }
+            int executedBatchSize = batch ? batchSize : 0;
+            long start = System.nanoTime();
+            try {
+                return invokeOn(statement, method, args);
+            } finally {
+                long duration = System.nanoTime() - start;
+                if (batch) {
+                    batchSql.clear();
+                    batchSize = 0;
+                }
+                if (log.isSlow(duration) && executed != null) {
+                    String explained = executed;
+                    Map<Integer, Object> bound = executed.equals(sql) ? new HashMap<>(parameters) : Map.of();
+                    log.record(executed, redact(bound), executedBatchSize, duration, () -> explain(explained, bound));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package ee.vikk.kanban.database;
+
+import javax.sql.DataSource;
+import java.io.PrintWriter;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+/**
+ * DataSource that hands out the current thread's transaction connection while a
+ * transaction is open, and plain connections from the underlying pool otherwise.
+ * DAOs keep closing connections as usual; closing the transaction connection is
+ * a no-op until the transaction ends.
+ */
+public class TransactionalDataSource implements DataSource {
+    private final DataSource delegate;
+    private final ThreadLocal<Connection> current = new ThreadLocal<>();
+    private final ThreadLocal<List<Runnable>> completionActions = new ThreadLocal<>();
+
+    /**
+     * Constructor with underlying data source
+     * @param delegate Data source providing physical connections
+     */
+    public TransactionalDataSource(DataSource delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * Get a connection, joining the current thread's transaction if one is open
+     * @return Connection
+     * @throws SQLException if connection fails
+     */
+    @Override
+    public Connection getConnection() throws SQLException {
+        Connection connection = current.get();
+        if (connection == null) {
+            return delegate.getConnection();
+        }
+        return (Connection) Proxy.newProxyInstance(
+                TransactionalDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "close":
+                            return null;
+                        case "equals":
+                            return proxy == args[0];
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        default:
+                            try {
+                                return method.invoke(connection, args);
+                            } catch (InvocationTargetException e) {
+                                throw e.getCause();
+                            }
+                    }
+                });
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Pooled connections do not take credentials");
+    }
+
+    /**
+     * Start a transaction bound to the current thread
+     * @return Transaction connection
+     * @throws SQLException if a transaction is already open or connecting fails
+     */
+    public Connection begin() throws SQLException {
+        if (current.get() != null) {
+            throw new SQLException("Transaction already open on this thread");
+        }
+        Connection connection = delegate.getConnection();
+        try {
+            connection.setAutoCommit(false);
+        } catch (SQLException e) {
+            connection.close();
+            throw e;
+        }
+        current.set(connection);
+        return connection;
+    }
+
+    /**
+     * Commit and end the current thread's transaction
+     * @throws SQLException if commit fails; the transaction is rolled back
+     */
+    public void commit() throws SQLException {
+        Connection connection = requireCurrent();
+        try {
+            connection.commit();
+        } catch (SQLException e) {
+            rollback();
+            throw e;
+        }
+        end(connection);
+    }
+
+    /**
+     * Roll back and end the current thread's transaction
+     * @throws SQLException if rollback fails
+     */
+    public void rollback() throws SQLException {
+        Connection connection = requireCurrent();
+        try {
+            connection.rollback();
+        } finally {
+            end(connection);
+        }
+    }
+
+    /**
+     * Check if the current thread has an open transaction
+     * @return true if a transaction is open, false otherwise
+     */
+    public boolean isInTransaction() {
+        return current.get() != null;
+    }
+
+    /**
+     * Run an action once the current thread's transaction has committed or
+     * rolled back, or right away if no transaction is open
+     * @param action Action to run, such as a cache invalidation
+     */
+    public void afterCompletion(Runnable action) {
+        if (current.get() == null) {
+            action.run();
+            return;
+        }
+        List<Runnable> actions = completionActions.get();
+        if (actions == null) {
+            actions = new ArrayList<>();
+            completionActions.set(actions);
+        }
+        actions.add(action);
+    }
+
+    /**
+     * Get the current thread's transaction connection
+     * @return Transaction connection
+     * @throws SQLException if no transaction is open
+     */
+    public Connection requireCurrent() throws SQLException {
+        Connection connection = current.get();
+        if (connection == null) {
+            throw new SQLException("No transaction open on this thread");
+        }
+        return connection;
+    }
+
+    /**
+     * Get the underlying data source
+     * @return Wrapped data source
+     */
+    public DataSource getDelegate() {
+        return delegate;
+    }
+
+    private void end(Connection connection) throws SQLException {
+        current.remove();
+        List<Runnable> actions = completionActions.get();
+        completionActions.remove();
+        try {
+            connection.setAutoCommit(true);
+        } finally {
+            try {
+                connection.close();
+            } finally {
+                if (actions != null) {
+                    actions.forEach(Runnable::run);
+                }
+            }
+        }
+    }
+
+    @Override
+    public PrintWriter getLogWriter() throws SQLException {
+        return delegate.getLogWriter();
+    }
+
+    @Override
+    public void setLogWriter(PrintWriter out) throws SQLException {
+        delegate.setLogWriter(out);
+    }
+
+    @Override
+    public void setLoginTimeout(int seconds) throws SQLException {
+        delegate.setLoginTimeout(seconds);
+    }
+
+    @Override
+    public int getLoginTimeout() throws SQLException {
+        return delegate.getLoginTimeout();
+    }
+
+    @Override
+    public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+        return delegate.getParentLogger();
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        if (iface.isInstance(this)) {
+            return iface.cast(this);
+        }
+        return delegate.unwrap(iface);
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        return iface.isInstance(this) || delegate.isWrapperFor(iface);
+    }
+}
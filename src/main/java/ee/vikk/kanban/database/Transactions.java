@@ -0,0 +1,50 @@
+package ee.vikk.kanban.database;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Helpers for running JDBC work inside a transaction
+ */
+public final class Transactions {
+
+    /**
+     * Unit of JDBC work run on a single connection
+     * @param <T> Result type
+     */
+    @FunctionalInterface
+    public interface SqlWork<T> {
+        T execute(Connection connection) throws SQLException;
+    }
+
+    private Transactions() {
+    }
+
+    /**
+     * Run work in a transaction on the given connection. If the connection is
+     * already inside a transaction, the work joins it and the caller commits.
+     * @param connection Connection to use
+     * @param work Work to run
+     * @param <T> Result type
+     * @return Result of the work
+     * @throws SQLException if the work fails; an own transaction is rolled back
+     */
+    public static <T> T inTransaction(Connection connection, SqlWork<T> work) throws SQLException {
+        if (!connection.getAutoCommit()) {
+            return work.execute(connection);
+        }
+
+        connection.setAutoCommit(false);
+        try {
+            T result = work.execute(connection);
+            connection.commit();
+            return result;
+        } catch (Throwable e) {
+            // Roll back on errors too: re-enabling auto-commit below would commit the partial work
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(true);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package ee.vikk.kanban.database;
+
+import java.sql.SQLException;
+
+/**
+ * Unchecked wrapper for a SQLException thrown where checked exceptions cannot
+ * propagate, such as while a lazily mapped result stream is consumed
+ */
+public class UncheckedSQLException extends RuntimeException {
+
+    /**
+     * Constructor wrapping a SQLException
+     * @param cause SQL exception
+     */
+    public UncheckedSQLException(SQLException cause) {
+        super(cause.getMessage(), cause);
+    }
+
+    @Override
+    public synchronized SQLException getCause() {
+        return (SQLException) super.getCause();
+    }
+}
@@ -0,0 +1,74 @@
+package ee.vikk.kanban.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event for building the nodes of a board or one of its
+ * columns on the FX application thread. It ends after the following layout
+ * pass, once the task lists have created their cells.
+ */
+@Name("ee.vikk.kanban.BoardRender")
+@Label("Board Render")
+@Category({"Kanban", "UI"})
+@Description("Board view rebuilding its columns or a single column")
+@StackTrace(false)
+public class BoardRenderEvent extends Event {
+    public static final String BOARD = "displayColumns";
+    public static final String COLUMN = "createColumnBox";
+
+    @Label("Render")
+    @Description("Whole board (displayColumns) or one column (createColumnBox)")
+    private String render;
+
+    @Label("Board ID")
+    private int boardId;
+
+    @Label("Column ID")
+    @Description("Rendered column, 0 for the whole board")
+    private int columnId;
+
+    @Label("Scene Nodes")
+    @Description("Nodes under the rendered board or column after layout, including list cells")
+    private int nodes;
+
+    @Label("Task Cells")
+    @Description("List cells built to show a task; tasks scrolled out of view have none")
+    private int taskCells;
+
+    @Label("Tasks")
+    private int tasks;
+
+    /**
+     * Create and begin an event
+     * @param render BOARD or COLUMN
+     * @param boardId ID of the displayed board
+     * @param columnId ID of the rendered column, 0 for the whole board
+     * @return Started event
+     */
+    public static BoardRenderEvent begin(String render, int boardId, int columnId) {
+        BoardRenderEvent event = new BoardRenderEvent();
+        event.begin();
+        event.render = render;
+        event.boardId = boardId;
+        event.columnId = columnId;
+        return event;
+    }
+
+    /**
+     * Commit the event with what was rendered
+     * @param nodes Scene graph nodes under the rendered board or column after layout
+     * @param taskCells Visible list cells showing a task
+     * @param tasks Tasks shown by the rendered columns
+     */
+    public void commit(int nodes, int taskCells, int tasks) {
+        this.nodes = nodes;
+        this.taskCells = taskCells;
+        this.tasks = tasks;
+        commit();
+    }
+}
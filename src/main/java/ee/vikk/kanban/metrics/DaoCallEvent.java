@@ -0,0 +1,77 @@
+package ee.vikk.kanban.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.stream.BaseStream;
+
+/**
+ * Flight recorder event for one repository call, committed by the timed
+ * repositories through Timing while the event type is enabled
+ */
+@Name("ee.vikk.kanban.DaoCall")
+@Label("DAO Call")
+@Category({"Kanban", "Database"})
+@Description("Repository method call with the kind of statement, its main table and the rows it returned or changed")
+@StackTrace(false)
+public class DaoCallEvent extends Event {
+    public static final String SELECT = "SELECT";
+    public static final String INSERT = "INSERT";
+    public static final String UPDATE = "UPDATE";
+    public static final String DELETE = "DELETE";
+
+    @Label("Operation")
+    private String operation;
+
+    @Label("Statement Kind")
+    private String kind;
+
+    @Label("Table")
+    private String table;
+
+    @Label("Rows")
+    @Description("Rows returned or changed, -1 when the call does not report them")
+    private int rows = -1;
+
+    /**
+     * Create and begin an event
+     * @param operation Metrics of the called method, naming the operation
+     * @param kind Statement kind, such as SELECT
+     * @param table Main table of the call
+     * @return Started event
+     */
+    public static DaoCallEvent begin(OperationMetrics operation, String kind, String table) {
+        DaoCallEvent event = new DaoCallEvent();
+        event.begin();
+        event.operation = operation.getName();
+        event.kind = kind;
+        event.table = table;
+        return event;
+    }
+
+    /**
+     * Record the rows a call returned or changed: the size of a collection or
+     * map, a count, 1 or 0 for a changed flag or a single row; a stream is not
+     * counted, as its rows are read after the call
+     * @param result Result of the call
+     */
+    void rows(Object result) {
+        if (result instanceof Collection) {
+            rows = ((Collection<?>) result).size();
+        } else if (result instanceof Map) {
+            rows = ((Map<?, ?>) result).size();
+        } else if (result instanceof Integer) {
+            rows = (Integer) result;
+        } else if (result instanceof Boolean) {
+            rows = (Boolean) result ? 1 : 0;
+        } else if (!(result instanceof BaseStream)) {
+            rows = result != null ? 1 : 0;
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package ee.vikk.kanban.metrics;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Registry of the operation metrics of the application. Each operation is
+ * created once, published as an MBean under ee.vikk.kanban:type=Operation and
+ * shared by every instance that records it.
+ */
+public final class Metrics {
+    public static final String DAO = "dao";
+    public static final String SERVICE = "service";
+    /** System property naming the file the metrics are dumped to on shutdown */
+    public static final String DUMP_FILE = "kanban.metrics.file";
+    public static final String DEFAULT_DUMP_FILE = "kanban-metrics.txt";
+
+    private static final String DOMAIN = "ee.vikk.kanban";
+    private static final ConcurrentMap<String, OperationMetrics> OPERATIONS = new ConcurrentHashMap<>();
+
+    private Metrics() {
+    }
+
+    /**
+     * Get the metrics of a DAO method, creating and publishing them on first use
+     * @param name Operation name, such as "TaskDAO.findByColumnId"
+     * @return Shared operation metrics
+     */
+    public static OperationMetrics dao(String name) {
+        return operation(DAO, name);
+    }
+
+    /**
+     * Get the metrics of a service method, creating and publishing them on first use
+     * @param name Operation name, such as "BoardService.getBoardWithColumns"
+     * @return Shared operation metrics
+     */
+    public static OperationMetrics service(String name) {
+        return operation(SERVICE, name);
+    }
+
+    /**
+     * Get the metrics of an operation, creating and publishing them on first use
+     * @param layer Layer of the operation
+     * @param name Operation name, unique across layers
+     * @return Shared operation metrics
+     */
+    public static OperationMetrics operation(String layer, String name) {
+        return OPERATIONS.computeIfAbsent(name, key -> register(new OperationMetrics(layer, key)));
+    }
+
+    /**
+     * Get every registered operation
+     * @return Operations ordered by layer, then name
+     */
+    public static List<OperationMetrics> all() {
+        List<OperationMetrics> operations = new ArrayList<>(OPERATIONS.values());
+        operations.sort(Comparator.comparing(OperationMetrics::getLayer).thenComparing(OperationMetrics::getName));
+        return operations;
+    }
+
+    /**
+     * Format the operations that were called at least once as a table
+     * @return Multi-line report with one row per operation
+     */
+    public static String report() {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("%-8s %-45s %10s %8s %10s %10s %10s %10s%n",
+                "layer", "operation", "count", "errors", "mean us", "p50 us", "p99 us", "max us"));
+        for (OperationMetrics operation : all()) {
+            if (operation.getCount() == 0) {
+                continue;
+            }
+            report.append(String.format("%-8s %-45s %10d %8d %10d %10d %10d %10d%n",
+                    operation.getLayer(), operation.getName(), operation.getCount(), operation.getErrorCount(),
+                    operation.getMeanMicros(), operation.getP50Micros(), operation.getP99Micros(),
+                    operation.getMaxMicros()));
+        }
+        return report.toString();
+    }
+
+    /**
+     * Write the report to a file, replacing its previous contents
+     * @param file Target file
+     * @throws IOException if the file cannot be written
+     */
+    public static void dump(Path file) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Files.writeString(file, "# Operation metrics at " + LocalDateTime.now() + System.lineSeparator() + report());
+    }
+
+    /**
+     * Write the report to the file named by the kanban.metrics.file system
+     * property, or kanban-metrics.txt. Failures are logged, not thrown, so
+     * shutdown always continues.
+     */
+    public static void dumpOnShutdown() {
+        Path file = Path.of(System.getProperty(DUMP_FILE, DEFAULT_DUMP_FILE));
+        try {
+            dump(file);
+        } catch (IOException e) {
+            System.err.println("Failed to write metrics to " + file + ": " + e.getMessage());
+        }
+    }
+
+    private static OperationMetrics register(OperationMetrics operation) {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName objectName = new ObjectName(DOMAIN + ":type=Operation,layer=" + operation.getLayer()
+                    + ",name=" + ObjectName.quote(operation.getName()));
+            if (!server.isRegistered(objectName)) {
+                server.registerMBean(operation, objectName);
+            }
+        } catch (JMException e) {
+            // Metrics keep recording without JMX
+            System.err.println("Failed to publish metrics of " + operation.getName() + ": " + e.getMessage());
+        }
+        return operation;
+    }
+}
@@ -0,0 +1,117 @@
+package ee.vikk.kanban.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Call count, error count and latency histogram of one DAO or service method.
+ * Callers take System.nanoTime() before the call and pass it to record()
+ * afterwards, also when the call failed:
+ * <pre>
+ * long start = System.nanoTime();
+ * try {
+ *     return delegate.findById(id);
+ * } catch (Exception e) {
+ *     metrics.countError();
+ *     throw e;
+ * } finally {
+ *     metrics.record(start);
+ * }
+ * </pre>
+ */
+public class OperationMetrics implements OperationMetricsMBean {
+    private final String layer;
+    private final String name;
+    private final LatencyHistogram latencies = new LatencyHistogram();
+    private final LongAdder errors = new LongAdder();
+
+    /**
+     * Constructor with layer and name
+     * @param layer Layer of the operation, such as "dao" or "service"
+     * @param name Operation name, such as "TaskDAO.findByColumnId"
+     */
+    public OperationMetrics(String layer, String name) {
+        this.layer = layer;
+        this.name = name;
+    }
+
+    /**
+     * Record one finished call
+     * @param startNanos System.nanoTime() taken before the call
+     */
+    public void record(long startNanos) {
+        latencies.record(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Count a call that ended with an exception; record() still follows it
+     */
+    public void countError() {
+        errors.increment();
+    }
+
+    /**
+     * Get a latency percentile
+     * @param fraction Percentile as a fraction, such as 0.99
+     * @return Latency in nanoseconds
+     */
+    public long getPercentileNanos(double fraction) {
+        return latencies.getPercentile(fraction);
+    }
+
+    public long getMaxNanos() {
+        return latencies.getMax();
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String getLayer() {
+        return layer;
+    }
+
+    @Override
+    public long getCount() {
+        return latencies.getCount();
+    }
+
+    @Override
+    public long getErrorCount() {
+        return errors.sum();
+    }
+
+    @Override
+    public long getP50Micros() {
+        return TimeUnit.NANOSECONDS.toMicros(latencies.getPercentile(0.50));
+    }
+
+    @Override
+    public long getP99Micros() {
+        return TimeUnit.NANOSECONDS.toMicros(latencies.getPercentile(0.99));
+    }
+
+    @Override
+    public long getMaxMicros() {
+        return TimeUnit.NANOSECONDS.toMicros(latencies.getMax());
+    }
+
+    @Override
+    public long getMeanMicros() {
+        return TimeUnit.NANOSECONDS.toMicros(latencies.getMean());
+    }
+
+    @Override
+    public void reset() {
+        latencies.reset();
+        errors.reset();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s count=%d errors=%d p50=%dus p99=%dus max=%dus",
+                name, getCount(), getErrorCount(), getP50Micros(), getP99Micros(), getMaxMicros());
+    }
+}
@@ -0,0 +1,28 @@
+package ee.vikk.kanban.metrics;
+
+/**
+ * JMX view of one instrumented operation. Latencies are in microseconds.
+ */
+public interface OperationMetricsMBean {
+
+    String getName();
+
+    String getLayer();
+
+    long getCount();
+
+    long getErrorCount();
+
+    long getP50Micros();
+
+    long getP99Micros();
+
+    long getMaxMicros();
+
+    long getMeanMicros();
+
+    /**
+     * Clear the counters and the latency histogram
+     */
+    void reset();
+}
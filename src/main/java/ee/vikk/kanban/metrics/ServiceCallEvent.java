@@ -0,0 +1,44 @@
+package ee.vikk.kanban.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight recorder event for one service call, committed by the timed
+ * services through Timing while the event type is enabled. DAO call events on
+ * the same thread within its duration belong to it.
+ */
+@Name("ee.vikk.kanban.ServiceCall")
+@Label("Service Call")
+@Category({"Kanban", "Service"})
+@Description("Board, column or task service operation")
+public class ServiceCallEvent extends Event {
+
+    @Label("Operation")
+    private String operation;
+
+    @Label("Failed")
+    private boolean failed;
+
+    /**
+     * Create and begin an event
+     * @param operation Metrics of the called method, naming the operation
+     * @return Started event
+     */
+    public static ServiceCallEvent begin(OperationMetrics operation) {
+        ServiceCallEvent event = new ServiceCallEvent();
+        event.begin();
+        event.operation = operation.getName();
+        return event;
+    }
+
+    /**
+     * Mark the call as ended with an exception
+     */
+    public void fail() {
+        failed = true;
+    }
+}
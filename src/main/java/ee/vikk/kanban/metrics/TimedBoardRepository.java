@@ -0,0 +1,75 @@
+package ee.vikk.kanban.metrics;
+
+import ee.vikk.kanban.model.Board;
+import ee.vikk.kanban.repository.BoardRepository;
+import ee.vikk.kanban.repository.TaskProjection;
+
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Board repository that records the call count, errors and latency of every
+ * method of the wrapped repository, named after its class, such as
+ * "BoardDAO.findById", and commits a DaoCallEvent for each call.
+ */
+public class TimedBoardRepository implements BoardRepository {
+    private static final String TABLE = "boards";
+
+    private final BoardRepository delegate;
+    private final OperationMetrics save;
+    private final OperationMetrics findById;
+    private final OperationMetrics findByIdWithTasks;
+    private final OperationMetrics findAll;
+    private final OperationMetrics update;
+    private final OperationMetrics deleteById;
+
+    /**
+     * Constructor with wrapped repository
+     * @param delegate Board storage
+     */
+    public TimedBoardRepository(BoardRepository delegate) {
+        this.delegate = delegate;
+        String prefix = delegate.getClass().getSimpleName() + ".";
+        this.save = Metrics.dao(prefix + "save");
+        this.findById = Metrics.dao(prefix + "findById");
+        this.findByIdWithTasks = Metrics.dao(prefix + "findByIdWithTasks");
+        this.findAll = Metrics.dao(prefix + "findAll");
+        this.update = Metrics.dao(prefix + "update");
+        this.deleteById = Metrics.dao(prefix + "deleteById");
+    }
+
+    @Override
+    public Board save(Board board) throws SQLException {
+        return Timing.call(save, DaoCallEvent.INSERT, TABLE, () -> delegate.save(board));
+    }
+
+    @Override
+    public Board findById(Integer id) throws SQLException {
+        return Timing.call(findById, DaoCallEvent.SELECT, TABLE, () -> delegate.findById(id));
+    }
+
+    @Override
+    public Board findByIdWithTasks(Integer id) throws SQLException {
+        return Timing.call(findByIdWithTasks, DaoCallEvent.SELECT, TABLE, () -> delegate.findByIdWithTasks(id));
+    }
+
+    @Override
+    public Board findByIdWithTasks(Integer id, TaskProjection projection) throws SQLException {
+        return Timing.call(findByIdWithTasks, DaoCallEvent.SELECT, TABLE, () -> delegate.findByIdWithTasks(id, projection));
+    }
+
+    @Override
+    public List<Board> findAll() throws SQLException {
+        return Timing.call(findAll, DaoCallEvent.SELECT, TABLE, () -> delegate.findAll());
+    }
+
+    @Override
+    public void update(Board board) throws SQLException {
+        Timing.run(update, DaoCallEvent.UPDATE, TABLE, () -> delegate.update(board));
+    }
+
+    @Override
+    public void deleteById(Integer id) throws SQLException {
+        Timing.run(deleteById, DaoCallEvent.DELETE, TABLE, () -> delegate.deleteById(id));
+    }
+}
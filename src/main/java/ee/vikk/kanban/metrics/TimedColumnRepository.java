@@ -0,0 +1,97 @@
+package ee.vikk.kanban.metrics;
+
+import ee.vikk.kanban.model.Column;
+import ee.vikk.kanban.repository.ColumnRepository;
+
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Column repository that records the call count, errors and latency of every
+ * method of the wrapped repository, named after its class, such as
+ * "ColumnDAO.findById", and commits a DaoCallEvent for each call.
+ */
+public class TimedColumnRepository implements ColumnRepository {
+    private static final String TABLE = "columns";
+
+    private final ColumnRepository delegate;
+    private final OperationMetrics save;
+    private final OperationMetrics saveAll;
+    private final OperationMetrics findById;
+    private final OperationMetrics findByBoardId;
+    private final OperationMetrics update;
+    private final OperationMetrics updateAll;
+    private final OperationMetrics reorder;
+    private final OperationMetrics rebalanceRanks;
+    private final OperationMetrics deleteById;
+    private final OperationMetrics deleteAllById;
+
+    /**
+     * Constructor with wrapped repository
+     * @param delegate Column storage
+     */
+    public TimedColumnRepository(ColumnRepository delegate) {
+        this.delegate = delegate;
+        String prefix = delegate.getClass().getSimpleName() + ".";
+        this.save = Metrics.dao(prefix + "save");
+        this.saveAll = Metrics.dao(prefix + "saveAll");
+        this.findById = Metrics.dao(prefix + "findById");
+        this.findByBoardId = Metrics.dao(prefix + "findByBoardId");
+        this.update = Metrics.dao(prefix + "update");
+        this.updateAll = Metrics.dao(prefix + "updateAll");
+        this.reorder = Metrics.dao(prefix + "reorder");
+        this.rebalanceRanks = Metrics.dao(prefix + "rebalanceRanks");
+        this.deleteById = Metrics.dao(prefix + "deleteById");
+        this.deleteAllById = Metrics.dao(prefix + "deleteAllById");
+    }
+
+    @Override
+    public Column save(Column column) throws SQLException {
+        return Timing.call(save, DaoCallEvent.INSERT, TABLE, () -> delegate.save(column));
+    }
+
+    @Override
+    public List<Column> saveAll(List<Column> columns) throws SQLException {
+        return Timing.call(saveAll, DaoCallEvent.INSERT, TABLE, () -> delegate.saveAll(columns));
+    }
+
+    @Override
+    public Column findById(Integer id) throws SQLException {
+        return Timing.call(findById, DaoCallEvent.SELECT, TABLE, () -> delegate.findById(id));
+    }
+
+    @Override
+    public List<Column> findByBoardId(Integer boardId) throws SQLException {
+        return Timing.call(findByBoardId, DaoCallEvent.SELECT, TABLE, () -> delegate.findByBoardId(boardId));
+    }
+
+    @Override
+    public void update(Column column) throws SQLException {
+        Timing.run(update, DaoCallEvent.UPDATE, TABLE, () -> delegate.update(column));
+    }
+
+    @Override
+    public int updateAll(List<Column> columns) throws SQLException {
+        return Timing.call(updateAll, DaoCallEvent.UPDATE, TABLE, () -> delegate.updateAll(columns));
+    }
+
+    @Override
+    public String reorder(Integer id, Integer beforeId, Integer afterId) throws SQLException {
+        return Timing.call(reorder, DaoCallEvent.UPDATE, TABLE, () -> delegate.reorder(id, beforeId, afterId));
+    }
+
+    @Override
+    public int rebalanceRanks(Integer boardId) throws SQLException {
+        return Timing.call(rebalanceRanks, DaoCallEvent.UPDATE, TABLE, () -> delegate.rebalanceRanks(boardId));
+    }
+
+    @Override
+    public void deleteById(Integer id) throws SQLException {
+        Timing.run(deleteById, DaoCallEvent.DELETE, TABLE, () -> delegate.deleteById(id));
+    }
+
+    @Override
+    public int deleteAllById(List<Integer> ids) throws SQLException {
+        return Timing.call(deleteAllById, DaoCallEvent.DELETE, TABLE, () -> delegate.deleteAllById(ids));
+    }
+}
@@ -0,0 +1,92 @@
+package ee.vikk.kanban.metrics;
+
+import ee.vikk.kanban.model.Tag;
+import ee.vikk.kanban.repository.TagRepository;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tag repository that records the call count, errors and latency of every
+ * method of the wrapped repository, named after its class, such as
+ * "TagDAO.findById", and commits a DaoCallEvent for each call.
+ */
+public class TimedTagRepository implements TagRepository {
+    private static final String TABLE = "tags";
+    private static final String TAG_TABLE = "task_tags";
+
+    private final TagRepository delegate;
+    private final OperationMetrics save;
+    private final OperationMetrics findById;
+    private final OperationMetrics findByName;
+    private final OperationMetrics findAll;
+    private final OperationMetrics findByTaskId;
+    private final OperationMetrics findByBoardId;
+    private final OperationMetrics attach;
+    private final OperationMetrics attachAll;
+    private final OperationMetrics detach;
+
+    /**
+     * Constructor with wrapped repository
+     * @param delegate Tag storage
+     */
+    public TimedTagRepository(TagRepository delegate) {
+        this.delegate = delegate;
+        String prefix = delegate.getClass().getSimpleName() + ".";
+        this.save = Metrics.dao(prefix + "save");
+        this.findById = Metrics.dao(prefix + "findById");
+        this.findByName = Metrics.dao(prefix + "findByName");
+        this.findAll = Metrics.dao(prefix + "findAll");
+        this.findByTaskId = Metrics.dao(prefix + "findByTaskId");
+        this.findByBoardId = Metrics.dao(prefix + "findByBoardId");
+        this.attach = Metrics.dao(prefix + "attach");
+        this.attachAll = Metrics.dao(prefix + "attachAll");
+        this.detach = Metrics.dao(prefix + "detach");
+    }
+
+    @Override
+    public Tag save(Tag tag) throws SQLException {
+        return Timing.call(save, DaoCallEvent.INSERT, TABLE, () -> delegate.save(tag));
+    }
+
+    @Override
+    public Tag findById(Integer id) throws SQLException {
+        return Timing.call(findById, DaoCallEvent.SELECT, TABLE, () -> delegate.findById(id));
+    }
+
+    @Override
+    public Tag findByName(String name) throws SQLException {
+        return Timing.call(findByName, DaoCallEvent.SELECT, TABLE, () -> delegate.findByName(name));
+    }
+
+    @Override
+    public List<Tag> findAll() throws SQLException {
+        return Timing.call(findAll, DaoCallEvent.SELECT, TABLE, () -> delegate.findAll());
+    }
+
+    @Override
+    public List<Tag> findByTaskId(Integer taskId) throws SQLException {
+        return Timing.call(findByTaskId, DaoCallEvent.SELECT, TABLE, () -> delegate.findByTaskId(taskId));
+    }
+
+    @Override
+    public Map<Integer, List<Tag>> findByBoardId(Integer boardId) throws SQLException {
+        return Timing.call(findByBoardId, DaoCallEvent.SELECT, TABLE, () -> delegate.findByBoardId(boardId));
+    }
+
+    @Override
+    public boolean attach(Integer taskId, Integer tagId) throws SQLException {
+        return Timing.call(attach, DaoCallEvent.INSERT, TAG_TABLE, () -> delegate.attach(taskId, tagId));
+    }
+
+    @Override
+    public int attachAll(Integer tagId, List<Integer> taskIds) throws SQLException {
+        return Timing.call(attachAll, DaoCallEvent.INSERT, TAG_TABLE, () -> delegate.attachAll(tagId, taskIds));
+    }
+
+    @Override
+    public boolean detach(Integer taskId, Integer tagId) throws SQLException {
+        return Timing.call(detach, DaoCallEvent.DELETE, TAG_TABLE, () -> delegate.detach(taskId, tagId));
+    }
+}
@@ -0,0 +1,158 @@
+package ee.vikk.kanban.metrics;
+
+import ee.vikk.kanban.model.Task;
+import ee.vikk.kanban.model.TaskSearchResult;
+import ee.vikk.kanban.repository.TaskProjection;
+import ee.vikk.kanban.repository.TaskQuery;
+import ee.vikk.kanban.repository.TaskRepository;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Task repository that records the call count, errors and latency of every
+ * method of the wrapped repository, named after its class, such as
+ * "TaskDAO.findById", and commits a DaoCallEvent for each call. Streams are
+ * timed until their statement is open, not until they are consumed.
+ */
+public class TimedTaskRepository implements TaskRepository {
+    private static final String TABLE = "tasks";
+
+    private final TaskRepository delegate;
+    private final OperationMetrics save;
+    private final OperationMetrics saveAtColumnEnd;
+    private final OperationMetrics saveAll;
+    private final OperationMetrics findById;
+    private final OperationMetrics findByColumnId;
+    private final OperationMetrics findPageByColumnId;
+    private final OperationMetrics streamByColumnId;
+    private final OperationMetrics search;
+    private final OperationMetrics findByQuery;
+    private final OperationMetrics update;
+    private final OperationMetrics updatePriority;
+    private final OperationMetrics updateContent;
+    private final OperationMetrics moveToColumnEnd;
+    private final OperationMetrics reorder;
+    private final OperationMetrics rebalanceRanks;
+    private final OperationMetrics updateAll;
+    private final OperationMetrics deleteById;
+    private final OperationMetrics deleteAllById;
+
+    /**
+     * Constructor with wrapped repository
+     * @param delegate Task storage
+     */
+    public TimedTaskRepository(TaskRepository delegate) {
+        this.delegate = delegate;
+        String prefix = delegate.getClass().getSimpleName() + ".";
+        this.save = Metrics.dao(prefix + "save");
+        this.saveAtColumnEnd = Metrics.dao(prefix + "saveAtColumnEnd");
+        this.saveAll = Metrics.dao(prefix + "saveAll");
+        this.findById = Metrics.dao(prefix + "findById");
+        this.findByColumnId = Metrics.dao(prefix + "findByColumnId");
+        this.findPageByColumnId = Metrics.dao(prefix + "findPageByColumnId");
+        this.streamByColumnId = Metrics.dao(prefix + "streamByColumnId");
+        this.search = Metrics.dao(prefix + "search");
+        this.findByQuery = Metrics.dao(prefix + "findByQuery");
+        this.update = Metrics.dao(prefix + "update");
+        this.updatePriority = Metrics.dao(prefix + "updatePriority");
+        this.updateContent = Metrics.dao(prefix + "updateContent");
+        this.moveToColumnEnd = Metrics.dao(prefix + "moveToColumnEnd");
+        this.reorder = Metrics.dao(prefix + "reorder");
+        this.rebalanceRanks = Metrics.dao(prefix + "rebalanceRanks");
+        this.updateAll = Metrics.dao(prefix + "updateAll");
+        this.deleteById = Metrics.dao(prefix + "deleteById");
+        this.deleteAllById = Metrics.dao(prefix + "deleteAllById");
+    }
+
+    @Override
+    public Task save(Task task) throws SQLException {
+        return Timing.call(save, DaoCallEvent.INSERT, TABLE, () -> delegate.save(task));
+    }
+
+    @Override
+    public Task saveAtColumnEnd(Task task) throws SQLException {
+        return Timing.call(saveAtColumnEnd, DaoCallEvent.INSERT, TABLE, () -> delegate.saveAtColumnEnd(task));
+    }
+
+    @Override
+    public List<Task> saveAll(List<Task> tasks) throws SQLException {
+        return Timing.call(saveAll, DaoCallEvent.INSERT, TABLE, () -> delegate.saveAll(tasks));
+    }
+
+    @Override
+    public Task findById(Integer id) throws SQLException {
+        return Timing.call(findById, DaoCallEvent.SELECT, TABLE, () -> delegate.findById(id));
+    }
+
+    @Override
+    public List<Task> findByColumnId(Integer columnId) throws SQLException {
+        return Timing.call(findByColumnId, DaoCallEvent.SELECT, TABLE, () -> delegate.findByColumnId(columnId));
+    }
+
+    @Override
+    public List<Task> findPageByColumnId(Integer columnId, Task after, int limit, TaskProjection projection) throws SQLException {
+        return Timing.call(findPageByColumnId, DaoCallEvent.SELECT, TABLE, () -> delegate.findPageByColumnId(columnId, after, limit, projection));
+    }
+
+    @Override
+    public Stream<Task> streamByColumnId(Integer columnId, TaskProjection projection) throws SQLException {
+        return Timing.call(streamByColumnId, DaoCallEvent.SELECT, TABLE, () -> delegate.streamByColumnId(columnId, projection));
+    }
+
+    @Override
+    public List<TaskSearchResult> search(Integer boardId, List<String> terms, int limit) throws SQLException {
+        return Timing.call(search, DaoCallEvent.SELECT, TABLE, () -> delegate.search(boardId, terms, limit));
+    }
+
+    @Override
+    public List<Task> findByQuery(TaskQuery query) throws SQLException {
+        return Timing.call(findByQuery, DaoCallEvent.SELECT, TABLE, () -> delegate.findByQuery(query));
+    }
+
+    @Override
+    public void update(Task task) throws SQLException {
+        Timing.run(update, DaoCallEvent.UPDATE, TABLE, () -> delegate.update(task));
+    }
+
+    @Override
+    public boolean updatePriority(Integer id, Task.Priority priority) throws SQLException {
+        return Timing.call(updatePriority, DaoCallEvent.UPDATE, TABLE, () -> delegate.updatePriority(id, priority));
+    }
+
+    @Override
+    public boolean updateContent(Integer id, String title, String description) throws SQLException {
+        return Timing.call(updateContent, DaoCallEvent.UPDATE, TABLE, () -> delegate.updateContent(id, title, description));
+    }
+
+    @Override
+    public boolean moveToColumnEnd(Integer id, Integer columnId) throws SQLException {
+        return Timing.call(moveToColumnEnd, DaoCallEvent.UPDATE, TABLE, () -> delegate.moveToColumnEnd(id, columnId));
+    }
+
+    @Override
+    public String reorder(Integer id, Integer beforeId, Integer afterId) throws SQLException {
+        return Timing.call(reorder, DaoCallEvent.UPDATE, TABLE, () -> delegate.reorder(id, beforeId, afterId));
+    }
+
+    @Override
+    public int rebalanceRanks(Integer columnId) throws SQLException {
+        return Timing.call(rebalanceRanks, DaoCallEvent.UPDATE, TABLE, () -> delegate.rebalanceRanks(columnId));
+    }
+
+    @Override
+    public int updateAll(List<Task> tasks) throws SQLException {
+        return Timing.call(updateAll, DaoCallEvent.UPDATE, TABLE, () -> delegate.updateAll(tasks));
+    }
+
+    @Override
+    public boolean deleteById(Integer id) throws SQLException {
+        return Timing.call(deleteById, DaoCallEvent.DELETE, TABLE, () -> delegate.deleteById(id));
+    }
+
+    @Override
+    public int deleteAllById(List<Integer> ids) throws SQLException {
+        return Timing.call(deleteAllById, DaoCallEvent.DELETE, TABLE, () -> delegate.deleteAllById(ids));
+    }
+}
@@ -0,0 +1,163 @@
+package ee.vikk.kanban.metrics;
+
+import jdk.jfr.EventType;
+
+import java.sql.SQLException;
+
+/**
+ * Times calls into the preallocated operation metrics of a method. The latency
+ * is taken with a plain System.nanoTime() and recorded into the histogram, so
+ * nothing is allocated for the measurement itself; the flight recorder event
+ * is only created while its event type is enabled. Service calls commit a
+ * ServiceCallEvent, repository calls a DaoCallEvent:
+ * <pre>
+ * return Timing.call(CREATE_TASK, () -&gt; super.createTask(columnId, title, description));
+ * return Timing.call(findById, DaoCallEvent.SELECT, TABLE, () -&gt; delegate.findById(id));
+ * </pre>
+ */
+public final class Timing {
+    private static final EventType SERVICE_CALLS = EventType.getEventType(ServiceCallEvent.class);
+    private static final EventType DAO_CALLS = EventType.getEventType(DaoCallEvent.class);
+
+    private Timing() {
+    }
+
+    /**
+     * Call that returns a result
+     * @param <T> Result type
+     * @param <E> Checked exception thrown besides SQLException
+     */
+    @FunctionalInterface
+    public interface SqlCallable<T, E extends Exception> {
+        T call() throws SQLException, E;
+    }
+
+    /**
+     * Call without a result
+     * @param <E> Checked exception thrown besides SQLException
+     */
+    @FunctionalInterface
+    public interface SqlRunnable<E extends Exception> {
+        void run() throws SQLException, E;
+    }
+
+    /**
+     * Time a service call that returns a result
+     * @param operation Metrics of the called method
+     * @param call The call
+     * @param <T> Result type
+     * @param <E> Checked exception thrown besides SQLException
+     * @return Result of the call
+     * @throws SQLException if the call fails; counted as an error
+     * @throws E if the call fails; counted as an error
+     */
+    public static <T, E extends Exception> T call(OperationMetrics operation, SqlCallable<T, E> call) throws SQLException, E {
+        ServiceCallEvent event = SERVICE_CALLS.isEnabled() ? ServiceCallEvent.begin(operation) : null;
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            T result = call.call();
+            failed = false;
+            return result;
+        } finally {
+            end(operation, start, event, failed);
+        }
+    }
+
+    /**
+     * Time a service call without a result
+     * @param operation Metrics of the called method
+     * @param call The call
+     * @param <E> Checked exception thrown besides SQLException
+     * @throws SQLException if the call fails; counted as an error
+     * @throws E if the call fails; counted as an error
+     */
+    public static <E extends Exception> void run(OperationMetrics operation, SqlRunnable<E> call) throws SQLException, E {
+        ServiceCallEvent event = SERVICE_CALLS.isEnabled() ? ServiceCallEvent.begin(operation) : null;
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            call.run();
+            failed = false;
+        } finally {
+            end(operation, start, event, failed);
+        }
+    }
+
+    /**
+     * Time a repository call that returns a result. The event reports the rows
+     * in a returned collection or map, a returned count or changed flag, or a
+     * single returned row.
+     * @param operation Metrics of the called method
+     * @param kind Statement kind, such as DaoCallEvent.SELECT
+     * @param table Main table of the call
+     * @param call The call
+     * @param <T> Result type
+     * @param <E> Checked exception thrown besides SQLException
+     * @return Result of the call
+     * @throws SQLException if the call fails; counted as an error
+     * @throws E if the call fails; counted as an error
+     */
+    public static <T, E extends Exception> T call(OperationMetrics operation, String kind, String table,
+                                                  SqlCallable<T, E> call) throws SQLException, E {
+        DaoCallEvent event = DAO_CALLS.isEnabled() ? DaoCallEvent.begin(operation, kind, table) : null;
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            T result = call.call();
+            failed = false;
+            if (event != null) {
+                event.rows(result);
+            }
+            return result;
+        } finally {
+            end(operation, start, failed);
+            if (event != null) {
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * Time a repository call without a result
+     * @param operation Metrics of the called method
+     * @param kind Statement kind, such as DaoCallEvent.UPDATE
+     * @param table Main table of the call
+     * @param call The call
+     * @param <E> Checked exception thrown besides SQLException
+     * @throws SQLException if the call fails; counted as an error
+     * @throws E if the call fails; counted as an error
+     */
+    public static <E extends Exception> void run(OperationMetrics operation, String kind, String table,
+                                                 SqlRunnable<E> call) throws SQLException, E {
+        DaoCallEvent event = DAO_CALLS.isEnabled() ? DaoCallEvent.begin(operation, kind, table) : null;
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            call.run();
+            failed = false;
+        } finally {
+            end(operation, start, failed);
+            if (event != null) {
+                event.commit();
+            }
+        }
+    }
+
+    private static void end(OperationMetrics operation, long start, ServiceCallEvent event, boolean failed) {
+        end(operation, start, failed);
+        if (event != null) {
+            if (failed) {
+                event.fail();
+            }
+            event.commit();
+        }
+    }
+
+    private static void end(OperationMetrics operation, long start, boolean failed) {
+        if (failed) {
+            operation.countError();
+        }
+        operation.record(start);
+    }
+}
@@ -1,16 +1,38 @@
 package ee.vikk.kanban.model;
 
 import ee.vikk.kanban.database.DatabaseConnection;
+import ee.vikk.kanban.repository.BoardRepository;
+import ee.vikk.kanban.repository.TaskProjection;
 
+import javax.sql.DataSource;
 import java.sql.*;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Data Access Object for Board operations
  */
-public class BoardDAO {
+public class BoardDAO implements BoardRepository {
+    private final DataSource dataSource;
+
+    /**
+     * Constructor with data source dependency
+     * @param dataSource Data source to borrow connections from
+     */
+    public BoardDAO(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    /**
+     * Default constructor using the shared connection pool
+     */
+    public BoardDAO() {
+        this(DatabaseConnection.getDataSource());
+    }
 
     /**
      * Save a new board to database
@@ -18,10 +40,11 @@ public class BoardDAO {
      * @return Board with generated ID
      * @throws SQLException if database operation fails
      */
+    @Override
     public Board save(Board board) throws SQLException {
         String sql = "INSERT INTO boards (name, created_at) VALUES (?, ?)";
         
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = dataSource.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
             
             stmt.setString(1, board.getName());
@@ -50,10 +73,11 @@ public class BoardDAO {
      * @return Board or null if not found
      * @throws SQLException if database operation fails
      */
+    @Override
     public Board findById(Integer id) throws SQLException {
         String sql = "SELECT id, name, created_at FROM boards WHERE id = ?";
         
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = dataSource.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
             
             stmt.setInt(1, id);
@@ -72,16 +96,112 @@ public class BoardDAO {
         return null;
     }
 
+    /**
+     * Find board by ID with its columns, their ordered tasks and the tasks' tags.
+     * Board, columns and tasks come from one joined query and all tags of the
+     * board from one more, both on the same connection.
+     * @param id Board ID
+     * @return Fully populated board or null if not found
+     * @throws SQLException if database operation fails
+     */
+    @Override
+    public Board findByIdWithTasks(Integer id) throws SQLException {
+        return findByIdWithTasks(id, TaskProjection.FULL);
+    }
+
+    /**
+     * Find board by ID with its columns, their ordered tasks and the tasks' tags,
+     * loading the task fields of a projection. A SUMMARY load never reads the
+     * description text, which for large boards is most of the data.
+     * @param id Board ID
+     * @param projection Task fields to load
+     * @return Populated board or null if not found
+     * @throws SQLException if database operation fails
+     */
+    @Override
+    public Board findByIdWithTasks(Integer id, TaskProjection projection) throws SQLException {
+        String boardSql = """
+            SELECT b.id AS b_id, b.name AS b_name, b.created_at AS b_created_at,
+                   c.id AS c_id, c.name AS c_name, c.position AS c_position, c.rank AS c_rank, c.color AS c_color,
+                   t.id, t.column_id, t.title, %s, t.priority, t.position, t.rank, t.created_at, t.due_date
+            FROM boards b
+            LEFT JOIN columns c ON c.board_id = b.id
+            LEFT JOIN tasks t ON t.column_id = c.id
+            WHERE b.id = ?
+            ORDER BY c.rank, c.id, t.rank, t.id
+            """.formatted(TaskDAO.descriptionColumn(projection, "t.description"));
+
+        Board board = null;
+        Map<Integer, Task> tasksById = new HashMap<>();
+
+        try (Connection conn = dataSource.getConnection()) {
+            try (PreparedStatement stmt = conn.prepareStatement(boardSql)) {
+                stmt.setInt(1, id);
+
+                try (ResultSet rs = stmt.executeQuery()) {
+                    Map<Integer, Column> columnsById = new LinkedHashMap<>();
+                    while (rs.next()) {
+                        if (board == null) {
+                            board = new Board(
+                                rs.getInt("b_id"),
+                                rs.getString("b_name"),
+                                rs.getTimestamp("b_created_at").toLocalDateTime()
+                            );
+                        }
+
+                        if (rs.getObject("c_id") == null) {
+                            continue;
+                        }
+                        int columnId = rs.getInt("c_id");
+                        Column column = columnsById.get(columnId);
+                        if (column == null) {
+                            column = new Column(
+                                columnId,
+                                board.getId(),
+                                rs.getString("c_name"),
+                                rs.getInt("c_position"),
+                                rs.getString("c_color")
+                            );
+                            column.setRank(rs.getString("c_rank"));
+                            columnsById.put(columnId, column);
+                            board.addColumn(column);
+                        }
+
+                        if (rs.getObject("id") != null) {
+                            Task task = TaskDAO.mapResultSetToTask(rs, projection);
+                            column.addTask(task);
+                            tasksById.put(task.getId(), task);
+                        }
+                    }
+                }
+            }
+
+            if (board == null || tasksById.isEmpty()) {
+                return board;
+            }
+
+            for (Map.Entry<Integer, List<Tag>> entry : TagDAO.findByBoardId(conn, id).entrySet()) {
+                Task task = tasksById.get(entry.getKey());
+                if (task != null) {
+                    task.setTags(entry.getValue());
+                }
+            }
+        }
+
+        return board;
+    }
+
     /**
      * Find all boards
      * @return List of all boards
      * @throws SQLException if database operation fails
      */
+    @Override
     public List<Board> findAll() throws SQLException {
         List<Board> boards = new ArrayList<>();
         String sql = "SELECT id, name, created_at FROM boards ORDER BY created_at DESC";
         
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = dataSource.getConnection();
              Statement stmt = conn.createStatement();
              ResultSet rs = stmt.executeQuery(sql)) {
             
@@ -102,10 +222,11 @@ public class BoardDAO {
      * @param board Board to update
      * @throws SQLException if database operation fails
      */
+    @Override
     public void update(Board board) throws SQLException {
         String sql = "UPDATE boards SET name = ? WHERE id = ?";
         
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = dataSource.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
             
             stmt.setString(1, board.getName());
@@ -116,18 +237,15 @@ public class BoardDAO {
     }
 
     /**
-     * Delete board by ID
+     * Delete board by ID with its columns, their tasks and the tasks' tag
+     * assignments, set-based in a single transaction
      * @param id Board ID
-     * @throws SQLException if database operation fails
+     * @throws SQLException if database operation fails; nothing is deleted
      */
+    @Override
     public void deleteById(Integer id) throws SQLException {
-        String sql = "DELETE FROM boards WHERE id = ?";
-        
-        try (Connection conn = DatabaseConnection.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
-            
-            stmt.setInt(1, id);
-            stmt.executeUpdate();
+        try (Connection conn = dataSource.getConnection()) {
+            CascadeDeletes.deleteBoard(conn, id);
         }
     }
 }
@@ -0,0 +1,96 @@
+package ee.vikk.kanban.model;
+
+import ee.vikk.kanban.database.SqlArrays;
+import ee.vikk.kanban.database.Transactions;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Set-based deletes of boards, columns and tasks together with every row that
+ * belongs to them. Each level is one DELETE over all affected rows, children
+ * first, and the whole cascade runs in one transaction, so deleting a board
+ * takes four statements however many tasks it has. Tags themselves are shared
+ * between boards and are kept.
+ */
+final class CascadeDeletes {
+    private static final String[] TASK_SQL = {
+        "DELETE FROM task_tags WHERE task_id IN (SELECT value FROM json_each(?))",
+        "DELETE FROM tasks WHERE id IN (SELECT value FROM json_each(?))"
+    };
+    private static final String[] COLUMN_SQL = {
+        """
+        DELETE FROM task_tags WHERE task_id IN (
+            SELECT id FROM tasks WHERE column_id IN (SELECT value FROM json_each(?)))
+        """,
+        "DELETE FROM tasks WHERE column_id IN (SELECT value FROM json_each(?))",
+        "DELETE FROM columns WHERE id IN (SELECT value FROM json_each(?))"
+    };
+    private static final String[] BOARD_SQL = {
+        """
+        DELETE FROM task_tags WHERE task_id IN (
+            SELECT t.id FROM columns c JOIN tasks t ON t.column_id = c.id WHERE c.board_id = ?)
+        """,
+        "DELETE FROM tasks WHERE column_id IN (SELECT id FROM columns WHERE board_id = ?)",
+        "DELETE FROM columns WHERE board_id = ?",
+        "DELETE FROM boards WHERE id = ?"
+    };
+
+    private CascadeDeletes() {
+    }
+
+    /**
+     * Delete tasks and their tag assignments
+     * @param conn Connection; joins its transaction if one is open
+     * @param ids Task IDs
+     * @return Number of deleted tasks
+     * @throws SQLException if database operation fails; nothing is deleted
+     */
+    static int deleteTasks(Connection conn, List<Integer> ids) throws SQLException {
+        String json = SqlArrays.jsonArray(ids);
+        return execute(conn, TASK_SQL, stmt -> stmt.setString(1, json));
+    }
+
+    /**
+     * Delete columns with their tasks and the tasks' tag assignments
+     * @param conn Connection; joins its transaction if one is open
+     * @param ids Column IDs
+     * @return Number of deleted columns
+     * @throws SQLException if database operation fails; nothing is deleted
+     */
+    static int deleteColumns(Connection conn, List<Integer> ids) throws SQLException {
+        String json = SqlArrays.jsonArray(ids);
+        return execute(conn, COLUMN_SQL, stmt -> stmt.setString(1, json));
+    }
+
+    /**
+     * Delete a board with its columns, their tasks and the tasks' tag assignments
+     * @param conn Connection; joins its transaction if one is open
+     * @param id Board ID
+     * @return Number of deleted boards
+     * @throws SQLException if database operation fails; nothing is deleted
+     */
+    static int deleteBoard(Connection conn, int id) throws SQLException {
+        return execute(conn, BOARD_SQL, stmt -> stmt.setInt(1, id));
+    }
+
+    @FunctionalInterface
+    private interface Binder {
+        void bind(PreparedStatement stmt) throws SQLException;
+    }
+
+    private static int execute(Connection conn, String[] statements, Binder binder) throws SQLException {
+        return Transactions.inTransaction(conn, c -> {
+            int deleted = 0;
+            for (String sql : statements) {
+                try (PreparedStatement stmt = c.prepareStatement(sql)) {
+                    binder.bind(stmt);
+                    deleted = stmt.executeUpdate();
+                }
+            }
+            return deleted;
+        });
+    }
+}
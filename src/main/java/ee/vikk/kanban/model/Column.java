@@ -11,6 +11,7 @@ public class Column {
     private Integer boardId;
     private String name;
     private Integer position;
+    private String rank;
     private String color;
     private List<Task> tasks;
 
@@ -26,7 +27,7 @@ public class Column {
      * Constructor with basic fields
      * @param boardId Board ID this column belongs to
      * @param name Column name
-     * @param position Column position
+     * @param position Insertion sequence on board; the rank decides the order
      */
     public Column(Integer boardId, String name, Integer position) {
         this();
@@ -40,7 +41,7 @@ public class Column {
      * @param id Column ID
      * @param boardId Board ID
      * @param name Column name
-     * @param position Column position
+     * @param position Insertion sequence on board
      * @param color Column color
      */
     public Column(Integer id, Integer boardId, String name, Integer position, String color) {
@@ -85,6 +86,14 @@ public class Column {
         this.position = position;
     }
 
+    public String getRank() {
+        return rank;
+    }
+
+    public void setRank(String rank) {
+        this.rank = rank;
+    }
+
     public String getColor() {
         return color;
     }
@@ -112,6 +121,7 @@ public class Column {
                 ", boardId=" + boardId +
                 ", name='" + name + '\'' +
                 ", position=" + position +
+                ", rank='" + rank + '\'' +
                 ", color='" + color + '\'' +
                 ", tasks=" + tasks.size() +
                 '}';
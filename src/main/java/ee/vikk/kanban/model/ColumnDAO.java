@@ -1,7 +1,11 @@
 package ee.vikk.kanban.model;
 
+import ee.vikk.kanban.database.Batches;
 import ee.vikk.kanban.database.DatabaseConnection;
+import ee.vikk.kanban.repository.ColumnRepository;
+import ee.vikk.kanban.database.Transactions;
 
+import javax.sql.DataSource;
 import java.sql.*;
 import java.util.ArrayList;
 import java.util.List;
@@ -9,33 +13,48 @@ import java.util.List;
 /**
  * Data Access Object for Column operations
  */
-public class ColumnDAO {
+public class ColumnDAO implements ColumnRepository {
+    // A column without a rank is appended after the last rank on its board
+    private static final String INSERT_SQL = """
+        INSERT INTO columns (board_id, name, position, color, rank)
+        VALUES (?, ?, ?, ?, COALESCE(?, rank_after((SELECT MAX(rank) FROM columns WHERE board_id = ?))))
+        """;
+    private static final String UPDATE_SQL = "UPDATE columns SET name = ?, position = ?, color = ?, rank = COALESCE(?, rank) WHERE id = ?";
+
+    private final DataSource dataSource;
+
+    /**
+     * Constructor with data source dependency
+     * @param dataSource Data source to borrow connections from
+     */
+    public ColumnDAO(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    /**
+     * Default constructor using the shared connection pool
+     */
+    public ColumnDAO() {
+        this(DatabaseConnection.getDataSource());
+    }
 
     /**
      * Save a new column to database
-     * @param column Column to save
-     * @return Column with generated ID
+     * @param column Column to save; without a rank it is ranked last on its board
+     * @return Column with generated ID and rank
      * @throws SQLException if database operation fails
      */
+    @Override
     public Column save(Column column) throws SQLException {
-        String sql = "INSERT INTO columns (board_id, name, position, color) VALUES (?, ?, ?, ?)";
-        
-        try (Connection conn = DatabaseConnection.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(INSERT_SQL + " RETURNING id, rank")) {
             
-            stmt.setInt(1, column.getBoardId());
-            stmt.setString(2, column.getName());
-            stmt.setInt(3, column.getPosition());
-            stmt.setString(4, column.getColor());
+            bindInsert(stmt, column);
             
-            int affectedRows = stmt.executeUpdate();
-            if (affectedRows == 0) {
-                throw new SQLException("Creating column failed, no rows affected.");
-            }
-
-            try (ResultSet generatedKeys = stmt.getGeneratedKeys()) {
-                if (generatedKeys.next()) {
-                    column.setId(generatedKeys.getInt(1));
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) {
+                    column.setId(rs.getInt("id"));
+                    column.setRank(rs.getString("rank"));
                 } else {
                     throw new SQLException("Creating column failed, no ID obtained.");
                 }
@@ -45,29 +64,58 @@ public class ColumnDAO {
         return column;
     }
 
+    /**
+     * Save new columns with one JDBC batch in a single transaction.
+     * Columns without a rank are ranked last on their board, in input order.
+     * @param columns Columns to save
+     * @return The same columns with generated IDs and ranks, in input order
+     * @throws SQLException if database operation fails; no column is saved
+     */
+    @Override
+    public List<Column> saveAll(List<Column> columns) throws SQLException {
+        if (columns.isEmpty()) {
+            return columns;
+        }
+
+        try (Connection conn = dataSource.getConnection()) {
+            int[] ids = Transactions.inTransaction(conn, c -> {
+                try (PreparedStatement stmt = c.prepareStatement(INSERT_SQL)) {
+                    for (Column column : columns) {
+                        bindInsert(stmt, column);
+                        stmt.addBatch();
+                    }
+                    return Batches.executeInsert(stmt, "columns", columns.size());
+                }
+            });
+
+            String[] ranks = Batches.readRanks(conn, "columns", ids);
+            for (int i = 0; i < ids.length; i++) {
+                columns.get(i).setId(ids[i]);
+                columns.get(i).setRank(ranks[i]);
+            }
+        }
+
+        return columns;
+    }
+
     /**
      * Find column by ID
      * @param id Column ID
      * @return Column or null if not found
      * @throws SQLException if database operation fails
      */
+    @Override
     public Column findById(Integer id) throws SQLException {
-        String sql = "SELECT id, board_id, name, position, color FROM columns WHERE id = ?";
+        String sql = "SELECT id, board_id, name, position, rank, color FROM columns WHERE id = ?";
         
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = dataSource.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
             
             stmt.setInt(1, id);
             
             try (ResultSet rs = stmt.executeQuery()) {
                 if (rs.next()) {
-                    return new Column(
-                        rs.getInt("id"),
-                        rs.getInt("board_id"),
-                        rs.getString("name"),
-                        rs.getInt("position"),
-                        rs.getString("color")
-                    );
+                    return mapResultSetToColumn(rs);
                 }
             }
         }
@@ -78,27 +126,22 @@ public class ColumnDAO {
     /**
      * Find all columns for a board
      * @param boardId Board ID
-     * @return List of columns ordered by position
+     * @return List of columns ordered by rank
      * @throws SQLException if database operation fails
      */
+    @Override
     public List<Column> findByBoardId(Integer boardId) throws SQLException {
         List<Column> columns = new ArrayList<>();
-        String sql = "SELECT id, board_id, name, position, color FROM columns WHERE board_id = ? ORDER BY position";
+        String sql = "SELECT id, board_id, name, position, rank, color FROM columns WHERE board_id = ? ORDER BY rank, id";
         
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = dataSource.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
             
             stmt.setInt(1, boardId);
             
             try (ResultSet rs = stmt.executeQuery()) {
                 while (rs.next()) {
-                    columns.add(new Column(
-                        rs.getInt("id"),
-                        rs.getInt("board_id"),
-                        rs.getString("name"),
-                        rs.getInt("position"),
-                        rs.getString("color")
-                    ));
+                    columns.add(mapResultSetToColumn(rs));
                 }
             }
         }
@@ -111,34 +154,197 @@ public class ColumnDAO {
      * @param column Column to update
      * @throws SQLException if database operation fails
      */
+    @Override
     public void update(Column column) throws SQLException {
-        String sql = "UPDATE columns SET name = ?, position = ?, color = ? WHERE id = ?";
-        
-        try (Connection conn = DatabaseConnection.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
-            
-            stmt.setString(1, column.getName());
-            stmt.setInt(2, column.getPosition());
-            stmt.setString(3, column.getColor());
-            stmt.setInt(4, column.getId());
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(UPDATE_SQL)) {
             
+            bindUpdate(stmt, column);
             stmt.executeUpdate();
         }
     }
 
     /**
-     * Delete column by ID
+     * Place a column between two neighbours on its board by giving it a rank
+     * between theirs, reading the neighbour ranks and writing the one row in a
+     * single statement. With one neighbour given, the other bound is that
+     * column's current successor or predecessor.
      * @param id Column ID
-     * @throws SQLException if database operation fails
+     * @param beforeId Column that should come directly before, or null to place it directly before afterId
+     * @param afterId Column that should come directly after, or null to place it directly after beforeId
+     * @return New rank of the column, or null if the column does not exist or other columns lie between the neighbours
+     * @throws SQLException if database operation fails or the neighbours are out of order
      */
-    public void deleteById(Integer id) throws SQLException {
-        String sql = "DELETE FROM columns WHERE id = ?";
-        
-        try (Connection conn = DatabaseConnection.getConnection();
+    @Override
+    public String reorder(Integer id, Integer beforeId, Integer afterId) throws SQLException {
+        String sql = """
+            WITH prev AS (SELECT board_id, rank FROM columns WHERE id = ?2),
+                 next AS (SELECT board_id, rank FROM columns WHERE id = ?3)
+            UPDATE columns
+            SET rank = rank_between(
+                    CASE WHEN ?2 IS NULL
+                        THEN (SELECT MAX(c.rank) FROM columns c, next WHERE c.board_id = next.board_id AND c.rank < next.rank AND c.id <> ?1)
+                        ELSE (SELECT rank FROM prev) END,
+                    CASE WHEN ?3 IS NULL
+                        THEN (SELECT MIN(c.rank) FROM columns c, prev WHERE c.board_id = prev.board_id AND c.rank > prev.rank AND c.id <> ?1)
+                        ELSE (SELECT rank FROM next) END)
+            WHERE id = ?1
+              AND NOT EXISTS (SELECT 1 FROM columns c, prev, next
+                              WHERE c.board_id = prev.board_id AND c.rank > prev.rank AND c.rank < next.rank AND c.id <> ?1)
+            RETURNING rank
+            """;
+
+        try (Connection conn = dataSource.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
-            
+
             stmt.setInt(1, id);
-            stmt.executeUpdate();
+            setNullableInt(stmt, 2, beforeId);
+            setNullableInt(stmt, 3, afterId);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                return rs.next() ? rs.getString("rank") : null;
+            }
         }
     }
+
+    /**
+     * Give all columns of a board evenly spaced, short ranks in their current order
+     * @param boardId Board ID
+     * @return Number of re-ranked columns
+     * @throws SQLException if database operation fails; no rank is changed
+     */
+    @Override
+    public int rebalanceRanks(Integer boardId) throws SQLException {
+        try (Connection conn = dataSource.getConnection()) {
+            return Transactions.inTransaction(conn, c -> {
+                List<Integer> ids = new ArrayList<>();
+                try (PreparedStatement stmt = c.prepareStatement("SELECT id FROM columns WHERE board_id = ? ORDER BY rank, id")) {
+                    stmt.setInt(1, boardId);
+                    try (ResultSet rs = stmt.executeQuery()) {
+                        while (rs.next()) {
+                            ids.add(rs.getInt(1));
+                        }
+                    }
+                }
+
+                List<String> ranks = Rank.spread(ids.size());
+                try (PreparedStatement stmt = c.prepareStatement("UPDATE columns SET rank = ? WHERE id = ?")) {
+                    for (int i = 0; i < ids.size(); i++) {
+                        stmt.setString(1, ranks.get(i));
+                        stmt.setInt(2, ids.get(i));
+                        stmt.addBatch();
+                    }
+                    return Batches.executeUpdate(stmt);
+                }
+            });
+        }
+    }
+
+    /**
+     * Update columns with one JDBC batch in a single transaction
+     * @param columns Columns to update
+     * @return Number of updated rows
+     * @throws SQLException if database operation fails; no column is updated
+     */
+    @Override
+    public int updateAll(List<Column> columns) throws SQLException {
+        if (columns.isEmpty()) {
+            return 0;
+        }
+
+        try (Connection conn = dataSource.getConnection()) {
+            return Transactions.inTransaction(conn, c -> {
+                try (PreparedStatement stmt = c.prepareStatement(UPDATE_SQL)) {
+                    for (Column column : columns) {
+                        bindUpdate(stmt, column);
+                        stmt.addBatch();
+                    }
+                    return Batches.executeUpdate(stmt);
+                }
+            });
+        }
+    }
+
+    /**
+     * Delete column by ID with its tasks and their tag assignments
+     * @param id Column ID
+     * @throws SQLException if database operation fails
+     */
+    @Override
+    public void deleteById(Integer id) throws SQLException {
+        deleteAllById(List.of(id));
+    }
+
+    /**
+     * Delete columns with their tasks and the tasks' tag assignments,
+     * set-based in a single transaction
+     * @param ids Column IDs
+     * @return Number of deleted rows
+     * @throws SQLException if database operation fails; no column is deleted
+     */
+    @Override
+    public int deleteAllById(List<Integer> ids) throws SQLException {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        try (Connection conn = dataSource.getConnection()) {
+            return CascadeDeletes.deleteColumns(conn, ids);
+        }
+    }
+
+    /**
+     * Bind column fields to the INSERT statement
+     * @param stmt INSERT statement
+     * @param column Column to bind
+     * @throws SQLException if binding fails
+     */
+    private void bindInsert(PreparedStatement stmt, Column column) throws SQLException {
+        stmt.setInt(1, column.getBoardId());
+        stmt.setString(2, column.getName());
+        stmt.setInt(3, column.getPosition());
+        stmt.setString(4, column.getColor());
+        stmt.setString(5, column.getRank());
+        stmt.setInt(6, column.getBoardId());
+    }
+
+    /**
+     * Bind column fields to the UPDATE statement
+     * @param stmt UPDATE statement
+     * @param column Column to bind
+     * @throws SQLException if binding fails
+     */
+    private void bindUpdate(PreparedStatement stmt, Column column) throws SQLException {
+        stmt.setString(1, column.getName());
+        stmt.setInt(2, column.getPosition());
+        stmt.setString(3, column.getColor());
+        stmt.setString(4, column.getRank());
+        stmt.setInt(5, column.getId());
+    }
+
+    private static void setNullableInt(PreparedStatement stmt, int index, Integer value) throws SQLException {
+        if (value != null) {
+            stmt.setInt(index, value);
+        } else {
+            stmt.setNull(index, Types.INTEGER);
+        }
+    }
+
+    /**
+     * Map ResultSet to Column object
+     * @param rs ResultSet
+     * @return Column object without tasks
+     * @throws SQLException if database operation fails
+     */
+    private static Column mapResultSetToColumn(ResultSet rs) throws SQLException {
+        Column column = new Column(
+            rs.getInt("id"),
+            rs.getInt("board_id"),
+            rs.getString("name"),
+            rs.getInt("position"),
+            rs.getString("color")
+        );
+        column.setRank(rs.getString("rank"));
+        return column;
+    }
 }
@@ -0,0 +1,190 @@
+package ee.vikk.kanban.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Lexicographic fractional ranking keys for ordering tasks and columns.
+ * A key is a base-62 fraction written with the digits 0-9, A-Z, a-z, whose ASCII
+ * order matches SQLite's default BINARY collation, so ORDER BY rank sorts correctly.
+ * A key can always be generated between two others, which lets a reorder update a
+ * single row. Keys never end in '0', otherwise nothing would fit between "A" and "A0".
+ */
+public final class Rank {
+    private static final String DIGITS = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz";
+    private static final int BASE = DIGITS.length();
+
+    /**
+     * Digits incremented when appending, so a column can grow by millions of keys
+     * before an appended key gets longer
+     */
+    private static final int APPEND_WIDTH = 4;
+
+    /**
+     * Keys longer than this trigger a rebalance of their column or board
+     */
+    public static final int MAX_LENGTH = 12;
+
+    private Rank() {
+    }
+
+    /**
+     * Get the key for the first item of an empty list
+     * @return Initial key
+     */
+    public static String initial() {
+        return spread(1).get(0);
+    }
+
+    /**
+     * Get a key that sorts after the given key
+     * @param key Current last key, or null for an empty list
+     * @return Key greater than the given key
+     */
+    public static String after(String key) {
+        if (key == null) {
+            return initial();
+        }
+        validate(key);
+
+        StringBuilder digits = new StringBuilder(key);
+        while (digits.length() < APPEND_WIDTH) {
+            digits.append('0');
+        }
+
+        int i = digits.length() - 1;
+        while (i >= 0 && digits.charAt(i) == 'z') {
+            digits.setCharAt(i, '0');
+            i--;
+        }
+        if (i < 0) {
+            // Every digit is at its maximum: extend the key instead
+            return key + DIGITS.charAt(BASE / 2);
+        }
+        digits.setCharAt(i, DIGITS.charAt(DIGITS.indexOf(digits.charAt(i)) + 1));
+        return trimTrailingZeros(digits);
+    }
+
+    /**
+     * Get a key that sorts before the given key
+     * @param key Current first key, or null for an empty list
+     * @return Key less than the given key
+     */
+    public static String before(String key) {
+        return between(null, key);
+    }
+
+    /**
+     * Get a key that sorts strictly between two keys
+     * @param lower Key to sort after, or null for no lower bound
+     * @param upper Key to sort before, or null for no upper bound
+     * @return Key between the bounds
+     * @throws IllegalArgumentException if a key is malformed or lower is not less than upper
+     */
+    public static String between(String lower, String upper) {
+        if (upper == null) {
+            return after(lower);
+        }
+        validate(upper);
+        String low = lower == null ? "" : lower;
+        if (lower != null) {
+            validate(lower);
+        }
+        if (low.compareTo(upper) >= 0) {
+            throw new IllegalArgumentException("Rank " + lower + " is not before rank " + upper);
+        }
+        return midpoint(low, upper);
+    }
+
+    /**
+     * Generate evenly spaced keys for a whole list, used when rebalancing
+     * @param count Number of keys
+     * @return Keys in ascending order
+     */
+    public static List<String> spread(int count) {
+        int width = APPEND_WIDTH;
+        while (Math.pow(BASE, width) < 2.0 * (count + 1)) {
+            width++;
+        }
+        long space = (long) Math.pow(BASE, width);
+        long step = space / (count + 1);
+
+        List<String> keys = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            keys.add(encode(i * step, width));
+        }
+        return keys;
+    }
+
+    /**
+     * Check if a key has grown long enough that its list should be rebalanced
+     * @param key Key to check
+     * @return true if the key is longer than MAX_LENGTH
+     */
+    public static boolean needsRebalance(String key) {
+        return key != null && key.length() > MAX_LENGTH;
+    }
+
+    /**
+     * Find the midpoint of two keys, where upper is never null and low &lt; upper
+     */
+    private static String midpoint(String low, String upper) {
+        // Copy the common prefix, treating missing digits of low as '0'
+        int n = 0;
+        while (n < upper.length() && (n < low.length() ? low.charAt(n) : '0') == upper.charAt(n)) {
+            n++;
+        }
+        if (n > 0) {
+            return upper.substring(0, n) + midpoint(low.length() > n ? low.substring(n) : "", upper.substring(n));
+        }
+
+        int digitLow = low.isEmpty() ? 0 : DIGITS.indexOf(low.charAt(0));
+        int digitHigh = DIGITS.indexOf(upper.charAt(0));
+        if (digitHigh - digitLow > 1) {
+            return String.valueOf(DIGITS.charAt((digitLow + digitHigh + 1) / 2));
+        }
+        if (upper.length() > 1) {
+            return upper.substring(0, 1);
+        }
+        return DIGITS.charAt(digitLow) + midpointToEnd(low.isEmpty() ? "" : low.substring(1));
+    }
+
+    /**
+     * Find a short key between low and the end of the key space
+     */
+    private static String midpointToEnd(String low) {
+        int digitLow = low.isEmpty() ? 0 : DIGITS.indexOf(low.charAt(0));
+        if (BASE - digitLow > 1) {
+            return String.valueOf(DIGITS.charAt((digitLow + BASE + 1) / 2));
+        }
+        return DIGITS.charAt(digitLow) + midpointToEnd(low.substring(1));
+    }
+
+    private static String encode(long value, int width) {
+        char[] digits = new char[width];
+        for (int i = width - 1; i >= 0; i--) {
+            digits[i] = DIGITS.charAt((int) (value % BASE));
+            value /= BASE;
+        }
+        return trimTrailingZeros(new StringBuilder().append(digits));
+    }
+
+    private static String trimTrailingZeros(StringBuilder digits) {
+        int end = digits.length();
+        while (end > 1 && digits.charAt(end - 1) == '0') {
+            end--;
+        }
+        return digits.substring(0, end);
+    }
+
+    private static void validate(String key) {
+        if (key.isEmpty() || key.charAt(key.length() - 1) == '0') {
+            throw new IllegalArgumentException("Invalid rank: '" + key + "'");
+        }
+        for (int i = 0; i < key.length(); i++) {
+            if (DIGITS.indexOf(key.charAt(i)) < 0) {
+                throw new IllegalArgumentException("Invalid rank: '" + key + "'");
+            }
+        }
+    }
+}
@@ -0,0 +1,302 @@
+package ee.vikk.kanban.model;
+
+import ee.vikk.kanban.database.Batches;
+import ee.vikk.kanban.database.DatabaseConnection;
+import ee.vikk.kanban.database.Transactions;
+import ee.vikk.kanban.repository.TagRepository;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Data Access Object for Tag operations
+ */
+public class TagDAO implements TagRepository {
+    // Inserts nothing unless both the task and the tag exist, or if the pair is already attached
+    private static final String ATTACH_SQL = """
+        INSERT OR IGNORE INTO task_tags (task_id, tag_id)
+        SELECT t.id, g.id FROM tasks t, tags g WHERE t.id = ? AND g.id = ?
+        """;
+    private static final String BOARD_TAGS_SQL = """
+        SELECT tt.task_id, g.id, g.name, g.color
+        FROM columns c
+        JOIN tasks t ON t.column_id = c.id
+        JOIN task_tags tt ON tt.task_id = t.id
+        JOIN tags g ON g.id = tt.tag_id
+        WHERE c.board_id = ?
+        ORDER BY g.name
+        """;
+
+    private final DataSource dataSource;
+
+    /**
+     * Constructor with data source dependency
+     * @param dataSource Data source to borrow connections from
+     */
+    public TagDAO(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    /**
+     * Default constructor using the shared connection pool
+     */
+    public TagDAO() {
+        this(DatabaseConnection.getDataSource());
+    }
+
+    /**
+     * Save a new tag to database
+     * @param tag Tag to save; its name must be unique
+     * @return Tag with generated ID
+     * @throws SQLException if database operation fails or the name is taken
+     */
+    @Override
+    public Tag save(Tag tag) throws SQLException {
+        String sql = "INSERT INTO tags (name, color) VALUES (?, ?) RETURNING id";
+
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            stmt.setString(1, tag.getName());
+            stmt.setString(2, tag.getColor());
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) {
+                    tag.setId(rs.getInt("id"));
+                } else {
+                    throw new SQLException("Creating tag failed, no ID obtained.");
+                }
+            }
+        }
+
+        return tag;
+    }
+
+    /**
+     * Find tag by ID
+     * @param id Tag ID
+     * @return Tag or null if not found
+     * @throws SQLException if database operation fails
+     */
+    @Override
+    public Tag findById(Integer id) throws SQLException {
+        return findOne("SELECT id, name, color FROM tags WHERE id = ?", stmt -> stmt.setInt(1, id));
+    }
+
+    /**
+     * Find tag by its exact name
+     * @param name Tag name
+     * @return Tag or null if not found
+     * @throws SQLException if database operation fails
+     */
+    @Override
+    public Tag findByName(String name) throws SQLException {
+        return findOne("SELECT id, name, color FROM tags WHERE name = ?", stmt -> stmt.setString(1, name));
+    }
+
+    /**
+     * Find all tags
+     * @return Tags ordered by name
+     * @throws SQLException if database operation fails
+     */
+    @Override
+    public List<Tag> findAll() throws SQLException {
+        List<Tag> tags = new ArrayList<>();
+        String sql = "SELECT id, name, color FROM tags ORDER BY name";
+
+        try (Connection conn = dataSource.getConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+
+            while (rs.next()) {
+                tags.add(mapResultSetToTag(rs));
+            }
+        }
+
+        return tags;
+    }
+
+    /**
+     * Find the tags of one task
+     * @param taskId Task ID
+     * @return Tags ordered by name
+     * @throws SQLException if database operation fails
+     */
+    @Override
+    public List<Tag> findByTaskId(Integer taskId) throws SQLException {
+        List<Tag> tags = new ArrayList<>();
+        String sql = """
+            SELECT g.id, g.name, g.color
+            FROM task_tags tt
+            JOIN tags g ON g.id = tt.tag_id
+            WHERE tt.task_id = ?
+            ORDER BY g.name
+            """;
+
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            stmt.setInt(1, taskId);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    tags.add(mapResultSetToTag(rs));
+                }
+            }
+        }
+
+        return tags;
+    }
+
+    /**
+     * Find the tags of every tagged task on a board with one query
+     * @param boardId Board ID
+     * @return Tags ordered by name, keyed by task ID; one Tag instance per tag
+     * @throws SQLException if database operation fails
+     */
+    @Override
+    public Map<Integer, List<Tag>> findByBoardId(Integer boardId) throws SQLException {
+        try (Connection conn = dataSource.getConnection()) {
+            return findByBoardId(conn, boardId);
+        }
+    }
+
+    /**
+     * Attach a tag to a task
+     * @param taskId Task ID
+     * @param tagId Tag ID
+     * @return true if attached, false if already attached or the task or tag does not exist
+     * @throws SQLException if database operation fails
+     */
+    @Override
+    public boolean attach(Integer taskId, Integer tagId) throws SQLException {
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(ATTACH_SQL)) {
+
+            stmt.setInt(1, taskId);
+            stmt.setInt(2, tagId);
+            return stmt.executeUpdate() == 1;
+        }
+    }
+
+    /**
+     * Attach a tag to many tasks in one batch and transaction
+     * @param tagId Tag ID
+     * @param taskIds Task IDs
+     * @return Number of newly attached tasks
+     * @throws SQLException if database operation fails; the transaction is rolled back
+     */
+    @Override
+    public int attachAll(Integer tagId, List<Integer> taskIds) throws SQLException {
+        if (taskIds.isEmpty()) {
+            return 0;
+        }
+
+        try (Connection conn = dataSource.getConnection()) {
+            return Transactions.inTransaction(conn, c -> {
+                try (PreparedStatement stmt = c.prepareStatement(ATTACH_SQL)) {
+                    for (Integer taskId : taskIds) {
+                        stmt.setInt(1, taskId);
+                        stmt.setInt(2, tagId);
+                        stmt.addBatch();
+                    }
+                    return Batches.executeUpdate(stmt);
+                }
+            });
+        }
+    }
+
+    /**
+     * Detach a tag from a task
+     * @param taskId Task ID
+     * @param tagId Tag ID
+     * @return true if detached, false if the tag was not attached
+     * @throws SQLException if database operation fails
+     */
+    @Override
+    public boolean detach(Integer taskId, Integer tagId) throws SQLException {
+        String sql = "DELETE FROM task_tags WHERE task_id = ? AND tag_id = ?";
+
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            stmt.setInt(1, taskId);
+            stmt.setInt(2, tagId);
+            return stmt.executeUpdate() > 0;
+        }
+    }
+
+    /**
+     * Find the tags of every tagged task on a board on a borrowed connection, so a
+     * board load can read its tasks and their tags together
+     * @param conn Open connection
+     * @param boardId Board ID
+     * @return Tags ordered by name, keyed by task ID; one Tag instance per tag
+     * @throws SQLException if database operation fails
+     */
+    static Map<Integer, List<Tag>> findByBoardId(Connection conn, int boardId) throws SQLException {
+        Map<Integer, List<Tag>> tagsByTask = new HashMap<>();
+
+        try (PreparedStatement stmt = conn.prepareStatement(BOARD_TAGS_SQL)) {
+            stmt.setInt(1, boardId);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                // One Tag instance per tag, shared by all tasks carrying it
+                Map<Integer, Tag> tagsById = new HashMap<>();
+                while (rs.next()) {
+                    int tagId = rs.getInt(2);
+                    Tag tag = tagsById.get(tagId);
+                    if (tag == null) {
+                        tag = new Tag(tagId, rs.getString(3), rs.getString(4));
+                        tagsById.put(tagId, tag);
+                    }
+                    tagsByTask.computeIfAbsent(rs.getInt(1), taskId -> new ArrayList<>()).add(tag);
+                }
+            }
+        }
+
+        return tagsByTask;
+    }
+
+    /**
+     * Statement parameter binder
+     */
+    @FunctionalInterface
+    private interface Binder {
+        void bind(PreparedStatement stmt) throws SQLException;
+    }
+
+    private Tag findOne(String sql, Binder binder) throws SQLException {
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            binder.bind(stmt);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) {
+                    return mapResultSetToTag(rs);
+                }
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Map ResultSet row to Tag object
+     * @param rs ResultSet positioned on a row with id, name and color
+     * @return Tag object
+     * @throws SQLException if database operation fails
+     */
+    private static Tag mapResultSetToTag(ResultSet rs) throws SQLException {
+        return new Tag(rs.getInt("id"), rs.getString("name"), rs.getString("color"));
+    }
+}
@@ -13,8 +13,10 @@ public class Task {
     private Integer columnId;
     private String title;
     private String description;
+    private boolean descriptionLoaded = true;
     private Priority priority;
     private Integer position;
+    private String rank;
     private LocalDateTime createdAt;
     private LocalDate dueDate;
     private List<Tag> tags;
@@ -38,7 +40,7 @@ public class Task {
      * Constructor with basic fields
      * @param columnId Column ID this task belongs to
      * @param title Task title
-     * @param position Task position in column
+     * @param position Insertion sequence in column; the rank decides the order
      */
     public Task(Integer columnId, String title, Integer position) {
         this();
@@ -55,7 +57,7 @@ public class Task {
      * @param title Task title
      * @param description Task description
      * @param priority Task priority
-     * @param position Task position
+     * @param position Insertion sequence in column
      * @param createdAt Creation timestamp
      * @param dueDate Due date
      */
@@ -103,6 +105,19 @@ public class Task {
 
     public void setDescription(String description) {
         this.description = description;
+        this.descriptionLoaded = true;
+    }
+
+    /**
+     * Check if the description was loaded; summaries leave it null until fetched
+     * @return false if the task was loaded without its description
+     */
+    public boolean isDescriptionLoaded() {
+        return descriptionLoaded;
+    }
+
+    public void setDescriptionLoaded(boolean descriptionLoaded) {
+        this.descriptionLoaded = descriptionLoaded;
     }
 
     public Priority getPriority() {
@@ -121,6 +136,14 @@ public class Task {
         this.position = position;
     }
 
+    public String getRank() {
+        return rank;
+    }
+
+    public void setRank(String rank) {
+        this.rank = rank;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -162,6 +185,7 @@ public class Task {
                 ", description='" + description + '\'' +
                 ", priority=" + priority +
                 ", position=" + position +
+                ", rank='" + rank + '\'' +
                 ", createdAt=" + createdAt +
                 ", dueDate=" + dueDate +
                 ", tags=" + tags.size() +
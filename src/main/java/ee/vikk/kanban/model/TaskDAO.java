@@ -1,70 +1,197 @@
 package ee.vikk.kanban.model;
 
+import ee.vikk.kanban.database.Batches;
 import ee.vikk.kanban.database.DatabaseConnection;
+import ee.vikk.kanban.database.ResultSetStreams;
+import ee.vikk.kanban.database.SqlArrays;
+import ee.vikk.kanban.repository.TaskProjection;
+import ee.vikk.kanban.repository.TaskQuery;
+import ee.vikk.kanban.repository.TaskRepository;
+import ee.vikk.kanban.database.Transactions;
 
+import javax.sql.DataSource;
 import java.sql.*;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
 
 /**
  * Data Access Object for Task operations
  */
-public class TaskDAO {
+public class TaskDAO implements TaskRepository {
+    // A task without a rank is appended after the last rank in its column
+    private static final String INSERT_SQL = """
+        INSERT INTO tasks (column_id, title, description, priority, position, created_at, due_date, rank)
+        VALUES (?, ?, ?, ?, ?, ?, ?, COALESCE(?, rank_after((SELECT MAX(rank) FROM tasks WHERE column_id = ?))))
+        """;
+    private static final String UPDATE_SQL = "UPDATE tasks SET column_id = ?, title = ?, description = ?, priority = ?, position = ?, due_date = ?, rank = COALESCE(?, rank) WHERE id = ?";
+    // Keyset pagination over idx_tasks_column_rank; the empty string sorts before every rank key
+    private static final String PAGE_SQL = """
+        SELECT id, column_id, title, %s, priority, position, rank, created_at, due_date
+        FROM tasks
+        WHERE column_id = ? AND (rank, id) > (?, ?)
+        ORDER BY rank, id
+        LIMIT ?
+        """;
+    // Title matches weigh ten times description matches; bm25 is lower for better matches
+    private static final String SEARCH_SQL = """
+        SELECT t.id, t.column_id, t.title, NULL AS description, t.priority, t.position, t.rank, t.created_at, t.due_date,
+               snippet(tasks_fts, -1, char(2), char(3), '…', 16) AS snippet,
+               bm25(tasks_fts, 10.0, 1.0) AS score
+        FROM tasks_fts
+        JOIN tasks t ON t.id = tasks_fts.rowid
+        JOIN columns c ON c.id = t.column_id
+        WHERE tasks_fts MATCH ? AND c.board_id = ?
+        ORDER BY score
+        LIMIT ?
+        """;
+    private static final String STREAM_SQL = """
+        SELECT id, column_id, title, %s, priority, position, rank, created_at, due_date
+        FROM tasks
+        WHERE column_id = ?
+        ORDER BY rank, id
+        """;
+
+    // Compiled TaskQuery statements by query shape; there are at most a few thousand shapes
+    private static final ConcurrentHashMap<String, String> QUERY_SQL_BY_SHAPE = new ConcurrentHashMap<>();
+
+    private final DataSource dataSource;
+
+    /**
+     * Constructor with data source dependency
+     * @param dataSource Data source to borrow connections from
+     */
+    public TaskDAO(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    /**
+     * Default constructor using the shared connection pool
+     */
+    public TaskDAO() {
+        this(DatabaseConnection.getDataSource());
+    }
 
     /**
      * Save a new task to database
-     * @param task Task to save
-     * @return Task with generated ID
+     * @param task Task to save; without a rank it is ranked last in its column
+     * @return Task with generated ID and rank
      * @throws SQLException if database operation fails
      */
+    @Override
     public Task save(Task task) throws SQLException {
-        String sql = "INSERT INTO tasks (column_id, title, description, priority, position, created_at, due_date) VALUES (?, ?, ?, ?, ?, ?, ?)";
-        
-        try (Connection conn = DatabaseConnection.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(INSERT_SQL + " RETURNING id, rank")) {
+            
+            bindInsert(stmt, task);
             
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) {
+                    task.setId(rs.getInt("id"));
+                    task.setRank(rs.getString("rank"));
+                } else {
+                    throw new SQLException("Creating task failed, no ID obtained.");
+                }
+            }
+        }
+        
+        return task;
+    }
+
+    /**
+     * Save a new task at the end of its column. The rank is computed in the same
+     * INSERT from the column's last rank. Position is no longer maintained and is
+     * stored as 0; order comes from the rank alone.
+     * @param task Task to save; its position and rank are ignored
+     * @return Task with generated ID and assigned rank
+     * @throws SQLException if database operation fails
+     */
+    @Override
+    public Task saveAtColumnEnd(Task task) throws SQLException {
+        String sql = """
+            INSERT INTO tasks (column_id, title, description, priority, position, created_at, due_date, rank)
+            SELECT ?, ?, ?, ?, 0, ?, ?, rank_after(MAX(rank)) FROM tasks WHERE column_id = ?
+            RETURNING id, position, rank
+            """;
+
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
             stmt.setInt(1, task.getColumnId());
             stmt.setString(2, task.getTitle());
             stmt.setString(3, task.getDescription());
             stmt.setString(4, task.getPriority() != null ? task.getPriority().name() : null);
-            stmt.setInt(5, task.getPosition());
-            stmt.setTimestamp(6, Timestamp.valueOf(task.getCreatedAt()));
-            
+            stmt.setTimestamp(5, Timestamp.valueOf(task.getCreatedAt()));
+
             if (task.getDueDate() != null) {
-                stmt.setDate(7, Date.valueOf(task.getDueDate()));
+                stmt.setDate(6, Date.valueOf(task.getDueDate()));
             } else {
-                stmt.setNull(7, Types.DATE);
-            }
-            
-            int affectedRows = stmt.executeUpdate();
-            if (affectedRows == 0) {
-                throw new SQLException("Creating task failed, no rows affected.");
+                stmt.setNull(6, Types.DATE);
             }
 
-            try (ResultSet generatedKeys = stmt.getGeneratedKeys()) {
-                if (generatedKeys.next()) {
-                    task.setId(generatedKeys.getInt(1));
-                } else {
+            stmt.setInt(7, task.getColumnId());
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (!rs.next()) {
                     throw new SQLException("Creating task failed, no ID obtained.");
                 }
+                task.setId(rs.getInt("id"));
+                task.setPosition(rs.getInt("position"));
+                task.setRank(rs.getString("rank"));
             }
         }
-        
+
         return task;
     }
 
+    /**
+     * Save new tasks with one JDBC batch in a single transaction.
+     * Tasks without a rank are ranked last in their column, in input order.
+     * @param tasks Tasks to save
+     * @return The same tasks with generated IDs and ranks, in input order
+     * @throws SQLException if database operation fails; no task is saved
+     */
+    @Override
+    public List<Task> saveAll(List<Task> tasks) throws SQLException {
+        if (tasks.isEmpty()) {
+            return tasks;
+        }
+
+        try (Connection conn = dataSource.getConnection()) {
+            int[] ids = Transactions.inTransaction(conn, c -> {
+                try (PreparedStatement stmt = c.prepareStatement(INSERT_SQL)) {
+                    for (Task task : tasks) {
+                        bindInsert(stmt, task);
+                        stmt.addBatch();
+                    }
+                    return Batches.executeInsert(stmt, "tasks", tasks.size());
+                }
+            });
+
+            String[] ranks = Batches.readRanks(conn, "tasks", ids);
+            for (int i = 0; i < ids.length; i++) {
+                tasks.get(i).setId(ids[i]);
+                tasks.get(i).setRank(ranks[i]);
+            }
+        }
+
+        return tasks;
+    }
+
     /**
      * Find task by ID
      * @param id Task ID
      * @return Task or null if not found
      * @throws SQLException if database operation fails
      */
+    @Override
     public Task findById(Integer id) throws SQLException {
-        String sql = "SELECT id, column_id, title, description, priority, position, created_at, due_date FROM tasks WHERE id = ?";
+        String sql = "SELECT id, column_id, title, description, priority, position, rank, created_at, due_date FROM tasks WHERE id = ?";
         
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = dataSource.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
             
             stmt.setInt(1, id);
@@ -82,14 +209,15 @@ public class TaskDAO {
     /**
      * Find all tasks for a column
      * @param columnId Column ID
-     * @return List of tasks ordered by position
+     * @return List of tasks ordered by rank
      * @throws SQLException if database operation fails
      */
+    @Override
     public List<Task> findByColumnId(Integer columnId) throws SQLException {
         List<Task> tasks = new ArrayList<>();
-        String sql = "SELECT id, column_id, title, description, priority, position, created_at, due_date FROM tasks WHERE column_id = ? ORDER BY position";
+        String sql = "SELECT id, column_id, title, description, priority, position, rank, created_at, due_date FROM tasks WHERE column_id = ? ORDER BY rank, id";
         
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = dataSource.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
             
             stmt.setInt(1, columnId);
@@ -105,27 +233,207 @@ public class TaskDAO {
     }
 
     /**
-     * Get next position for a column
+     * Find one page of a column's tasks in rank order, seeking past the previous
+     * page through the (column_id, rank) index instead of skipping rows with OFFSET
      * @param columnId Column ID
-     * @return Next available position
+     * @param after Last task of the previous page, or null for the first page
+     * @param limit Maximum number of tasks to return
+     * @param projection Fields to load
+     * @return Up to limit tasks
      * @throws SQLException if database operation fails
      */
-    public int getNextPosition(Integer columnId) throws SQLException {
-        String sql = "SELECT COALESCE(MAX(position), 0) + 1 FROM tasks WHERE column_id = ?";
-        
-        try (Connection conn = DatabaseConnection.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
-            
+    @Override
+    public List<Task> findPageByColumnId(Integer columnId, Task after, int limit, TaskProjection projection) throws SQLException {
+        List<Task> tasks = new ArrayList<>();
+
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(PAGE_SQL.formatted(descriptionColumn(projection, "description")))) {
+
             stmt.setInt(1, columnId);
-            
+            stmt.setString(2, after != null ? after.getRank() : "");
+            stmt.setInt(3, after != null ? after.getId() : 0);
+            stmt.setInt(4, limit);
+
             try (ResultSet rs = stmt.executeQuery()) {
-                if (rs.next()) {
-                    return rs.getInt(1);
+                while (rs.next()) {
+                    tasks.add(mapResultSetToTask(rs, projection));
                 }
             }
         }
-        
-        return 1; // Default to position 1 if no tasks exist
+
+        return tasks;
+    }
+
+    /**
+     * Stream all tasks of a column in rank order, mapping each row only when the
+     * stream reaches it. The stream keeps a pooled connection until it is closed.
+     * @param columnId Column ID
+     * @param projection Fields to load
+     * @return Stream of tasks; read errors are thrown as UncheckedSQLException
+     * @throws SQLException if database operation fails
+     */
+    @Override
+    public Stream<Task> streamByColumnId(Integer columnId, TaskProjection projection) throws SQLException {
+        Connection conn = dataSource.getConnection();
+        PreparedStatement stmt;
+        try {
+            stmt = conn.prepareStatement(STREAM_SQL.formatted(descriptionColumn(projection, "description")));
+            stmt.setInt(1, columnId);
+        } catch (SQLException e) {
+            conn.close();
+            throw e;
+        }
+        return ResultSetStreams.stream(conn, stmt, rs -> mapResultSetToTask(rs, projection));
+    }
+
+    /**
+     * Full-text search of task titles and descriptions on one board through the
+     * tasks_fts index, ranked by bm25 with highlighted snippets
+     * @param boardId Board ID
+     * @param terms Lowercase search terms, each matched as a word prefix
+     * @param limit Maximum number of results
+     * @return Results ordered from most to least relevant
+     * @throws SQLException if database operation fails
+     */
+    @Override
+    public List<TaskSearchResult> search(Integer boardId, List<String> terms, int limit) throws SQLException {
+        List<TaskSearchResult> results = new ArrayList<>();
+        if (terms.isEmpty()) {
+            return results;
+        }
+
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(SEARCH_SQL)) {
+
+            stmt.setString(1, matchExpression(terms));
+            stmt.setInt(2, boardId);
+            stmt.setInt(3, limit);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    Task task = mapResultSetToTask(rs, TaskProjection.SUMMARY);
+                    results.add(new TaskSearchResult(task, rs.getString("snippet"), rs.getDouble("score")));
+                }
+            }
+        }
+
+        return results;
+    }
+
+    /**
+     * Build an FTS5 query that requires every term as a word prefix. Terms are
+     * quoted so user input can never be read as FTS5 operators.
+     * @param terms Search terms
+     * @return MATCH expression, such as "fix"* "log"*
+     */
+    static String matchExpression(List<String> terms) {
+        StringBuilder expression = new StringBuilder();
+        for (String term : terms) {
+            if (!expression.isEmpty()) {
+                expression.append(' ');
+            }
+            expression.append('"').append(term.replace("\"", "\"\"")).append("\"*");
+        }
+        return expression.toString();
+    }
+
+    /**
+     * Find the tasks matching every predicate of a query with one parameterized
+     * statement. The statement text is compiled once per query shape.
+     * @param query Task filter
+     * @return Matching tasks ordered by column ID, then by rank within the column
+     * @throws SQLException if database operation fails
+     */
+    @Override
+    public List<Task> findByQuery(TaskQuery query) throws SQLException {
+        List<Task> tasks = new ArrayList<>();
+
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(querySql(query))) {
+
+            bindQuery(stmt, query);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    tasks.add(mapResultSetToTask(rs, query.getProjection()));
+                }
+            }
+        }
+
+        return tasks;
+    }
+
+    /**
+     * Get the statement text for a query, compiling it on the first use of its shape
+     * @param query Task filter
+     * @return SELECT statement with one parameter per predicate, and one for the limit
+     */
+    static String querySql(TaskQuery query) {
+        return QUERY_SQL_BY_SHAPE.computeIfAbsent(query.getShape(), shape -> compileQuery(query));
+    }
+
+    /**
+     * Compile a query shape into SQL. Set-valued predicates bind one JSON array
+     * through json_each, so the text does not depend on how many values are given.
+     * Board, column and tag predicates are ID subqueries that the column-rank and
+     * tag-task indexes serve; text goes through the tasks_fts index.
+     * @param query Task filter
+     * @return SELECT statement text
+     */
+    private static String compileQuery(TaskQuery query) {
+        List<String> conditions = new ArrayList<>();
+        for (TaskQuery.Filter filter : query.getFilters()) {
+            conditions.add(switch (filter) {
+                case BOARD -> "column_id IN (SELECT id FROM columns WHERE board_id = ?)";
+                case COLUMN -> "column_id IN (SELECT value FROM json_each(?))";
+                case PRIORITY -> "priority IN (SELECT value FROM json_each(?))";
+                case TAG -> "id IN (SELECT task_id FROM task_tags WHERE tag_id IN (SELECT value FROM json_each(?)))";
+                case DUE_FROM -> "due_date >= ?";
+                case DUE_TO -> "due_date <= ?";
+                case CREATED_FROM -> "created_at >= ?";
+                case CREATED_TO -> "created_at < ?";
+                case TEXT -> "id IN (SELECT rowid FROM tasks_fts WHERE tasks_fts MATCH ?)";
+            });
+        }
+
+        StringBuilder sql = new StringBuilder()
+            .append("SELECT id, column_id, title, ").append(descriptionColumn(query.getProjection(), "description"))
+            .append(", priority, position, rank, created_at, due_date FROM tasks");
+        if (!conditions.isEmpty()) {
+            sql.append(" WHERE ").append(String.join(" AND ", conditions));
+        }
+        sql.append(" ORDER BY column_id, rank, id");
+        if (query.getLimit() != null) {
+            sql.append(" LIMIT ?");
+        }
+        return sql.toString();
+    }
+
+    /**
+     * Bind query values in the order compileQuery places their parameters
+     * @param stmt Statement compiled from the query shape
+     * @param query Task filter
+     * @throws SQLException if binding fails
+     */
+    private static void bindQuery(PreparedStatement stmt, TaskQuery query) throws SQLException {
+        int index = 1;
+        for (TaskQuery.Filter filter : query.getFilters()) {
+            switch (filter) {
+                case BOARD -> stmt.setInt(index, query.getBoardId());
+                case COLUMN -> stmt.setString(index, SqlArrays.jsonArray(query.getColumnIds()));
+                case PRIORITY -> stmt.setString(index, SqlArrays.jsonNameArray(query.getPriorities()));
+                case TAG -> stmt.setString(index, SqlArrays.jsonArray(query.getTagIds()));
+                case DUE_FROM -> stmt.setDate(index, Date.valueOf(query.getDueFrom()));
+                case DUE_TO -> stmt.setDate(index, Date.valueOf(query.getDueTo()));
+                case CREATED_FROM -> stmt.setTimestamp(index, Timestamp.valueOf(query.getCreatedFrom()));
+                case CREATED_TO -> stmt.setTimestamp(index, Timestamp.valueOf(query.getCreatedTo()));
+                case TEXT -> stmt.setString(index, matchExpression(query.getTerms()));
+            }
+            index++;
+        }
+        if (query.getLimit() != null) {
+            stmt.setInt(index, query.getLimit());
+        }
     }
 
     /**
@@ -133,44 +441,293 @@ public class TaskDAO {
      * @param task Task to update
      * @throws SQLException if database operation fails
      */
+    @Override
     public void update(Task task) throws SQLException {
-        String sql = "UPDATE tasks SET column_id = ?, title = ?, description = ?, priority = ?, position = ?, due_date = ? WHERE id = ?";
-        
-        try (Connection conn = DatabaseConnection.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
-            
-            stmt.setInt(1, task.getColumnId());
-            stmt.setString(2, task.getTitle());
-            stmt.setString(3, task.getDescription());
-            stmt.setString(4, task.getPriority() != null ? task.getPriority().name() : null);
-            stmt.setInt(5, task.getPosition());
-            
-            if (task.getDueDate() != null) {
-                stmt.setDate(6, Date.valueOf(task.getDueDate()));
-            } else {
-                stmt.setNull(6, Types.DATE);
-            }
-            
-            stmt.setInt(7, task.getId());
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(UPDATE_SQL)) {
             
+            bindUpdate(stmt, task);
             stmt.executeUpdate();
         }
     }
 
     /**
-     * Delete task by ID
+     * Update only the priority of a task
      * @param id Task ID
+     * @param priority New priority
+     * @return true if the task was updated, false if it does not exist
      * @throws SQLException if database operation fails
      */
-    public void deleteById(Integer id) throws SQLException {
-        String sql = "DELETE FROM tasks WHERE id = ?";
-        
-        try (Connection conn = DatabaseConnection.getConnection();
+    @Override
+    public boolean updatePriority(Integer id, Task.Priority priority) throws SQLException {
+        String sql = "UPDATE tasks SET priority = ? WHERE id = ?";
+
+        try (Connection conn = dataSource.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
-            
+
+            stmt.setString(1, priority != null ? priority.name() : null);
+            stmt.setInt(2, id);
+
+            return stmt.executeUpdate() > 0;
+        }
+    }
+
+    /**
+     * Update only the title and description of a task
+     * @param id Task ID
+     * @param title New title
+     * @param description New description
+     * @return true if the task was updated, false if it does not exist
+     * @throws SQLException if database operation fails
+     */
+    @Override
+    public boolean updateContent(Integer id, String title, String description) throws SQLException {
+        String sql = "UPDATE tasks SET title = ?, description = ? WHERE id = ?";
+
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            stmt.setString(1, title);
+            stmt.setString(2, description);
+            stmt.setInt(3, id);
+
+            return stmt.executeUpdate() > 0;
+        }
+    }
+
+    /**
+     * Move a task to the end of a column in one statement. The rank is computed by
+     * a subquery and the move only happens if the column exists.
+     * @param id Task ID
+     * @param columnId Target column ID
+     * @return true if the task was moved, false if the task or the column does not exist
+     * @throws SQLException if database operation fails
+     */
+    @Override
+    public boolean moveToColumnEnd(Integer id, Integer columnId) throws SQLException {
+        String sql = """
+            UPDATE tasks
+            SET column_id = ?1,
+                rank = rank_after((SELECT MAX(rank) FROM tasks WHERE column_id = ?1))
+            WHERE id = ?2 AND EXISTS (SELECT 1 FROM columns WHERE id = ?1)
+            """;
+
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            stmt.setInt(1, columnId);
+            stmt.setInt(2, id);
+
+            return stmt.executeUpdate() > 0;
+        }
+    }
+
+    /**
+     * Place a task between two neighbours, in their column, by giving it a rank
+     * between theirs. With one neighbour given, the other bound is that task's
+     * current successor or predecessor. Reads the neighbour ranks and writes the
+     * one row in a single statement, so it cannot interleave with a rebalance of the column.
+     * @param id Task ID
+     * @param beforeId Task that should come directly before, or null to place it directly before afterId
+     * @param afterId Task that should come directly after, or null to place it directly after beforeId
+     * @return New rank of the task, or null if the task does not exist or other tasks lie between the neighbours
+     * @throws SQLException if database operation fails or the neighbours are out of order
+     */
+    @Override
+    public String reorder(Integer id, Integer beforeId, Integer afterId) throws SQLException {
+        String sql = """
+            WITH prev AS (SELECT column_id, rank FROM tasks WHERE id = ?2),
+                 next AS (SELECT column_id, rank FROM tasks WHERE id = ?3)
+            UPDATE tasks
+            SET column_id = COALESCE((SELECT column_id FROM prev), (SELECT column_id FROM next)),
+                rank = rank_between(
+                    CASE WHEN ?2 IS NULL
+                        THEN (SELECT MAX(t.rank) FROM tasks t, next WHERE t.column_id = next.column_id AND t.rank < next.rank AND t.id <> ?1)
+                        ELSE (SELECT rank FROM prev) END,
+                    CASE WHEN ?3 IS NULL
+                        THEN (SELECT MIN(t.rank) FROM tasks t, prev WHERE t.column_id = prev.column_id AND t.rank > prev.rank AND t.id <> ?1)
+                        ELSE (SELECT rank FROM next) END)
+            WHERE id = ?1
+              AND NOT EXISTS (SELECT 1 FROM tasks t, prev, next
+                              WHERE t.column_id = prev.column_id AND t.rank > prev.rank AND t.rank < next.rank AND t.id <> ?1)
+            RETURNING rank
+            """;
+
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
             stmt.setInt(1, id);
-            stmt.executeUpdate();
+            setNullableInt(stmt, 2, beforeId);
+            setNullableInt(stmt, 3, afterId);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                return rs.next() ? rs.getString("rank") : null;
+            }
+        }
+    }
+
+    /**
+     * Give all tasks of a column evenly spaced, short ranks in their current order
+     * @param columnId Column ID
+     * @return Number of re-ranked tasks
+     * @throws SQLException if database operation fails; no rank is changed
+     */
+    @Override
+    public int rebalanceRanks(Integer columnId) throws SQLException {
+        try (Connection conn = dataSource.getConnection()) {
+            return Transactions.inTransaction(conn, c -> {
+                List<Integer> ids = new ArrayList<>();
+                try (PreparedStatement stmt = c.prepareStatement("SELECT id FROM tasks WHERE column_id = ? ORDER BY rank, id")) {
+                    stmt.setInt(1, columnId);
+                    try (ResultSet rs = stmt.executeQuery()) {
+                        while (rs.next()) {
+                            ids.add(rs.getInt(1));
+                        }
+                    }
+                }
+
+                List<String> ranks = Rank.spread(ids.size());
+                try (PreparedStatement stmt = c.prepareStatement("UPDATE tasks SET rank = ? WHERE id = ?")) {
+                    for (int i = 0; i < ids.size(); i++) {
+                        stmt.setString(1, ranks.get(i));
+                        stmt.setInt(2, ids.get(i));
+                        stmt.addBatch();
+                    }
+                    return Batches.executeUpdate(stmt);
+                }
+            });
+        }
+    }
+
+    /**
+     * Update tasks with one JDBC batch in a single transaction
+     * @param tasks Tasks to update
+     * @return Number of updated rows
+     * @throws SQLException if database operation fails; no task is updated
+     */
+    @Override
+    public int updateAll(List<Task> tasks) throws SQLException {
+        if (tasks.isEmpty()) {
+            return 0;
+        }
+
+        try (Connection conn = dataSource.getConnection()) {
+            return Transactions.inTransaction(conn, c -> {
+                try (PreparedStatement stmt = c.prepareStatement(UPDATE_SQL)) {
+                    for (Task task : tasks) {
+                        bindUpdate(stmt, task);
+                        stmt.addBatch();
+                    }
+                    return Batches.executeUpdate(stmt);
+                }
+            });
+        }
+    }
+
+    /**
+     * Delete task by ID with its tag assignments
+     * @param id Task ID
+     * @return true if the task was deleted, false if it does not exist
+     * @throws SQLException if database operation fails
+     */
+    @Override
+    public boolean deleteById(Integer id) throws SQLException {
+        return deleteAllById(List.of(id)) > 0;
+    }
+
+    /**
+     * Delete tasks with their tag assignments, set-based in a single transaction
+     * @param ids Task IDs
+     * @return Number of deleted rows
+     * @throws SQLException if database operation fails; no task is deleted
+     */
+    @Override
+    public int deleteAllById(List<Integer> ids) throws SQLException {
+        if (ids.isEmpty()) {
+            return 0;
         }
+
+        try (Connection conn = dataSource.getConnection()) {
+            return CascadeDeletes.deleteTasks(conn, ids);
+        }
+    }
+
+    /**
+     * Bind task fields to the INSERT statement
+     * @param stmt INSERT statement
+     * @param task Task to bind
+     * @throws SQLException if binding fails
+     */
+    private void bindInsert(PreparedStatement stmt, Task task) throws SQLException {
+        stmt.setInt(1, task.getColumnId());
+        stmt.setString(2, task.getTitle());
+        stmt.setString(3, task.getDescription());
+        stmt.setString(4, task.getPriority() != null ? task.getPriority().name() : null);
+        stmt.setInt(5, task.getPosition());
+        stmt.setTimestamp(6, Timestamp.valueOf(task.getCreatedAt()));
+
+        if (task.getDueDate() != null) {
+            stmt.setDate(7, Date.valueOf(task.getDueDate()));
+        } else {
+            stmt.setNull(7, Types.DATE);
+        }
+
+        stmt.setString(8, task.getRank());
+        stmt.setInt(9, task.getColumnId());
+    }
+
+    /**
+     * Bind task fields to the UPDATE statement
+     * @param stmt UPDATE statement
+     * @param task Task to bind
+     * @throws SQLException if binding fails
+     */
+    private void bindUpdate(PreparedStatement stmt, Task task) throws SQLException {
+        stmt.setInt(1, task.getColumnId());
+        stmt.setString(2, task.getTitle());
+        stmt.setString(3, task.getDescription());
+        stmt.setString(4, task.getPriority() != null ? task.getPriority().name() : null);
+        stmt.setInt(5, task.getPosition());
+
+        if (task.getDueDate() != null) {
+            stmt.setDate(6, Date.valueOf(task.getDueDate()));
+        } else {
+            stmt.setNull(6, Types.DATE);
+        }
+
+        stmt.setString(7, task.getRank());
+        stmt.setInt(8, task.getId());
+    }
+
+    private static void setNullableInt(PreparedStatement stmt, int index, Integer value) throws SQLException {
+        if (value != null) {
+            stmt.setInt(index, value);
+        } else {
+            stmt.setNull(index, Types.INTEGER);
+        }
+    }
+
+    /**
+     * Select expression for the description column of a projection
+     * @param projection Fields to load
+     * @param column Description column, qualified as the query needs
+     * @return Column expression; SUMMARY selects NULL so rows map the same way
+     */
+    static String descriptionColumn(TaskProjection projection, String column) {
+        return projection == TaskProjection.FULL ? column : "NULL AS description";
+    }
+
+    /**
+     * Map ResultSet to Task object loaded with a projection
+     * @param rs ResultSet
+     * @param projection Fields the query loaded
+     * @return Task object, with its description marked unloaded for SUMMARY
+     * @throws SQLException if database operation fails
+     */
+    static Task mapResultSetToTask(ResultSet rs, TaskProjection projection) throws SQLException {
+        Task task = mapResultSetToTask(rs);
+        task.setDescriptionLoaded(projection == TaskProjection.FULL);
+        return task;
     }
 
     /**
@@ -179,7 +736,7 @@ public class TaskDAO {
      * @return Task object
      * @throws SQLException if database operation fails
      */
-    private Task mapResultSetToTask(ResultSet rs) throws SQLException {
+    static Task mapResultSetToTask(ResultSet rs) throws SQLException {
         Task task = new Task();
         task.setId(rs.getInt("id"));
         task.setColumnId(rs.getInt("column_id"));
@@ -192,6 +749,7 @@ public class TaskDAO {
         }
         
         task.setPosition(rs.getInt("position"));
+        task.setRank(rs.getString("rank"));
         task.setCreatedAt(rs.getTimestamp("created_at").toLocalDateTime());
         
         Date dueDate = rs.getDate("due_date");
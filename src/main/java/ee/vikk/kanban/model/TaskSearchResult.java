@@ -0,0 +1,67 @@
+package ee.vikk.kanban.model;
+
+/**
+ * TaskSearchResult model class representing one ranked full-text search hit
+ */
+public class TaskSearchResult {
+    /** Marks the start of a matched term in a snippet */
+    public static final String MATCH_START = "\u0002";
+    /** Marks the end of a matched term in a snippet */
+    public static final String MATCH_END = "\u0003";
+
+    private Task task;
+    private String snippet;
+    private double score;
+
+    /**
+     * Default constructor
+     */
+    public TaskSearchResult() {
+    }
+
+    /**
+     * Constructor with all fields
+     * @param task Matching task, loaded without its description
+     * @param snippet Matching text with terms wrapped in MATCH_START and MATCH_END
+     * @param score Relevance; lower is more relevant
+     */
+    public TaskSearchResult(Task task, String snippet, double score) {
+        this.task = task;
+        this.snippet = snippet;
+        this.score = score;
+    }
+
+    // Getters and setters
+    public Task getTask() {
+        return task;
+    }
+
+    public void setTask(Task task) {
+        this.task = task;
+    }
+
+    public String getSnippet() {
+        return snippet;
+    }
+
+    public void setSnippet(String snippet) {
+        this.snippet = snippet;
+    }
+
+    public double getScore() {
+        return score;
+    }
+
+    public void setScore(double score) {
+        this.score = score;
+    }
+
+    @Override
+    public String toString() {
+        return "TaskSearchResult{" +
+                "taskId=" + (task != null ? task.getId() : null) +
+                ", snippet='" + snippet + '\'' +
+                ", score=" + score +
+                '}';
+    }
+}
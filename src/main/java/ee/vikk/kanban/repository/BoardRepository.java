@@ -0,0 +1,67 @@
+package ee.vikk.kanban.repository;
+
+import ee.vikk.kanban.model.Board;
+
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Storage operations for boards
+ */
+public interface BoardRepository {
+
+    /**
+     * Save a new board
+     * @param board Board to save
+     * @return Board with generated ID
+     * @throws SQLException if storage operation fails
+     */
+    Board save(Board board) throws SQLException;
+
+    /**
+     * Find board by ID, without columns
+     * @param id Board ID
+     * @return Board or null if not found
+     * @throws SQLException if storage operation fails
+     */
+    Board findById(Integer id) throws SQLException;
+
+    /**
+     * Find board by ID with its columns, their ordered tasks and the tasks' tags
+     * @param id Board ID
+     * @return Fully populated board or null if not found
+     * @throws SQLException if storage operation fails
+     */
+    Board findByIdWithTasks(Integer id) throws SQLException;
+
+    /**
+     * Find board by ID with its columns, their ordered tasks and the tasks' tags,
+     * loading the task fields of a projection
+     * @param id Board ID
+     * @param projection Task fields to load; SUMMARY leaves descriptions unloaded
+     * @return Populated board or null if not found
+     * @throws SQLException if storage operation fails
+     */
+    Board findByIdWithTasks(Integer id, TaskProjection projection) throws SQLException;
+
+    /**
+     * Find all boards, newest first
+     * @return List of all boards
+     * @throws SQLException if storage operation fails
+     */
+    List<Board> findAll() throws SQLException;
+
+    /**
+     * Update board
+     * @param board Board to update
+     * @throws SQLException if storage operation fails
+     */
+    void update(Board board) throws SQLException;
+
+    /**
+     * Delete board by ID with its columns and their tasks
+     * @param id Board ID
+     * @throws SQLException if storage operation fails; nothing is deleted
+     */
+    void deleteById(Integer id) throws SQLException;
+}
@@ -0,0 +1,92 @@
+package ee.vikk.kanban.repository;
+
+import ee.vikk.kanban.model.Column;
+
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Storage operations for columns
+ */
+public interface ColumnRepository {
+
+    /**
+     * Save a new column
+     * @param column Column to save; without a rank it is ranked last on its board
+     * @return Column with generated ID and rank
+     * @throws SQLException if storage operation fails
+     */
+    Column save(Column column) throws SQLException;
+
+    /**
+     * Save new columns atomically
+     * @param columns Columns to save
+     * @return The same columns with generated IDs, in input order
+     * @throws SQLException if storage operation fails; no column is saved
+     */
+    List<Column> saveAll(List<Column> columns) throws SQLException;
+
+    /**
+     * Find column by ID
+     * @param id Column ID
+     * @return Column or null if not found
+     * @throws SQLException if storage operation fails
+     */
+    Column findById(Integer id) throws SQLException;
+
+    /**
+     * Find all columns for a board
+     * @param boardId Board ID
+     * @return List of columns ordered by rank
+     * @throws SQLException if storage operation fails
+     */
+    List<Column> findByBoardId(Integer boardId) throws SQLException;
+
+    /**
+     * Update column
+     * @param column Column to update
+     * @throws SQLException if storage operation fails
+     */
+    void update(Column column) throws SQLException;
+
+    /**
+     * Update columns atomically
+     * @param columns Columns to update
+     * @return Number of updated columns
+     * @throws SQLException if storage operation fails; no column is updated
+     */
+    int updateAll(List<Column> columns) throws SQLException;
+
+    /**
+     * Place a column between two neighbours on its board, writing only that column
+     * @param id Column ID
+     * @param beforeId Column that should come directly before, or null to place it directly before afterId
+     * @param afterId Column that should come directly after, or null to place it directly after beforeId
+     * @return New rank of the column, or null if the column does not exist or other columns lie between the neighbours
+     * @throws SQLException if storage operation fails or the neighbours are out of order
+     */
+    String reorder(Integer id, Integer beforeId, Integer afterId) throws SQLException;
+
+    /**
+     * Give all columns of a board evenly spaced, short ranks in their current order
+     * @param boardId Board ID
+     * @return Number of re-ranked columns
+     * @throws SQLException if storage operation fails; no rank is changed
+     */
+    int rebalanceRanks(Integer boardId) throws SQLException;
+
+    /**
+     * Delete column by ID with its tasks
+     * @param id Column ID
+     * @throws SQLException if storage operation fails
+     */
+    void deleteById(Integer id) throws SQLException;
+
+    /**
+     * Delete columns with their tasks atomically
+     * @param ids Column IDs
+     * @return Number of deleted columns
+     * @throws SQLException if storage operation fails; no column is deleted
+     */
+    int deleteAllById(List<Integer> ids) throws SQLException;
+}
@@ -0,0 +1,88 @@
+package ee.vikk.kanban.repository;
+
+import ee.vikk.kanban.model.Tag;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Storage operations for tags and their assignment to tasks
+ */
+public interface TagRepository {
+
+    /**
+     * Save a new tag
+     * @param tag Tag to save; its name must be unique
+     * @return Tag with generated ID
+     * @throws SQLException if storage operation fails or the name is taken
+     */
+    Tag save(Tag tag) throws SQLException;
+
+    /**
+     * Find tag by ID
+     * @param id Tag ID
+     * @return Tag or null if not found
+     * @throws SQLException if storage operation fails
+     */
+    Tag findById(Integer id) throws SQLException;
+
+    /**
+     * Find tag by its exact name
+     * @param name Tag name
+     * @return Tag or null if not found
+     * @throws SQLException if storage operation fails
+     */
+    Tag findByName(String name) throws SQLException;
+
+    /**
+     * Find all tags
+     * @return Tags ordered by name
+     * @throws SQLException if storage operation fails
+     */
+    List<Tag> findAll() throws SQLException;
+
+    /**
+     * Find the tags of one task
+     * @param taskId Task ID
+     * @return Tags ordered by name
+     * @throws SQLException if storage operation fails
+     */
+    List<Tag> findByTaskId(Integer taskId) throws SQLException;
+
+    /**
+     * Find the tags of every tagged task on a board in one load. Each tag is one
+     * instance shared by all the lists that contain it.
+     * @param boardId Board ID
+     * @return Tags ordered by name, keyed by task ID; untagged tasks have no entry
+     * @throws SQLException if storage operation fails
+     */
+    Map<Integer, List<Tag>> findByBoardId(Integer boardId) throws SQLException;
+
+    /**
+     * Attach a tag to a task
+     * @param taskId Task ID
+     * @param tagId Tag ID
+     * @return true if attached, false if already attached or the task or tag does not exist
+     * @throws SQLException if storage operation fails
+     */
+    boolean attach(Integer taskId, Integer tagId) throws SQLException;
+
+    /**
+     * Attach a tag to many tasks atomically
+     * @param tagId Tag ID
+     * @param taskIds Task IDs
+     * @return Number of newly attached tasks
+     * @throws SQLException if storage operation fails; no task is attached
+     */
+    int attachAll(Integer tagId, List<Integer> taskIds) throws SQLException;
+
+    /**
+     * Detach a tag from a task
+     * @param taskId Task ID
+     * @param tagId Tag ID
+     * @return true if detached, false if the tag was not attached
+     * @throws SQLException if storage operation fails
+     */
+    boolean detach(Integer taskId, Integer tagId) throws SQLException;
+}
@@ -0,0 +1,11 @@
+package ee.vikk.kanban.repository;
+
+/**
+ * Fields loaded for each task by the paginated and streaming task queries
+ */
+public enum TaskProjection {
+    /** Every task field */
+    FULL,
+    /** Every field except the description, for task cards and exports of large columns */
+    SUMMARY
+}
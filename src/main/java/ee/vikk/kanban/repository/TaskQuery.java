@@ -0,0 +1,350 @@
+package ee.vikk.kanban.repository;
+
+import ee.vikk.kanban.model.Task;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Immutable task filter built from optional predicates that all must hold.
+ * Repositories compile it into one parameterized query; queries with the same
+ * shape, the same predicates set, share the compiled statement text.
+ */
+public class TaskQuery {
+
+    /**
+     * Predicates a query can set, in the order repositories apply them
+     */
+    public enum Filter {
+        /** Task is on a board */
+        BOARD,
+        /** Task is in one of the columns */
+        COLUMN,
+        /** Task has one of the priorities */
+        PRIORITY,
+        /** Task carries at least one of the tags */
+        TAG,
+        /** Task is due on or after a date */
+        DUE_FROM,
+        /** Task is due on or before a date */
+        DUE_TO,
+        /** Task was created at or after a time */
+        CREATED_FROM,
+        /** Task was created before a time */
+        CREATED_TO,
+        /** Every search term matches a word, or the start of a word, of the title or description */
+        TEXT
+    }
+
+    private final Integer boardId;
+    private final Set<Integer> columnIds;
+    private final Set<Task.Priority> priorities;
+    private final Set<Integer> tagIds;
+    private final LocalDate dueFrom;
+    private final LocalDate dueTo;
+    private final LocalDateTime createdFrom;
+    private final LocalDateTime createdTo;
+    private final List<String> terms;
+    private final TaskProjection projection;
+    private final Integer limit;
+    private final EnumSet<Filter> filters;
+
+    private TaskQuery(Builder builder) {
+        this.boardId = builder.boardId;
+        this.columnIds = Set.copyOf(builder.columnIds);
+        this.priorities = Set.copyOf(builder.priorities);
+        this.tagIds = Set.copyOf(builder.tagIds);
+        this.dueFrom = builder.dueFrom;
+        this.dueTo = builder.dueTo;
+        this.createdFrom = builder.createdFrom;
+        this.createdTo = builder.createdTo;
+        this.terms = List.copyOf(builder.terms);
+        this.projection = builder.projection;
+        this.limit = builder.limit;
+
+        this.filters = EnumSet.noneOf(Filter.class);
+        addIf(boardId != null, Filter.BOARD);
+        addIf(builder.columnsSet, Filter.COLUMN);
+        addIf(builder.prioritiesSet, Filter.PRIORITY);
+        addIf(builder.tagsSet, Filter.TAG);
+        addIf(dueFrom != null, Filter.DUE_FROM);
+        addIf(dueTo != null, Filter.DUE_TO);
+        addIf(createdFrom != null, Filter.CREATED_FROM);
+        addIf(createdTo != null, Filter.CREATED_TO);
+        addIf(!terms.isEmpty(), Filter.TEXT);
+    }
+
+    private void addIf(boolean set, Filter filter) {
+        if (set) {
+            filters.add(filter);
+        }
+    }
+
+    /**
+     * Start building a query; without predicates it matches every task
+     * @return New builder loading FULL tasks without a limit
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Split search text into lowercase terms at every character that is not a letter or digit
+     * @param text Search text, may be null
+     * @return Terms in input order; empty if the text has no words
+     */
+    public static List<String> terms(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text != null) {
+            for (String term : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+                if (!term.isEmpty()) {
+                    terms.add(term);
+                }
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * Get the predicates this query sets
+     * @return Set predicates in application order
+     */
+    public Set<Filter> getFilters() {
+        return EnumSet.copyOf(filters);
+    }
+
+    /**
+     * Get the query shape: which predicates are set, the projection and whether
+     * a limit applies. Queries of one shape compile to the same statement text.
+     * @return Shape key, such as "BOARD,PRIORITY|SUMMARY|limit"
+     */
+    public String getShape() {
+        StringBuilder shape = new StringBuilder();
+        for (Filter filter : filters) {
+            if (!shape.isEmpty()) {
+                shape.append(',');
+            }
+            shape.append(filter.name());
+        }
+        shape.append('|').append(projection.name());
+        if (limit != null) {
+            shape.append("|limit");
+        }
+        return shape.toString();
+    }
+
+    /**
+     * Check a query for contradictory or out-of-range settings
+     * @return Problem description, or null if the query is valid
+     */
+    public String validate() {
+        if (limit != null && limit < 1) {
+            return "Query limit must be positive";
+        }
+        if (dueFrom != null && dueTo != null && dueFrom.isAfter(dueTo)) {
+            return "Due date range starts after it ends";
+        }
+        if (createdFrom != null && createdTo != null && createdFrom.isAfter(createdTo)) {
+            return "Creation time range starts after it ends";
+        }
+        return null;
+    }
+
+    // Getters
+    public Integer getBoardId() {
+        return boardId;
+    }
+
+    public Set<Integer> getColumnIds() {
+        return columnIds;
+    }
+
+    public Set<Task.Priority> getPriorities() {
+        return priorities;
+    }
+
+    public Set<Integer> getTagIds() {
+        return tagIds;
+    }
+
+    public LocalDate getDueFrom() {
+        return dueFrom;
+    }
+
+    public LocalDate getDueTo() {
+        return dueTo;
+    }
+
+    public LocalDateTime getCreatedFrom() {
+        return createdFrom;
+    }
+
+    public LocalDateTime getCreatedTo() {
+        return createdTo;
+    }
+
+    public List<String> getTerms() {
+        return terms;
+    }
+
+    public TaskProjection getProjection() {
+        return projection;
+    }
+
+    public Integer getLimit() {
+        return limit;
+    }
+
+    @Override
+    public String toString() {
+        return "TaskQuery{" +
+                "shape='" + getShape() + '\'' +
+                ", boardId=" + boardId +
+                ", columnIds=" + columnIds +
+                ", priorities=" + priorities +
+                ", tagIds=" + tagIds +
+                ", due=" + dueFrom + ".." + dueTo +
+                ", created=" + createdFrom + ".." + createdTo +
+                ", terms=" + terms +
+                ", limit=" + limit +
+                '}';
+    }
+
+    /**
+     * Builder for TaskQuery. Setting a set-valued predicate to an empty
+     * collection makes the query match nothing, as an empty selection should.
+     */
+    public static class Builder {
+        private Integer boardId;
+        private final Set<Integer> columnIds = new LinkedHashSet<>();
+        private final Set<Task.Priority> priorities = new LinkedHashSet<>();
+        private final Set<Integer> tagIds = new LinkedHashSet<>();
+        private boolean columnsSet;
+        private boolean prioritiesSet;
+        private boolean tagsSet;
+        private LocalDate dueFrom;
+        private LocalDate dueTo;
+        private LocalDateTime createdFrom;
+        private LocalDateTime createdTo;
+        private final List<String> terms = new ArrayList<>();
+        private TaskProjection projection = TaskProjection.FULL;
+        private Integer limit;
+
+        private Builder() {
+        }
+
+        /**
+         * Only match tasks on a board
+         * @param boardId Board ID
+         * @return This builder
+         */
+        public Builder board(Integer boardId) {
+            this.boardId = boardId;
+            return this;
+        }
+
+        /**
+         * Only match tasks in one of the columns
+         * @param columnIds Column IDs
+         * @return This builder
+         */
+        public Builder columns(Collection<Integer> columnIds) {
+            this.columnIds.addAll(columnIds);
+            this.columnsSet = true;
+            return this;
+        }
+
+        /**
+         * Only match tasks with one of the priorities; tasks without a priority never match
+         * @param priorities Priorities
+         * @return This builder
+         */
+        public Builder priorities(Collection<Task.Priority> priorities) {
+            this.priorities.addAll(priorities);
+            this.prioritiesSet = true;
+            return this;
+        }
+
+        /**
+         * Only match tasks carrying at least one of the tags
+         * @param tagIds Tag IDs
+         * @return This builder
+         */
+        public Builder tags(Collection<Integer> tagIds) {
+            this.tagIds.addAll(tagIds);
+            this.tagsSet = true;
+            return this;
+        }
+
+        /**
+         * Only match tasks due within a date range; tasks without a due date never match
+         * @param from First due date, inclusive, or null for no lower bound
+         * @param to Last due date, inclusive, or null for no upper bound
+         * @return This builder
+         */
+        public Builder dueBetween(LocalDate from, LocalDate to) {
+            this.dueFrom = from;
+            this.dueTo = to;
+            return this;
+        }
+
+        /**
+         * Only match tasks created within a time range
+         * @param from Start time, inclusive, or null for no lower bound
+         * @param to End time, exclusive, or null for no upper bound
+         * @return This builder
+         */
+        public Builder createdBetween(LocalDateTime from, LocalDateTime to) {
+            this.createdFrom = from;
+            this.createdTo = to;
+            return this;
+        }
+
+        /**
+         * Only match tasks whose title or description contains every word of the
+         * text as a word or the start of a word
+         * @param text Search text; text without words sets no predicate
+         * @return This builder
+         */
+        public Builder text(String text) {
+            this.terms.clear();
+            this.terms.addAll(terms(text));
+            return this;
+        }
+
+        /**
+         * Choose the task fields to load
+         * @param projection Task fields
+         * @return This builder
+         */
+        public Builder projection(TaskProjection projection) {
+            this.projection = projection;
+            return this;
+        }
+
+        /**
+         * Limit the number of matched tasks
+         * @param limit Maximum number of tasks
+         * @return This builder
+         */
+        public Builder limit(Integer limit) {
+            this.limit = limit;
+            return this;
+        }
+
+        /**
+         * Build the query
+         * @return Immutable query
+         */
+        public TaskQuery build() {
+            return new TaskQuery(this);
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package ee.vikk.kanban.repository;
+
+import ee.vikk.kanban.model.Task;
+import ee.vikk.kanban.model.TaskSearchResult;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Storage operations for tasks
+ */
+public interface TaskRepository {
+
+    /**
+     * Save a new task
+     * @param task Task to save; without a rank it is ranked last in its column
+     * @return Task with generated ID and rank
+     * @throws SQLException if storage operation fails
+     */
+    Task save(Task task) throws SQLException;
+
+    /**
+     * Save a new task at the end of its column, assigning its rank
+     * @param task Task to save; its position and rank are ignored
+     * @return Task with generated ID and assigned rank
+     * @throws SQLException if storage operation fails
+     */
+    Task saveAtColumnEnd(Task task) throws SQLException;
+
+    /**
+     * Save new tasks atomically
+     * @param tasks Tasks to save
+     * @return The same tasks with generated IDs, in input order
+     * @throws SQLException if storage operation fails; no task is saved
+     */
+    List<Task> saveAll(List<Task> tasks) throws SQLException;
+
+    /**
+     * Find task by ID
+     * @param id Task ID
+     * @return Task or null if not found
+     * @throws SQLException if storage operation fails
+     */
+    Task findById(Integer id) throws SQLException;
+
+    /**
+     * Find all tasks for a column
+     * @param columnId Column ID
+     * @return List of tasks ordered by rank
+     * @throws SQLException if storage operation fails
+     */
+    List<Task> findByColumnId(Integer columnId) throws SQLException;
+
+    /**
+     * Find one page of a column's tasks in rank order, continuing after the
+     * last task of the previous page
+     * @param columnId Column ID
+     * @param after Last task of the previous page, or null for the first page
+     * @param limit Maximum number of tasks to return
+     * @param projection Fields to load
+     * @return Up to limit tasks; fewer means the column has no more tasks
+     * @throws SQLException if storage operation fails
+     */
+    List<Task> findPageByColumnId(Integer columnId, Task after, int limit, TaskProjection projection) throws SQLException;
+
+    /**
+     * Stream all tasks of a column in rank order, mapping them one at a time.
+     * The stream must be closed; it may hold storage resources until then.
+     * @param columnId Column ID
+     * @param projection Fields to load
+     * @return Stream of tasks; read errors are thrown as UncheckedSQLException
+     * @throws SQLException if storage operation fails
+     */
+    Stream<Task> streamByColumnId(Integer columnId, TaskProjection projection) throws SQLException;
+
+    /**
+     * Full-text search of task titles and descriptions on one board. Every term
+     * must match, as a whole word or a word prefix.
+     * @param boardId Board ID
+     * @param terms Lowercase search terms
+     * @param limit Maximum number of results
+     * @return Results ordered from most to least relevant, with task summaries
+     * @throws SQLException if storage operation fails
+     */
+    List<TaskSearchResult> search(Integer boardId, List<String> terms, int limit) throws SQLException;
+
+    /**
+     * Find the tasks matching every predicate of a query
+     * @param query Task filter
+     * @return Matching tasks ordered by column ID, then by rank within the column
+     * @throws SQLException if storage operation fails
+     */
+    List<Task> findByQuery(TaskQuery query) throws SQLException;
+
+    /**
+     * Update task
+     * @param task Task to update
+     * @throws SQLException if storage operation fails
+     */
+    void update(Task task) throws SQLException;
+
+    /**
+     * Update only the priority of a task
+     * @param id Task ID
+     * @param priority New priority
+     * @return true if the task was updated, false if it does not exist
+     * @throws SQLException if storage operation fails
+     */
+    boolean updatePriority(Integer id, Task.Priority priority) throws SQLException;
+
+    /**
+     * Update only the title and description of a task
+     * @param id Task ID
+     * @param title New title
+     * @param description New description
+     * @return true if the task was updated, false if it does not exist
+     * @throws SQLException if storage operation fails
+     */
+    boolean updateContent(Integer id, String title, String description) throws SQLException;
+
+    /**
+     * Move a task to the end of a column
+     * @param id Task ID
+     * @param columnId Target column ID
+     * @return true if the task was moved, false if the task or the column does not exist
+     * @throws SQLException if storage operation fails
+     */
+    boolean moveToColumnEnd(Integer id, Integer columnId) throws SQLException;
+
+    /**
+     * Place a task between two neighbours, in their column, writing only that task
+     * @param id Task ID
+     * @param beforeId Task that should come directly before, or null to place it directly before afterId
+     * @param afterId Task that should come directly after, or null to place it directly after beforeId
+     * @return New rank of the task, or null if the task does not exist or other tasks lie between the neighbours
+     * @throws SQLException if storage operation fails or the neighbours are out of order
+     */
+    String reorder(Integer id, Integer beforeId, Integer afterId) throws SQLException;
+
+    /**
+     * Give all tasks of a column evenly spaced, short ranks in their current order
+     * @param columnId Column ID
+     * @return Number of re-ranked tasks
+     * @throws SQLException if storage operation fails; no rank is changed
+     */
+    int rebalanceRanks(Integer columnId) throws SQLException;
+
+    /**
+     * Update tasks atomically
+     * @param tasks Tasks to update
+     * @return Number of updated tasks
+     * @throws SQLException if storage operation fails; no task is updated
+     */
+    int updateAll(List<Task> tasks) throws SQLException;
+
+    /**
+     * Delete task by ID
+     * @param id Task ID
+     * @return true if the task was deleted, false if it does not exist
+     * @throws SQLException if storage operation fails
+     */
+    boolean deleteById(Integer id) throws SQLException;
+
+    /**
+     * Delete tasks atomically
+     * @param ids Task IDs
+     * @return Number of deleted tasks
+     * @throws SQLException if storage operation fails; no task is deleted
+     */
+    int deleteAllById(List<Integer> ids) throws SQLException;
+}
@@ -0,0 +1,104 @@
+package ee.vikk.kanban.repository.memory;
+
+import ee.vikk.kanban.model.Board;
+import ee.vikk.kanban.model.Column;
+import ee.vikk.kanban.model.Tag;
+import ee.vikk.kanban.model.Task;
+import ee.vikk.kanban.repository.BoardRepository;
+import ee.vikk.kanban.repository.TaskProjection;
+
+import java.sql.SQLException;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Board repository backed by InMemoryStorage
+ */
+public class InMemoryBoardRepository implements BoardRepository {
+    private final InMemoryStorage storage;
+
+    /**
+     * Constructor with storage dependency
+     * @param storage Shared in-memory storage
+     */
+    public InMemoryBoardRepository(InMemoryStorage storage) {
+        this.storage = storage;
+    }
+
+    @Override
+    public Board save(Board board) throws SQLException {
+        return storage.write(() -> {
+            InMemoryStorage.requireNotNull(board.getName(), "boards.name");
+            Board stored = InMemoryStorage.copy(board);
+            stored.setId(storage.nextBoardId());
+            storage.putBoard(stored);
+            board.setId(stored.getId());
+            return board;
+        });
+    }
+
+    @Override
+    public Board findById(Integer id) throws SQLException {
+        return storage.read(() -> {
+            Board stored = storage.board(id);
+            return stored != null ? InMemoryStorage.copy(stored) : null;
+        });
+    }
+
+    @Override
+    public Board findByIdWithTasks(Integer id) throws SQLException {
+        return findByIdWithTasks(id, TaskProjection.FULL);
+    }
+
+    @Override
+    public Board findByIdWithTasks(Integer id, TaskProjection projection) throws SQLException {
+        return storage.read(() -> {
+            Board stored = storage.board(id);
+            if (stored == null) {
+                return null;
+            }
+            Board board = InMemoryStorage.copy(stored);
+            Map<Integer, Tag> tagCopies = new HashMap<>();
+            for (Column storedColumn : storage.columnsOfBoard(id)) {
+                Column column = InMemoryStorage.copy(storedColumn);
+                for (Task task : storage.tasksOfColumn(column.getId())) {
+                    column.addTask(InMemoryTaskRepository.project(task, projection, tagCopies));
+                }
+                board.addColumn(column);
+            }
+            return board;
+        });
+    }
+
+    @Override
+    public List<Board> findAll() throws SQLException {
+        return storage.read(() -> storage.allBoards().stream()
+                .sorted(Comparator.comparing(Board::getCreatedAt).thenComparing(Board::getId).reversed())
+                .map(InMemoryStorage::copy)
+                .toList());
+    }
+
+    @Override
+    public void update(Board board) throws SQLException {
+        storage.write(() -> {
+            Board stored = storage.board(board.getId());
+            if (stored != null) {
+                InMemoryStorage.requireNotNull(board.getName(), "boards.name");
+                Board updated = InMemoryStorage.copy(stored);
+                updated.setName(board.getName());
+                storage.putBoard(updated);
+            }
+            return null;
+        });
+    }
+
+    @Override
+    public void deleteById(Integer id) throws SQLException {
+        storage.write(() -> {
+            storage.removeBoard(id);
+            return null;
+        });
+    }
+}
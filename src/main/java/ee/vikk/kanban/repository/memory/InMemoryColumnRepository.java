@@ -0,0 +1,220 @@
+package ee.vikk.kanban.repository.memory;
+
+import ee.vikk.kanban.model.Column;
+import ee.vikk.kanban.model.Rank;
+import ee.vikk.kanban.repository.ColumnRepository;
+
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Column repository backed by InMemoryStorage
+ */
+public class InMemoryColumnRepository implements ColumnRepository {
+    private final InMemoryStorage storage;
+
+    /**
+     * Constructor with storage dependency
+     * @param storage Shared in-memory storage
+     */
+    public InMemoryColumnRepository(InMemoryStorage storage) {
+        this.storage = storage;
+    }
+
+    @Override
+    public Column save(Column column) throws SQLException {
+        return storage.write(() -> insert(column));
+    }
+
+    @Override
+    public List<Column> saveAll(List<Column> columns) throws SQLException {
+        return storage.write(() -> {
+            for (Column column : columns) {
+                insert(column);
+            }
+            return columns;
+        });
+    }
+
+    @Override
+    public Column findById(Integer id) throws SQLException {
+        return storage.read(() -> {
+            Column stored = storage.column(id);
+            return stored != null ? InMemoryStorage.copy(stored) : null;
+        });
+    }
+
+    @Override
+    public List<Column> findByBoardId(Integer boardId) throws SQLException {
+        return storage.read(() -> storage.columnsOfBoard(boardId).stream()
+                .map(InMemoryStorage::copy)
+                .toList());
+    }
+
+    @Override
+    public void update(Column column) throws SQLException {
+        storage.write(() -> replace(column));
+    }
+
+    @Override
+    public int updateAll(List<Column> columns) throws SQLException {
+        return storage.write(() -> {
+            int updated = 0;
+            for (Column column : columns) {
+                if (replace(column)) {
+                    updated++;
+                }
+            }
+            return updated;
+        });
+    }
+
+    @Override
+    public String reorder(Integer id, Integer beforeId, Integer afterId) throws SQLException {
+        return storage.write(() -> {
+            Column stored = storage.column(id);
+            if (stored == null) {
+                return null;
+            }
+            List<String> others = storage.columnsOfBoard(stored.getBoardId()).stream()
+                    .filter(column -> !column.getId().equals(id))
+                    .map(Column::getRank)
+                    .toList();
+            String rank = rankBetweenNeighbours(others, neighbourRank(beforeId), neighbourRank(afterId));
+            if (rank == null) {
+                return null;
+            }
+            Column updated = InMemoryStorage.copy(stored);
+            updated.setRank(rank);
+            storage.putColumn(updated);
+            return rank;
+        });
+    }
+
+    @Override
+    public int rebalanceRanks(Integer boardId) throws SQLException {
+        return storage.write(() -> {
+            List<Column> ordered = storage.columnsOfBoard(boardId);
+            List<String> ranks = Rank.spread(ordered.size());
+            for (int i = 0; i < ordered.size(); i++) {
+                Column updated = InMemoryStorage.copy(ordered.get(i));
+                updated.setRank(ranks.get(i));
+                storage.putColumn(updated);
+            }
+            return ordered.size();
+        });
+    }
+
+    @Override
+    public void deleteById(Integer id) throws SQLException {
+        storage.write(() -> {
+            storage.removeColumn(id);
+            return null;
+        });
+    }
+
+    @Override
+    public int deleteAllById(List<Integer> ids) throws SQLException {
+        return storage.write(() -> {
+            int deleted = 0;
+            for (Integer id : ids) {
+                if (storage.column(id) != null) {
+                    storage.removeColumn(id);
+                    deleted++;
+                }
+            }
+            return deleted;
+        });
+    }
+
+    /**
+     * Store a new column, ranking it last on its board if it has no rank
+     * @param column Column to insert; receives the generated ID and rank
+     * @return The same column
+     * @throws SQLException if a required field is missing
+     */
+    private Column insert(Column column) throws SQLException {
+        InMemoryStorage.requireNotNull(column.getBoardId(), "columns.board_id");
+        InMemoryStorage.requireNotNull(column.getName(), "columns.name");
+        InMemoryStorage.requireNotNull(column.getPosition(), "columns.position");
+
+        Column stored = InMemoryStorage.copy(column);
+        stored.setId(storage.nextColumnId());
+        if (stored.getRank() == null) {
+            List<Column> siblings = storage.columnsOfBoard(column.getBoardId());
+            stored.setRank(Rank.after(siblings.isEmpty() ? null : siblings.get(siblings.size() - 1).getRank()));
+        }
+        storage.putColumn(stored);
+
+        column.setId(stored.getId());
+        column.setRank(stored.getRank());
+        return column;
+    }
+
+    /**
+     * Replace the stored name, position, color and rank of an existing column
+     * @param column Column with new values
+     * @return true if the column exists
+     * @throws SQLException if a required field is missing
+     */
+    private boolean replace(Column column) throws SQLException {
+        Column stored = storage.column(column.getId());
+        if (stored == null) {
+            return false;
+        }
+        InMemoryStorage.requireNotNull(column.getName(), "columns.name");
+        InMemoryStorage.requireNotNull(column.getPosition(), "columns.position");
+
+        Column updated = InMemoryStorage.copy(stored);
+        updated.setName(column.getName());
+        updated.setPosition(column.getPosition());
+        updated.setColor(column.getColor());
+        if (column.getRank() != null) {
+            updated.setRank(column.getRank());
+        }
+        storage.putColumn(updated);
+        return true;
+    }
+
+    private String neighbourRank(Integer id) {
+        if (id == null) {
+            return null;
+        }
+        Column neighbour = storage.column(id);
+        return neighbour != null ? neighbour.getRank() : null;
+    }
+
+    /**
+     * Rank for a row placed between two neighbours, as the SQLite reorder computes
+     * it: a missing neighbour is replaced by the other one's current successor or predecessor
+     * @param ranks Ranks of the other rows in the list
+     * @param before Rank of the row that should come directly before, or null
+     * @param after Rank of the row that should come directly after, or null
+     * @return New rank, or null if other rows lie between the two neighbours
+     * @throws SQLException if the neighbours are out of order
+     */
+    static String rankBetweenNeighbours(List<String> ranks, String before, String after) throws SQLException {
+        String lower = before;
+        String upper = after;
+        for (String rank : ranks) {
+            if (before != null && after != null && rank.compareTo(before) > 0 && rank.compareTo(after) < 0) {
+                return null;
+            }
+            if (before == null && after != null && rank.compareTo(after) < 0 && (lower == null || rank.compareTo(lower) > 0)) {
+                lower = rank;
+            }
+            if (after == null && before != null && rank.compareTo(before) > 0 && (upper == null || rank.compareTo(upper) < 0)) {
+                upper = rank;
+            }
+        }
+        return rankBetween(lower, upper);
+    }
+
+    static String rankBetween(String lower, String upper) throws SQLException {
+        try {
+            return Rank.between(lower, upper);
+        } catch (IllegalArgumentException e) {
+            throw new SQLException(e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,470 @@
+package ee.vikk.kanban.repository.memory;
+
+import ee.vikk.kanban.model.Board;
+import ee.vikk.kanban.model.Column;
+import ee.vikk.kanban.model.Tag;
+import ee.vikk.kanban.model.Task;
+import ee.vikk.kanban.repository.BoardRepository;
+import ee.vikk.kanban.repository.ColumnRepository;
+import ee.vikk.kanban.repository.TagRepository;
+import ee.vikk.kanban.repository.TaskRepository;
+import ee.vikk.kanban.service.UnitOfWork;
+
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Pure in-memory storage engine behind the repository interfaces, for
+ * simulations and tests that need sub-millisecond operations without disk I/O.
+ * Records are kept in int-keyed maps with per-board and per-column indexes;
+ * a task record holds its attached tags.
+ * Reads share a read lock and each write holds the write lock, so every
+ * repository call is atomic. Stored records are never handed out or changed in
+ * place: callers get copies and writes replace whole records, which lets a unit
+ * of work undo its changes.
+ */
+public class InMemoryStorage {
+    static final Comparator<Column> COLUMN_ORDER = Comparator
+            .comparing(Column::getRank, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(Column::getId);
+    static final Comparator<Task> TASK_ORDER = Comparator
+            .comparing(Task::getRank, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(Task::getId);
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final IntObjectMap<Board> boards = new IntObjectMap<>();
+    private final IntObjectMap<Column> columns = new IntObjectMap<>();
+    private final IntObjectMap<Task> tasks = new IntObjectMap<>();
+    private final IntObjectMap<IntObjectMap<Column>> columnsByBoard = new IntObjectMap<>();
+    private final IntObjectMap<IntObjectMap<Task>> tasksByColumn = new IntObjectMap<>();
+    private final IntObjectMap<Tag> tags = new IntObjectMap<>();
+    private final Map<String, Tag> tagsByName = new HashMap<>();
+
+    private int lastBoardId;
+    private int lastColumnId;
+    private int lastTaskId;
+    private int lastTagId;
+
+    // Inverse operations of the open unit of work, newest first; null outside a unit
+    private Deque<Runnable> undoLog;
+
+    private final BoardRepository boardRepository = new InMemoryBoardRepository(this);
+    private final ColumnRepository columnRepository = new InMemoryColumnRepository(this);
+    private final TaskRepository taskRepository = new InMemoryTaskRepository(this);
+    private final TagRepository tagRepository = new InMemoryTagRepository(this);
+    private final UnitOfWork unitOfWork = new InMemoryUnitOfWork(this);
+
+    /**
+     * Storage operation run under one of the storage locks
+     * @param <T> Result type
+     */
+    @FunctionalInterface
+    interface Action<T> {
+        T run() throws SQLException;
+    }
+
+    // Getters
+    public BoardRepository getBoardRepository() {
+        return boardRepository;
+    }
+
+    public ColumnRepository getColumnRepository() {
+        return columnRepository;
+    }
+
+    public TaskRepository getTaskRepository() {
+        return taskRepository;
+    }
+
+    public TagRepository getTagRepository() {
+        return tagRepository;
+    }
+
+    public UnitOfWork getUnitOfWork() {
+        return unitOfWork;
+    }
+
+    /**
+     * Run an action under the shared read lock
+     * @param action Read-only action
+     * @param <T> Result type
+     * @return Result of the action
+     * @throws SQLException if the action fails
+     */
+    <T> T read(Action<T> action) throws SQLException {
+        lock.readLock().lock();
+        try {
+            return action.run();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Run an action under the exclusive write lock. If it fails outside a unit
+     * of work, its changes are undone so the call stays atomic.
+     * @param action Writing action
+     * @param <T> Result type
+     * @return Result of the action
+     * @throws SQLException if the action fails
+     */
+    <T> T write(Action<T> action) throws SQLException {
+        lock.writeLock().lock();
+        boolean ownUndoLog = undoLog == null;
+        if (ownUndoLog) {
+            undoLog = new ArrayDeque<>();
+        }
+        int mark = undoLog.size();
+        boolean completed = false;
+        try {
+            T result = action.run();
+            completed = true;
+            return result;
+        } finally {
+            if (!completed) {
+                undoTo(mark);
+            }
+            if (ownUndoLog) {
+                undoLog = null;
+            }
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Start a unit of work on the current thread, holding the write lock until it ends
+     */
+    void beginUnit() {
+        lock.writeLock().lock();
+        undoLog = new ArrayDeque<>();
+    }
+
+    /**
+     * End the current thread's unit of work and release the write lock
+     * @param commit true to keep the changes, false to undo them
+     */
+    void endUnit(boolean commit) {
+        try {
+            if (!commit) {
+                undoTo(0);
+            }
+        } finally {
+            undoLog = null;
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Check if the current thread has an open unit of work
+     * @return true if a unit of work is open on this thread
+     */
+    boolean isInUnit() {
+        return lock.isWriteLockedByCurrentThread() && undoLog != null;
+    }
+
+    /**
+     * Get a savepoint marker for the open unit of work
+     * @return Number of changes recorded so far
+     */
+    int undoMark() {
+        return undoLog.size();
+    }
+
+    /**
+     * Undo changes recorded after a savepoint marker
+     * @param mark Marker returned by undoMark
+     */
+    void undoTo(int mark) {
+        while (undoLog.size() > mark) {
+            undoLog.pop().run();
+        }
+    }
+
+    // Record access; callers must hold a lock, and writes the write lock
+
+    Board board(int id) {
+        return boards.get(id);
+    }
+
+    List<Board> allBoards() {
+        return boards.values();
+    }
+
+    Column column(int id) {
+        return columns.get(id);
+    }
+
+    List<Column> columnsOfBoard(int boardId) {
+        IntObjectMap<Column> index = columnsByBoard.get(boardId);
+        List<Column> result = index != null ? index.values() : new ArrayList<>();
+        result.sort(COLUMN_ORDER);
+        return result;
+    }
+
+    Task task(int id) {
+        return tasks.get(id);
+    }
+
+    List<Task> allTasks() {
+        return tasks.values();
+    }
+
+    List<Task> tasksOfColumn(int columnId) {
+        IntObjectMap<Task> index = tasksByColumn.get(columnId);
+        List<Task> result = index != null ? index.values() : new ArrayList<>();
+        result.sort(TASK_ORDER);
+        return result;
+    }
+
+    /**
+     * Get the last task of a column without sorting the whole column
+     * @param columnId Column ID
+     * @return Task with the highest rank, or null for an empty column
+     */
+    Task lastTaskOfColumn(int columnId) {
+        IntObjectMap<Task> index = tasksByColumn.get(columnId);
+        return index != null ? index.values().stream().max(TASK_ORDER).orElse(null) : null;
+    }
+
+    Tag tag(int id) {
+        return tags.get(id);
+    }
+
+    Tag tagNamed(String name) {
+        return tagsByName.get(name);
+    }
+
+    List<Tag> allTags() {
+        return tags.values();
+    }
+
+    int nextBoardId() {
+        return ++lastBoardId;
+    }
+
+    int nextColumnId() {
+        return ++lastColumnId;
+    }
+
+    int nextTaskId() {
+        return ++lastTaskId;
+    }
+
+    int nextTagId() {
+        return ++lastTagId;
+    }
+
+    void putBoard(Board board) {
+        Board previous = boards.put(board.getId(), board);
+        recordUndo(board.getId(), previous, this::restoreBoard);
+    }
+
+    /**
+     * Remove a board with its columns and their tasks, as the database does
+     * @param id Board ID
+     */
+    void removeBoard(int id) {
+        for (Column column : columnsOfBoard(id)) {
+            removeColumn(column.getId());
+        }
+        Board previous = boards.remove(id);
+        recordUndo(id, previous, this::restoreBoard);
+    }
+
+    void putColumn(Column column) {
+        Column previous = storeColumn(column);
+        recordUndo(column.getId(), previous, this::restoreColumn);
+    }
+
+    /**
+     * Remove a column with its tasks, as the database does
+     * @param id Column ID
+     */
+    void removeColumn(int id) {
+        for (Task task : tasksOfColumn(id)) {
+            removeTask(task.getId());
+        }
+        Column previous = unstoreColumn(id);
+        recordUndo(id, previous, this::restoreColumn);
+    }
+
+    void putTask(Task task) {
+        Task previous = storeTask(task);
+        recordUndo(task.getId(), previous, this::restoreTask);
+    }
+
+    void removeTask(int id) {
+        Task previous = unstoreTask(id);
+        recordUndo(id, previous, this::restoreTask);
+    }
+
+    void putTag(Tag tag) {
+        Tag previous = storeTag(tag);
+        recordUndo(tag.getId(), previous, this::restoreTag);
+    }
+
+    private <R> void recordUndo(int id, R previous, Restore<R> restore) {
+        if (undoLog != null) {
+            undoLog.push(() -> restore.apply(id, previous));
+        }
+    }
+
+    @FunctionalInterface
+    private interface Restore<R> {
+        void apply(int id, R previous);
+    }
+
+    private void restoreBoard(int id, Board previous) {
+        if (previous != null) {
+            boards.put(id, previous);
+        } else {
+            boards.remove(id);
+        }
+    }
+
+    private void restoreColumn(int id, Column previous) {
+        if (previous != null) {
+            storeColumn(previous);
+        } else {
+            unstoreColumn(id);
+        }
+    }
+
+    private void restoreTask(int id, Task previous) {
+        if (previous != null) {
+            storeTask(previous);
+        } else {
+            unstoreTask(id);
+        }
+    }
+
+    private void restoreTag(int id, Tag previous) {
+        if (previous != null) {
+            storeTag(previous);
+        } else {
+            tagsByName.remove(tags.remove(id).getName());
+        }
+    }
+
+    private Tag storeTag(Tag tag) {
+        Tag previous = tags.put(tag.getId(), tag);
+        if (previous != null) {
+            tagsByName.remove(previous.getName());
+        }
+        tagsByName.put(tag.getName(), tag);
+        return previous;
+    }
+
+    private Column storeColumn(Column column) {
+        Column previous = unstoreColumn(column.getId());
+        columns.put(column.getId(), column);
+        indexFor(columnsByBoard, column.getBoardId()).put(column.getId(), column);
+        return previous;
+    }
+
+    private Column unstoreColumn(int id) {
+        Column previous = columns.remove(id);
+        if (previous != null) {
+            removeFromIndex(columnsByBoard, previous.getBoardId(), id);
+        }
+        return previous;
+    }
+
+    private Task storeTask(Task task) {
+        Task previous = unstoreTask(task.getId());
+        tasks.put(task.getId(), task);
+        indexFor(tasksByColumn, task.getColumnId()).put(task.getId(), task);
+        return previous;
+    }
+
+    private Task unstoreTask(int id) {
+        Task previous = tasks.remove(id);
+        if (previous != null) {
+            removeFromIndex(tasksByColumn, previous.getColumnId(), id);
+        }
+        return previous;
+    }
+
+    private static <V> IntObjectMap<V> indexFor(IntObjectMap<IntObjectMap<V>> indexes, int parentId) {
+        IntObjectMap<V> index = indexes.get(parentId);
+        if (index == null) {
+            index = new IntObjectMap<>();
+            indexes.put(parentId, index);
+        }
+        return index;
+    }
+
+    private static <V> void removeFromIndex(IntObjectMap<IntObjectMap<V>> indexes, int parentId, int id) {
+        IntObjectMap<V> index = indexes.get(parentId);
+        if (index != null) {
+            index.remove(id);
+            if (index.isEmpty()) {
+                indexes.remove(parentId);
+            }
+        }
+    }
+
+    // Defensive copies, so callers never share a stored record
+
+    static Board copy(Board board) {
+        LocalDateTime createdAt = board.getCreatedAt() != null ? board.getCreatedAt() : LocalDateTime.now();
+        return new Board(board.getId(), board.getName(), createdAt);
+    }
+
+    static Column copy(Column column) {
+        Column copy = new Column(column.getId(), column.getBoardId(), column.getName(),
+                                 column.getPosition(), column.getColor());
+        copy.setRank(column.getRank());
+        return copy;
+    }
+
+    static Task copy(Task task) {
+        return copy(task, new HashMap<>());
+    }
+
+    /**
+     * Copy a task, reusing tag copies made earlier in the same load so every
+     * task of the load shares one Tag instance per tag
+     * @param task Task to copy
+     * @param tagCopies Tag copies by tag ID, filled in as new tags are met
+     * @return Task copy
+     */
+    static Task copy(Task task, Map<Integer, Tag> tagCopies) {
+        Task copy = new Task(task.getId(), task.getColumnId(), task.getTitle(), task.getDescription(),
+                             task.getPriority(), task.getPosition(),
+                             task.getCreatedAt() != null ? task.getCreatedAt() : LocalDateTime.now(),
+                             task.getDueDate());
+        copy.setRank(task.getRank());
+        List<Tag> tagList = new ArrayList<>(task.getTags().size());
+        for (Tag tag : task.getTags()) {
+            tagList.add(tag.getId() != null ? tagCopies.computeIfAbsent(tag.getId(), id -> copy(tag)) : copy(tag));
+        }
+        copy.setTags(tagList);
+        return copy;
+    }
+
+    static Tag copy(Tag tag) {
+        return new Tag(tag.getId(), tag.getName(), tag.getColor());
+    }
+
+    /**
+     * Reject a record field the SQLite schema declares NOT NULL
+     * @param value Field value
+     * @param field Qualified field name, such as "tasks.title"
+     * @throws SQLException if the value is null
+     */
+    static void requireNotNull(Object value, String field) throws SQLException {
+        if (value == null) {
+            throw new SQLException("NOT NULL constraint failed: " + field);
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package ee.vikk.kanban.repository.memory;
+
+import ee.vikk.kanban.model.Column;
+import ee.vikk.kanban.model.Tag;
+import ee.vikk.kanban.model.Task;
+import ee.vikk.kanban.repository.TagRepository;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tag repository backed by InMemoryStorage. Attachments live in the task
+ * records, so attaching or detaching replaces the task record.
+ */
+public class InMemoryTagRepository implements TagRepository {
+    private static final Comparator<Tag> TAG_ORDER = Comparator.comparing(Tag::getName);
+
+    private final InMemoryStorage storage;
+
+    /**
+     * Constructor with storage dependency
+     * @param storage Shared in-memory storage
+     */
+    public InMemoryTagRepository(InMemoryStorage storage) {
+        this.storage = storage;
+    }
+
+    @Override
+    public Tag save(Tag tag) throws SQLException {
+        return storage.write(() -> {
+            InMemoryStorage.requireNotNull(tag.getName(), "tags.name");
+            InMemoryStorage.requireNotNull(tag.getColor(), "tags.color");
+            if (storage.tagNamed(tag.getName()) != null) {
+                throw new SQLException("UNIQUE constraint failed: tags.name");
+            }
+            Tag stored = InMemoryStorage.copy(tag);
+            stored.setId(storage.nextTagId());
+            storage.putTag(stored);
+            tag.setId(stored.getId());
+            return tag;
+        });
+    }
+
+    @Override
+    public Tag findById(Integer id) throws SQLException {
+        return storage.read(() -> {
+            Tag stored = storage.tag(id);
+            return stored != null ? InMemoryStorage.copy(stored) : null;
+        });
+    }
+
+    @Override
+    public Tag findByName(String name) throws SQLException {
+        return storage.read(() -> {
+            Tag stored = storage.tagNamed(name);
+            return stored != null ? InMemoryStorage.copy(stored) : null;
+        });
+    }
+
+    @Override
+    public List<Tag> findAll() throws SQLException {
+        return storage.read(() -> storage.allTags().stream()
+                .sorted(TAG_ORDER)
+                .map(InMemoryStorage::copy)
+                .toList());
+    }
+
+    @Override
+    public List<Tag> findByTaskId(Integer taskId) throws SQLException {
+        return storage.read(() -> {
+            Task stored = storage.task(taskId);
+            return stored != null ? InMemoryStorage.copy(stored).getTags() : new ArrayList<>();
+        });
+    }
+
+    @Override
+    public Map<Integer, List<Tag>> findByBoardId(Integer boardId) throws SQLException {
+        return storage.read(() -> {
+            Map<Integer, List<Tag>> tagsByTask = new HashMap<>();
+            Map<Integer, Tag> tagCopies = new HashMap<>();
+            for (Column column : storage.columnsOfBoard(boardId)) {
+                for (Task stored : storage.tasksOfColumn(column.getId())) {
+                    if (!stored.getTags().isEmpty()) {
+                        tagsByTask.put(stored.getId(), InMemoryStorage.copy(stored, tagCopies).getTags());
+                    }
+                }
+            }
+            return tagsByTask;
+        });
+    }
+
+    @Override
+    public boolean attach(Integer taskId, Integer tagId) throws SQLException {
+        return storage.write(() -> attachOne(taskId, tagId));
+    }
+
+    @Override
+    public int attachAll(Integer tagId, List<Integer> taskIds) throws SQLException {
+        return storage.write(() -> {
+            int attached = 0;
+            for (Integer taskId : taskIds) {
+                if (attachOne(taskId, tagId)) {
+                    attached++;
+                }
+            }
+            return attached;
+        });
+    }
+
+    @Override
+    public boolean detach(Integer taskId, Integer tagId) throws SQLException {
+        return storage.write(() -> {
+            Task stored = storage.task(taskId);
+            if (stored == null || stored.getTags().stream().noneMatch(tag -> tagId.equals(tag.getId()))) {
+                return false;
+            }
+            List<Tag> tags = new ArrayList<>(stored.getTags());
+            tags.removeIf(tag -> tagId.equals(tag.getId()));
+            replaceTags(stored, tags);
+            return true;
+        });
+    }
+
+    /**
+     * Attach a tag to a task; callers must hold the write lock
+     * @param taskId Task ID
+     * @param tagId Tag ID
+     * @return true if attached, false if already attached or the task or tag does not exist
+     */
+    private boolean attachOne(Integer taskId, Integer tagId) {
+        Task stored = storage.task(taskId);
+        Tag tag = storage.tag(tagId);
+        if (stored == null || tag == null || stored.getTags().stream().anyMatch(t -> tagId.equals(t.getId()))) {
+            return false;
+        }
+        List<Tag> tags = new ArrayList<>(stored.getTags());
+        tags.add(tag);
+        tags.sort(TAG_ORDER);
+        replaceTags(stored, tags);
+        return true;
+    }
+
+    private void replaceTags(Task stored, List<Tag> tags) {
+        Task updated = InMemoryStorage.copy(stored);
+        updated.setTags(tags);
+        storage.putTask(updated);
+    }
+}
@@ -0,0 +1,412 @@
+package ee.vikk.kanban.repository.memory;
+
+import ee.vikk.kanban.model.Column;
+import ee.vikk.kanban.model.Rank;
+import ee.vikk.kanban.model.Tag;
+import ee.vikk.kanban.model.Task;
+import ee.vikk.kanban.model.TaskSearchResult;
+import ee.vikk.kanban.repository.TaskProjection;
+import ee.vikk.kanban.repository.TaskQuery;
+import ee.vikk.kanban.repository.TaskRepository;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Task repository backed by InMemoryStorage
+ */
+public class InMemoryTaskRepository implements TaskRepository {
+    private final InMemoryStorage storage;
+
+    /**
+     * Constructor with storage dependency
+     * @param storage Shared in-memory storage
+     */
+    public InMemoryTaskRepository(InMemoryStorage storage) {
+        this.storage = storage;
+    }
+
+    @Override
+    public Task save(Task task) throws SQLException {
+        return storage.write(() -> insert(task));
+    }
+
+    @Override
+    public Task saveAtColumnEnd(Task task) throws SQLException {
+        return storage.write(() -> {
+            InMemoryStorage.requireNotNull(task.getColumnId(), "tasks.column_id");
+            task.setPosition(0);
+            task.setRank(Rank.after(lastRank(task.getColumnId())));
+            return insert(task);
+        });
+    }
+
+    @Override
+    public List<Task> saveAll(List<Task> tasks) throws SQLException {
+        return storage.write(() -> {
+            for (Task task : tasks) {
+                insert(task);
+            }
+            return tasks;
+        });
+    }
+
+    @Override
+    public Task findById(Integer id) throws SQLException {
+        return storage.read(() -> {
+            Task stored = storage.task(id);
+            return stored != null ? InMemoryStorage.copy(stored) : null;
+        });
+    }
+
+    @Override
+    public List<Task> findByColumnId(Integer columnId) throws SQLException {
+        return storage.read(() -> storage.tasksOfColumn(columnId).stream()
+                .map(InMemoryStorage::copy)
+                .toList());
+    }
+
+    @Override
+    public List<Task> findPageByColumnId(Integer columnId, Task after, int limit, TaskProjection projection) throws SQLException {
+        return storage.read(() -> storage.tasksOfColumn(columnId).stream()
+                .filter(task -> after == null || InMemoryStorage.TASK_ORDER.compare(task, after) > 0)
+                .limit(limit)
+                .map(task -> project(task, projection))
+                .toList());
+    }
+
+    @Override
+    public Stream<Task> streamByColumnId(Integer columnId, TaskProjection projection) throws SQLException {
+        // Stored records are never changed in place, so the snapshot can be copied lazily outside the lock
+        List<Task> snapshot = storage.read(() -> storage.tasksOfColumn(columnId));
+        return snapshot.stream().map(task -> project(task, projection));
+    }
+
+    @Override
+    public List<TaskSearchResult> search(Integer boardId, List<String> terms, int limit) throws SQLException {
+        if (terms.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return storage.read(() -> {
+            List<TaskSearchResult> results = new ArrayList<>();
+            for (Column column : storage.columnsOfBoard(boardId)) {
+                for (Task task : storage.tasksOfColumn(column.getId())) {
+                    TaskSearchResult result = match(task, terms);
+                    if (result != null) {
+                        results.add(result);
+                    }
+                }
+            }
+            return results.stream()
+                    .sorted(Comparator.comparingDouble(TaskSearchResult::getScore))
+                    .limit(limit)
+                    .toList();
+        });
+    }
+
+    @Override
+    public List<Task> findByQuery(TaskQuery query) throws SQLException {
+        return storage.read(() -> storage.allTasks().stream()
+                .filter(task -> matches(task, query))
+                .sorted(Comparator.comparing(Task::getColumnId).thenComparing(InMemoryStorage.TASK_ORDER))
+                .limit(query.getLimit() != null ? query.getLimit() : Long.MAX_VALUE)
+                .map(task -> project(task, query.getProjection()))
+                .toList());
+    }
+
+    @Override
+    public void update(Task task) throws SQLException {
+        storage.write(() -> replace(task));
+    }
+
+    @Override
+    public boolean updatePriority(Integer id, Task.Priority priority) throws SQLException {
+        return storage.write(() -> {
+            Task stored = storage.task(id);
+            if (stored == null) {
+                return false;
+            }
+            Task updated = InMemoryStorage.copy(stored);
+            updated.setPriority(priority);
+            storage.putTask(updated);
+            return true;
+        });
+    }
+
+    @Override
+    public boolean updateContent(Integer id, String title, String description) throws SQLException {
+        return storage.write(() -> {
+            Task stored = storage.task(id);
+            if (stored == null) {
+                return false;
+            }
+            InMemoryStorage.requireNotNull(title, "tasks.title");
+            Task updated = InMemoryStorage.copy(stored);
+            updated.setTitle(title);
+            updated.setDescription(description);
+            storage.putTask(updated);
+            return true;
+        });
+    }
+
+    @Override
+    public boolean moveToColumnEnd(Integer id, Integer columnId) throws SQLException {
+        return storage.write(() -> {
+            Task stored = storage.task(id);
+            if (stored == null || storage.column(columnId) == null) {
+                return false;
+            }
+            Task updated = InMemoryStorage.copy(stored);
+            updated.setColumnId(columnId);
+            updated.setRank(Rank.after(lastRank(columnId)));
+            storage.putTask(updated);
+            return true;
+        });
+    }
+
+    @Override
+    public String reorder(Integer id, Integer beforeId, Integer afterId) throws SQLException {
+        return storage.write(() -> {
+            Task stored = storage.task(id);
+            if (stored == null) {
+                return null;
+            }
+            Task before = neighbour(beforeId);
+            Task after = neighbour(afterId);
+            if (before == null && after == null) {
+                throw new SQLException("NOT NULL constraint failed: tasks.column_id");
+            }
+            Integer columnId = before != null ? before.getColumnId() : after.getColumnId();
+            List<String> others = storage.tasksOfColumn(columnId).stream()
+                    .filter(task -> !task.getId().equals(id))
+                    .map(Task::getRank)
+                    .toList();
+            String rank = InMemoryColumnRepository.rankBetweenNeighbours(others,
+                    before != null ? before.getRank() : null,
+                    after != null ? after.getRank() : null);
+            if (rank == null) {
+                return null;
+            }
+            Task updated = InMemoryStorage.copy(stored);
+            updated.setColumnId(columnId);
+            updated.setRank(rank);
+            storage.putTask(updated);
+            return rank;
+        });
+    }
+
+    @Override
+    public int rebalanceRanks(Integer columnId) throws SQLException {
+        return storage.write(() -> {
+            List<Task> ordered = storage.tasksOfColumn(columnId);
+            List<String> ranks = Rank.spread(ordered.size());
+            for (int i = 0; i < ordered.size(); i++) {
+                Task updated = InMemoryStorage.copy(ordered.get(i));
+                updated.setRank(ranks.get(i));
+                storage.putTask(updated);
+            }
+            return ordered.size();
+        });
+    }
+
+    @Override
+    public int updateAll(List<Task> tasks) throws SQLException {
+        return storage.write(() -> {
+            int updated = 0;
+            for (Task task : tasks) {
+                if (replace(task)) {
+                    updated++;
+                }
+            }
+            return updated;
+        });
+    }
+
+    @Override
+    public boolean deleteById(Integer id) throws SQLException {
+        return storage.write(() -> {
+            if (storage.task(id) == null) {
+                return false;
+            }
+            storage.removeTask(id);
+            return true;
+        });
+    }
+
+    @Override
+    public int deleteAllById(List<Integer> ids) throws SQLException {
+        return storage.write(() -> {
+            int deleted = 0;
+            for (Integer id : ids) {
+                if (storage.task(id) != null) {
+                    storage.removeTask(id);
+                    deleted++;
+                }
+            }
+            return deleted;
+        });
+    }
+
+    /**
+     * Store a new task, ranking it last in its column if it has no rank
+     * @param task Task to insert; receives the generated ID and rank
+     * @return The same task
+     * @throws SQLException if a required field is missing
+     */
+    private Task insert(Task task) throws SQLException {
+        InMemoryStorage.requireNotNull(task.getColumnId(), "tasks.column_id");
+        InMemoryStorage.requireNotNull(task.getTitle(), "tasks.title");
+        InMemoryStorage.requireNotNull(task.getPosition(), "tasks.position");
+
+        Task stored = InMemoryStorage.copy(task);
+        stored.setId(storage.nextTaskId());
+        if (stored.getRank() == null) {
+            stored.setRank(Rank.after(lastRank(task.getColumnId())));
+        }
+        storage.putTask(stored);
+
+        task.setId(stored.getId());
+        task.setRank(stored.getRank());
+        return task;
+    }
+
+    /**
+     * Replace every stored field of an existing task; a null rank keeps the current one
+     * @param task Task with new values
+     * @return true if the task exists
+     * @throws SQLException if a required field is missing
+     */
+    private boolean replace(Task task) throws SQLException {
+        Task stored = storage.task(task.getId());
+        if (stored == null) {
+            return false;
+        }
+        InMemoryStorage.requireNotNull(task.getColumnId(), "tasks.column_id");
+        InMemoryStorage.requireNotNull(task.getTitle(), "tasks.title");
+        InMemoryStorage.requireNotNull(task.getPosition(), "tasks.position");
+
+        Task updated = InMemoryStorage.copy(task);
+        updated.setCreatedAt(stored.getCreatedAt());
+        updated.setTags(stored.getTags());
+        if (updated.getRank() == null) {
+            updated.setRank(stored.getRank());
+        }
+        storage.putTask(updated);
+        return true;
+    }
+
+    /**
+     * Look up a reorder neighbour, which must exist when given
+     * @param id Task ID, or null for no neighbour
+     * @return Stored task or null if no neighbour was given
+     * @throws SQLException if the neighbour does not exist
+     */
+    private Task neighbour(Integer id) throws SQLException {
+        if (id == null) {
+            return null;
+        }
+        Task task = storage.task(id);
+        if (task == null) {
+            throw new SQLException("Neighbour task not found: " + id);
+        }
+        return task;
+    }
+
+    /**
+     * Check a stored task against every predicate of a query, as the SQLite query does
+     * @param task Stored task
+     * @param query Task filter
+     * @return true if the task matches
+     */
+    private boolean matches(Task task, TaskQuery query) {
+        for (TaskQuery.Filter filter : query.getFilters()) {
+            boolean match = switch (filter) {
+                case BOARD -> query.getBoardId().equals(storage.column(task.getColumnId()).getBoardId());
+                case COLUMN -> query.getColumnIds().contains(task.getColumnId());
+                case PRIORITY -> task.getPriority() != null && query.getPriorities().contains(task.getPriority());
+                case TAG -> task.getTags().stream().anyMatch(tag -> query.getTagIds().contains(tag.getId()));
+                case DUE_FROM -> task.getDueDate() != null && !task.getDueDate().isBefore(query.getDueFrom());
+                case DUE_TO -> task.getDueDate() != null && !task.getDueDate().isAfter(query.getDueTo());
+                case CREATED_FROM -> !task.getCreatedAt().isBefore(query.getCreatedFrom());
+                case CREATED_TO -> task.getCreatedAt().isBefore(query.getCreatedTo());
+                case TEXT -> match(task, query.getTerms()) != null;
+            };
+            if (!match) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Match a task against prefix terms the way the SQLite search does, scoring
+     * title hits ten times description hits
+     * @param task Stored task
+     * @param terms Lowercase search terms
+     * @return Search result, or null if some term matches no word of the task
+     */
+    private static TaskSearchResult match(Task task, List<String> terms) {
+        String[] titleWords = words(task.getTitle());
+        String[] descriptionWords = words(task.getDescription());
+        double score = 0;
+        for (String term : terms) {
+            int titleHits = countPrefixHits(titleWords, term);
+            int descriptionHits = countPrefixHits(descriptionWords, term);
+            if (titleHits + descriptionHits == 0) {
+                return null;
+            }
+            score -= 10.0 * titleHits + descriptionHits;
+        }
+
+        String text = countPrefixHits(titleWords, terms.get(0)) > 0 || task.getDescription() == null
+                ? task.getTitle() : task.getDescription();
+        StringBuilder snippet = new StringBuilder();
+        for (String word : text.split("\\s+")) {
+            String normalized = word.toLowerCase(Locale.ROOT);
+            boolean hit = terms.stream().anyMatch(normalized::startsWith);
+            if (!snippet.isEmpty()) {
+                snippet.append(' ');
+            }
+            snippet.append(hit ? TaskSearchResult.MATCH_START + word + TaskSearchResult.MATCH_END : word);
+        }
+        return new TaskSearchResult(project(task, TaskProjection.SUMMARY), snippet.toString(), score);
+    }
+
+    private static String[] words(String text) {
+        return text != null ? text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+") : new String[0];
+    }
+
+    private static int countPrefixHits(String[] words, String term) {
+        int hits = 0;
+        for (String word : words) {
+            if (word.startsWith(term)) {
+                hits++;
+            }
+        }
+        return hits;
+    }
+
+    static Task project(Task stored, TaskProjection projection) {
+        return project(stored, projection, new HashMap<>());
+    }
+
+    static Task project(Task stored, TaskProjection projection, Map<Integer, Tag> tagCopies) {
+        Task task = InMemoryStorage.copy(stored, tagCopies);
+        if (projection == TaskProjection.SUMMARY) {
+            task.setDescription(null);
+            task.setDescriptionLoaded(false);
+        }
+        return task;
+    }
+
+    private String lastRank(int columnId) {
+        Task last = storage.lastTaskOfColumn(columnId);
+        return last != null ? last.getRank() : null;
+    }
+}
@@ -0,0 +1,62 @@
+package ee.vikk.kanban.repository.memory;
+
+import ee.vikk.kanban.service.UnitOfWork;
+import ee.vikk.kanban.service.ValidationException;
+
+import java.sql.SQLException;
+
+/**
+ * Unit of work over InMemoryStorage. It holds the storage write lock for its
+ * whole duration, so it is isolated from other threads, and undoes its changes
+ * from the storage's undo log when the work fails.
+ */
+public class InMemoryUnitOfWork implements UnitOfWork {
+    private final InMemoryStorage storage;
+    private final Transaction transaction = new InMemoryTransaction();
+
+    /**
+     * Constructor with storage dependency
+     * @param storage Storage the repositories share
+     */
+    public InMemoryUnitOfWork(InMemoryStorage storage) {
+        this.storage = storage;
+    }
+
+    @Override
+    public <T> T execute(Work<T> work) throws SQLException, ValidationException {
+        if (storage.isInUnit()) {
+            return work.run(transaction);
+        }
+
+        storage.beginUnit();
+        boolean completed = false;
+        try {
+            T result = work.run(transaction);
+            completed = true;
+            return result;
+        } finally {
+            storage.endUnit(completed);
+        }
+    }
+
+    /**
+     * Transaction handle with savepoints backed by undo log markers
+     */
+    private class InMemoryTransaction implements Transaction {
+
+        @Override
+        public <T> T savepoint(Work<T> work) throws SQLException, ValidationException {
+            int mark = storage.undoMark();
+            boolean completed = false;
+            try {
+                T result = work.run(this);
+                completed = true;
+                return result;
+            } finally {
+                if (!completed) {
+                    storage.undoTo(mark);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package ee.vikk.kanban.repository.memory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Open-addressing hash map from primitive int keys to non-null values.
+ * Keys are stored unboxed and lookups probe linearly, so a get allocates
+ * nothing. Not thread-safe; InMemoryStorage guards all access with its lock.
+ * @param <V> Value type
+ */
+final class IntObjectMap<V> {
+    private int[] keys;
+    private Object[] values;
+    private int size;
+    private int mask;
+
+    /**
+     * Create an empty map
+     */
+    IntObjectMap() {
+        this(8);
+    }
+
+    /**
+     * Create an empty map sized for the expected number of entries
+     * @param expectedSize Expected number of entries
+     */
+    IntObjectMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(4, expectedSize * 2 - 1)) << 1;
+        allocate(capacity);
+    }
+
+    /**
+     * Get value for a key
+     * @param key Key
+     * @return Value or null if absent
+     */
+    @SuppressWarnings("unchecked")
+    V get(int key) {
+        for (int i = slot(key); values[i] != null; i = (i + 1) & mask) {
+            if (keys[i] == key) {
+                return (V) values[i];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Associate a value with a key
+     * @param key Key
+     * @param value Non-null value
+     * @return Previous value or null if absent
+     */
+    @SuppressWarnings("unchecked")
+    V put(int key, V value) {
+        Objects.requireNonNull(value, "value");
+        if ((size + 1) * 2 > keys.length) {
+            resize();
+        }
+        int i = slot(key);
+        for (; values[i] != null; i = (i + 1) & mask) {
+            if (keys[i] == key) {
+                V previous = (V) values[i];
+                values[i] = value;
+                return previous;
+            }
+        }
+        keys[i] = key;
+        values[i] = value;
+        size++;
+        return null;
+    }
+
+    /**
+     * Remove a key
+     * @param key Key
+     * @return Removed value or null if absent
+     */
+    @SuppressWarnings("unchecked")
+    V remove(int key) {
+        for (int i = slot(key); values[i] != null; i = (i + 1) & mask) {
+            if (keys[i] == key) {
+                V previous = (V) values[i];
+                closeGap(i);
+                size--;
+                return previous;
+            }
+        }
+        return null;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Copy all values into a list, in no particular order
+     * @return New list of values
+     */
+    @SuppressWarnings("unchecked")
+    List<V> values() {
+        List<V> result = new ArrayList<>(size);
+        for (Object value : values) {
+            if (value != null) {
+                result.add((V) value);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Shift later entries of the probe run back into a freed slot, so lookups
+     * never need tombstones
+     * @param gap Freed slot
+     */
+    private void closeGap(int gap) {
+        for (int i = (gap + 1) & mask; values[i] != null; i = (i + 1) & mask) {
+            int home = slot(keys[i]);
+            boolean homeInRange = gap <= i ? (home > gap && home <= i) : (home > gap || home <= i);
+            if (!homeInRange) {
+                keys[gap] = keys[i];
+                values[gap] = values[i];
+                gap = i;
+            }
+        }
+        values[gap] = null;
+    }
+
+    private void resize() {
+        int[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(oldKeys.length * 2);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldValues[i] != null) {
+                int j = slot(oldKeys[i]);
+                while (values[j] != null) {
+                    j = (j + 1) & mask;
+                }
+                keys[j] = oldKeys[i];
+                values[j] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+    }
+
+    private int slot(int key) {
+        int hash = key * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+}
@@ -0,0 +1,260 @@
+package ee.vikk.kanban.service;
+
+import ee.vikk.kanban.model.Board;
+import ee.vikk.kanban.model.Column;
+import ee.vikk.kanban.model.Task;
+import ee.vikk.kanban.model.TaskSearchResult;
+import ee.vikk.kanban.repository.TaskQuery;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Asynchronous facade over the board, column and task services, so UI threads
+ * never wait on SQL. Every call runs on a background executor and returns a
+ * CompletableFuture that fails with a CompletionException wrapping the
+ * SQLException or ValidationException of the service.
+ * Writes to one board, and reloads of it, run one at a time in submission order;
+ * calls for different boards run concurrently.
+ */
+public class AsyncKanbanService {
+    private static final ExecutorService BACKGROUND = newBackgroundExecutor();
+
+    private final BoardService boardService;
+    private final ColumnService columnService;
+    private final TaskService taskService;
+    private final Executor executor;
+
+    // Last queued call per board; the next call for the board starts after it completes
+    private final ConcurrentHashMap<Integer, CompletableFuture<?>> boardQueues = new ConcurrentHashMap<>();
+
+    /**
+     * Service call run on the background executor
+     * @param <T> Result type
+     */
+    @FunctionalInterface
+    public interface Call<T> {
+        T run() throws SQLException, ValidationException;
+    }
+
+    /**
+     * Constructor with service and executor dependencies
+     * @param boardService Board service
+     * @param columnService Column service
+     * @param taskService Task service
+     * @param executor Executor that runs the service calls
+     */
+    public AsyncKanbanService(BoardService boardService, ColumnService columnService, TaskService taskService,
+                              Executor executor) {
+        this.boardService = boardService;
+        this.columnService = columnService;
+        this.taskService = taskService;
+        this.executor = executor;
+    }
+
+    /**
+     * Constructor with service dependencies, using the shared background executor
+     * @param boardService Board service
+     * @param columnService Column service
+     * @param taskService Task service
+     */
+    public AsyncKanbanService(BoardService boardService, ColumnService columnService, TaskService taskService) {
+        this(boardService, columnService, taskService, BACKGROUND);
+    }
+
+    /**
+     * Default constructor with timed services
+     */
+    public AsyncKanbanService() {
+        this(new TimedBoardService(), new TimedColumnService(), new TimedTaskService());
+    }
+
+    /**
+     * Create a board with its default columns
+     * @param name Board name
+     * @return Future of the created board
+     */
+    public CompletableFuture<Board> createBoard(String name) {
+        return submit(() -> boardService.createBoard(name));
+    }
+
+    /**
+     * Load all boards
+     * @return Future of the boards, newest first
+     */
+    public CompletableFuture<List<Board>> getAllBoards() {
+        return submit(boardService::getAllBoards);
+    }
+
+    /**
+     * Load a board with its columns and task summaries after every write queued for it
+     * @param boardId Board ID
+     * @return Future of the board, or of null if it does not exist
+     */
+    public CompletableFuture<Board> getBoardWithTaskSummaries(Integer boardId) {
+        return submitForBoard(boardId, () -> boardService.getBoardWithTaskSummaries(boardId));
+    }
+
+    /**
+     * Add a column to the end of a board
+     * @param boardId Board ID
+     * @param columnName Column name
+     * @return Future of the created column
+     */
+    public CompletableFuture<Column> addColumn(Integer boardId, String columnName) {
+        return submitForBoard(boardId, () -> columnService.addColumn(boardId, columnName));
+    }
+
+    /**
+     * Create a task at the end of a column
+     * @param boardId ID of the board the column belongs to
+     * @param columnId Column ID
+     * @param title Task title
+     * @param description Task description, may be null
+     * @return Future of the created task
+     */
+    public CompletableFuture<Task> createTask(Integer boardId, Integer columnId, String title, String description) {
+        return submitForBoard(boardId, () -> taskService.createTask(columnId, title, description));
+    }
+
+    /**
+     * Load the description of a task after every write queued for its board
+     * @param boardId ID of the board the task belongs to
+     * @param taskId Task ID
+     * @return Future of the description, which may be null
+     */
+    public CompletableFuture<String> getTaskDescription(Integer boardId, Integer taskId) {
+        return submitForBoard(boardId, () -> taskService.getTaskDescription(taskId));
+    }
+
+    /**
+     * Search the tasks of a board after every write queued for it
+     * @param boardId Board ID
+     * @param query Search text
+     * @param limit Maximum number of results
+     * @return Future of the results, most relevant first
+     */
+    public CompletableFuture<List<TaskSearchResult>> searchTasks(Integer boardId, String query, int limit) {
+        return submitForBoard(boardId, () -> taskService.search(boardId, query, limit));
+    }
+
+    /**
+     * Find the tasks matching a query after every write queued for their board
+     * @param boardId Board ID that orders the call
+     * @param query Task filter
+     * @return Future of the matching tasks, ordered by column and rank
+     */
+    public CompletableFuture<List<Task>> findTasks(Integer boardId, TaskQuery query) {
+        return submitForBoard(boardId, () -> taskService.findTasks(query));
+    }
+
+    /**
+     * Update the title and description of a task
+     * @param boardId ID of the board the task belongs to
+     * @param taskId Task ID
+     * @param title New title
+     * @param description New description, may be null
+     * @return Future completed when the task is updated
+     */
+    public CompletableFuture<Void> updateTask(Integer boardId, Integer taskId, String title, String description) {
+        return submitForBoard(boardId, () -> {
+            taskService.updateTask(taskId, title, description);
+            return null;
+        });
+    }
+
+    /**
+     * Move a task to the end of another column
+     * @param boardId ID of the board the task belongs to
+     * @param taskId Task ID
+     * @param targetColumnId Target column ID
+     * @return Future completed when the task is moved
+     */
+    public CompletableFuture<Void> moveTask(Integer boardId, Integer taskId, Integer targetColumnId) {
+        return submitForBoard(boardId, () -> {
+            taskService.moveTask(taskId, targetColumnId);
+            return null;
+        });
+    }
+
+    /**
+     * Delete a task
+     * @param boardId ID of the board the task belongs to
+     * @param taskId Task ID
+     * @return Future completed when the task is deleted
+     */
+    public CompletableFuture<Void> deleteTask(Integer boardId, Integer taskId) {
+        return submitForBoard(boardId, () -> {
+            taskService.deleteTask(taskId);
+            return null;
+        });
+    }
+
+    /**
+     * Run a call on the background executor
+     * @param call Service call
+     * @param <T> Result type
+     * @return Future of the call result
+     */
+    public <T> CompletableFuture<T> submit(Call<T> call) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        executor.execute(() -> complete(result, call));
+        return result;
+    }
+
+    /**
+     * Run a call on the background executor after every call queued earlier
+     * for the same board, whether those succeed or fail
+     * @param boardId Board ID that orders the call
+     * @param call Service call
+     * @param <T> Result type
+     * @return Future of the call result
+     */
+    public <T> CompletableFuture<T> submitForBoard(Integer boardId, Call<T> call) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        boardQueues.compute(boardId, (id, previous) -> {
+            if (previous == null) {
+                executor.execute(() -> complete(result, call));
+            } else {
+                previous.whenCompleteAsync((ignored, error) -> complete(result, call), executor);
+            }
+            return result;
+        });
+        // Drop the queue entry once idle, unless a newer call has already replaced it
+        result.whenComplete((ignored, error) -> boardQueues.remove(boardId, result));
+        return result;
+    }
+
+    private static <T> void complete(CompletableFuture<T> result, Call<T> call) {
+        try {
+            result.complete(call.run());
+        } catch (Exception e) {
+            result.completeExceptionally(new CompletionException(e));
+        }
+    }
+
+    /**
+     * Create the shared executor: one virtual thread per call where the runtime
+     * supports it, otherwise a cached pool of daemon threads
+     * @return Background executor
+     */
+    static ExecutorService newBackgroundExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            AtomicInteger threadNumber = new AtomicInteger();
+            return Executors.newCachedThreadPool(runnable -> {
+                Thread thread = new Thread(runnable, "kanban-service-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+}
@@ -1,9 +1,15 @@
 package ee.vikk.kanban.service;
 
+import ee.vikk.kanban.metrics.TimedBoardRepository;
+import ee.vikk.kanban.metrics.TimedColumnRepository;
 import ee.vikk.kanban.model.Board;
 import ee.vikk.kanban.model.BoardDAO;
 import ee.vikk.kanban.model.Column;
 import ee.vikk.kanban.model.ColumnDAO;
+import ee.vikk.kanban.model.Rank;
+import ee.vikk.kanban.repository.BoardRepository;
+import ee.vikk.kanban.repository.ColumnRepository;
+import ee.vikk.kanban.repository.TaskProjection;
 
 import java.sql.SQLException;
 import java.time.LocalDateTime;
@@ -13,28 +19,42 @@ import java.util.List;
  * Service class for Board business logic
  */
 public class BoardService {
-    private final BoardDAO boardDAO;
-    private final ColumnDAO columnDAO;
+    private final BoardRepository boardRepository;
+    private final ColumnRepository columnRepository;
+    private final UnitOfWork unitOfWork;
 
     /**
-     * Constructor with DAO dependencies
-     * @param boardDAO Board data access object
-     * @param columnDAO Column data access object
+     * Constructor with storage and transaction dependencies
+     * @param boardRepository Board storage
+     * @param columnRepository Column storage
+     * @param unitOfWork Unit of work for multi-statement operations
      */
-    public BoardService(BoardDAO boardDAO, ColumnDAO columnDAO) {
-        this.boardDAO = boardDAO;
-        this.columnDAO = columnDAO;
+    public BoardService(BoardRepository boardRepository, ColumnRepository columnRepository, UnitOfWork unitOfWork) {
+        this.boardRepository = boardRepository;
+        this.columnRepository = columnRepository;
+        this.unitOfWork = unitOfWork;
     }
 
     /**
-     * Default constructor with default DAOs
+     * Constructor with storage dependencies
+     * @param boardRepository Board storage
+     * @param columnRepository Column storage
+     */
+    public BoardService(BoardRepository boardRepository, ColumnRepository columnRepository) {
+        this(boardRepository, columnRepository, new JdbcUnitOfWork());
+    }
+
+    /**
+     * Default constructor with timed default DAOs behind the shared metadata cache
      */
     public BoardService() {
-        this(new BoardDAO(), new ColumnDAO());
+        this(new CachingBoardRepository(new TimedBoardRepository(new BoardDAO()), MetadataCache.shared()),
+             new CachingColumnRepository(new TimedColumnRepository(new ColumnDAO()), MetadataCache.shared()));
     }
 
     /**
      * Create a new board with default columns (TODO, IN PROGRESS, DONE)
+     * in a single transaction
      * @param name Board name
      * @return Created board with default columns
      * @throws SQLException if database operation fails
@@ -43,16 +63,16 @@ public class BoardService {
     public Board createBoard(String name) throws SQLException, ValidationException {
         validateBoardName(name);
         
-        // Create board
-        Board board = new Board(name);
-        board.setCreatedAt(LocalDateTime.now());
-        board = boardDAO.save(board);
-        
-        // Create default columns
-        createDefaultColumns(board.getId());
-        
-        // Load board with columns
-        return getBoardWithColumns(board.getId());
+        return unitOfWork.execute(tx -> {
+            // Create board
+            Board board = new Board(name);
+            board.setCreatedAt(LocalDateTime.now());
+            board = boardRepository.save(board);
+            
+            // Create default columns; saved columns already carry their IDs
+            board.setColumns(createDefaultColumns(board.getId()));
+            return board;
+        });
     }
 
     /**
@@ -62,21 +82,42 @@ public class BoardService {
      * @throws SQLException if database operation fails
      */
     public Board getBoardWithColumns(Integer boardId) throws SQLException {
-        Board board = boardDAO.findById(boardId);
+        Board board = boardRepository.findById(boardId);
         if (board != null) {
-            List<Column> columns = columnDAO.findByBoardId(boardId);
+            List<Column> columns = columnRepository.findByBoardId(boardId);
             board.setColumns(columns);
         }
         return board;
     }
 
+    /**
+     * Get board by ID with its columns, each column's ordered tasks and their tags
+     * @param boardId Board ID
+     * @return Fully populated board or null if not found
+     * @throws SQLException if database operation fails
+     */
+    public Board getBoardWithTasks(Integer boardId) throws SQLException {
+        return boardRepository.findByIdWithTasks(boardId);
+    }
+
+    /**
+     * Get board by ID with its columns and task summaries for display. Task
+     * descriptions are not loaded, so the load does not grow with their length.
+     * @param boardId Board ID
+     * @return Populated board or null if not found
+     * @throws SQLException if database operation fails
+     */
+    public Board getBoardWithTaskSummaries(Integer boardId) throws SQLException {
+        return boardRepository.findByIdWithTasks(boardId, TaskProjection.SUMMARY);
+    }
+
     /**
      * Get all boards
      * @return List of all boards
      * @throws SQLException if database operation fails
      */
     public List<Board> getAllBoards() throws SQLException {
-        return boardDAO.findAll();
+        return boardRepository.findAll();
     }
 
     /**
@@ -89,41 +130,47 @@ public class BoardService {
     public void updateBoardName(Integer boardId, String newName) throws SQLException, ValidationException {
         validateBoardName(newName);
         
-        Board board = boardDAO.findById(boardId);
+        Board board = boardRepository.findById(boardId);
         if (board == null) {
             throw new ValidationException("Board not found with ID: " + boardId);
         }
         
         board.setName(newName);
-        boardDAO.update(board);
+        boardRepository.update(board);
     }
 
     /**
-     * Delete board and all its data
+     * Delete board and all its data: columns, tasks and tag assignments
      * @param boardId Board ID
-     * @throws SQLException if database operation fails
+     * @throws SQLException if database operation fails; nothing is deleted
      */
     public void deleteBoard(Integer boardId) throws SQLException {
-        boardDAO.deleteById(boardId);
+        boardRepository.deleteById(boardId);
     }
 
     /**
      * Create default columns for a board
      * @param boardId Board ID
+     * @return Created columns in rank order
      * @throws SQLException if database operation fails
      */
-    private void createDefaultColumns(Integer boardId) throws SQLException {
+    private List<Column> createDefaultColumns(Integer boardId) throws SQLException {
         Column todoColumn = new Column(boardId, "TODO", 1);
         todoColumn.setColor("#FF6B6B"); // Red
-        columnDAO.save(todoColumn);
         
         Column inProgressColumn = new Column(boardId, "IN PROGRESS", 2);
         inProgressColumn.setColor("#4ECDC4"); // Teal
-        columnDAO.save(inProgressColumn);
         
         Column doneColumn = new Column(boardId, "DONE", 3);
         doneColumn.setColor("#45B7D1"); // Blue
-        columnDAO.save(doneColumn);
+
+        List<Column> columns = List.of(todoColumn, inProgressColumn, doneColumn);
+        List<String> ranks = Rank.spread(columns.size());
+        for (int i = 0; i < columns.size(); i++) {
+            columns.get(i).setRank(ranks.get(i));
+        }
+
+        return columnRepository.saveAll(columns);
     }
 
     /**
@@ -0,0 +1,77 @@
+package ee.vikk.kanban.service;
+
+/**
+ * Snapshot of the counters of one LruCache
+ */
+public class CacheStats {
+    private final long hits;
+    private final long misses;
+    private final long evictions;
+    private final int entryCount;
+    private final long weight;
+    private final long maxWeight;
+
+    /**
+     * Constructor with all fields
+     * @param hits Lookups answered from the cache
+     * @param misses Lookups that had to load the value
+     * @param evictions Entries dropped to stay within the weight limit
+     * @param entryCount Entries currently cached
+     * @param weight Current total weight in estimated bytes
+     * @param maxWeight Weight limit in estimated bytes
+     */
+    public CacheStats(long hits, long misses, long evictions, int entryCount, long weight, long maxWeight) {
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+        this.entryCount = entryCount;
+        this.weight = weight;
+        this.maxWeight = maxWeight;
+    }
+
+    /**
+     * Get the share of lookups answered from the cache
+     * @return Hit rate between 0 and 1, or 0 before the first lookup
+     */
+    public double getHitRate() {
+        long lookups = hits + misses;
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+
+    // Getters
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public long getEvictions() {
+        return evictions;
+    }
+
+    public int getEntryCount() {
+        return entryCount;
+    }
+
+    public long getWeight() {
+        return weight;
+    }
+
+    public long getMaxWeight() {
+        return maxWeight;
+    }
+
+    @Override
+    public String toString() {
+        return "CacheStats{" +
+                "hits=" + hits +
+                ", misses=" + misses +
+                ", evictions=" + evictions +
+                ", hitRate=" + String.format("%.3f", getHitRate()) +
+                ", entries=" + entryCount +
+                ", weight=" + weight + "/" + maxWeight +
+                '}';
+    }
+}
@@ -0,0 +1,73 @@
+package ee.vikk.kanban.service;
+
+import ee.vikk.kanban.model.Board;
+import ee.vikk.kanban.repository.BoardRepository;
+import ee.vikk.kanban.repository.TaskProjection;
+
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Board repository that answers findById from a MetadataCache and invalidates
+ * it on every write. Loads with tasks always go to the wrapped repository.
+ */
+public class CachingBoardRepository implements BoardRepository {
+    private final BoardRepository delegate;
+    private final MetadataCache cache;
+
+    /**
+     * Constructor with wrapped repository and cache
+     * @param delegate Board storage
+     * @param cache Cache shared by every repository on the same storage
+     */
+    public CachingBoardRepository(BoardRepository delegate, MetadataCache cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public Board save(Board board) throws SQLException {
+        return delegate.save(board);
+    }
+
+    @Override
+    public Board findById(Integer id) throws SQLException {
+        if (cache.isBypassed()) {
+            return delegate.findById(id);
+        }
+        Board cached = cache.boards().get(id, () -> delegate.findById(id));
+        return cached != null ? copy(cached) : null;
+    }
+
+    @Override
+    public Board findByIdWithTasks(Integer id) throws SQLException {
+        return delegate.findByIdWithTasks(id);
+    }
+
+    @Override
+    public Board findByIdWithTasks(Integer id, TaskProjection projection) throws SQLException {
+        return delegate.findByIdWithTasks(id, projection);
+    }
+
+    @Override
+    public List<Board> findAll() throws SQLException {
+        return delegate.findAll();
+    }
+
+    @Override
+    public void update(Board board) throws SQLException {
+        delegate.update(board);
+        cache.invalidateBoard(board.getId());
+    }
+
+    @Override
+    public void deleteById(Integer id) throws SQLException {
+        delegate.deleteById(id);
+        cache.invalidateBoard(id);
+    }
+
+    // Cached boards are never handed out, so callers cannot change them
+    private static Board copy(Board board) {
+        return new Board(board.getId(), board.getName(), board.getCreatedAt());
+    }
+}
@@ -0,0 +1,106 @@
+package ee.vikk.kanban.service;
+
+import ee.vikk.kanban.model.Column;
+import ee.vikk.kanban.repository.ColumnRepository;
+
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Column repository that answers findById and findByBoardId from a
+ * MetadataCache and invalidates it on every write
+ */
+public class CachingColumnRepository implements ColumnRepository {
+    private final ColumnRepository delegate;
+    private final MetadataCache cache;
+
+    /**
+     * Constructor with wrapped repository and cache
+     * @param delegate Column storage
+     * @param cache Cache shared by every repository on the same storage
+     */
+    public CachingColumnRepository(ColumnRepository delegate, MetadataCache cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public Column save(Column column) throws SQLException {
+        delegate.save(column);
+        cache.invalidateBoardColumns(column.getBoardId());
+        return column;
+    }
+
+    @Override
+    public List<Column> saveAll(List<Column> columns) throws SQLException {
+        delegate.saveAll(columns);
+        columns.stream().map(Column::getBoardId).distinct().forEach(cache::invalidateBoardColumns);
+        return columns;
+    }
+
+    @Override
+    public Column findById(Integer id) throws SQLException {
+        if (cache.isBypassed()) {
+            return delegate.findById(id);
+        }
+        Column cached = cache.columns().get(id, () -> delegate.findById(id));
+        return cached != null ? copy(cached) : null;
+    }
+
+    @Override
+    public List<Column> findByBoardId(Integer boardId) throws SQLException {
+        if (cache.isBypassed()) {
+            return delegate.findByBoardId(boardId);
+        }
+        List<Column> cached = cache.boardColumns().get(boardId, () -> List.copyOf(delegate.findByBoardId(boardId)));
+        return cached.stream().map(CachingColumnRepository::copy).toList();
+    }
+
+    @Override
+    public void update(Column column) throws SQLException {
+        delegate.update(column);
+        cache.invalidateColumn(column.getId());
+    }
+
+    @Override
+    public int updateAll(List<Column> columns) throws SQLException {
+        int updated = delegate.updateAll(columns);
+        columns.forEach(column -> cache.invalidateColumn(column.getId()));
+        return updated;
+    }
+
+    @Override
+    public String reorder(Integer id, Integer beforeId, Integer afterId) throws SQLException {
+        String rank = delegate.reorder(id, beforeId, afterId);
+        cache.invalidateColumn(id);
+        return rank;
+    }
+
+    @Override
+    public int rebalanceRanks(Integer boardId) throws SQLException {
+        int updated = delegate.rebalanceRanks(boardId);
+        cache.invalidateColumnsOfBoard(boardId);
+        return updated;
+    }
+
+    @Override
+    public void deleteById(Integer id) throws SQLException {
+        delegate.deleteById(id);
+        cache.invalidateColumn(id);
+    }
+
+    @Override
+    public int deleteAllById(List<Integer> ids) throws SQLException {
+        int deleted = delegate.deleteAllById(ids);
+        ids.forEach(cache::invalidateColumn);
+        return deleted;
+    }
+
+    // Cached columns are never handed out, so callers cannot change them or add tasks
+    private static Column copy(Column column) {
+        Column copy = new Column(column.getId(), column.getBoardId(), column.getName(),
+                                 column.getPosition(), column.getColor());
+        copy.setRank(column.getRank());
+        return copy;
+    }
+}
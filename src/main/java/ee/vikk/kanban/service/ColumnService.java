@@ -1,9 +1,14 @@
 package ee.vikk.kanban.service;
 
+import ee.vikk.kanban.metrics.TimedBoardRepository;
+import ee.vikk.kanban.metrics.TimedColumnRepository;
 import ee.vikk.kanban.model.Column;
 import ee.vikk.kanban.model.ColumnDAO;
 import ee.vikk.kanban.model.Board;
 import ee.vikk.kanban.model.BoardDAO;
+import ee.vikk.kanban.model.Rank;
+import ee.vikk.kanban.repository.BoardRepository;
+import ee.vikk.kanban.repository.ColumnRepository;
 
 import java.sql.SQLException;
 import java.util.List;
@@ -12,24 +17,51 @@ import java.util.List;
  * Service class for Column business logic
  */
 public class ColumnService {
-    private final ColumnDAO columnDAO;
-    private final BoardDAO boardDAO;
+    private final ColumnRepository columnRepository;
+    private final BoardRepository boardRepository;
+    private final UnitOfWork unitOfWork;
+    private final RankRebalancer rankRebalancer;
 
     /**
-     * Constructor with DAO dependencies
-     * @param columnDAO Column data access object
-     * @param boardDAO Board data access object
+     * Constructor with all dependencies
+     * @param columnRepository Column storage
+     * @param boardRepository Board storage
+     * @param unitOfWork Unit of work for multi-statement operations
+     * @param rankRebalancer Runs rank rebalances when keys grow too long
      */
-    public ColumnService(ColumnDAO columnDAO, BoardDAO boardDAO) {
-        this.columnDAO = columnDAO;
-        this.boardDAO = boardDAO;
+    public ColumnService(ColumnRepository columnRepository, BoardRepository boardRepository, UnitOfWork unitOfWork,
+                         RankRebalancer rankRebalancer) {
+        this.columnRepository = columnRepository;
+        this.boardRepository = boardRepository;
+        this.unitOfWork = unitOfWork;
+        this.rankRebalancer = rankRebalancer;
     }
 
     /**
-     * Default constructor with default DAOs
+     * Constructor with storage and transaction dependencies
+     * @param columnRepository Column storage
+     * @param boardRepository Board storage
+     * @param unitOfWork Unit of work for multi-statement operations
+     */
+    public ColumnService(ColumnRepository columnRepository, BoardRepository boardRepository, UnitOfWork unitOfWork) {
+        this(columnRepository, boardRepository, unitOfWork, new RankRebalancer());
+    }
+
+    /**
+     * Constructor with storage dependencies
+     * @param columnRepository Column storage
+     * @param boardRepository Board storage
+     */
+    public ColumnService(ColumnRepository columnRepository, BoardRepository boardRepository) {
+        this(columnRepository, boardRepository, new JdbcUnitOfWork());
+    }
+
+    /**
+     * Default constructor with timed default DAOs behind the shared metadata cache
      */
     public ColumnService() {
-        this(new ColumnDAO(), new BoardDAO());
+        this(new CachingColumnRepository(new TimedColumnRepository(new ColumnDAO()), MetadataCache.shared()),
+             new CachingBoardRepository(new TimedBoardRepository(new BoardDAO()), MetadataCache.shared()));
     }
 
     /**
@@ -51,7 +83,9 @@ public class ColumnService {
         Column column = new Column(boardId, columnName, nextPosition);
         column.setColor("#808080"); // Default gray color
         
-        return columnDAO.save(column);
+        columnRepository.save(column);
+        rebalanceIfNeeded(boardId, column.getRank());
+        return column;
     }
 
     /**
@@ -75,17 +109,19 @@ public class ColumnService {
         Column column = new Column(boardId, columnName, nextPosition);
         column.setColor(color);
         
-        return columnDAO.save(column);
+        columnRepository.save(column);
+        rebalanceIfNeeded(boardId, column.getRank());
+        return column;
     }
 
     /**
      * Get all columns for a board
      * @param boardId Board ID
-     * @return List of columns ordered by position
+     * @return List of columns ordered by rank
      * @throws SQLException if database operation fails
      */
     public List<Column> getColumnsByBoard(Integer boardId) throws SQLException {
-        return columnDAO.findByBoardId(boardId);
+        return columnRepository.findByBoardId(boardId);
     }
 
     /**
@@ -98,13 +134,13 @@ public class ColumnService {
     public void updateColumnName(Integer columnId, String newName) throws SQLException, ValidationException {
         validateColumnName(newName);
         
-        Column column = columnDAO.findById(columnId);
+        Column column = columnRepository.findById(columnId);
         if (column == null) {
             throw new ValidationException("Column not found with ID: " + columnId);
         }
         
         column.setName(newName);
-        columnDAO.update(column);
+        columnRepository.update(column);
     }
 
     /**
@@ -117,29 +153,70 @@ public class ColumnService {
     public void updateColumnColor(Integer columnId, String newColor) throws SQLException, ValidationException {
         validateColor(newColor);
         
-        Column column = columnDAO.findById(columnId);
+        Column column = columnRepository.findById(columnId);
         if (column == null) {
             throw new ValidationException("Column not found with ID: " + columnId);
         }
         
         column.setColor(newColor);
-        columnDAO.update(column);
+        columnRepository.update(column);
     }
 
     /**
-     * Delete column (only if empty)
+     * Place a column between two neighbouring columns on the same board.
+     * Only the moved column's row is written.
      * @param columnId Column ID
+     * @param beforeId Column that should come directly before, or null to place it directly before afterId
+     * @param afterId Column that should come directly after, or null to place it directly after beforeId
      * @throws SQLException if database operation fails
      * @throws ValidationException if validation fails
      */
-    public void deleteColumn(Integer columnId) throws SQLException, ValidationException {
-        Column column = columnDAO.findById(columnId);
-        if (column == null) {
-            throw new ValidationException("Column not found with ID: " + columnId);
+    public void reorderColumn(Integer columnId, Integer beforeId, Integer afterId) throws SQLException, ValidationException {
+        if (beforeId == null && afterId == null) {
+            throw new ValidationException("Reordering needs at least one neighbouring column");
         }
-        
-        // Check if column has tasks (this would require TaskDAO, but for now we'll allow deletion)
-        columnDAO.deleteById(columnId);
+        if (columnId.equals(beforeId) || columnId.equals(afterId)) {
+            throw new ValidationException("Column cannot be its own neighbour");
+        }
+
+        Column column = findColumn(columnId);
+        Column before = beforeId != null ? findColumn(beforeId) : null;
+        Column after = afterId != null ? findColumn(afterId) : null;
+        for (Column neighbour : new Column[]{before, after}) {
+            if (neighbour != null && !neighbour.getBoardId().equals(column.getBoardId())) {
+                throw new ValidationException("Neighbouring columns must be on the same board");
+            }
+        }
+        if (before != null && after != null && before.getRank().compareTo(after.getRank()) >= 0) {
+            throw new ValidationException("Column " + beforeId + " does not come before column " + afterId);
+        }
+
+        String rank = columnRepository.reorder(columnId, beforeId, afterId);
+        if (rank == null) {
+            // Nothing moved: either the column is missing or the neighbours are not adjacent
+            findColumn(columnId);
+            throw new ValidationException("Column " + beforeId + " and column " + afterId + " are not next to each other");
+        }
+        rebalanceIfNeeded(column.getBoardId(), rank);
+    }
+
+    /**
+     * Delete column with its tasks
+     * @param columnId Column ID
+     * @throws SQLException if database operation fails
+     * @throws ValidationException if validation fails
+     */
+    public void deleteColumn(Integer columnId) throws SQLException, ValidationException {
+        unitOfWork.execute(tx -> {
+            Column column = columnRepository.findById(columnId);
+            if (column == null) {
+                throw new ValidationException("Column not found with ID: " + columnId);
+            }
+
+            // The repository deletes the column's tasks in the same statement set
+            columnRepository.deleteById(columnId);
+            return null;
+        });
     }
 
     /**
@@ -149,10 +226,37 @@ public class ColumnService {
      * @throws SQLException if database operation fails
      */
     private int getNextColumnPosition(Integer boardId) throws SQLException {
-        List<Column> columns = columnDAO.findByBoardId(boardId);
+        // A caching repository answers this from the board's cached column list
+        List<Column> columns = columnRepository.findByBoardId(boardId);
         return columns.size() + 1;
     }
 
+    /**
+     * Load a column that must exist
+     * @param columnId Column ID
+     * @return Column
+     * @throws ValidationException if the column does not exist
+     * @throws SQLException if database operation fails
+     */
+    private Column findColumn(Integer columnId) throws ValidationException, SQLException {
+        Column column = columnRepository.findById(columnId);
+        if (column == null) {
+            throw new ValidationException("Column not found with ID: " + columnId);
+        }
+        return column;
+    }
+
+    /**
+     * Schedule a background rebalance of a board's columns once their keys grow too long
+     * @param boardId Board ID
+     * @param rank Rank that was just written
+     */
+    private void rebalanceIfNeeded(Integer boardId, String rank) {
+        if (Rank.needsRebalance(rank)) {
+            rankRebalancer.schedule("columns:" + boardId, () -> columnRepository.rebalanceRanks(boardId));
+        }
+    }
+
     /**
      * Validate column name
      * @param name Column name to validate
@@ -174,7 +278,7 @@ public class ColumnService {
      * @throws SQLException if database operation fails
      */
     private void validateBoardExists(Integer boardId) throws ValidationException, SQLException {
-        Board board = boardDAO.findById(boardId);
+        Board board = boardRepository.findById(boardId);
         if (board == null) {
             throw new ValidationException("Board not found with ID: " + boardId);
         }
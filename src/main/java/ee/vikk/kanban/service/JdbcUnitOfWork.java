@@ -0,0 +1,75 @@
+package ee.vikk.kanban.service;
+
+import ee.vikk.kanban.database.DatabaseConnection;
+import ee.vikk.kanban.database.TransactionalDataSource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+
+/**
+ * Unit of work on a single JDBC connection bound to the current thread.
+ * DAOs created on the same TransactionalDataSource join the transaction.
+ */
+public class JdbcUnitOfWork implements UnitOfWork {
+    private final TransactionalDataSource dataSource;
+
+    /**
+     * Constructor with data source dependency
+     * @param dataSource Transaction-aware data source shared with the DAOs
+     */
+    public JdbcUnitOfWork(TransactionalDataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    /**
+     * Default constructor using the shared connection pool
+     */
+    public JdbcUnitOfWork() {
+        this(DatabaseConnection.getDataSource());
+    }
+
+    @Override
+    public <T> T execute(Work<T> work) throws SQLException, ValidationException {
+        if (dataSource.isInTransaction()) {
+            return work.run(new JdbcTransaction(dataSource.requireCurrent()));
+        }
+
+        Connection connection = dataSource.begin();
+        T result;
+        try {
+            result = work.run(new JdbcTransaction(connection));
+        } catch (Throwable e) {
+            // Also on errors, so the connection never returns to the pool mid-transaction
+            dataSource.rollback();
+            throw e;
+        }
+        dataSource.commit();
+        return result;
+    }
+
+    /**
+     * Transaction handle with savepoint support
+     */
+    private class JdbcTransaction implements Transaction {
+        private final Connection connection;
+
+        JdbcTransaction(Connection connection) {
+            this.connection = connection;
+        }
+
+        @Override
+        public <T> T savepoint(Work<T> work) throws SQLException, ValidationException {
+            Savepoint savepoint = connection.setSavepoint();
+            try {
+                T result = work.run(this);
+                connection.releaseSavepoint(savepoint);
+                return result;
+            } catch (Throwable e) {
+                connection.rollback(savepoint);
+                connection.releaseSavepoint(savepoint);
+                throw e;
+            }
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package ee.vikk.kanban.service;
+
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+
+/**
+ * Read-through cache bounded by the total estimated size of its values,
+ * evicting the least recently used entries first. Values are loaded outside
+ * the cache lock; a load that overlaps an invalidation is returned but not
+ * stored, so an invalidation is never undone by a load that read older data.
+ * @param <K> Key type
+ * @param <V> Value type
+ */
+public class LruCache<K, V> {
+    private final long maxWeight;
+    private final ToIntFunction<V> weigher;
+    // Access order, so iteration starts at the least recently used entry
+    private final LinkedHashMap<K, Entry<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private long weight;
+    private long hits;
+    private long misses;
+    private long evictions;
+    // Incremented by every invalidation; loads only store if it did not change meanwhile
+    private long invalidations;
+
+    /**
+     * Loader for a missing value
+     * @param <V> Value type
+     */
+    @FunctionalInterface
+    public interface Loader<V> {
+        V load() throws SQLException;
+    }
+
+    private static class Entry<V> {
+        private final V value;
+        private final int weight;
+
+        Entry(V value, int weight) {
+            this.value = value;
+            this.weight = weight;
+        }
+    }
+
+    /**
+     * Constructor with size limit
+     * @param maxWeight Maximum total weight of the cached values
+     * @param weigher Estimated weight of one value, such as its size in bytes
+     */
+    public LruCache(long maxWeight, ToIntFunction<V> weigher) {
+        this.maxWeight = maxWeight;
+        this.weigher = weigher;
+    }
+
+    /**
+     * Get a cached value, loading and caching it if missing. Null values are
+     * returned but never cached.
+     * @param key Key
+     * @param loader Loads the value on a miss
+     * @return Cached or loaded value
+     * @throws SQLException if loading fails
+     */
+    public V get(K key, Loader<V> loader) throws SQLException {
+        long stamp;
+        synchronized (this) {
+            Entry<V> entry = entries.get(key);
+            if (entry != null) {
+                hits++;
+                return entry.value;
+            }
+            misses++;
+            stamp = invalidations;
+        }
+
+        V value = loader.load();
+        if (value != null) {
+            synchronized (this) {
+                if (invalidations == stamp) {
+                    store(key, value);
+                }
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Get a cached value without loading it or counting the lookup
+     * @param key Key
+     * @return Cached value or null if missing
+     */
+    public synchronized V getIfPresent(K key) {
+        Entry<V> entry = entries.get(key);
+        return entry != null ? entry.value : null;
+    }
+
+    /**
+     * Remove a value
+     * @param key Key
+     */
+    public synchronized void invalidate(K key) {
+        invalidations++;
+        Entry<V> removed = entries.remove(key);
+        if (removed != null) {
+            weight -= removed.weight;
+        }
+    }
+
+    /**
+     * Remove every value matching a condition
+     * @param condition Condition on cached values
+     */
+    public synchronized void invalidateIf(Predicate<V> condition) {
+        invalidations++;
+        Iterator<Entry<V>> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            Entry<V> entry = iterator.next();
+            if (condition.test(entry.value)) {
+                weight -= entry.weight;
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Remove every value
+     */
+    public synchronized void invalidateAll() {
+        invalidations++;
+        entries.clear();
+        weight = 0;
+    }
+
+    /**
+     * Get a snapshot of the cache counters
+     * @return Cache statistics
+     */
+    public synchronized CacheStats getStats() {
+        return new CacheStats(hits, misses, evictions, entries.size(), weight, maxWeight);
+    }
+
+    private void store(K key, V value) {
+        int valueWeight = weigher.applyAsInt(value);
+        if (valueWeight > maxWeight) {
+            return;
+        }
+        Entry<V> previous = entries.put(key, new Entry<>(value, valueWeight));
+        weight += valueWeight - (previous != null ? previous.weight : 0);
+
+        Iterator<Map.Entry<K, Entry<V>>> eldest = entries.entrySet().iterator();
+        while (weight > maxWeight) {
+            Entry<V> evicted = eldest.next().getValue();
+            eldest.remove();
+            weight -= evicted.weight;
+            evictions++;
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package ee.vikk.kanban.service;
+
+import ee.vikk.kanban.database.DatabaseConnection;
+import ee.vikk.kanban.database.TransactionalDataSource;
+import ee.vikk.kanban.model.Board;
+import ee.vikk.kanban.model.Column;
+
+import javax.sql.DataSource;
+import java.lang.ref.WeakReference;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Board and column metadata cached in front of one database: boards by ID,
+ * columns by ID and the ordered columns of each board. Caching repositories
+ * read through it and invalidate it on every write, again once the writing
+ * transaction ends, so other threads never keep data older than the commit.
+ * Reads inside a transaction bypass it, since they may see uncommitted rows.
+ * Task data is never cached.
+ */
+public class MetadataCache {
+    /** Default size limit of each of the three caches, in estimated bytes */
+    public static final long DEFAULT_MAX_BYTES = 4L * 1024 * 1024;
+
+    // One cache per data source, so services built on the same database share invalidations
+    private static final Map<DataSource, MetadataCache> SHARED = new WeakHashMap<>();
+
+    private final WeakReference<DataSource> dataSource;
+    private final LruCache<Integer, Board> boards;
+    private final LruCache<Integer, Column> columns;
+    private final LruCache<Integer, List<Column>> boardColumns;
+
+    /**
+     * Constructor with data source and size limit
+     * @param dataSource Data source whose transactions the cache follows
+     * @param maxBytes Size limit of each of the board, column and board column caches
+     */
+    public MetadataCache(DataSource dataSource, long maxBytes) {
+        this.dataSource = new WeakReference<>(dataSource);
+        this.boards = new LruCache<>(maxBytes, MetadataCache::weigh);
+        this.columns = new LruCache<>(maxBytes, MetadataCache::weigh);
+        this.boardColumns = new LruCache<>(maxBytes, MetadataCache::weigh);
+    }
+
+    /**
+     * Get the cache shared by every service on a data source
+     * @param dataSource Data source
+     * @return Shared cache with the default size limit
+     */
+    public static synchronized MetadataCache forDataSource(DataSource dataSource) {
+        return SHARED.computeIfAbsent(dataSource, ds -> new MetadataCache(ds, DEFAULT_MAX_BYTES));
+    }
+
+    /**
+     * Get the cache shared by every service on the application database
+     * @return Shared cache of the current connection pool
+     */
+    public static MetadataCache shared() {
+        return forDataSource(DatabaseConnection.getDataSource());
+    }
+
+    // Cache statistics, for sizing the limit against the real board count
+    public CacheStats getBoardStats() {
+        return boards.getStats();
+    }
+
+    public CacheStats getColumnStats() {
+        return columns.getStats();
+    }
+
+    public CacheStats getBoardColumnsStats() {
+        return boardColumns.getStats();
+    }
+
+    /**
+     * Drop every cached value, after changes made around the repositories
+     */
+    public void invalidateAll() {
+        boards.invalidateAll();
+        columns.invalidateAll();
+        boardColumns.invalidateAll();
+    }
+
+    LruCache<Integer, Board> boards() {
+        return boards;
+    }
+
+    LruCache<Integer, Column> columns() {
+        return columns;
+    }
+
+    LruCache<Integer, List<Column>> boardColumns() {
+        return boardColumns;
+    }
+
+    /**
+     * Check if reads on the current thread must skip the cache
+     * @return true while the current thread has an open transaction
+     */
+    boolean isBypassed() {
+        return dataSource.get() instanceof TransactionalDataSource transactional && transactional.isInTransaction();
+    }
+
+    /**
+     * Run an invalidation now and, inside a transaction, again once it ends
+     * @param invalidation Invalidation of the written keys
+     */
+    void invalidate(Runnable invalidation) {
+        invalidation.run();
+        if (dataSource.get() instanceof TransactionalDataSource transactional && transactional.isInTransaction()) {
+            transactional.afterCompletion(invalidation);
+        }
+    }
+
+    /**
+     * Drop a board with its columns
+     * @param boardId Board ID
+     */
+    void invalidateBoard(Integer boardId) {
+        invalidate(() -> {
+            boards.invalidate(boardId);
+            dropColumnsOfBoard(boardId);
+        });
+    }
+
+    /**
+     * Drop every column of a board and its column list
+     * @param boardId Board ID
+     */
+    void invalidateColumnsOfBoard(Integer boardId) {
+        invalidate(() -> dropColumnsOfBoard(boardId));
+    }
+
+    /**
+     * Drop the column list of a board
+     * @param boardId Board ID
+     */
+    void invalidateBoardColumns(Integer boardId) {
+        invalidate(() -> boardColumns.invalidate(boardId));
+    }
+
+    /**
+     * Drop a column and every board column list that contains it
+     * @param columnId Column ID
+     */
+    void invalidateColumn(Integer columnId) {
+        invalidate(() -> {
+            Column cached = columns.getIfPresent(columnId);
+            columns.invalidate(columnId);
+            if (cached != null) {
+                boardColumns.invalidate(cached.getBoardId());
+            } else {
+                boardColumns.invalidateIf(list -> list.stream().anyMatch(column -> columnId.equals(column.getId())));
+            }
+        });
+    }
+
+    private void dropColumnsOfBoard(Integer boardId) {
+        boardColumns.invalidate(boardId);
+        columns.invalidateIf(column -> boardId.equals(column.getBoardId()));
+    }
+
+    // Estimated heap size in bytes: object headers and fields plus string contents
+
+    private static int weigh(Board board) {
+        return 48 + weigh(board.getName());
+    }
+
+    private static int weigh(Column column) {
+        return 64 + weigh(column.getName()) + weigh(column.getColor()) + weigh(column.getRank());
+    }
+
+    private static int weigh(List<Column> list) {
+        int weight = 24 + 8 * list.size();
+        for (Column column : list) {
+            weight += weigh(column);
+        }
+        return weight;
+    }
+
+    private static int weigh(String value) {
+        return value != null ? 40 + value.length() : 0;
+    }
+}
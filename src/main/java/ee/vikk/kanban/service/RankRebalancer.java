@@ -0,0 +1,100 @@
+package ee.vikk.kanban.service;
+
+import ee.vikk.kanban.metrics.Metrics;
+import ee.vikk.kanban.metrics.OperationMetrics;
+import ee.vikk.kanban.metrics.Timing;
+
+import java.sql.SQLException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+/**
+ * Runs rank rebalances off the calling thread, at most one pending per list.
+ * Reorders only schedule a rebalance once a generated key grows past Rank.MAX_LENGTH.
+ * A failed pass, such as one that finds the database busy, is retried with a
+ * growing delay; every attempt is timed and failures are counted in the
+ * "RankRebalancer.rebalance" metrics.
+ */
+public class RankRebalancer {
+    private static final OperationMetrics REBALANCE = Metrics.service("RankRebalancer.rebalance");
+    private static final int MAX_ATTEMPTS = 4;
+    private static final long FIRST_RETRY_DELAY_MILLIS = 50;
+
+    private static final Executor BACKGROUND = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "kanban-rank-rebalancer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Executor executor;
+    private final Set<String> pending = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Rebalance work for one ordered list
+     */
+    @FunctionalInterface
+    public interface Rebalance {
+        void run() throws SQLException;
+    }
+
+    /**
+     * Constructor with executor dependency
+     * @param executor Executor that runs the rebalances
+     */
+    public RankRebalancer(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Default constructor using a shared background daemon thread
+     */
+    public RankRebalancer() {
+        this(BACKGROUND);
+    }
+
+    /**
+     * Schedule a rebalance unless one is already pending for the same list
+     * @param scope Key of the ordered list, such as "tasks:12"
+     * @param rebalance Rebalance work
+     */
+    public void schedule(String scope, Rebalance rebalance) {
+        if (!pending.add(scope)) {
+            return;
+        }
+        executor.execute(() -> {
+            // Clear first so reorders made while this runs can schedule another pass
+            pending.remove(scope);
+            run(scope, rebalance);
+        });
+    }
+
+    /**
+     * Run a rebalance, retrying failed attempts with a doubling delay
+     * @param scope Key of the ordered list
+     * @param rebalance Rebalance work
+     */
+    private void run(String scope, Rebalance rebalance) {
+        long delay = FIRST_RETRY_DELAY_MILLIS;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                Timing.run(REBALANCE, rebalance::run);
+                return;
+            } catch (SQLException e) {
+                if (attempt == MAX_ATTEMPTS) {
+                    System.err.println("Error rebalancing ranks for " + scope + " after " + attempt
+                            + " attempts: " + e.getMessage());
+                    return;
+                }
+            }
+            try {
+                Thread.sleep(delay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            delay *= 2;
+        }
+    }
+}
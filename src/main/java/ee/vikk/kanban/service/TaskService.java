@@ -1,9 +1,16 @@
 package ee.vikk.kanban.service;
 
+import ee.vikk.kanban.metrics.TimedColumnRepository;
+import ee.vikk.kanban.metrics.TimedTaskRepository;
 import ee.vikk.kanban.model.Task;
 import ee.vikk.kanban.model.TaskDAO;
+import ee.vikk.kanban.model.TaskSearchResult;
 import ee.vikk.kanban.model.Column;
 import ee.vikk.kanban.model.ColumnDAO;
+import ee.vikk.kanban.model.Rank;
+import ee.vikk.kanban.repository.ColumnRepository;
+import ee.vikk.kanban.repository.TaskQuery;
+import ee.vikk.kanban.repository.TaskRepository;
 
 import java.sql.SQLException;
 import java.time.LocalDateTime;
@@ -13,24 +20,38 @@ import java.util.List;
  * Service class for Task business logic
  */
 public class TaskService {
-    private final TaskDAO taskDAO;
-    private final ColumnDAO columnDAO;
+    private final TaskRepository taskRepository;
+    private final ColumnRepository columnRepository;
+    private final RankRebalancer rankRebalancer;
 
     /**
-     * Constructor with DAO dependencies
-     * @param taskDAO Task data access object
-     * @param columnDAO Column data access object
+     * Constructor with all dependencies
+     * @param taskRepository Task storage
+     * @param columnRepository Column storage
+     * @param rankRebalancer Runs rank rebalances when keys grow too long
      */
-    public TaskService(TaskDAO taskDAO, ColumnDAO columnDAO) {
-        this.taskDAO = taskDAO;
-        this.columnDAO = columnDAO;
+    public TaskService(TaskRepository taskRepository, ColumnRepository columnRepository,
+                       RankRebalancer rankRebalancer) {
+        this.taskRepository = taskRepository;
+        this.columnRepository = columnRepository;
+        this.rankRebalancer = rankRebalancer;
     }
 
     /**
-     * Default constructor with default DAOs
+     * Constructor with storage dependencies
+     * @param taskRepository Task storage
+     * @param columnRepository Column storage
+     */
+    public TaskService(TaskRepository taskRepository, ColumnRepository columnRepository) {
+        this(taskRepository, columnRepository, new RankRebalancer());
+    }
+
+    /**
+     * Default constructor with timed default DAOs, checking columns through the shared metadata cache
      */
     public TaskService() {
-        this(new TaskDAO(), new ColumnDAO());
+        this(new TimedTaskRepository(new TaskDAO()),
+             new CachingColumnRepository(new TimedColumnRepository(new ColumnDAO()), MetadataCache.shared()));
     }
 
     /**
@@ -46,16 +67,15 @@ public class TaskService {
         validateTaskTitle(title);
         validateColumnExists(columnId);
         
-        // Get next position in the column
-        int nextPosition = taskDAO.getNextPosition(columnId);
-        
-        // Create task
-        Task task = new Task(columnId, title, nextPosition);
+        // Create task; storage assigns the rank in the same INSERT
+        Task task = new Task(columnId, title, null);
         task.setDescription(description);
         task.setCreatedAt(LocalDateTime.now());
         task.setPriority(Task.Priority.MEDIUM); // Default priority
         
-        return taskDAO.save(task);
+        taskRepository.saveAtColumnEnd(task);
+        rebalanceIfNeeded(columnId, task.getRank());
+        return task;
     }
 
     /**
@@ -77,17 +97,64 @@ public class TaskService {
      * @throws SQLException if database operation fails
      */
     public Task getTask(Integer taskId) throws SQLException {
-        return taskDAO.findById(taskId);
+        return taskRepository.findById(taskId);
+    }
+
+    /**
+     * Get the description of a task loaded without it
+     * @param taskId Task ID
+     * @return Description, or null if the task has none
+     * @throws SQLException if database operation fails
+     * @throws ValidationException if the task does not exist
+     */
+    public String getTaskDescription(Integer taskId) throws SQLException, ValidationException {
+        Task task = taskRepository.findById(taskId);
+        if (task == null) {
+            throw new ValidationException("Task not found with ID: " + taskId);
+        }
+        return task.getDescription();
+    }
+
+    /**
+     * Search the titles and descriptions of a board's tasks. Each word of the
+     * query must match a word, or the start of a word, of the task.
+     * @param boardId Board ID
+     * @param query Search text
+     * @param limit Maximum number of results
+     * @return Results from most to least relevant; empty if the query has no words
+     * @throws SQLException if database operation fails
+     * @throws ValidationException if the limit is not positive
+     */
+    public List<TaskSearchResult> search(Integer boardId, String query, int limit) throws SQLException, ValidationException {
+        if (limit < 1) {
+            throw new ValidationException("Search limit must be positive");
+        }
+        return taskRepository.search(boardId, TaskQuery.terms(query), limit);
+    }
+
+    /**
+     * Find the tasks matching every predicate of a query
+     * @param query Task filter
+     * @return Matching tasks ordered by column ID, then by rank within the column
+     * @throws SQLException if database operation fails
+     * @throws ValidationException if the query has an empty range or a non-positive limit
+     */
+    public List<Task> findTasks(TaskQuery query) throws SQLException, ValidationException {
+        String problem = query.validate();
+        if (problem != null) {
+            throw new ValidationException(problem);
+        }
+        return taskRepository.findByQuery(query);
     }
 
     /**
      * Get all tasks for a column
      * @param columnId Column ID
-     * @return List of tasks ordered by position
+     * @return List of tasks ordered by rank
      * @throws SQLException if database operation fails
      */
     public List<Task> getTasksByColumn(Integer columnId) throws SQLException {
-        return taskDAO.findByColumnId(columnId);
+        return taskRepository.findByColumnId(columnId);
     }
 
     /**
@@ -101,37 +168,61 @@ public class TaskService {
     public void updateTask(Integer taskId, String newTitle, String newDescription) throws SQLException, ValidationException {
         validateTaskTitle(newTitle);
         
-        Task task = taskDAO.findById(taskId);
-        if (task == null) {
+        if (!taskRepository.updateContent(taskId, newTitle, newDescription)) {
             throw new ValidationException("Task not found with ID: " + taskId);
         }
-        
-        task.setTitle(newTitle);
-        task.setDescription(newDescription);
-        taskDAO.update(task);
     }
 
     /**
-     * Move task to another column
+     * Move task to the end of another column with a single UPDATE
      * @param taskId Task ID
      * @param targetColumnId Target column ID
      * @throws SQLException if database operation fails
      * @throws ValidationException if validation fails
      */
     public void moveTask(Integer taskId, Integer targetColumnId) throws SQLException, ValidationException {
-        validateColumnExists(targetColumnId);
-        
-        Task task = taskDAO.findById(taskId);
-        if (task == null) {
+        if (!taskRepository.moveToColumnEnd(taskId, targetColumnId)) {
+            // Nothing moved: find out which side was missing
+            validateColumnExists(targetColumnId);
             throw new ValidationException("Task not found with ID: " + taskId);
         }
-        
-        // Get next position in target column
-        int nextPosition = taskDAO.getNextPosition(targetColumnId);
-        
-        task.setColumnId(targetColumnId);
-        task.setPosition(nextPosition);
-        taskDAO.update(task);
+    }
+
+    /**
+     * Place a task between two neighbouring tasks, moving it into their column if
+     * needed. Only the moved task's row is written.
+     * @param taskId Task ID
+     * @param beforeId Task that should come directly before, or null to place it directly before afterId
+     * @param afterId Task that should come directly after, or null to place it directly after beforeId
+     * @throws SQLException if database operation fails
+     * @throws ValidationException if validation fails
+     */
+    public void reorderTask(Integer taskId, Integer beforeId, Integer afterId) throws SQLException, ValidationException {
+        if (beforeId == null && afterId == null) {
+            throw new ValidationException("Reordering needs at least one neighbouring task");
+        }
+        if (taskId.equals(beforeId) || taskId.equals(afterId)) {
+            throw new ValidationException("Task cannot be its own neighbour");
+        }
+
+        Task before = findNeighbour(beforeId);
+        Task after = findNeighbour(afterId);
+        if (before != null && after != null) {
+            if (!before.getColumnId().equals(after.getColumnId())) {
+                throw new ValidationException("Neighbouring tasks must be in the same column");
+            }
+            if (before.getRank().compareTo(after.getRank()) >= 0) {
+                throw new ValidationException("Task " + beforeId + " does not come before task " + afterId);
+            }
+        }
+
+        String rank = taskRepository.reorder(taskId, beforeId, afterId);
+        if (rank == null) {
+            // Nothing moved: either the task is missing or the neighbours are not adjacent
+            findNeighbour(taskId);
+            throw new ValidationException("Task " + beforeId + " and task " + afterId + " are not next to each other");
+        }
+        rebalanceIfNeeded(before != null ? before.getColumnId() : after.getColumnId(), rank);
     }
 
     /**
@@ -141,12 +232,9 @@ public class TaskService {
      * @throws ValidationException if validation fails
      */
     public void deleteTask(Integer taskId) throws SQLException, ValidationException {
-        Task task = taskDAO.findById(taskId);
-        if (task == null) {
+        if (!taskRepository.deleteById(taskId)) {
             throw new ValidationException("Task not found with ID: " + taskId);
         }
-        
-        taskDAO.deleteById(taskId);
     }
 
     /**
@@ -157,13 +245,38 @@ public class TaskService {
      * @throws ValidationException if validation fails
      */
     public void setTaskPriority(Integer taskId, Task.Priority priority) throws SQLException, ValidationException {
-        Task task = taskDAO.findById(taskId);
+        if (!taskRepository.updatePriority(taskId, priority)) {
+            throw new ValidationException("Task not found with ID: " + taskId);
+        }
+    }
+
+    /**
+     * Load a neighbouring task for reordering
+     * @param taskId Task ID, or null for no neighbour
+     * @return Task or null if no neighbour was given
+     * @throws ValidationException if the task does not exist
+     * @throws SQLException if database operation fails
+     */
+    private Task findNeighbour(Integer taskId) throws ValidationException, SQLException {
+        if (taskId == null) {
+            return null;
+        }
+        Task task = taskRepository.findById(taskId);
         if (task == null) {
             throw new ValidationException("Task not found with ID: " + taskId);
         }
-        
-        task.setPriority(priority);
-        taskDAO.update(task);
+        return task;
+    }
+
+    /**
+     * Schedule a background rebalance of a column once its keys grow too long
+     * @param columnId Column ID
+     * @param rank Rank that was just written
+     */
+    private void rebalanceIfNeeded(Integer columnId, String rank) {
+        if (Rank.needsRebalance(rank)) {
+            rankRebalancer.schedule("tasks:" + columnId, () -> taskRepository.rebalanceRanks(columnId));
+        }
     }
 
     /**
@@ -187,7 +300,7 @@ public class TaskService {
      * @throws SQLException if database operation fails
      */
     private void validateColumnExists(Integer columnId) throws ValidationException, SQLException {
-        Column column = columnDAO.findById(columnId);
+        Column column = columnRepository.findById(columnId);
         if (column == null) {
             throw new ValidationException("Column not found with ID: " + columnId);
         }
@@ -0,0 +1,79 @@
+package ee.vikk.kanban.service;
+
+import ee.vikk.kanban.metrics.Metrics;
+import ee.vikk.kanban.metrics.OperationMetrics;
+import ee.vikk.kanban.metrics.Timing;
+import ee.vikk.kanban.model.Board;
+import ee.vikk.kanban.repository.BoardRepository;
+import ee.vikk.kanban.repository.ColumnRepository;
+
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Board service that records the call count, errors and latency of every
+ * public method, such as "BoardService.createBoard", and commits a
+ * ServiceCallEvent for each call, so the service methods themselves carry no
+ * instrumentation.
+ */
+public class TimedBoardService extends BoardService {
+    private static final OperationMetrics CREATE_BOARD = Metrics.service("BoardService.createBoard");
+    private static final OperationMetrics GET_BOARD_WITH_COLUMNS = Metrics.service("BoardService.getBoardWithColumns");
+    private static final OperationMetrics GET_BOARD_WITH_TASKS = Metrics.service("BoardService.getBoardWithTasks");
+    private static final OperationMetrics GET_BOARD_WITH_TASK_SUMMARIES = Metrics.service("BoardService.getBoardWithTaskSummaries");
+    private static final OperationMetrics GET_ALL_BOARDS = Metrics.service("BoardService.getAllBoards");
+    private static final OperationMetrics UPDATE_BOARD_NAME = Metrics.service("BoardService.updateBoardName");
+    private static final OperationMetrics DELETE_BOARD = Metrics.service("BoardService.deleteBoard");
+
+    /**
+     * Constructor with storage and transaction dependencies
+     * @param boardRepository Board storage
+     * @param columnRepository Column storage
+     * @param unitOfWork Unit of work for multi-statement operations
+     */
+    public TimedBoardService(BoardRepository boardRepository, ColumnRepository columnRepository, UnitOfWork unitOfWork) {
+        super(boardRepository, columnRepository, unitOfWork);
+    }
+
+    /**
+     * Default constructor with timed default DAOs behind the shared metadata cache
+     */
+    public TimedBoardService() {
+        super();
+    }
+
+    @Override
+    public Board createBoard(String name) throws SQLException, ValidationException {
+        return Timing.call(CREATE_BOARD, () -> super.createBoard(name));
+    }
+
+    @Override
+    public Board getBoardWithColumns(Integer boardId) throws SQLException {
+        return Timing.call(GET_BOARD_WITH_COLUMNS, () -> super.getBoardWithColumns(boardId));
+    }
+
+    @Override
+    public Board getBoardWithTasks(Integer boardId) throws SQLException {
+        return Timing.call(GET_BOARD_WITH_TASKS, () -> super.getBoardWithTasks(boardId));
+    }
+
+    @Override
+    public Board getBoardWithTaskSummaries(Integer boardId) throws SQLException {
+        return Timing.call(GET_BOARD_WITH_TASK_SUMMARIES, () -> super.getBoardWithTaskSummaries(boardId));
+    }
+
+    @Override
+    public List<Board> getAllBoards() throws SQLException {
+        return Timing.call(GET_ALL_BOARDS, () -> super.getAllBoards());
+    }
+
+    @Override
+    public void updateBoardName(Integer boardId, String newName) throws SQLException, ValidationException {
+        Timing.run(UPDATE_BOARD_NAME, () -> super.updateBoardName(boardId, newName));
+    }
+
+    @Override
+    public void deleteBoard(Integer boardId) throws SQLException {
+        Timing.run(DELETE_BOARD, () -> super.deleteBoard(boardId));
+    }
+}
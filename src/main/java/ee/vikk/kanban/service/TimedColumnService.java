@@ -0,0 +1,80 @@
+package ee.vikk.kanban.service;
+
+import ee.vikk.kanban.metrics.Metrics;
+import ee.vikk.kanban.metrics.OperationMetrics;
+import ee.vikk.kanban.metrics.Timing;
+import ee.vikk.kanban.model.Column;
+import ee.vikk.kanban.repository.BoardRepository;
+import ee.vikk.kanban.repository.ColumnRepository;
+
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Column service that records the call count, errors and latency of every
+ * public method, such as "ColumnService.addColumn", and commits a
+ * ServiceCallEvent for each call, so the service methods themselves carry no
+ * instrumentation.
+ */
+public class TimedColumnService extends ColumnService {
+    private static final OperationMetrics ADD_COLUMN = Metrics.service("ColumnService.addColumn");
+    private static final OperationMetrics GET_COLUMNS_BY_BOARD = Metrics.service("ColumnService.getColumnsByBoard");
+    private static final OperationMetrics UPDATE_COLUMN_NAME = Metrics.service("ColumnService.updateColumnName");
+    private static final OperationMetrics UPDATE_COLUMN_COLOR = Metrics.service("ColumnService.updateColumnColor");
+    private static final OperationMetrics REORDER_COLUMN = Metrics.service("ColumnService.reorderColumn");
+    private static final OperationMetrics DELETE_COLUMN = Metrics.service("ColumnService.deleteColumn");
+
+    /**
+     * Constructor with all dependencies
+     * @param columnRepository Column storage
+     * @param boardRepository Board storage
+     * @param unitOfWork Unit of work for multi-statement operations
+     * @param rankRebalancer Runs rank rebalances when keys grow too long
+     */
+    public TimedColumnService(ColumnRepository columnRepository, BoardRepository boardRepository, UnitOfWork unitOfWork,
+                              RankRebalancer rankRebalancer) {
+        super(columnRepository, boardRepository, unitOfWork, rankRebalancer);
+    }
+
+    /**
+     * Default constructor with timed default DAOs behind the shared metadata cache
+     */
+    public TimedColumnService() {
+        super();
+    }
+
+    @Override
+    public Column addColumn(Integer boardId, String columnName) throws SQLException, ValidationException {
+        return Timing.call(ADD_COLUMN, () -> super.addColumn(boardId, columnName));
+    }
+
+    @Override
+    public Column addColumn(Integer boardId, String columnName, String color) throws SQLException, ValidationException {
+        return Timing.call(ADD_COLUMN, () -> super.addColumn(boardId, columnName, color));
+    }
+
+    @Override
+    public List<Column> getColumnsByBoard(Integer boardId) throws SQLException {
+        return Timing.call(GET_COLUMNS_BY_BOARD, () -> super.getColumnsByBoard(boardId));
+    }
+
+    @Override
+    public void updateColumnName(Integer columnId, String newName) throws SQLException, ValidationException {
+        Timing.run(UPDATE_COLUMN_NAME, () -> super.updateColumnName(columnId, newName));
+    }
+
+    @Override
+    public void updateColumnColor(Integer columnId, String newColor) throws SQLException, ValidationException {
+        Timing.run(UPDATE_COLUMN_COLOR, () -> super.updateColumnColor(columnId, newColor));
+    }
+
+    @Override
+    public void reorderColumn(Integer columnId, Integer beforeId, Integer afterId) throws SQLException, ValidationException {
+        Timing.run(REORDER_COLUMN, () -> super.reorderColumn(columnId, beforeId, afterId));
+    }
+
+    @Override
+    public void deleteColumn(Integer columnId) throws SQLException, ValidationException {
+        Timing.run(DELETE_COLUMN, () -> super.deleteColumn(columnId));
+    }
+}
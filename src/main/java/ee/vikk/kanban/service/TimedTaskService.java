@@ -0,0 +1,107 @@
+package ee.vikk.kanban.service;
+
+import ee.vikk.kanban.metrics.Metrics;
+import ee.vikk.kanban.metrics.OperationMetrics;
+import ee.vikk.kanban.metrics.Timing;
+import ee.vikk.kanban.model.Task;
+import ee.vikk.kanban.model.TaskSearchResult;
+import ee.vikk.kanban.repository.ColumnRepository;
+import ee.vikk.kanban.repository.TaskQuery;
+import ee.vikk.kanban.repository.TaskRepository;
+
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Task service that records the call count, errors and latency of every
+ * public method, such as "TaskService.createTask", and commits a
+ * ServiceCallEvent for each call, so the service methods themselves carry no
+ * instrumentation. createTask(columnId, title) is covered by the overload it
+ * delegates to.
+ */
+public class TimedTaskService extends TaskService {
+    private static final OperationMetrics CREATE_TASK = Metrics.service("TaskService.createTask");
+    private static final OperationMetrics GET_TASK = Metrics.service("TaskService.getTask");
+    private static final OperationMetrics GET_TASK_DESCRIPTION = Metrics.service("TaskService.getTaskDescription");
+    private static final OperationMetrics SEARCH = Metrics.service("TaskService.search");
+    private static final OperationMetrics FIND_TASKS = Metrics.service("TaskService.findTasks");
+    private static final OperationMetrics GET_TASKS_BY_COLUMN = Metrics.service("TaskService.getTasksByColumn");
+    private static final OperationMetrics UPDATE_TASK = Metrics.service("TaskService.updateTask");
+    private static final OperationMetrics MOVE_TASK = Metrics.service("TaskService.moveTask");
+    private static final OperationMetrics REORDER_TASK = Metrics.service("TaskService.reorderTask");
+    private static final OperationMetrics DELETE_TASK = Metrics.service("TaskService.deleteTask");
+    private static final OperationMetrics SET_TASK_PRIORITY = Metrics.service("TaskService.setTaskPriority");
+
+    /**
+     * Constructor with all dependencies
+     * @param taskRepository Task storage
+     * @param columnRepository Column storage
+     * @param rankRebalancer Runs rank rebalances when keys grow too long
+     */
+    public TimedTaskService(TaskRepository taskRepository, ColumnRepository columnRepository,
+                            RankRebalancer rankRebalancer) {
+        super(taskRepository, columnRepository, rankRebalancer);
+    }
+
+    /**
+     * Default constructor with timed default DAOs behind the shared metadata cache
+     */
+    public TimedTaskService() {
+        super();
+    }
+
+    @Override
+    public Task createTask(Integer columnId, String title, String description) throws SQLException, ValidationException {
+        return Timing.call(CREATE_TASK, () -> super.createTask(columnId, title, description));
+    }
+
+    @Override
+    public Task getTask(Integer taskId) throws SQLException {
+        return Timing.call(GET_TASK, () -> super.getTask(taskId));
+    }
+
+    @Override
+    public String getTaskDescription(Integer taskId) throws SQLException, ValidationException {
+        return Timing.call(GET_TASK_DESCRIPTION, () -> super.getTaskDescription(taskId));
+    }
+
+    @Override
+    public List<TaskSearchResult> search(Integer boardId, String query, int limit) throws SQLException, ValidationException {
+        return Timing.call(SEARCH, () -> super.search(boardId, query, limit));
+    }
+
+    @Override
+    public List<Task> findTasks(TaskQuery query) throws SQLException, ValidationException {
+        return Timing.call(FIND_TASKS, () -> super.findTasks(query));
+    }
+
+    @Override
+    public List<Task> getTasksByColumn(Integer columnId) throws SQLException {
+        return Timing.call(GET_TASKS_BY_COLUMN, () -> super.getTasksByColumn(columnId));
+    }
+
+    @Override
+    public void updateTask(Integer taskId, String newTitle, String newDescription) throws SQLException, ValidationException {
+        Timing.run(UPDATE_TASK, () -> super.updateTask(taskId, newTitle, newDescription));
+    }
+
+    @Override
+    public void moveTask(Integer taskId, Integer targetColumnId) throws SQLException, ValidationException {
+        Timing.run(MOVE_TASK, () -> super.moveTask(taskId, targetColumnId));
+    }
+
+    @Override
+    public void reorderTask(Integer taskId, Integer beforeId, Integer afterId) throws SQLException, ValidationException {
+        Timing.run(REORDER_TASK, () -> super.reorderTask(taskId, beforeId, afterId));
+    }
+
+    @Override
+    public void deleteTask(Integer taskId) throws SQLException, ValidationException {
+        Timing.run(DELETE_TASK, () -> super.deleteTask(taskId));
+    }
+
+    @Override
+    public void setTaskPriority(Integer taskId, Task.Priority priority) throws SQLException, ValidationException {
+        Timing.run(SET_TASK_PRIORITY, () -> super.setTaskPriority(taskId, priority));
+    }
+}
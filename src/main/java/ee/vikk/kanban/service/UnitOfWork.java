@@ -0,0 +1,46 @@
+package ee.vikk.kanban.service;
+
+import java.sql.SQLException;
+
+/**
+ * Runs a group of repository operations as one atomic transaction.
+ * A unit of work started while another is open on the same thread joins it.
+ */
+public interface UnitOfWork {
+
+    /**
+     * Operations run inside a unit of work
+     * @param <T> Result type
+     */
+    @FunctionalInterface
+    interface Work<T> {
+        T run(Transaction transaction) throws SQLException, ValidationException;
+    }
+
+    /**
+     * Handle to the open transaction
+     */
+    interface Transaction {
+
+        /**
+         * Run nested work inside a savepoint. If it fails, only the nested
+         * work is rolled back and the exception is rethrown.
+         * @param work Nested work
+         * @param <T> Result type
+         * @return Result of the nested work
+         * @throws SQLException if database operation fails
+         * @throws ValidationException if validation fails
+         */
+        <T> T savepoint(Work<T> work) throws SQLException, ValidationException;
+    }
+
+    /**
+     * Run work in a transaction; commit on success, roll back on any exception
+     * @param work Work to run
+     * @param <T> Result type
+     * @return Result of the work
+     * @throws SQLException if database operation fails
+     * @throws ValidationException if validation fails
+     */
+    <T> T execute(Work<T> work) throws SQLException, ValidationException;
+}
@@ -0,0 +1,82 @@
+package ee.vikk.kanban.workload;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * IDs of the rows one generator run created, grouped by board, so a replay
+ * can pick tasks and columns of the same board
+ */
+public class GeneratedWorkload {
+    private final Map<Integer, List<Integer>> columnIdsByBoard = new LinkedHashMap<>();
+    private final Map<Integer, List<Integer>> taskIdsByBoard = new LinkedHashMap<>();
+    private final List<Integer> tagIds = new ArrayList<>();
+    private int taskCount;
+    private int tagAssignmentCount;
+
+    void addBoard(Integer boardId, List<Integer> columnIds, List<Integer> taskIds) {
+        columnIdsByBoard.put(boardId, List.copyOf(columnIds));
+        taskIdsByBoard.put(boardId, List.copyOf(taskIds));
+        taskCount += taskIds.size();
+    }
+
+    void addTag(Integer tagId) {
+        tagIds.add(tagId);
+    }
+
+    void addTagAssignments(int count) {
+        tagAssignmentCount += count;
+    }
+
+    /**
+     * Get the generated board IDs
+     * @return Board IDs in creation order
+     */
+    public List<Integer> getBoardIds() {
+        return List.copyOf(columnIdsByBoard.keySet());
+    }
+
+    /**
+     * Get the column IDs of a generated board
+     * @param boardId Board ID
+     * @return Column IDs in rank order, or an empty list for other boards
+     */
+    public List<Integer> getColumnIds(Integer boardId) {
+        return columnIdsByBoard.getOrDefault(boardId, Collections.emptyList());
+    }
+
+    /**
+     * Get the task IDs of a generated board
+     * @param boardId Board ID
+     * @return Task IDs in creation order, or an empty list for other boards
+     */
+    public List<Integer> getTaskIds(Integer boardId) {
+        return taskIdsByBoard.getOrDefault(boardId, Collections.emptyList());
+    }
+
+    // Getters
+    public List<Integer> getTagIds() {
+        return Collections.unmodifiableList(tagIds);
+    }
+
+    public int getTaskCount() {
+        return taskCount;
+    }
+
+    public int getTagAssignmentCount() {
+        return tagAssignmentCount;
+    }
+
+    @Override
+    public String toString() {
+        return "GeneratedWorkload{" +
+                "boards=" + columnIdsByBoard.size() +
+                ", tasks=" + taskCount +
+                ", tags=" + tagIds.size() +
+                ", tagAssignments=" + tagAssignmentCount +
+                '}';
+    }
+}
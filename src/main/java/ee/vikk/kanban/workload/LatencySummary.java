@@ -0,0 +1,86 @@
+package ee.vikk.kanban.workload;
+
+import java.util.Arrays;
+
+/**
+ * Count, error count and latency percentiles of one kind of operation
+ */
+public class LatencySummary {
+    private final int count;
+    private final int errors;
+    private final long p50Nanos;
+    private final long p90Nanos;
+    private final long p99Nanos;
+    private final long maxNanos;
+
+    /**
+     * Constructor with all fields
+     * @param count Completed operations, failed ones included
+     * @param errors Failed operations
+     * @param p50Nanos Median latency in nanoseconds
+     * @param p90Nanos 90th percentile latency in nanoseconds
+     * @param p99Nanos 99th percentile latency in nanoseconds
+     * @param maxNanos Highest latency in nanoseconds
+     */
+    public LatencySummary(int count, int errors, long p50Nanos, long p90Nanos, long p99Nanos, long maxNanos) {
+        this.count = count;
+        this.errors = errors;
+        this.p50Nanos = p50Nanos;
+        this.p90Nanos = p90Nanos;
+        this.p99Nanos = p99Nanos;
+        this.maxNanos = maxNanos;
+    }
+
+    /**
+     * Summarize latency samples
+     * @param samples Latencies in nanoseconds; the array is sorted in place
+     * @param count Number of samples in use at the start of the array
+     * @param errors Failed operations among them
+     * @return Summary; all percentiles are 0 without samples
+     */
+    static LatencySummary of(long[] samples, int count, int errors) {
+        Arrays.sort(samples, 0, count);
+        return new LatencySummary(count, errors,
+            percentile(samples, count, 0.50), percentile(samples, count, 0.90),
+            percentile(samples, count, 0.99), count > 0 ? samples[count - 1] : 0);
+    }
+
+    // Nearest-rank percentile of the sorted samples
+    private static long percentile(long[] sorted, int count, double fraction) {
+        if (count == 0) {
+            return 0;
+        }
+        return sorted[Math.max(0, (int) Math.ceil(fraction * count) - 1)];
+    }
+
+    // Getters
+    public int getCount() {
+        return count;
+    }
+
+    public int getErrors() {
+        return errors;
+    }
+
+    public long getP50Nanos() {
+        return p50Nanos;
+    }
+
+    public long getP90Nanos() {
+        return p90Nanos;
+    }
+
+    public long getP99Nanos() {
+        return p99Nanos;
+    }
+
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("count=%d errors=%d p50=%.3fms p90=%.3fms p99=%.3fms max=%.3fms",
+                count, errors, p50Nanos / 1e6, p90Nanos / 1e6, p99Nanos / 1e6, maxNanos / 1e6);
+    }
+}
@@ -0,0 +1,87 @@
+package ee.vikk.kanban.workload;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Result of one workload replay: throughput and latency percentiles overall
+ * and per operation kind
+ */
+public class ReplayReport {
+    private final Map<WorkloadReplay.Operation, LatencySummary> byOperation;
+    private final LatencySummary overall;
+    private final long elapsedNanos;
+    private final double targetRate;
+
+    /**
+     * Constructor with all fields
+     * @param byOperation Latency summary of each operation kind
+     * @param overall Latency summary of all operations
+     * @param elapsedNanos Wall-clock duration of the replay in nanoseconds
+     * @param targetRate Requested operations per second, or 0 for unthrottled
+     */
+    public ReplayReport(Map<WorkloadReplay.Operation, LatencySummary> byOperation, LatencySummary overall,
+                        long elapsedNanos, double targetRate) {
+        this.byOperation = Collections.unmodifiableMap(byOperation);
+        this.overall = overall;
+        this.elapsedNanos = elapsedNanos;
+        this.targetRate = targetRate;
+    }
+
+    /**
+     * Get the achieved throughput
+     * @return Completed operations per second
+     */
+    public double getThroughput() {
+        return elapsedNanos > 0 ? overall.getCount() / (elapsedNanos / 1e9) : 0;
+    }
+
+    /**
+     * Format the report as a table with one row per operation kind and a total row
+     * @return Multi-line report
+     */
+    public String format() {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("%-8s %8s %7s %10s %10s %10s %10s%n",
+                "op", "count", "errors", "p50 ms", "p90 ms", "p99 ms", "max ms"));
+        for (Map.Entry<WorkloadReplay.Operation, LatencySummary> entry : byOperation.entrySet()) {
+            appendRow(report, entry.getKey().name(), entry.getValue());
+        }
+        appendRow(report, "TOTAL", overall);
+        report.append(String.format("throughput %.1f ops/s (target %s) in %.2f s%n",
+                getThroughput(), targetRate > 0 ? String.format("%.1f", targetRate) : "unthrottled",
+                elapsedNanos / 1e9));
+        return report.toString();
+    }
+
+    private static void appendRow(StringBuilder report, String name, LatencySummary summary) {
+        report.append(String.format("%-8s %8d %7d %10.3f %10.3f %10.3f %10.3f%n",
+                name, summary.getCount(), summary.getErrors(), summary.getP50Nanos() / 1e6,
+                summary.getP90Nanos() / 1e6, summary.getP99Nanos() / 1e6, summary.getMaxNanos() / 1e6));
+    }
+
+    // Getters
+    public Map<WorkloadReplay.Operation, LatencySummary> getByOperation() {
+        return byOperation;
+    }
+
+    public LatencySummary getOverall() {
+        return overall;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public double getTargetRate() {
+        return targetRate;
+    }
+
+    @Override
+    public String toString() {
+        return "ReplayReport{" +
+                "throughput=" + String.format("%.1f", getThroughput()) +
+                ", overall=" + overall +
+                '}';
+    }
+}
@@ -0,0 +1,235 @@
+package ee.vikk.kanban.workload;
+
+import ee.vikk.kanban.model.Board;
+import ee.vikk.kanban.model.BoardDAO;
+import ee.vikk.kanban.model.Column;
+import ee.vikk.kanban.model.ColumnDAO;
+import ee.vikk.kanban.model.Tag;
+import ee.vikk.kanban.model.TagDAO;
+import ee.vikk.kanban.model.Task;
+import ee.vikk.kanban.model.TaskDAO;
+import ee.vikk.kanban.repository.BoardRepository;
+import ee.vikk.kanban.repository.ColumnRepository;
+import ee.vikk.kanban.repository.TagRepository;
+import ee.vikk.kanban.repository.TaskRepository;
+import ee.vikk.kanban.service.JdbcUnitOfWork;
+import ee.vikk.kanban.service.UnitOfWork;
+import ee.vikk.kanban.service.ValidationException;
+
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Fills a database with synthetic boards for load and benchmark runs. All
+ * values come from one seeded Random, so a spec always produces the same data.
+ * Each board is written in its own transaction with batched inserts.
+ */
+public class WorkloadGenerator {
+    private static final String[] VERBS = {
+        "Fix", "Add", "Update", "Remove", "Refactor", "Test", "Document", "Review"
+    };
+    private static final String[] SUBJECTS = {
+        "login", "export", "report", "payment", "sync", "upload", "settings", "profile",
+        "search", "invoice", "dashboard", "notification", "import", "billing", "archive", "api"
+    };
+    private static final String[] WORDS = {
+        "the", "user", "page", "should", "when", "after", "data", "error", "button", "list",
+        "save", "load", "fails", "slow", "screen", "value", "field", "request", "server", "cache"
+    };
+    private static final String[] COLORS = {
+        "#FF6B6B", "#4ECDC4", "#45B7D1", "#96CEB4", "#FFEAA7", "#DDA0DD", "#F4A261", "#6C757D"
+    };
+
+    private final BoardRepository boardRepository;
+    private final ColumnRepository columnRepository;
+    private final TaskRepository taskRepository;
+    private final TagRepository tagRepository;
+    private final UnitOfWork unitOfWork;
+
+    /**
+     * Constructor with all dependencies
+     * @param boardRepository Board storage
+     * @param columnRepository Column storage
+     * @param taskRepository Task storage
+     * @param tagRepository Tag storage
+     * @param unitOfWork Unit of work wrapping each board
+     */
+    public WorkloadGenerator(BoardRepository boardRepository, ColumnRepository columnRepository,
+                             TaskRepository taskRepository, TagRepository tagRepository, UnitOfWork unitOfWork) {
+        this.boardRepository = boardRepository;
+        this.columnRepository = columnRepository;
+        this.taskRepository = taskRepository;
+        this.tagRepository = tagRepository;
+        this.unitOfWork = unitOfWork;
+    }
+
+    /**
+     * Default constructor with default DAOs on the shared connection pool
+     */
+    public WorkloadGenerator() {
+        this(new BoardDAO(), new ColumnDAO(), new TaskDAO(), new TagDAO(), new JdbcUnitOfWork());
+    }
+
+    /**
+     * Generate the boards, columns, tasks and tag assignments of a spec
+     * @param spec Dataset description
+     * @return IDs of the created rows
+     * @throws SQLException if database operation fails; boards written before the failure are kept
+     * @throws ValidationException if the spec is invalid
+     */
+    public GeneratedWorkload generate(WorkloadSpec spec) throws SQLException, ValidationException {
+        String problem = spec.validate();
+        if (problem != null) {
+            throw new ValidationException(problem);
+        }
+
+        Random random = new Random(spec.getSeed());
+        double[] columnWeights = columnWeights(spec);
+        GeneratedWorkload workload = new GeneratedWorkload();
+        List<Tag> tags = createTags(spec);
+        for (Tag tag : tags) {
+            workload.addTag(tag.getId());
+        }
+
+        for (int b = 0; b < spec.getBoards(); b++) {
+            int boardNumber = b + 1;
+            unitOfWork.execute(tx -> {
+                generateBoard(spec, boardNumber, random, columnWeights, tags, workload);
+                return null;
+            });
+        }
+        return workload;
+    }
+
+    private void generateBoard(WorkloadSpec spec, int boardNumber, Random random, double[] columnWeights,
+                               List<Tag> tags, GeneratedWorkload workload) throws SQLException {
+        Board board = boardRepository.save(new Board(null, "Board " + boardNumber, spec.getBaseTime()));
+
+        List<Column> columns = new ArrayList<>();
+        for (int c = 0; c < spec.getColumnsPerBoard(); c++) {
+            Column column = new Column(board.getId(), "Column " + (c + 1), c + 1);
+            column.setColor(COLORS[c % COLORS.length]);
+            columns.add(column);
+        }
+        columnRepository.saveAll(columns);
+
+        int taskCount = spec.getMinTasksPerBoard()
+            + random.nextInt(spec.getMaxTasksPerBoard() - spec.getMinTasksPerBoard() + 1);
+        int[] nextPosition = new int[columns.size()];
+        List<Task> tasks = new ArrayList<>(taskCount);
+        List<List<Task>> tasksByTag = new ArrayList<>();
+        for (int i = 0; i < tags.size(); i++) {
+            tasksByTag.add(new ArrayList<>());
+        }
+
+        for (int t = 0; t < taskCount; t++) {
+            int c = pickColumn(columnWeights, random);
+            Task task = new Task(null, columns.get(c).getId(), title(random, t + 1), description(spec, random),
+                Task.Priority.values()[random.nextInt(Task.Priority.values().length)], ++nextPosition[c],
+                createdAt(spec, random), null);
+            if (random.nextDouble() < spec.getDueDateRatio()) {
+                int spread = spec.getDueDateSpreadDays();
+                task.setDueDate(spec.getBaseTime().toLocalDate().plusDays(random.nextInt(2 * spread + 1) - spread));
+            }
+            tasks.add(task);
+
+            int tagsOnTask = spec.getMaxTagsPerTask() > 0 ? random.nextInt(spec.getMaxTagsPerTask() + 1) : 0;
+            for (int k = 0; k < tagsOnTask; k++) {
+                List<Task> tagged = tasksByTag.get(random.nextInt(tags.size()));
+                // A repeated draw of the same tag keeps one assignment
+                if (tagged.isEmpty() || tagged.get(tagged.size() - 1) != task) {
+                    tagged.add(task);
+                }
+            }
+        }
+        taskRepository.saveAll(tasks);
+
+        for (int i = 0; i < tags.size(); i++) {
+            List<Integer> taskIds = tasksByTag.get(i).stream().map(Task::getId).toList();
+            if (!taskIds.isEmpty()) {
+                workload.addTagAssignments(tagRepository.attachAll(tags.get(i).getId(), taskIds));
+            }
+        }
+
+        workload.addBoard(board.getId(),
+            columns.stream().map(Column::getId).toList(),
+            tasks.stream().map(Task::getId).toList());
+    }
+
+    /**
+     * Create the spec's tags, reusing tags a run with the same seed already created
+     * @param spec Dataset description
+     * @return Tags in name order
+     * @throws SQLException if database operation fails
+     */
+    private List<Tag> createTags(WorkloadSpec spec) throws SQLException {
+        List<Tag> tags = new ArrayList<>();
+        for (int i = 0; i < spec.getTagCount(); i++) {
+            // Tag names are unique across the database; the seed keeps runs apart
+            String name = "tag-" + spec.getSeed() + "-" + (i + 1);
+            Tag tag = tagRepository.findByName(name);
+            tags.add(tag != null ? tag : tagRepository.save(new Tag(name, COLORS[i % COLORS.length])));
+        }
+        return tags;
+    }
+
+    /**
+     * Get the cumulative share of tasks up to each column
+     * @param spec Dataset description
+     * @return Cumulative weights; the last one is 1
+     */
+    private static double[] columnWeights(WorkloadSpec spec) {
+        int columns = spec.getColumnsPerBoard();
+        double[] weights = new double[columns];
+        double total = 0;
+        for (int c = 0; c < columns; c++) {
+            double weight = spec.getDistribution() == WorkloadSpec.TaskDistribution.FRONT_LOADED
+                ? Math.pow(2, columns - 1 - c) : 1;
+            total += weight;
+            weights[c] = total;
+        }
+        for (int c = 0; c < columns; c++) {
+            weights[c] /= total;
+        }
+        return weights;
+    }
+
+    private static int pickColumn(double[] cumulativeWeights, Random random) {
+        double draw = random.nextDouble();
+        for (int c = 0; c < cumulativeWeights.length - 1; c++) {
+            if (draw < cumulativeWeights[c]) {
+                return c;
+            }
+        }
+        return cumulativeWeights.length - 1;
+    }
+
+    private static String title(Random random, int number) {
+        return VERBS[random.nextInt(VERBS.length)] + " " + SUBJECTS[random.nextInt(SUBJECTS.length)] + " #" + number;
+    }
+
+    private static String description(WorkloadSpec spec, Random random) {
+        int length = spec.getMinDescriptionLength()
+            + random.nextInt(spec.getMaxDescriptionLength() - spec.getMinDescriptionLength() + 1);
+        if (length == 0) {
+            return null;
+        }
+        StringBuilder description = new StringBuilder(length + 16);
+        while (description.length() < length) {
+            if (!description.isEmpty()) {
+                description.append(' ');
+            }
+            description.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        description.setLength(length);
+        return description.toString();
+    }
+
+    private static LocalDateTime createdAt(WorkloadSpec spec, Random random) {
+        // Within the 90 days before the base time, to the minute
+        return spec.getBaseTime().minusMinutes(random.nextInt(90 * 24 * 60));
+    }
+}
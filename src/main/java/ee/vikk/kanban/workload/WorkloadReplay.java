@@ -0,0 +1,168 @@
+package ee.vikk.kanban.workload;
+
+import ee.vikk.kanban.service.TaskService;
+import ee.vikk.kanban.service.ValidationException;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Replays a seeded mix of task creates, moves, edits and deletes against a
+ * generated workload through TaskService. With a target rate, operations are
+ * scheduled at fixed intervals and latency is measured from the scheduled
+ * start, so time spent queued behind a slow operation counts against the
+ * operations it delayed.
+ */
+public class WorkloadReplay {
+
+    /**
+     * Kinds of replayed operations
+     */
+    public enum Operation {
+        CREATE, MOVE, EDIT, DELETE
+    }
+
+    /** Interactive use: mostly moves, creates and edits, few deletes */
+    public static final Map<Operation, Integer> DEFAULT_MIX = Map.of(
+        Operation.CREATE, 30,
+        Operation.MOVE, 40,
+        Operation.EDIT, 20,
+        Operation.DELETE, 10
+    );
+
+    private final TaskService taskService;
+    private final long seed;
+
+    /**
+     * Constructor with service and seed
+     * @param taskService Service the operations go through
+     * @param seed Seed of the operation sequence
+     */
+    public WorkloadReplay(TaskService taskService, long seed) {
+        this.taskService = taskService;
+        this.seed = seed;
+    }
+
+    /**
+     * Default constructor with the default task service and seed 42
+     */
+    public WorkloadReplay() {
+        this(new TaskService(), 42);
+    }
+
+    /**
+     * Run operations against the boards of a generated workload. Failed
+     * operations are counted as errors and the replay continues.
+     * @param workload Generated boards to work on
+     * @param mix Relative weight of each operation kind
+     * @param operations Number of operations to run
+     * @param targetRate Operations per second, or 0 to run as fast as possible
+     * @return Throughput and latency percentiles per operation kind
+     * @throws ValidationException if the mix, count or rate is invalid
+     */
+    public ReplayReport run(GeneratedWorkload workload, Map<Operation, Integer> mix, int operations,
+                            double targetRate) throws ValidationException {
+        int totalWeight = mix.values().stream().mapToInt(Integer::intValue).sum();
+        if (totalWeight <= 0 || mix.values().stream().anyMatch(weight -> weight < 0)) {
+            throw new ValidationException("Operation mix needs non-negative weights with a positive total");
+        }
+        if (operations < 1 || targetRate < 0 || workload.getBoardIds().isEmpty()) {
+            throw new ValidationException("Replay needs boards, a positive operation count and a non-negative rate");
+        }
+
+        Random random = new Random(seed);
+        List<Integer> boardIds = workload.getBoardIds();
+        Map<Integer, List<Integer>> liveTasks = new HashMap<>();
+        for (Integer boardId : boardIds) {
+            liveTasks.put(boardId, new ArrayList<>(workload.getTaskIds(boardId)));
+        }
+
+        EnumMap<Operation, long[]> samples = new EnumMap<>(Operation.class);
+        int[] counts = new int[Operation.values().length];
+        int[] errors = new int[Operation.values().length];
+        for (Operation operation : Operation.values()) {
+            samples.put(operation, new long[operations]);
+        }
+        long[] allSamples = new long[operations];
+        int allErrors = 0;
+
+        long intervalNanos = targetRate > 0 ? (long) (1_000_000_000 / targetRate) : 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < operations; i++) {
+            long scheduled = start + i * intervalNanos;
+            long wait = scheduled - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            long begin = intervalNanos > 0 ? scheduled : System.nanoTime();
+
+            Integer boardId = boardIds.get(random.nextInt(boardIds.size()));
+            List<Integer> tasks = liveTasks.get(boardId);
+            Operation operation = pick(mix, totalWeight, random);
+            if (tasks.isEmpty()) {
+                operation = Operation.CREATE;
+            }
+
+            boolean failed = false;
+            try {
+                execute(operation, workload.getColumnIds(boardId), tasks, random, i);
+            } catch (SQLException | ValidationException e) {
+                failed = true;
+            }
+
+            long latency = System.nanoTime() - begin;
+            int kind = operation.ordinal();
+            samples.get(operation)[counts[kind]++] = latency;
+            allSamples[i] = latency;
+            if (failed) {
+                errors[kind]++;
+                allErrors++;
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+
+        EnumMap<Operation, LatencySummary> summaries = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            int kind = operation.ordinal();
+            summaries.put(operation, LatencySummary.of(samples.get(operation), counts[kind], errors[kind]));
+        }
+        return new ReplayReport(summaries, LatencySummary.of(allSamples, operations, allErrors), elapsed, targetRate);
+    }
+
+    private void execute(Operation operation, List<Integer> columnIds, List<Integer> tasks, Random random, int sequence)
+            throws SQLException, ValidationException {
+        Integer columnId = columnIds.get(random.nextInt(columnIds.size()));
+        switch (operation) {
+            case CREATE -> tasks.add(taskService.createTask(columnId, "Replay task " + sequence,
+                "Created by workload replay").getId());
+            case MOVE -> taskService.moveTask(tasks.get(random.nextInt(tasks.size())), columnId);
+            case EDIT -> taskService.updateTask(tasks.get(random.nextInt(tasks.size())),
+                "Edited task " + sequence, "Edited by workload replay");
+            case DELETE -> {
+                // Swap with the last task so removal stays constant time
+                int index = random.nextInt(tasks.size());
+                Integer taskId = tasks.get(index);
+                tasks.set(index, tasks.get(tasks.size() - 1));
+                tasks.remove(tasks.size() - 1);
+                taskService.deleteTask(taskId);
+            }
+        }
+    }
+
+    private static Operation pick(Map<Operation, Integer> mix, int totalWeight, Random random) {
+        int draw = random.nextInt(totalWeight);
+        for (Operation operation : Operation.values()) {
+            draw -= mix.getOrDefault(operation, 0);
+            if (draw < 0) {
+                return operation;
+            }
+        }
+        throw new IllegalStateException("Draw outside the operation mix");
+    }
+}
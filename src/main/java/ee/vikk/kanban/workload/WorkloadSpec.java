@@ -0,0 +1,280 @@
+package ee.vikk.kanban.workload;
+
+import java.time.LocalDateTime;
+
+/**
+ * Immutable description of a synthetic dataset. Two generator runs with the
+ * same spec on empty databases produce the same boards, columns, tasks and
+ * tags; only generated IDs may differ.
+ */
+public class WorkloadSpec {
+
+    /**
+     * How a board's tasks spread over its columns
+     */
+    public enum TaskDistribution {
+        /** Every column is equally likely */
+        UNIFORM,
+        /** Column n is twice as likely as column n + 1, like a long backlog and a short done column */
+        FRONT_LOADED
+    }
+
+    private final long seed;
+    private final int boards;
+    private final int columnsPerBoard;
+    private final int minTasksPerBoard;
+    private final int maxTasksPerBoard;
+    private final TaskDistribution distribution;
+    private final int minDescriptionLength;
+    private final int maxDescriptionLength;
+    private final int tagCount;
+    private final int maxTagsPerTask;
+    private final double dueDateRatio;
+    private final int dueDateSpreadDays;
+    private final LocalDateTime baseTime;
+
+    private WorkloadSpec(Builder builder) {
+        this.seed = builder.seed;
+        this.boards = builder.boards;
+        this.columnsPerBoard = builder.columnsPerBoard;
+        this.minTasksPerBoard = builder.minTasksPerBoard;
+        this.maxTasksPerBoard = builder.maxTasksPerBoard;
+        this.distribution = builder.distribution;
+        this.minDescriptionLength = builder.minDescriptionLength;
+        this.maxDescriptionLength = builder.maxDescriptionLength;
+        this.tagCount = builder.tagCount;
+        this.maxTagsPerTask = builder.maxTagsPerTask;
+        this.dueDateRatio = builder.dueDateRatio;
+        this.dueDateSpreadDays = builder.dueDateSpreadDays;
+        this.baseTime = builder.baseTime;
+    }
+
+    /**
+     * Start building a spec
+     * @return Builder for one board of 3 columns and 100 tasks, seed 42
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Check the spec for out-of-range settings
+     * @return Problem description, or null if the spec is valid
+     */
+    public String validate() {
+        if (boards < 1 || columnsPerBoard < 1) {
+            return "A workload needs at least one board and one column per board";
+        }
+        if (minTasksPerBoard < 0 || minTasksPerBoard > maxTasksPerBoard) {
+            return "Task count range per board is invalid";
+        }
+        if (minDescriptionLength < 0 || minDescriptionLength > maxDescriptionLength) {
+            return "Description length range is invalid";
+        }
+        if (tagCount < 0 || maxTagsPerTask < 0 || (maxTagsPerTask > 0 && tagCount == 0)) {
+            return "Tags per task need a positive tag count";
+        }
+        if (dueDateRatio < 0 || dueDateRatio > 1 || dueDateSpreadDays < 0) {
+            return "Due date ratio must be between 0 and 1 and the spread not negative";
+        }
+        return null;
+    }
+
+    // Getters
+    public long getSeed() {
+        return seed;
+    }
+
+    public int getBoards() {
+        return boards;
+    }
+
+    public int getColumnsPerBoard() {
+        return columnsPerBoard;
+    }
+
+    public int getMinTasksPerBoard() {
+        return minTasksPerBoard;
+    }
+
+    public int getMaxTasksPerBoard() {
+        return maxTasksPerBoard;
+    }
+
+    public TaskDistribution getDistribution() {
+        return distribution;
+    }
+
+    public int getMinDescriptionLength() {
+        return minDescriptionLength;
+    }
+
+    public int getMaxDescriptionLength() {
+        return maxDescriptionLength;
+    }
+
+    public int getTagCount() {
+        return tagCount;
+    }
+
+    public int getMaxTagsPerTask() {
+        return maxTagsPerTask;
+    }
+
+    public double getDueDateRatio() {
+        return dueDateRatio;
+    }
+
+    public int getDueDateSpreadDays() {
+        return dueDateSpreadDays;
+    }
+
+    public LocalDateTime getBaseTime() {
+        return baseTime;
+    }
+
+    @Override
+    public String toString() {
+        return "WorkloadSpec{" +
+                "seed=" + seed +
+                ", boards=" + boards +
+                ", columnsPerBoard=" + columnsPerBoard +
+                ", tasksPerBoard=" + minTasksPerBoard + ".." + maxTasksPerBoard +
+                ", distribution=" + distribution +
+                ", descriptionLength=" + minDescriptionLength + ".." + maxDescriptionLength +
+                ", tagCount=" + tagCount +
+                ", maxTagsPerTask=" + maxTagsPerTask +
+                ", dueDateRatio=" + dueDateRatio +
+                ", dueDateSpreadDays=" + dueDateSpreadDays +
+                '}';
+    }
+
+    /**
+     * Builder for WorkloadSpec
+     */
+    public static class Builder {
+        private long seed = 42;
+        private int boards = 1;
+        private int columnsPerBoard = 3;
+        private int minTasksPerBoard = 100;
+        private int maxTasksPerBoard = 100;
+        private TaskDistribution distribution = TaskDistribution.UNIFORM;
+        private int minDescriptionLength = 0;
+        private int maxDescriptionLength = 200;
+        private int tagCount = 10;
+        private int maxTagsPerTask = 2;
+        private double dueDateRatio = 0.5;
+        private int dueDateSpreadDays = 30;
+        // Fixed so generated timestamps do not depend on when the generator runs
+        private LocalDateTime baseTime = LocalDateTime.of(2024, 1, 1, 9, 0);
+
+        private Builder() {
+        }
+
+        /**
+         * Set the random seed
+         * @param seed Seed; the same seed reproduces the same data
+         * @return This builder
+         */
+        public Builder seed(long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        /**
+         * Set the number of boards
+         * @param boards Board count
+         * @return This builder
+         */
+        public Builder boards(int boards) {
+            this.boards = boards;
+            return this;
+        }
+
+        /**
+         * Set the number of columns on every board
+         * @param columnsPerBoard Column count
+         * @return This builder
+         */
+        public Builder columnsPerBoard(int columnsPerBoard) {
+            this.columnsPerBoard = columnsPerBoard;
+            return this;
+        }
+
+        /**
+         * Set the task count range of a board; each board draws its count uniformly
+         * @param min Fewest tasks on a board
+         * @param max Most tasks on a board
+         * @return This builder
+         */
+        public Builder tasksPerBoard(int min, int max) {
+            this.minTasksPerBoard = min;
+            this.maxTasksPerBoard = max;
+            return this;
+        }
+
+        /**
+         * Set how tasks spread over the columns of a board
+         * @param distribution Task distribution
+         * @return This builder
+         */
+        public Builder distribution(TaskDistribution distribution) {
+            this.distribution = distribution;
+            return this;
+        }
+
+        /**
+         * Set the description length range; length 0 leaves the description empty
+         * @param min Shortest description in characters
+         * @param max Longest description in characters
+         * @return This builder
+         */
+        public Builder descriptionLength(int min, int max) {
+            this.minDescriptionLength = min;
+            this.maxDescriptionLength = max;
+            return this;
+        }
+
+        /**
+         * Set the tag cardinality
+         * @param tagCount Distinct tags shared by all boards
+         * @param maxTagsPerTask Most tags on one task; each task draws 0 to this many
+         * @return This builder
+         */
+        public Builder tags(int tagCount, int maxTagsPerTask) {
+            this.tagCount = tagCount;
+            this.maxTagsPerTask = maxTagsPerTask;
+            return this;
+        }
+
+        /**
+         * Set the due date spread
+         * @param ratio Share of tasks with a due date, between 0 and 1
+         * @param spreadDays Due dates fall this many days before or after the base time
+         * @return This builder
+         */
+        public Builder dueDates(double ratio, int spreadDays) {
+            this.dueDateRatio = ratio;
+            this.dueDateSpreadDays = spreadDays;
+            return this;
+        }
+
+        /**
+         * Set the time creation timestamps and due dates are drawn around
+         * @param baseTime Base time
+         * @return This builder
+         */
+        public Builder baseTime(LocalDateTime baseTime) {
+            this.baseTime = baseTime;
+            return this;
+        }
+
+        /**
+         * Build the spec
+         * @return Immutable spec
+         */
+        public WorkloadSpec build() {
+            return new WorkloadSpec(this);
+        }
+    }
+}
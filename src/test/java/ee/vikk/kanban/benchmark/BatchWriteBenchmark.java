@@ -0,0 +1,97 @@
+package ee.vikk.kanban.benchmark;
+
+import ee.vikk.kanban.database.DatabaseConfig;
+import ee.vikk.kanban.database.DatabaseConnection;
+import ee.vikk.kanban.model.Board;
+import ee.vikk.kanban.model.Column;
+import ee.vikk.kanban.model.Task;
+import ee.vikk.kanban.model.TaskDAO;
+import ee.vikk.kanban.service.BoardService;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * Compares inserting, updating and deleting tasks one statement at a time
+ * against the batched TaskDAO methods.
+ * Run with:
+ * mvn test-compile exec:java -Dexec.classpathScope=test
+ *     -Dexec.mainClass=ee.vikk.kanban.benchmark.BatchWriteBenchmark [-Dexec.args="tasks"]
+ */
+public class BatchWriteBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        int taskCount = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+
+        Path directory = Files.createTempDirectory("kanban-bench");
+        Properties properties = new Properties();
+        properties.setProperty(DatabaseConfig.DB_PATH, directory.resolve("bench.db").toString());
+        DatabaseConnection.configure(DatabaseConfig.fromProperties(properties));
+
+        try {
+            DatabaseConnection.initializeDatabase();
+            TaskDAO taskDAO = new TaskDAO();
+            Board board = new BoardService().createBoard("Benchmark");
+            Column column = board.getColumns().get(0);
+
+            System.out.printf("%-10s %14s %14s %14s%n", "mode", "insert/s", "update/s", "delete/s");
+
+            List<Task> single = newTasks(column, taskCount);
+            long start = System.nanoTime();
+            for (Task task : single) {
+                taskDAO.save(task);
+            }
+            long insertNanos = System.nanoTime() - start;
+            start = System.nanoTime();
+            for (Task task : single) {
+                taskDAO.update(task);
+            }
+            long updateNanos = System.nanoTime() - start;
+            start = System.nanoTime();
+            for (Task task : single) {
+                taskDAO.deleteById(task.getId());
+            }
+            long deleteNanos = System.nanoTime() - start;
+            print("single", taskCount, insertNanos, updateNanos, deleteNanos);
+
+            List<Task> batched = newTasks(column, taskCount);
+            start = System.nanoTime();
+            taskDAO.saveAll(batched);
+            insertNanos = System.nanoTime() - start;
+            start = System.nanoTime();
+            taskDAO.updateAll(batched);
+            updateNanos = System.nanoTime() - start;
+            List<Integer> ids = batched.stream().map(Task::getId).toList();
+            start = System.nanoTime();
+            taskDAO.deleteAllById(ids);
+            deleteNanos = System.nanoTime() - start;
+            print("batch", taskCount, insertNanos, updateNanos, deleteNanos);
+        } finally {
+            DatabaseConnection.closeConnection();
+            try (var files = Files.list(directory)) {
+                for (Path file : (Iterable<Path>) files::iterator) {
+                    Files.deleteIfExists(file);
+                }
+            }
+            Files.deleteIfExists(directory);
+        }
+    }
+
+    private static List<Task> newTasks(Column column, int count) {
+        List<Task> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Task task = new Task(column.getId(), "Task " + i, i + 1);
+            task.setDescription("Description for task " + i);
+            tasks.add(task);
+        }
+        return tasks;
+    }
+
+    private static void print(String mode, int count, long insertNanos, long updateNanos, long deleteNanos) {
+        System.out.printf("%-10s %14.0f %14.0f %14.0f%n", mode,
+                count / (insertNanos / 1e9), count / (updateNanos / 1e9), count / (deleteNanos / 1e9));
+    }
+}
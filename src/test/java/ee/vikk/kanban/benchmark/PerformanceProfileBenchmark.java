@@ -0,0 +1,82 @@
+package ee.vikk.kanban.benchmark;
+
+import ee.vikk.kanban.database.DatabaseConfig;
+import ee.vikk.kanban.database.DatabaseConnection;
+import ee.vikk.kanban.database.PerformanceProfile;
+import ee.vikk.kanban.model.Board;
+import ee.vikk.kanban.model.Column;
+import ee.vikk.kanban.service.BoardService;
+import ee.vikk.kanban.service.TaskService;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * Compares task inserts and board loads with and without the SQLite performance profile.
+ * Run with:
+ * mvn test-compile exec:java -Dexec.classpathScope=test
+ *     -Dexec.mainClass=ee.vikk.kanban.benchmark.PerformanceProfileBenchmark [-Dexec.args="tasks loads"]
+ */
+public class PerformanceProfileBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        int taskCount = args.length > 0 ? Integer.parseInt(args[0]) : 2_000;
+        int boardLoads = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+
+        System.out.printf("%-12s %14s %14s %16s%n", "profile", "inserts/s", "insert ms", "board load ms");
+        for (PerformanceProfile profile : PerformanceProfile.values()) {
+            run(profile, taskCount, boardLoads);
+        }
+    }
+
+    private static void run(PerformanceProfile profile, int taskCount, int boardLoads) throws Exception {
+        Path directory = Files.createTempDirectory("kanban-bench");
+        Path database = directory.resolve("bench.db");
+
+        Properties properties = new Properties();
+        properties.setProperty(DatabaseConfig.DB_PATH, database.toString());
+        properties.setProperty(DatabaseConfig.DB_PERFORMANCE_PROFILE, profile.name());
+        DatabaseConnection.configure(DatabaseConfig.fromProperties(properties));
+
+        try {
+            DatabaseConnection.initializeDatabase();
+            BoardService boardService = new BoardService();
+            TaskService taskService = new TaskService();
+
+            Board board = boardService.createBoard("Benchmark");
+            List<Column> columns = board.getColumns();
+
+            long insertStart = System.nanoTime();
+            for (int i = 0; i < taskCount; i++) {
+                Column column = columns.get(i % columns.size());
+                taskService.createTask(column.getId(), "Task " + i, "Description for task " + i);
+            }
+            long insertNanos = System.nanoTime() - insertStart;
+
+            long loadStart = System.nanoTime();
+            for (int i = 0; i < boardLoads; i++) {
+                Board loaded = boardService.getBoardWithColumns(board.getId());
+                for (Column column : loaded.getColumns()) {
+                    taskService.getTasksByColumn(column.getId());
+                }
+            }
+            long loadNanos = System.nanoTime() - loadStart;
+
+            System.out.printf("%-12s %14.0f %14.1f %16.3f%n",
+                    profile,
+                    taskCount / (insertNanos / 1e9),
+                    insertNanos / 1e6,
+                    loadNanos / 1e6 / boardLoads);
+        } finally {
+            DatabaseConnection.closeConnection();
+            try (var files = Files.list(directory)) {
+                for (Path file : (Iterable<Path>) files::iterator) {
+                    Files.deleteIfExists(file);
+                }
+            }
+            Files.deleteIfExists(directory);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package ee.vikk.kanban.benchmark;
+
+import ee.vikk.kanban.database.DatabaseConfig;
+import ee.vikk.kanban.database.DatabaseConnection;
+import ee.vikk.kanban.service.TaskService;
+import ee.vikk.kanban.workload.GeneratedWorkload;
+import ee.vikk.kanban.workload.ReplayReport;
+import ee.vikk.kanban.workload.WorkloadGenerator;
+import ee.vikk.kanban.workload.WorkloadReplay;
+import ee.vikk.kanban.workload.WorkloadSpec;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+
+/**
+ * Generates a synthetic dataset in a fresh database file, then replays the
+ * default operation mix against it at a target rate.
+ * Run with:
+ * mvn test-compile exec:java -Dexec.classpathScope=test
+ *     -Dexec.mainClass=ee.vikk.kanban.benchmark.WorkloadBenchmark [-Dexec.args="boards tasks operations rate seed"]
+ */
+public class WorkloadBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        int boards = args.length > 0 ? Integer.parseInt(args[0]) : 20;
+        int tasksPerBoard = args.length > 1 ? Integer.parseInt(args[1]) : 500;
+        int operations = args.length > 2 ? Integer.parseInt(args[2]) : 5_000;
+        double rate = args.length > 3 ? Double.parseDouble(args[3]) : 200;
+        long seed = args.length > 4 ? Long.parseLong(args[4]) : 42;
+
+        Path directory = Files.createTempDirectory("kanban-bench");
+        Properties properties = new Properties();
+        properties.setProperty(DatabaseConfig.DB_PATH, directory.resolve("bench.db").toString());
+        DatabaseConnection.configure(DatabaseConfig.fromProperties(properties));
+
+        try {
+            DatabaseConnection.initializeDatabase();
+            WorkloadSpec spec = WorkloadSpec.builder()
+                .seed(seed)
+                .boards(boards)
+                .columnsPerBoard(5)
+                .tasksPerBoard(tasksPerBoard / 2, tasksPerBoard * 3 / 2)
+                .distribution(WorkloadSpec.TaskDistribution.FRONT_LOADED)
+                .descriptionLength(0, 400)
+                .tags(30, 3)
+                .dueDates(0.4, 60)
+                .build();
+
+            long start = System.nanoTime();
+            GeneratedWorkload workload = new WorkloadGenerator().generate(spec);
+            double seconds = (System.nanoTime() - start) / 1e9;
+            System.out.printf("generated %s in %.2f s (%.0f tasks/s)%n", workload, seconds,
+                    workload.getTaskCount() / seconds);
+
+            ReplayReport report = new WorkloadReplay(new TaskService(), seed)
+                .run(workload, WorkloadReplay.DEFAULT_MIX, operations, rate);
+            System.out.print(report.format());
+        } finally {
+            DatabaseConnection.closeConnection();
+            try (var files = Files.list(directory)) {
+                for (Path file : (Iterable<Path>) files::iterator) {
+                    Files.deleteIfExists(file);
+                }
+            }
+            Files.deleteIfExists(directory);
+        }
+    }
+}
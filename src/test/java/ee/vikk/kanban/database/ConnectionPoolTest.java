@@ -0,0 +1,109 @@
+package ee.vikk.kanban.database;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for ConnectionPool
+ */
+class ConnectionPoolTest {
+
+    private ConnectionPool pool;
+
+    @BeforeEach
+    void setUp() {
+        PoolConfig config = new PoolConfig(2);
+        config.setConnectionTimeoutMillis(200);
+        pool = new ConnectionPool(() -> DriverManager.getConnection("jdbc:sqlite::memory:"), config);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.close();
+    }
+
+    @Test
+    void testGetConnection_AfterClose_ShouldReusePhysicalConnection() throws SQLException {
+        // Given
+        Connection first = pool.getConnection();
+        Connection firstPhysical = first.unwrap(Connection.class);
+        first.close();
+
+        // When
+        Connection second = pool.getConnection();
+
+        // Then
+        assertTrue(first.isClosed(), "Returned connection should report closed");
+        assertSame(firstPhysical, second.unwrap(Connection.class), "Physical connection should be reused");
+        assertEquals(1, pool.getMetrics().getCreated(), "Only one physical connection should be opened");
+        second.close();
+    }
+
+    @Test
+    void testGetMetrics_ShouldTrackActiveAndIdleConnections() throws SQLException {
+        // Given
+        Connection first = pool.getConnection();
+        Connection second = pool.getConnection();
+
+        // Then
+        assertEquals(2, pool.getMetrics().getActive(), "Both connections should be active");
+        assertEquals(0, pool.getMetrics().getIdle(), "No connections should be idle");
+
+        // When
+        first.close();
+        second.close();
+
+        // Then
+        PoolMetrics metrics = pool.getMetrics();
+        assertEquals(0, metrics.getActive(), "No connections should be active after return");
+        assertEquals(2, metrics.getIdle(), "Both connections should be idle after return");
+        assertEquals(2, metrics.getBorrows(), "Two borrows should be recorded");
+    }
+
+    @Test
+    void testGetConnection_WhenExhausted_ShouldTimeOut() throws SQLException {
+        // Given
+        Connection first = pool.getConnection();
+        Connection second = pool.getConnection();
+
+        // When & Then
+        assertThrows(SQLTimeoutException.class, () -> pool.getConnection());
+        assertEquals(1, pool.getMetrics().getTimeouts(), "Timeout should be recorded");
+
+        first.close();
+        second.close();
+    }
+
+    @Test
+    void testRelease_WithOpenTransaction_ShouldRollBackAndResetAutoCommit() throws SQLException {
+        // Given
+        Connection connection = pool.getConnection();
+        connection.setAutoCommit(false);
+        connection.close();
+
+        // When
+        Connection reused = pool.getConnection();
+
+        // Then
+        assertTrue(reused.getAutoCommit(), "Reused connection should be back in auto-commit mode");
+        reused.close();
+    }
+
+    @Test
+    void testClosedConnection_ShouldRejectFurtherUse() throws SQLException {
+        // Given
+        Connection connection = pool.getConnection();
+        connection.close();
+
+        // When & Then
+        assertThrows(SQLException.class, connection::createStatement);
+    }
+}
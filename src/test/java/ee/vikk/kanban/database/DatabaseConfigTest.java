@@ -0,0 +1,83 @@
+package ee.vikk.kanban.database;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for DatabaseConfig
+ */
+class DatabaseConfigTest {
+
+    @Test
+    void testLoad_WithTestProfile_ShouldUseTestDatabase() {
+        // When
+        DatabaseConfig config = DatabaseConfig.load();
+
+        // Then
+        assertEquals("test", config.getProfile(), "Build should run tests with the test profile");
+        assertEquals(DatabaseConfig.Mode.MEMORY, config.getMode(), "Test profile should not touch the disk");
+        assertEquals("jdbc:sqlite:file:test-kanban?mode=memory&cache=shared", config.getUrl(),
+            "Test profile should use the shared in-memory test database");
+    }
+
+    @Test
+    void testFromProperties_WithDefaults_ShouldUseFileDatabase() {
+        // When
+        DatabaseConfig config = DatabaseConfig.fromProperties(new Properties());
+
+        // Then
+        assertEquals(DatabaseConfig.Mode.FILE, config.getMode());
+        assertEquals("jdbc:sqlite:kanban.db", config.getUrl());
+        assertEquals(PerformanceProfile.PERFORMANCE, config.getPerformanceProfile());
+        assertEquals("WAL", config.getPragmas().get("journal_mode"), "Performance profile should enable WAL");
+    }
+
+    @Test
+    void testFromProperties_WithMemoryMode_ShouldUseSharedInMemoryUrl() {
+        // Given
+        Properties properties = new Properties();
+        properties.setProperty(DatabaseConfig.DB_MODE, "memory");
+        properties.setProperty(DatabaseConfig.DB_PATH, "scratch.db");
+
+        // When
+        DatabaseConfig config = DatabaseConfig.fromProperties(properties);
+
+        // Then
+        assertEquals(DatabaseConfig.Mode.MEMORY, config.getMode());
+        assertEquals("jdbc:sqlite:file:scratch?mode=memory&cache=shared", config.getUrl());
+        assertFalse(config.getPragmas().containsKey("journal_mode"), "In-memory database cannot use WAL");
+    }
+
+    @Test
+    void testFromProperties_WithPoolAndPragmas_ShouldApplyThem() {
+        // Given
+        Properties properties = new Properties();
+        properties.setProperty(DatabaseConfig.DB_MODE, "read-only");
+        properties.setProperty(DatabaseConfig.POOL_SIZE, "8");
+        properties.setProperty(DatabaseConfig.PRAGMA_PREFIX + "busy_timeout", "250");
+
+        // When
+        DatabaseConfig config = DatabaseConfig.fromProperties(properties);
+
+        // Then
+        assertTrue(config.isReadOnly(), "Read-only mode should be parsed");
+        assertEquals(8, config.getPoolConfig().getMaxSize(), "Pool size should be applied");
+        assertEquals("250", config.getPragmas().get("busy_timeout"), "Explicit pragma should override profile");
+    }
+
+    @Test
+    void testFromProperties_WithInvalidValues_ShouldThrow() {
+        // Given
+        Properties badMode = new Properties();
+        badMode.setProperty(DatabaseConfig.DB_MODE, "cloud");
+        Properties badPragma = new Properties();
+        badPragma.setProperty(DatabaseConfig.PRAGMA_PREFIX + "cache_size", "1; DROP TABLE tasks");
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> DatabaseConfig.fromProperties(badMode));
+        assertThrows(IllegalArgumentException.class, () -> DatabaseConfig.fromProperties(badPragma));
+    }
+}
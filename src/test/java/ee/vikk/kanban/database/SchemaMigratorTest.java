@@ -0,0 +1,156 @@
+package ee.vikk.kanban.database;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for SchemaMigrator
+ */
+class SchemaMigratorTest {
+
+    private Connection connection;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:sqlite::memory:");
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Test
+    void testMigrate_NewDatabase_ShouldApplyAllMigrationsAndIndexes() throws SQLException {
+        // Given
+        SchemaMigrator migrator = new SchemaMigrator();
+
+        // When
+        int applied = migrator.migrate(connection);
+
+        // Then
+        assertEquals(Migrations.all().size(), applied, "All migrations should be applied");
+        assertEquals(migrator.getLatestVersion(), migrator.getCurrentVersion(connection));
+        assertFalse(indexExists("idx_tasks_column_position"), "Task position index should be dropped");
+        assertFalse(indexExists("idx_columns_board_position"), "Column position index should be dropped");
+        assertTrue(indexExists("idx_task_tags_tag_task"), "Tag lookup index should exist");
+        assertTrue(indexExists("idx_tasks_column_rank"), "Task rank index should exist");
+        assertTrue(indexExists("idx_columns_board_rank"), "Column rank index should exist");
+    }
+
+    @Test
+    void testMigrate_CurrentDatabase_ShouldApplyNothing() throws SQLException {
+        // Given
+        SchemaMigrator migrator = new SchemaMigrator();
+        migrator.migrate(connection);
+
+        // When
+        int applied = migrator.migrate(connection);
+
+        // Then
+        assertEquals(0, applied, "Up-to-date database should not be migrated again");
+    }
+
+    @Test
+    void testMigrate_FailingMigration_ShouldRollBackThatMigration() throws SQLException {
+        // Given
+        SchemaMigrator migrator = new SchemaMigrator(List.of(
+            new Migration(1, "Create table", "CREATE TABLE sample (id INTEGER PRIMARY KEY)"),
+            new Migration(2, "Broken", "CREATE TABLE partial (id INTEGER)", "NOT VALID SQL")
+        ));
+
+        // When & Then
+        assertThrows(SQLException.class, () -> migrator.migrate(connection));
+        assertEquals(1, migrator.getCurrentVersion(connection), "Only the first migration should be recorded");
+        assertFalse(tableExists("partial"), "Failed migration should be rolled back");
+        assertTrue(connection.getAutoCommit(), "Auto-commit should be restored");
+    }
+
+    @Test
+    void testMigrate_ExistingTasks_ShouldBackfillRanksInPositionOrder() throws SQLException {
+        // Given
+        new SchemaMigrator(Migrations.all().subList(0, 4)).migrate(connection);
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute("INSERT INTO boards (id, name) VALUES (1, 'Board')");
+            stmt.execute("INSERT INTO columns (id, board_id, name, position) VALUES (1, 1, 'TODO', 1)");
+            stmt.execute("INSERT INTO tasks (id, column_id, title, position) VALUES (1, 1, 'Third', 3), (2, 1, 'First', 1), (3, 1, 'Second', 2)");
+        }
+
+        // When
+        new SchemaMigrator().migrate(connection);
+
+        // Then
+        List<String> titles = new ArrayList<>();
+        try (Statement stmt = connection.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT title, rank FROM tasks ORDER BY rank")) {
+            while (rs.next()) {
+                assertNotNull(rs.getString("rank"), "Every task should get a rank");
+                titles.add(rs.getString("title"));
+            }
+        }
+        assertEquals(List.of("First", "Second", "Third"), titles, "Ranks should follow the old positions");
+    }
+
+    @Test
+    void testMigrate_OrphanedRows_ShouldBeDeleted() throws SQLException {
+        // Given
+        new SchemaMigrator(Migrations.all().subList(0, 6)).migrate(connection);
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute("INSERT INTO boards (id, name) VALUES (1, 'Board')");
+            stmt.execute("INSERT INTO columns (id, board_id, name, position) VALUES (1, 1, 'Kept', 1), (2, 2, 'Orphan', 1)");
+            stmt.execute("INSERT INTO tasks (id, column_id, title, position) VALUES (1, 1, 'Kept', 1), (2, 2, 'Orphan child', 1), (3, 3, 'Orphan', 2)");
+            stmt.execute("INSERT INTO tags (id, name, color) VALUES (1, 'tag', '#000000')");
+            stmt.execute("INSERT INTO task_tags (task_id, tag_id) VALUES (1, 1), (2, 1), (1, 2)");
+        }
+
+        // When
+        new SchemaMigrator().migrate(connection);
+
+        // Then
+        assertEquals(1, count("columns"), "Column of a deleted board should be deleted");
+        assertEquals(1, count("tasks"), "Tasks of deleted columns should be deleted");
+        assertEquals(1, count("task_tags"), "Assignments of deleted tasks or tags should be deleted");
+    }
+
+    @Test
+    void testConstructor_WithDuplicateVersions_ShouldThrow() {
+        assertThrows(IllegalArgumentException.class, () -> new SchemaMigrator(List.of(
+            new Migration(1, "First", "SELECT 1"),
+            new Migration(1, "Second", "SELECT 1")
+        )));
+    }
+
+    private boolean indexExists(String name) throws SQLException {
+        return schemaObjectExists("index", name);
+    }
+
+    private boolean tableExists(String name) throws SQLException {
+        return schemaObjectExists("table", name);
+    }
+
+    private int count(String table) throws SQLException {
+        try (Statement stmt = connection.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM " + table)) {
+            return rs.getInt(1);
+        }
+    }
+
+    private boolean schemaObjectExists(String type, String name) throws SQLException {
+        try (Statement stmt = connection.createStatement();
+             ResultSet rs = stmt.executeQuery(
+                 "SELECT 1 FROM sqlite_master WHERE type = '" + type + "' AND name = '" + name + "'")) {
+            return rs.next();
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package ee.vikk.kanban.database;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for SlowQueryLog and the timed connection wrapper
+ */
+class SlowQueryLogTest {
+
+    private Connection physical;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        physical = DriverManager.getConnection("jdbc:sqlite::memory:");
+        try (Statement stmt = physical.createStatement()) {
+            stmt.execute("CREATE TABLE tasks (id INTEGER PRIMARY KEY, column_id INTEGER, title TEXT)");
+            stmt.execute("CREATE INDEX idx_tasks_column ON tasks(column_id)");
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        physical.close();
+    }
+
+    @Test
+    void testStatement_OverThreshold_ShouldBeRecordedWithRedactedParametersAndPlan() throws SQLException {
+        // Given
+        SlowQueryLog log = new SlowQueryLog(new SlowQueryConfig(0));
+        Connection connection = TimedConnection.wrap(physical, log);
+
+        // When
+        try (PreparedStatement stmt = connection.prepareStatement("INSERT INTO tasks (column_id, title) VALUES (?, ?)")) {
+            stmt.setInt(1, 7);
+            stmt.setString(2, "Secret title");
+            stmt.executeUpdate();
+        }
+        try (PreparedStatement stmt = connection.prepareStatement("SELECT * FROM tasks WHERE column_id = ?")) {
+            stmt.setInt(1, 7);
+            stmt.executeQuery().close();
+        }
+
+        // Then
+        List<SlowQuery> recent = log.getRecent();
+        assertEquals(2, recent.size(), "Every statement should reach a 0 ms threshold");
+        SlowQuery select = recent.get(0);
+        assertTrue(select.getSql().startsWith("SELECT"), "Newest statement should come first");
+        assertTrue(select.getPlan().contains("idx_tasks_column"), "Plan should show the index used: " + select.getPlan());
+        assertEquals("[7, '<12 chars>']", recent.get(1).getParameters(), "Text parameters should be redacted");
+        assertFalse(recent.get(1).format().contains("Secret"), "Formatted entry should not leak text values");
+    }
+
+    @Test
+    void testRecord_OverBufferSizeAndLogLimit_ShouldKeepNewestWithoutPlan() throws SQLException {
+        // Given
+        SlowQueryConfig config = new SlowQueryConfig(0);
+        config.setBufferSize(3);
+        config.setLogLimitPerMinute(2);
+        SlowQueryLog log = new SlowQueryLog(config);
+        Connection connection = TimedConnection.wrap(physical, log);
+
+        // When
+        try (Statement stmt = connection.createStatement()) {
+            for (int i = 1; i <= 5; i++) {
+                stmt.executeQuery("SELECT " + i).close();
+            }
+        }
+
+        // Then
+        List<SlowQuery> recent = log.getRecent();
+        assertEquals(5, log.getTotalCount(), "Every slow statement should be counted");
+        assertEquals(List.of("SELECT 5", "SELECT 4", "SELECT 3"), recent.stream().map(SlowQuery::getSql).toList(),
+            "Ring buffer should keep the newest statements");
+        assertTrue(recent.stream().allMatch(query -> query.getPlan() == null),
+            "Statements over the log limit should not be explained");
+        assertFalse(new SlowQueryLog(new SlowQueryConfig(-1)).isSlow(Long.MAX_VALUE), "Negative threshold should disable the log");
+    }
+
+    @Test
+    void testRecord_OverLogLimit_ShouldReportSuppressedCountWhenWindowEnds() throws Exception {
+        // Given
+        SlowQueryConfig config = new SlowQueryConfig(0);
+        config.setLogLimitPerMinute(1);
+        SlowQueryLog log = new SlowQueryLog(config, TimeUnit.MILLISECONDS.toNanos(100));
+        Connection connection = TimedConnection.wrap(physical, log);
+        ByteArrayOutputStream err = new ByteArrayOutputStream();
+        PrintStream originalErr = System.err;
+        System.setErr(new PrintStream(err, true, StandardCharsets.UTF_8));
+
+        // When
+        try {
+            try (Statement stmt = connection.createStatement()) {
+                for (int i = 1; i <= 3; i++) {
+                    stmt.executeQuery("SELECT " + i).close();
+                }
+            }
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (!err.toString(StandardCharsets.UTF_8).contains("were not logged") && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+        } finally {
+            System.setErr(originalErr);
+        }
+
+        // Then
+        assertEquals(2, log.getSuppressedCount(), "Statements over the limit should be counted");
+        assertTrue(err.toString(StandardCharsets.UTF_8).contains("Slow query log: 2 slow statements were not logged"),
+            "Suppressed statements should be reported when the window ends without another slow statement");
+    }
+}
@@ -0,0 +1,55 @@
+package ee.vikk.kanban.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for LatencyHistogram
+ */
+class LatencyHistogramTest {
+
+    @Test
+    void testBuckets_ShouldCoverEveryValueOnce() {
+        // Given
+        long previousUpper = -1;
+
+        // When & Then
+        for (int bucket = 0; bucket < LatencyHistogram.bucketOf(1L << 40); bucket++) {
+            long upper = LatencyHistogram.upperBound(bucket);
+            assertEquals(bucket, LatencyHistogram.bucketOf(previousUpper + 1), "Bucket should start after the previous one");
+            assertEquals(bucket, LatencyHistogram.bucketOf(upper), "Upper bound should fall in its own bucket");
+            assertTrue(upper - previousUpper <= Math.max(1, (previousUpper + 1) / 8),
+                "Bucket width should stay within 12.5% of its values");
+            previousUpper = upper;
+        }
+    }
+
+    @Test
+    void testPercentiles_ShouldBeWithinBucketPrecision() {
+        // Given
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        // When
+        for (long micros = 1; micros <= 1000; micros++) {
+            histogram.record(micros * 1000);
+        }
+
+        // Then
+        assertEquals(1000, histogram.getCount(), "Every value should be counted");
+        assertEquals(1_000_000, histogram.getMax(), "Maximum should be exact");
+        assertEquals(500_500, histogram.getMean(), "Mean should be exact");
+        assertWithin(500_000, histogram.getPercentile(0.50), "p50");
+        assertWithin(990_000, histogram.getPercentile(0.99), "p99");
+        assertEquals(histogram.getMax(), histogram.getPercentile(1.0), "p100 should be the maximum");
+
+        histogram.reset();
+        assertEquals(0, histogram.getCount(), "Reset should clear the count");
+        assertEquals(0, histogram.getPercentile(0.99), "Empty histogram should report 0");
+    }
+
+    private static void assertWithin(long expected, long actual, String percentile) {
+        assertTrue(actual >= expected && actual <= expected * 1.125,
+            percentile + " should be at most 12.5% above " + expected + " but was " + actual);
+    }
+}
@@ -0,0 +1,113 @@
+package ee.vikk.kanban.metrics;
+
+import ee.vikk.kanban.model.Board;
+import ee.vikk.kanban.repository.memory.InMemoryStorage;
+import ee.vikk.kanban.service.BoardService;
+import ee.vikk.kanban.service.TimedBoardService;
+import ee.vikk.kanban.service.ValidationException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for Metrics, the timed repositories and service instrumentation
+ */
+class MetricsTest {
+
+    @Test
+    void testOperation_ShouldBeSharedAndPublishedOverJmx() throws Exception {
+        // Given
+        OperationMetrics operation = Metrics.dao("MetricsTest.shared");
+
+        // When
+        operation.record(System.nanoTime() - 2_000_000);
+        operation.countError();
+        operation.record(System.nanoTime());
+
+        // Then
+        assertSame(operation, Metrics.dao("MetricsTest.shared"), "Same name should return the same metrics");
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName("ee.vikk.kanban:type=Operation,layer=dao,name=\"MetricsTest.shared\"");
+        assertEquals(2L, server.getAttribute(name, "Count"), "MBean should expose the call count");
+        assertEquals(1L, server.getAttribute(name, "ErrorCount"), "MBean should expose the error count");
+        assertTrue((Long) server.getAttribute(name, "MaxMicros") >= 2000, "MBean should expose the maximum");
+    }
+
+    @Test
+    void testServiceCalls_ShouldBeRecordedOnBothLayersAndDumped(@TempDir Path directory) throws Exception {
+        // Given
+        InMemoryStorage storage = new InMemoryStorage();
+        BoardService boardService = new TimedBoardService(new TimedBoardRepository(storage.getBoardRepository()),
+            new TimedColumnRepository(storage.getColumnRepository()), storage.getUnitOfWork());
+        OperationMetrics service = Metrics.service("BoardService.getBoardWithColumns");
+        OperationMetrics dao = Metrics.dao("InMemoryBoardRepository.findById");
+        OperationMetrics create = Metrics.service("BoardService.createBoard");
+        long serviceCalls = service.getCount();
+        long daoCalls = dao.getCount();
+        long createErrors = create.getErrorCount();
+
+        // When
+        Board board = boardService.createBoard("Measured");
+        boardService.getBoardWithColumns(board.getId());
+        assertThrows(ValidationException.class, () -> boardService.createBoard(" "));
+        Path file = directory.resolve("metrics.txt");
+        Metrics.dump(file);
+
+        // Then
+        assertEquals(serviceCalls + 1, service.getCount(), "Service call should be counted");
+        assertEquals(daoCalls + 1, dao.getCount(), "Repository call should be counted under its class name");
+        assertEquals(createErrors + 1, create.getErrorCount(), "Failed call should count as an error");
+        String report = Files.readString(file);
+        assertTrue(report.contains("BoardService.getBoardWithColumns"), "Dump should list called operations");
+        assertTrue(report.contains("InMemoryBoardRepository.findById"), "Dump should list repository operations");
+    }
+
+    @Test
+    void testServiceCalls_ShouldCommitFlightRecorderEvents(@TempDir Path directory) throws Exception {
+        // Given
+        InMemoryStorage storage = new InMemoryStorage();
+        BoardService boardService = new TimedBoardService(new TimedBoardRepository(storage.getBoardRepository()),
+            new TimedColumnRepository(storage.getColumnRepository()), storage.getUnitOfWork());
+        Path file = directory.resolve("kanban.jfr");
+
+        // When
+        try (Recording recording = new Recording()) {
+            recording.enable(ServiceCallEvent.class).withoutThreshold();
+            recording.enable(DaoCallEvent.class).withoutThreshold();
+            recording.start();
+            Board board = boardService.createBoard("Recorded");
+            boardService.getBoardWithColumns(board.getId());
+            assertThrows(ValidationException.class, () -> boardService.createBoard(" "));
+            recording.stop();
+            recording.dump(file);
+        }
+
+        // Then
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        RecordedEvent columns = events.stream()
+            .filter(event -> event.getEventType().getName().equals("ee.vikk.kanban.DaoCall"))
+            .filter(event -> event.getString("operation").equals("InMemoryColumnRepository.findByBoardId"))
+            .findFirst().orElseThrow();
+        assertEquals("SELECT", columns.getString("kind"), "DAO event should carry the statement kind");
+        assertEquals("columns", columns.getString("table"), "DAO event should carry the table");
+        assertEquals(3, columns.getInt("rows"), "DAO event should count the default columns");
+        List<RecordedEvent> failed = events.stream()
+            .filter(event -> event.getEventType().getName().equals("ee.vikk.kanban.ServiceCall"))
+            .filter(event -> event.getString("operation").equals("BoardService.createBoard"))
+            .filter(event -> event.getBoolean("failed"))
+            .toList();
+        assertEquals(1, failed.size(), "Failed service call should be marked");
+    }
+}
@@ -0,0 +1,89 @@
+package ee.vikk.kanban.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for Rank
+ */
+class RankTest {
+
+    @Test
+    void testAfter_RepeatedAppends_ShouldStayOrderedAndShort() {
+        // Given
+        String key = Rank.initial();
+
+        // When
+        for (int i = 0; i < 10_000; i++) {
+            String next = Rank.after(key);
+            assertTrue(next.compareTo(key) > 0, "Appended key should sort after " + key);
+            key = next;
+        }
+
+        // Then
+        assertFalse(Rank.needsRebalance(key), "Appending should not grow keys");
+    }
+
+    @Test
+    void testBetween_RandomInserts_ShouldKeepListOrdered() {
+        // Given
+        List<String> keys = new ArrayList<>(List.of(Rank.initial()));
+        Random random = new Random(42);
+
+        // When
+        for (int i = 0; i < 2_000; i++) {
+            int index = random.nextInt(keys.size() + 1);
+            String lower = index > 0 ? keys.get(index - 1) : null;
+            String upper = index < keys.size() ? keys.get(index) : null;
+            keys.add(index, Rank.between(lower, upper));
+        }
+
+        // Then
+        for (int i = 1; i < keys.size(); i++) {
+            assertTrue(keys.get(i - 1).compareTo(keys.get(i)) < 0, "Keys should be strictly increasing at " + i);
+            assertNotEquals('0', keys.get(i).charAt(keys.get(i).length() - 1), "Keys should not end in '0'");
+        }
+    }
+
+    @Test
+    void testBetween_RepeatedInsertAtSamePlace_ShouldEventuallyNeedRebalance() {
+        // Given
+        String lower = Rank.initial();
+        String upper = Rank.after(lower);
+
+        // When
+        String key = upper;
+        for (int i = 0; i < 100 && !Rank.needsRebalance(key); i++) {
+            key = Rank.between(lower, key);
+        }
+
+        // Then
+        assertTrue(Rank.needsRebalance(key), "Squeezing keys into one gap should grow them");
+        assertTrue(lower.compareTo(key) < 0 && key.compareTo(upper) < 0, "Key should stay between its bounds");
+    }
+
+    @Test
+    void testSpread_ShouldReturnShortIncreasingKeys() {
+        // When
+        List<String> keys = Rank.spread(1_000);
+
+        // Then
+        assertEquals(1_000, keys.size());
+        for (int i = 1; i < keys.size(); i++) {
+            assertTrue(keys.get(i - 1).compareTo(keys.get(i)) < 0, "Spread keys should be strictly increasing");
+            assertTrue(keys.get(i).length() <= 4, "Spread keys should be short");
+        }
+    }
+
+    @Test
+    void testBetween_WithInvalidBounds_ShouldThrow() {
+        assertThrows(IllegalArgumentException.class, () -> Rank.between("b", "a"));
+        assertThrows(IllegalArgumentException.class, () -> Rank.between("a", "a"));
+        assertThrows(IllegalArgumentException.class, () -> Rank.between("A0", null));
+    }
+}
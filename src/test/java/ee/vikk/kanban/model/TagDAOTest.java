@@ -0,0 +1,106 @@
+package ee.vikk.kanban.model;
+
+import ee.vikk.kanban.database.DatabaseConnection;
+import ee.vikk.kanban.service.BoardService;
+import ee.vikk.kanban.service.TaskService;
+import ee.vikk.kanban.service.ValidationException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for TagDAO and board tag loading
+ */
+class TagDAOTest {
+
+    private TagDAO tagDAO;
+    private TaskService taskService;
+    private Board board;
+    private String suffix;
+
+    @BeforeEach
+    void setUp() throws SQLException, ValidationException {
+        DatabaseConnection.initializeDatabase();
+        tagDAO = new TagDAO();
+        taskService = new TaskService();
+        board = new BoardService().createBoard("Test Board for Tags");
+        // Tag names are unique across the persistent test database
+        suffix = "-" + System.nanoTime();
+    }
+
+    @AfterEach
+    void tearDown() {
+        DatabaseConnection.closeConnection();
+    }
+
+    @Test
+    void testSaveAndFindByName_ShouldReturnSavedTag() throws SQLException {
+        // Given
+        Tag tag = tagDAO.save(new Tag("bug" + suffix, "#dc3545"));
+
+        // When
+        Tag found = tagDAO.findByName("bug" + suffix);
+
+        // Then
+        assertNotNull(tag.getId(), "Saved tag should have an ID");
+        assertEquals(tag, found, "Lookup by name should return the saved tag");
+        assertEquals(tag, tagDAO.findById(tag.getId()), "Lookup by ID should return the saved tag");
+        assertNull(tagDAO.findByName("missing" + suffix), "Unknown name should return null");
+        assertThrows(SQLException.class, () -> tagDAO.save(new Tag("bug" + suffix, "#000000")),
+            "Duplicate name should be rejected");
+    }
+
+    @Test
+    void testAttachAndDetach_ShouldChangeTaskTags() throws SQLException, ValidationException {
+        // Given
+        Task task = taskService.createTask(board.getColumns().get(0).getId(), "Tagged task");
+        Tag tag = tagDAO.save(new Tag("ui" + suffix, "#007bff"));
+
+        // When
+        boolean attached = tagDAO.attach(task.getId(), tag.getId());
+        boolean attachedAgain = tagDAO.attach(task.getId(), tag.getId());
+
+        // Then
+        assertTrue(attached, "First attach should succeed");
+        assertFalse(attachedAgain, "Second attach should be ignored");
+        assertFalse(tagDAO.attach(-1, tag.getId()), "Attach to a missing task should be ignored");
+        assertEquals(List.of(tag), tagDAO.findByTaskId(task.getId()), "Task should carry the tag");
+
+        assertTrue(tagDAO.detach(task.getId(), tag.getId()), "Detach should succeed");
+        assertFalse(tagDAO.detach(task.getId(), tag.getId()), "Second detach should find nothing");
+        assertTrue(tagDAO.findByTaskId(task.getId()).isEmpty(), "Task should have no tags");
+    }
+
+    @Test
+    void testAttachAll_ShouldShareOneTagInstanceAcrossBoardTasks() throws SQLException, ValidationException {
+        // Given
+        Integer columnId = board.getColumns().get(0).getId();
+        Task first = taskService.createTask(columnId, "First");
+        Task second = taskService.createTask(columnId, "Second");
+        taskService.createTask(columnId, "Untagged");
+        Tag tag = tagDAO.save(new Tag("backend" + suffix, "#28a745"));
+
+        // When
+        int attached = tagDAO.attachAll(tag.getId(), List.of(first.getId(), second.getId(), first.getId()));
+        Map<Integer, List<Tag>> tagsByTask = tagDAO.findByBoardId(board.getId());
+        Board loaded = new BoardDAO().findByIdWithTasks(board.getId());
+
+        // Then
+        assertEquals(2, attached, "Duplicate task ID should be attached once");
+        assertEquals(2, tagsByTask.size(), "Only tagged tasks should have entries");
+        assertSame(tagsByTask.get(first.getId()).get(0), tagsByTask.get(second.getId()).get(0),
+            "Tasks should share one Tag instance");
+
+        List<Task> tasks = loaded.getColumns().get(0).getTasks();
+        assertEquals(List.of(tag), tasks.get(0).getTags(), "Board load should stitch tags onto tasks");
+        assertSame(tasks.get(0).getTags().get(0), tasks.get(1).getTags().get(0),
+            "Board load should share one Tag instance");
+        assertTrue(tasks.get(2).getTags().isEmpty(), "Untagged task should have no tags");
+    }
+}
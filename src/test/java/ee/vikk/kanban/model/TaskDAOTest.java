@@ -0,0 +1,226 @@
+package ee.vikk.kanban.model;
+
+import ee.vikk.kanban.database.DatabaseConnection;
+import ee.vikk.kanban.repository.TaskProjection;
+import ee.vikk.kanban.repository.TaskQuery;
+import ee.vikk.kanban.service.BoardService;
+import ee.vikk.kanban.service.ValidationException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for TaskDAO batch and paginated operations
+ */
+class TaskDAOTest {
+
+    private TaskDAO taskDAO;
+    private Column testColumn;
+
+    @BeforeEach
+    void setUp() throws SQLException, ValidationException {
+        DatabaseConnection.initializeDatabase();
+        taskDAO = new TaskDAO();
+
+        Board board = new BoardService().createBoard("Test Board for Batches");
+        testColumn = board.getColumns().get(0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        DatabaseConnection.closeConnection();
+    }
+
+    @Test
+    void testSaveAll_ShouldAssignGeneratedIdsInOrder() throws SQLException {
+        // Given
+        List<Task> tasks = newTasks(5);
+
+        // When
+        taskDAO.saveAll(tasks);
+
+        // Then
+        for (int i = 0; i < tasks.size(); i++) {
+            Task saved = tasks.get(i);
+            assertNotNull(saved.getId(), "Saved task should have an ID");
+            assertEquals("Batch task " + i, taskDAO.findById(saved.getId()).getTitle(),
+                "ID should belong to the task at the same index");
+        }
+        assertEquals(5, taskDAO.findByColumnId(testColumn.getId()).size(), "All tasks should be saved");
+    }
+
+    @Test
+    void testSaveAll_ShouldReturnGeneratedRanks() throws SQLException {
+        // Given
+        List<Task> tasks = newTasks(3);
+
+        // When
+        taskDAO.saveAll(tasks);
+
+        // Then
+        for (Task saved : tasks) {
+            assertNotNull(saved.getRank(), "Saved task should have its generated rank");
+            assertEquals(taskDAO.findById(saved.getId()).getRank(), saved.getRank(),
+                "Returned rank should match the stored rank");
+        }
+        assertTrue(tasks.get(0).getRank().compareTo(tasks.get(1).getRank()) < 0
+                && tasks.get(1).getRank().compareTo(tasks.get(2).getRank()) < 0,
+            "Ranks should follow the input order");
+    }
+
+    @Test
+    void testSaveAll_WithInvalidTask_ShouldSaveNothing() {
+        // Given
+        List<Task> tasks = newTasks(3);
+        tasks.get(2).setTitle(null); // violates NOT NULL
+
+        // When & Then
+        assertThrows(SQLException.class, () -> taskDAO.saveAll(tasks));
+        assertDoesNotThrow(() -> assertTrue(taskDAO.findByColumnId(testColumn.getId()).isEmpty(),
+            "Failed batch should be rolled back"));
+    }
+
+    @Test
+    void testUpdateAllAndDeleteAllById_ShouldAffectEveryTask() throws SQLException {
+        // Given
+        List<Task> tasks = taskDAO.saveAll(newTasks(4));
+        tasks.forEach(task -> task.setPriority(Task.Priority.HIGH));
+
+        // When
+        int updated = taskDAO.updateAll(tasks);
+
+        // Then
+        assertEquals(4, updated, "All tasks should be updated");
+        assertEquals(Task.Priority.HIGH, taskDAO.findById(tasks.get(3).getId()).getPriority());
+
+        // When
+        int deleted = taskDAO.deleteAllById(List.of(tasks.get(0).getId(), tasks.get(1).getId()));
+
+        // Then
+        assertEquals(2, deleted, "Two tasks should be deleted");
+        assertEquals(2, taskDAO.findByColumnId(testColumn.getId()).size(), "Two tasks should remain");
+    }
+
+    @Test
+    void testFindPageByColumnId_ShouldWalkColumnInRankOrder() throws SQLException {
+        // Given
+        List<Task> tasks = newTasks(7);
+        tasks.forEach(task -> task.setDescription("Long description"));
+        taskDAO.saveAll(tasks);
+        List<Integer> expectedIds = taskDAO.findByColumnId(testColumn.getId()).stream().map(Task::getId).toList();
+
+        // When
+        List<Integer> pagedIds = new ArrayList<>();
+        List<Integer> pageSizes = new ArrayList<>();
+        Task last = null;
+        List<Task> page;
+        do {
+            page = taskDAO.findPageByColumnId(testColumn.getId(), last, 3, TaskProjection.SUMMARY);
+            pageSizes.add(page.size());
+            page.forEach(task -> {
+                pagedIds.add(task.getId());
+                assertNull(task.getDescription(), "Summary projection should not load descriptions");
+            });
+            last = page.isEmpty() ? last : page.get(page.size() - 1);
+        } while (page.size() == 3);
+
+        // Then
+        assertEquals(expectedIds, pagedIds, "Pages should cover the column once, in rank order");
+        assertEquals(List.of(3, 3, 1), pageSizes, "Last page should hold the remaining task");
+    }
+
+    @Test
+    void testStreamByColumnId_ShouldMapRowsLazilyAndReleaseConnection() throws SQLException {
+        // Given
+        taskDAO.saveAll(newTasks(5));
+        int activeBefore = DatabaseConnection.getPoolMetrics().getActive();
+
+        // When
+        List<String> titles;
+        try (Stream<Task> tasks = taskDAO.streamByColumnId(testColumn.getId(), TaskProjection.FULL)) {
+            titles = tasks.limit(2).map(Task::getTitle).toList();
+        }
+
+        // Then
+        assertEquals(List.of("Batch task 0", "Batch task 1"), titles, "Stream should follow rank order");
+        assertEquals(activeBefore, DatabaseConnection.getPoolMetrics().getActive(),
+            "Closing the stream should return its connection to the pool");
+    }
+
+    @Test
+    void testFindByQuery_ShouldApplyEveryPredicate() throws SQLException, ValidationException {
+        // Given
+        Board otherBoard = new BoardService().createBoard("Other Board for Queries");
+        List<Task> tasks = newTasks(4);
+        tasks.add(new Task(otherBoard.getColumns().get(0).getId(), "Batch task elsewhere", 1));
+        for (Task task : tasks) {
+            task.setPriority(Task.Priority.HIGH);
+            task.setDueDate(LocalDate.of(2030, 1, 15));
+        }
+        tasks.get(1).setPriority(Task.Priority.LOW);
+        tasks.get(2).setDueDate(LocalDate.of(2030, 2, 1));
+        taskDAO.saveAll(tasks);
+
+        TagDAO tagDAO = new TagDAO();
+        Tag tag = tagDAO.save(new Tag("query-" + System.nanoTime(), "#007bff"));
+        tagDAO.attachAll(tag.getId(), tasks.stream().map(Task::getId).toList());
+        tagDAO.detach(tasks.get(3).getId(), tag.getId());
+
+        TaskQuery query = TaskQuery.builder()
+            .board(testColumn.getBoardId())
+            .priorities(List.of(Task.Priority.HIGH, Task.Priority.MEDIUM))
+            .tags(List.of(tag.getId()))
+            .dueBetween(LocalDate.of(2030, 1, 1), LocalDate.of(2030, 1, 31))
+            .createdBetween(LocalDateTime.now().minusDays(1), LocalDateTime.now().plusDays(1))
+            .text("batch")
+            .projection(TaskProjection.SUMMARY)
+            .build();
+
+        // When
+        List<Task> found = taskDAO.findByQuery(query);
+
+        // Then
+        assertEquals(List.of(tasks.get(0).getId()), found.stream().map(Task::getId).toList(),
+            "Only the task matching every predicate should be found");
+        assertFalse(found.get(0).isDescriptionLoaded(), "Summary query should not load descriptions");
+        assertEquals(1, taskDAO.findByQuery(TaskQuery.builder().columns(List.of(testColumn.getId()))
+            .priorities(List.of(Task.Priority.LOW)).build()).size(), "Column and priority should select one task");
+        assertTrue(taskDAO.findByQuery(TaskQuery.builder().board(testColumn.getBoardId())
+            .priorities(List.of()).build()).isEmpty(), "Empty priority selection should match nothing");
+    }
+
+    @Test
+    void testQuerySql_ShouldCompileOncePerShape() {
+        // Given
+        TaskQuery first = TaskQuery.builder().board(1).priorities(List.of(Task.Priority.HIGH)).limit(10).build();
+        TaskQuery second = TaskQuery.builder().board(2)
+            .priorities(List.of(Task.Priority.LOW, Task.Priority.MEDIUM)).limit(5).build();
+        TaskQuery other = TaskQuery.builder().board(1).build();
+
+        // When
+        String firstSql = TaskDAO.querySql(first);
+        String secondSql = TaskDAO.querySql(second);
+
+        // Then
+        assertSame(firstSql, secondSql, "Queries of one shape should share the compiled statement");
+        assertNotEquals(firstSql, TaskDAO.querySql(other), "Another shape should compile its own statement");
+        assertTrue(firstSql.contains("json_each(?)"), "Value sets should bind as one parameter");
+    }
+
+    private List<Task> newTasks(int count) {
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            tasks.add(new Task(testColumn.getId(), "Batch task " + i, i + 1));
+        }
+        return tasks;
+    }
+}
@@ -0,0 +1,192 @@
+package ee.vikk.kanban.repository.memory;
+
+import ee.vikk.kanban.model.Board;
+import ee.vikk.kanban.model.Column;
+import ee.vikk.kanban.model.Tag;
+import ee.vikk.kanban.model.Task;
+import ee.vikk.kanban.repository.TagRepository;
+import ee.vikk.kanban.service.BoardService;
+import ee.vikk.kanban.service.RankRebalancer;
+import ee.vikk.kanban.service.TaskService;
+import ee.vikk.kanban.service.ValidationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for InMemoryStorage and its repositories, driven through the services
+ */
+class InMemoryStorageTest {
+
+    private InMemoryStorage storage;
+    private BoardService boardService;
+    private TaskService taskService;
+
+    @BeforeEach
+    void setUp() {
+        storage = new InMemoryStorage();
+        boardService = new BoardService(storage.getBoardRepository(), storage.getColumnRepository(),
+            storage.getUnitOfWork());
+        taskService = new TaskService(storage.getTaskRepository(), storage.getColumnRepository(),
+            new RankRebalancer(Runnable::run));
+    }
+
+    @Test
+    void testServices_OnInMemoryStorage_ShouldBehaveLikeDatabase() throws SQLException, ValidationException {
+        // Given
+        Board board = boardService.createBoard("Simulation");
+        Column todo = board.getColumns().get(0);
+        Column done = board.getColumns().get(2);
+
+        // When
+        Task first = taskService.createTask(todo.getId(), "First");
+        Task second = taskService.createTask(todo.getId(), "Second");
+        Task third = taskService.createTask(todo.getId(), "Third");
+        taskService.reorderTask(third.getId(), null, first.getId());
+        taskService.moveTask(second.getId(), done.getId());
+
+        // Then
+        Board loaded = boardService.getBoardWithTasks(board.getId());
+        assertEquals(List.of("TODO", "IN PROGRESS", "DONE"),
+            loaded.getColumns().stream().map(Column::getName).toList(), "Default columns should be in order");
+        assertEquals(List.of("Third", "First"),
+            loaded.getColumns().get(0).getTasks().stream().map(Task::getTitle).toList(), "Reorder should apply");
+        assertEquals(List.of("Second"),
+            loaded.getColumns().get(2).getTasks().stream().map(Task::getTitle).toList(), "Move should apply");
+    }
+
+    @Test
+    void testReorderTask_WithOneNeighbour_ShouldUseItsSuccessor() throws SQLException, ValidationException {
+        // Given
+        Column todo = boardService.createBoard("Neighbours").getColumns().get(0);
+        Task first = taskService.createTask(todo.getId(), "First");
+        taskService.createTask(todo.getId(), "Second");
+        Task third = taskService.createTask(todo.getId(), "Third");
+
+        // When
+        taskService.reorderTask(third.getId(), first.getId(), null);
+
+        // Then
+        assertEquals(List.of("First", "Third", "Second"),
+            taskService.getTasksByColumn(todo.getId()).stream().map(Task::getTitle).toList(),
+            "Third should be placed directly after First");
+    }
+
+    @Test
+    void testFindById_ShouldReturnCopies() throws SQLException, ValidationException {
+        // Given
+        Board board = boardService.createBoard("Copies");
+        Task task = taskService.createTask(board.getColumns().get(0).getId(), "Original");
+
+        // When
+        taskService.getTask(task.getId()).setTitle("Changed outside storage");
+
+        // Then
+        assertEquals("Original", taskService.getTask(task.getId()).getTitle(), "Stored record should not be shared");
+    }
+
+    @Test
+    void testUnitOfWork_WhenWorkFails_ShouldUndoAllChanges() throws SQLException, ValidationException {
+        // Given
+        Board board = boardService.createBoard("Rollback");
+        Integer columnId = board.getColumns().get(0).getId();
+        Task kept = taskService.createTask(columnId, "Kept");
+
+        // When
+        assertThrows(ValidationException.class, () -> storage.getUnitOfWork().execute(tx -> {
+            taskService.createTask(columnId, "Created then undone");
+            taskService.setTaskPriority(kept.getId(), Task.Priority.HIGH);
+            taskService.deleteTask(kept.getId());
+            throw new ValidationException("Abort");
+        }));
+
+        // Then
+        List<Task> tasks = taskService.getTasksByColumn(columnId);
+        assertEquals(1, tasks.size(), "Only the task created before the unit should remain");
+        assertEquals(Task.Priority.MEDIUM, tasks.get(0).getPriority(), "Priority change should be undone");
+    }
+
+    @Test
+    void testSavepoint_WhenNestedWorkFails_ShouldKeepOuterChanges() throws SQLException, ValidationException {
+        // Given
+        Board board = boardService.createBoard("Savepoints");
+        Integer columnId = board.getColumns().get(0).getId();
+
+        // When
+        storage.getUnitOfWork().execute(tx -> {
+            taskService.createTask(columnId, "Outer");
+            assertThrows(ValidationException.class, () -> tx.savepoint(inner -> {
+                taskService.createTask(columnId, "Inner");
+                throw new ValidationException("Abort inner");
+            }));
+            return null;
+        });
+
+        // Then
+        assertEquals(List.of("Outer"),
+            taskService.getTasksByColumn(columnId).stream().map(Task::getTitle).toList(),
+            "Only the nested work should be undone");
+    }
+
+    @Test
+    void testTags_ShouldAttachAndShareInstancesOnBoardLoad() throws SQLException, ValidationException {
+        // Given
+        TagRepository tagRepository = storage.getTagRepository();
+        Board board = boardService.createBoard("Tags");
+        Integer columnId = board.getColumns().get(0).getId();
+        Task first = taskService.createTask(columnId, "First");
+        Task second = taskService.createTask(columnId, "Second");
+        Tag tag = tagRepository.save(new Tag("bug", "#dc3545"));
+
+        // When
+        int attached = tagRepository.attachAll(tag.getId(), List.of(first.getId(), second.getId(), -1));
+        taskService.updateTask(first.getId(), "First renamed", null);
+
+        // Then
+        assertEquals(2, attached, "Existing tasks should be attached");
+        assertEquals(tag, tagRepository.findByName("bug"), "Lookup by name should find the tag");
+        List<Task> tasks = boardService.getBoardWithTasks(board.getId()).getColumns().get(0).getTasks();
+        assertEquals(List.of(tag), tasks.get(0).getTags(), "Tags should survive a task update");
+        assertSame(tasks.get(0).getTags().get(0), tasks.get(1).getTags().get(0),
+            "Board load should share one Tag instance");
+        assertTrue(tagRepository.detach(second.getId(), tag.getId()), "Detach should succeed");
+        assertFalse(tagRepository.findByBoardId(board.getId()).containsKey(second.getId()),
+            "Detached task should have no tags");
+    }
+
+    @Test
+    void testConcurrentCreates_ShouldAssignUniqueIds() throws Exception {
+        // Given
+        Board board = boardService.createBoard("Concurrency");
+        Integer columnId = board.getColumns().get(0).getId();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // When
+        List<Future<Task>> futures = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            String title = "Task " + i;
+            futures.add(executor.submit(() -> taskService.createTask(columnId, title)));
+        }
+        List<Integer> ids = new ArrayList<>();
+        for (Future<Task> future : futures) {
+            ids.add(future.get().getId());
+        }
+        executor.shutdown();
+
+        // Then
+        assertEquals(2_000, ids.stream().distinct().count(), "Every task should get its own ID");
+        List<Task> tasks = taskService.getTasksByColumn(columnId);
+        assertEquals(2_000, tasks.size(), "Every task should be stored");
+        for (int i = 1; i < tasks.size(); i++) {
+            assertTrue(tasks.get(i - 1).getRank().compareTo(tasks.get(i).getRank()) < 0, "Ranks should be unique");
+        }
+    }
+}
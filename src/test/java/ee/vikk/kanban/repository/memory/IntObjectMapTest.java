@@ -0,0 +1,55 @@
+package ee.vikk.kanban.repository.memory;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for IntObjectMap
+ */
+class IntObjectMapTest {
+
+    @Test
+    void testRandomPutsAndRemoves_ShouldMatchHashMap() {
+        // Given
+        IntObjectMap<String> map = new IntObjectMap<>();
+        Map<Integer, String> expected = new HashMap<>();
+        Random random = new Random(7);
+
+        // When
+        for (int i = 0; i < 50_000; i++) {
+            int key = random.nextInt(2_000) - 1_000;
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(key), map.remove(key), "Removed value should match");
+            } else {
+                String value = "v" + i;
+                assertEquals(expected.put(key, value), map.put(key, value), "Previous value should match");
+            }
+        }
+
+        // Then
+        assertEquals(expected.size(), map.size(), "Sizes should match");
+        for (int key = -1_000; key < 1_000; key++) {
+            assertEquals(expected.get(key), map.get(key), "Value for key " + key + " should match");
+        }
+    }
+
+    @Test
+    void testValues_ShouldReturnEveryValueOnce() {
+        // Given
+        IntObjectMap<Integer> map = new IntObjectMap<>();
+        for (int i = 1; i <= 100; i++) {
+            map.put(i * 16, i); // keys sharing low bits
+        }
+
+        // When
+        int sum = map.values().stream().mapToInt(Integer::intValue).sum();
+
+        // Then
+        assertEquals(5050, sum, "Every value should be returned exactly once");
+    }
+}
@@ -0,0 +1,122 @@
+package ee.vikk.kanban.service;
+
+import ee.vikk.kanban.model.Board;
+import ee.vikk.kanban.model.Column;
+import ee.vikk.kanban.model.Task;
+import ee.vikk.kanban.repository.memory.InMemoryStorage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for AsyncKanbanService
+ */
+class AsyncKanbanServiceTest {
+
+    private ExecutorService executor;
+    private AsyncKanbanService kanbanService;
+
+    @BeforeEach
+    void setUp() {
+        InMemoryStorage storage = new InMemoryStorage();
+        RankRebalancer rankRebalancer = new RankRebalancer(Runnable::run);
+        executor = Executors.newFixedThreadPool(4);
+        kanbanService = new AsyncKanbanService(
+                new BoardService(storage.getBoardRepository(), storage.getColumnRepository(), storage.getUnitOfWork()),
+                new ColumnService(storage.getColumnRepository(), storage.getBoardRepository(), storage.getUnitOfWork(),
+                                  rankRebalancer),
+                new TaskService(storage.getTaskRepository(), storage.getColumnRepository(), rankRebalancer),
+                executor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void testSubmitForBoard_ShouldRunWritesOfOneBoardInOrder() throws Exception {
+        // Given
+        CountDownLatch firstStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+        List<Integer> completed = Collections.synchronizedList(new ArrayList<>());
+
+        // When
+        CompletableFuture<Void> first = kanbanService.submitForBoard(1, () -> {
+            firstStarted.countDown();
+            awaitQuietly(releaseFirst);
+            completed.add(1);
+            return null;
+        });
+        assertTrue(firstStarted.await(5, TimeUnit.SECONDS), "First write should start");
+        CompletableFuture<Void> failing = kanbanService.submitForBoard(1, () -> {
+            completed.add(2);
+            throw new ValidationException("Rejected");
+        });
+        CompletableFuture<Void> third = kanbanService.submitForBoard(1, () -> {
+            completed.add(3);
+            return null;
+        });
+        CompletableFuture<Void> otherBoard = kanbanService.submitForBoard(2, () -> {
+            completed.add(4);
+            return null;
+        });
+        otherBoard.get(5, TimeUnit.SECONDS);
+        releaseFirst.countDown();
+        third.get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertEquals(List.of(4, 1, 2, 3), completed,
+                "Writes of one board should wait for each other but not for other boards");
+        assertTrue(first.isDone() && !first.isCompletedExceptionally(), "First write should succeed");
+        CompletionException error = assertThrows(CompletionException.class, failing::join);
+        assertInstanceOf(ValidationException.class, error.getCause(), "Failure should carry the service exception");
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Test
+    void testServiceCalls_ShouldApplyQueuedWritesBeforeReload() throws Exception {
+        // Given
+        Board board = kanbanService.createBoard("Async Board").get(5, TimeUnit.SECONDS);
+        Column todo = board.getColumns().get(0);
+        Column done = board.getColumns().get(2);
+
+        // When
+        List<CompletableFuture<Task>> creates = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            creates.add(kanbanService.createTask(board.getId(), todo.getId(), "Task " + i, null));
+        }
+        Task first = creates.get(0).get(5, TimeUnit.SECONDS);
+        kanbanService.moveTask(board.getId(), first.getId(), done.getId());
+        Board reloaded = kanbanService.getBoardWithTaskSummaries(board.getId()).get(5, TimeUnit.SECONDS);
+
+        // Then
+        List<Task> todoTasks = reloaded.getColumns().get(0).getTasks();
+        assertEquals(19, todoTasks.size(), "Reload should see every queued create and the move");
+        for (int i = 0; i < todoTasks.size(); i++) {
+            assertEquals("Task " + (i + 1), todoTasks.get(i).getTitle(), "Tasks should be created in submission order");
+        }
+        assertEquals(List.of(first.getId()),
+                     reloaded.getColumns().get(2).getTasks().stream().map(Task::getId).toList(),
+                     "Moved task should be in the target column");
+    }
+}
@@ -3,6 +3,9 @@ package ee.vikk.kanban.service;
 import ee.vikk.kanban.database.DatabaseConnection;
 import ee.vikk.kanban.model.Board;
 import ee.vikk.kanban.model.Column;
+import ee.vikk.kanban.model.Tag;
+import ee.vikk.kanban.model.TagDAO;
+import ee.vikk.kanban.model.Task;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.AfterEach;
@@ -73,7 +76,11 @@ class BoardServiceTest {
                 "Column should belong to the created board");
             assertNotNull(column.getId(), "Column should have an ID");
             assertNotNull(column.getColor(), "Column should have a color");
+            assertNotNull(column.getRank(), "Column should have its generated rank");
         }
+        assertTrue(columns.get(0).getRank().compareTo(columns.get(1).getRank()) < 0
+                && columns.get(1).getRank().compareTo(columns.get(2).getRank()) < 0,
+            "Column ranks should follow the column order");
     }
 
     @Test
@@ -150,4 +157,91 @@ class BoardServiceTest {
         // Then
         assertNull(retrievedBoard, "Non-existent board should return null");
     }
+
+    @Test
+    void testGetBoardWithTasks_ShouldReturnColumnsWithOrderedTasks() throws SQLException, ValidationException {
+        // Given
+        TaskService taskService = new TaskService();
+        Board createdBoard = boardService.createBoard("Hydrated Board");
+        Column todo = createdBoard.getColumns().get(0);
+        Column done = createdBoard.getColumns().get(2);
+        taskService.createTask(todo.getId(), "First", "First description");
+        taskService.createTask(todo.getId(), "Second");
+        taskService.createTask(done.getId(), "Finished");
+
+        // When
+        Board board = boardService.getBoardWithTasks(createdBoard.getId());
+
+        // Then
+        assertNotNull(board, "Board should be found");
+        assertEquals(3, board.getColumns().size(), "Board should have 3 columns");
+        assertEquals("TODO", board.getColumns().get(0).getName(), "Columns should be ordered by rank");
+
+        List<Task> todoTasks = board.getColumns().get(0).getTasks();
+        assertEquals(2, todoTasks.size(), "TODO column should have 2 tasks");
+        assertEquals("First", todoTasks.get(0).getTitle(), "Tasks should be ordered by rank");
+        assertEquals("First description", todoTasks.get(0).getDescription(), "Task fields should be loaded");
+        assertEquals("Second", todoTasks.get(1).getTitle(), "Tasks should be ordered by rank");
+
+        assertTrue(board.getColumns().get(1).getTasks().isEmpty(), "Empty column should have no tasks");
+        assertEquals("Finished", board.getColumns().get(2).getTasks().get(0).getTitle());
+    }
+
+    @Test
+    void testGetBoardWithTaskSummaries_ShouldLoadDescriptionsOnlyOnDemand() throws SQLException, ValidationException {
+        // Given
+        TaskService taskService = new TaskService();
+        Board createdBoard = boardService.createBoard("Summary Board");
+        Column todo = createdBoard.getColumns().get(0);
+        Task created = taskService.createTask(todo.getId(), "Documented", "Long description");
+        taskService.setTaskPriority(created.getId(), Task.Priority.HIGH);
+
+        // When
+        Board board = boardService.getBoardWithTaskSummaries(createdBoard.getId());
+
+        // Then
+        Task summary = board.getColumns().get(0).getTasks().get(0);
+        assertEquals("Documented", summary.getTitle(), "Summary should include the title");
+        assertEquals(Task.Priority.HIGH, summary.getPriority(), "Summary should include the priority");
+        assertNull(summary.getDescription(), "Summary should not load the description");
+        assertFalse(summary.isDescriptionLoaded(), "Summary should mark the description as not loaded");
+
+        // When
+        summary.setDescription(taskService.getTaskDescription(summary.getId()));
+
+        // Then
+        assertEquals("Long description", summary.getDescription(), "Description should load on demand");
+        assertTrue(summary.isDescriptionLoaded(), "Loaded description should be marked as loaded");
+    }
+
+    @Test
+    void testGetBoardWithTasks_WithNonExistentId_ShouldReturnNull() throws SQLException {
+        // When
+        Board board = boardService.getBoardWithTasks(99999);
+
+        // Then
+        assertNull(board, "Non-existent board should return null");
+    }
+
+    @Test
+    void testDeleteBoard_ShouldDeleteColumnsTasksAndTagAssignments() throws SQLException, ValidationException {
+        // Given
+        Board board = boardService.createBoard("Board to Delete");
+        TaskService taskService = new TaskService();
+        TagDAO tagDAO = new TagDAO();
+        Task first = taskService.createTask(board.getColumns().get(0).getId(), "First");
+        Task second = taskService.createTask(board.getColumns().get(2).getId(), "Second");
+        Tag tag = tagDAO.save(new Tag("cascade-" + System.nanoTime(), "#6c757d"));
+        tagDAO.attachAll(tag.getId(), List.of(first.getId(), second.getId()));
+
+        // When
+        boardService.deleteBoard(board.getId());
+
+        // Then
+        assertNull(boardService.getBoardWithColumns(board.getId()), "Board should be deleted");
+        assertNull(taskService.getTask(first.getId()), "Tasks of the board should be deleted");
+        assertNull(taskService.getTask(second.getId()), "Tasks of every column should be deleted");
+        assertTrue(tagDAO.findByTaskId(first.getId()).isEmpty(), "Tag assignments should be deleted");
+        assertEquals(tag, tagDAO.findById(tag.getId()), "Shared tag itself should be kept");
+    }
 }
@@ -3,6 +3,7 @@ package ee.vikk.kanban.service;
 import ee.vikk.kanban.model.Board;
 import ee.vikk.kanban.model.Column;
 import ee.vikk.kanban.database.DatabaseConnection;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -24,7 +25,8 @@ class ColumnServiceTest {
 
     @BeforeEach
     void setUp() throws SQLException, ValidationException {
-        // Initialize services
+        // Initialize test database and services
+        DatabaseConnection.initializeDatabase();
         columnService = new ColumnService();
         boardService = new BoardService();
 
@@ -36,6 +38,11 @@ class ColumnServiceTest {
         assertEquals(3, testBoard.getColumns().size(), "Test board should start with 3 default columns");
     }
 
+    @AfterEach
+    void tearDown() {
+        DatabaseConnection.closeConnection();
+    }
+
     /**
      * Test User Story #4: Column Addition
      * Acceptance Criteria:
@@ -214,6 +221,23 @@ class ColumnServiceTest {
         assertEquals(newColor, updatedColumn.getColor(), "Column color should be updated");
     }
 
+    @Test
+    void testReorderColumn_ToFirst_ShouldOnlyChangeMovedColumn() throws SQLException, ValidationException {
+        // Given
+        List<Column> columns = testBoard.getColumns();
+        Column done = columns.get(2);
+
+        // When
+        columnService.reorderColumn(done.getId(), null, columns.get(0).getId());
+
+        // Then
+        List<Column> reordered = columnService.getColumnsByBoard(testBoard.getId());
+        assertEquals(List.of("DONE", "TODO", "IN PROGRESS"), reordered.stream().map(Column::getName).toList(),
+            "DONE should be moved to the front");
+        assertEquals(columns.get(0).getRank(), reordered.get(1).getRank(), "Other columns should keep their ranks");
+        assertEquals(columns.get(1).getRank(), reordered.get(2).getRank(), "Other columns should keep their ranks");
+    }
+
     @Test
     void testDeleteColumn_WithValidId_ShouldRemoveColumn() throws SQLException, ValidationException {
         // Given
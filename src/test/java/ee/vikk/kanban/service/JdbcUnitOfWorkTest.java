@@ -0,0 +1,108 @@
+package ee.vikk.kanban.service;
+
+import ee.vikk.kanban.database.DatabaseConnection;
+import ee.vikk.kanban.database.TransactionalDataSource;
+import ee.vikk.kanban.model.Board;
+import ee.vikk.kanban.model.BoardDAO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for JdbcUnitOfWork
+ */
+class JdbcUnitOfWorkTest {
+
+    private UnitOfWork unitOfWork;
+    private BoardDAO boardDAO;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        DatabaseConnection.initializeDatabase();
+        unitOfWork = new JdbcUnitOfWork();
+        boardDAO = new BoardDAO();
+    }
+
+    @AfterEach
+    void tearDown() {
+        DatabaseConnection.closeConnection();
+    }
+
+    @Test
+    void testExecute_WhenWorkFails_ShouldRollBackAllStatements() throws SQLException {
+        // Given
+        Integer[] savedId = new Integer[1];
+
+        // When
+        assertThrows(ValidationException.class, () -> unitOfWork.execute(tx -> {
+            savedId[0] = boardDAO.save(new Board("Rolled back board")).getId();
+            throw new ValidationException("Simulated failure");
+        }));
+
+        // Then
+        assertNotNull(savedId[0], "Board insert should have run inside the transaction");
+        assertNull(boardDAO.findById(savedId[0]), "Board should not survive the rollback");
+    }
+
+    @Test
+    void testExecute_WhenWorkThrowsError_ShouldRollBackAndEndTransaction() throws SQLException {
+        // Given
+        Integer[] savedId = new Integer[1];
+        TransactionalDataSource dataSource = DatabaseConnection.getDataSource();
+
+        // When
+        assertThrows(StackOverflowError.class, () -> unitOfWork.execute(tx -> {
+            savedId[0] = boardDAO.save(new Board("Board before error")).getId();
+            throw new StackOverflowError("Simulated error");
+        }));
+
+        // Then
+        assertFalse(dataSource.isInTransaction(), "Transaction should be ended after an error");
+        assertNull(boardDAO.findById(savedId[0]), "Board should not survive the rollback");
+    }
+
+    @Test
+    void testSavepoint_WhenNestedWorkFails_ShouldKeepOuterWork() throws SQLException, ValidationException {
+        // When
+        Integer[] ids = unitOfWork.execute(tx -> {
+            Integer outerId = boardDAO.save(new Board("Outer board")).getId();
+            Integer[] innerId = new Integer[1];
+            try {
+                tx.savepoint(inner -> {
+                    innerId[0] = boardDAO.save(new Board("Inner board")).getId();
+                    throw new ValidationException("Simulated failure");
+                });
+            } catch (ValidationException e) {
+                // expected, continue with the outer work
+            }
+            return new Integer[]{outerId, innerId[0]};
+        });
+
+        // Then
+        assertNotNull(boardDAO.findById(ids[0]), "Outer work should be committed");
+        assertNull(boardDAO.findById(ids[1]), "Work inside the failed savepoint should be rolled back");
+    }
+
+    @Test
+    void testExecute_WhenNested_ShouldJoinOuterTransaction() {
+        // Given
+        Integer[] savedId = new Integer[1];
+
+        // When
+        assertThrows(ValidationException.class, () -> unitOfWork.execute(tx -> {
+            unitOfWork.execute(inner -> {
+                savedId[0] = boardDAO.save(new Board("Joined board")).getId();
+                return null;
+            });
+            throw new ValidationException("Simulated failure");
+        }));
+
+        // Then
+        assertDoesNotThrow(() -> assertNull(boardDAO.findById(savedId[0]),
+            "Nested work should be rolled back with the outer transaction"));
+    }
+}
@@ -0,0 +1,55 @@
+package ee.vikk.kanban.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for LruCache
+ */
+class LruCacheTest {
+
+    @Test
+    void testGet_OverWeightLimit_ShouldEvictLeastRecentlyUsed() throws SQLException {
+        // Given
+        LruCache<Integer, String> cache = new LruCache<>(10, String::length);
+        cache.get(1, () -> "aaaa");
+        cache.get(2, () -> "bbbb");
+        cache.get(1, () -> "unused"); // 1 is now more recently used than 2
+
+        // When
+        cache.get(3, () -> "cccc");
+
+        // Then
+        assertEquals("aaaa", cache.getIfPresent(1), "Recently used entry should stay");
+        assertNull(cache.getIfPresent(2), "Least recently used entry should be evicted");
+        assertEquals("cccc", cache.getIfPresent(3), "New entry should be cached");
+
+        CacheStats stats = cache.getStats();
+        assertEquals(1, stats.getHits(), "One lookup should hit");
+        assertEquals(3, stats.getMisses(), "Three lookups should load");
+        assertEquals(1, stats.getEvictions(), "One entry should be evicted");
+        assertEquals(8, stats.getWeight(), "Weight should count the remaining entries");
+        assertEquals(0.25, stats.getHitRate(), 1e-9, "Hit rate should be hits per lookup");
+    }
+
+    @Test
+    void testGet_WithInvalidationDuringLoad_ShouldNotStoreLoadedValue() throws SQLException {
+        // Given
+        LruCache<Integer, String> cache = new LruCache<>(100, String::length);
+
+        // When
+        String loaded = cache.get(1, () -> {
+            cache.invalidate(1); // a write lands while the old value is being read
+            return "stale";
+        });
+
+        // Then
+        assertEquals("stale", loaded, "Loaded value should still be returned");
+        assertNull(cache.getIfPresent(1), "Value read before the invalidation should not be cached");
+        assertNull(cache.get(2, () -> null), "Null should be returned");
+        assertEquals(0, cache.getStats().getEntryCount(), "Null should not be cached");
+    }
+}
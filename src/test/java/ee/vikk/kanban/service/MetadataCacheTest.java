@@ -0,0 +1,89 @@
+package ee.vikk.kanban.service;
+
+import ee.vikk.kanban.database.DatabaseConnection;
+import ee.vikk.kanban.model.Board;
+import ee.vikk.kanban.model.Column;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for MetadataCache behind the default services
+ */
+class MetadataCacheTest {
+
+    private BoardService boardService;
+    private ColumnService columnService;
+    private TaskService taskService;
+    private MetadataCache cache;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        DatabaseConnection.initializeDatabase();
+        boardService = new BoardService();
+        columnService = new ColumnService();
+        taskService = new TaskService();
+        cache = MetadataCache.shared();
+    }
+
+    @AfterEach
+    void tearDown() {
+        DatabaseConnection.closeConnection();
+    }
+
+    @Test
+    void testTaskCreation_ShouldValidateColumnFromCache() throws SQLException, ValidationException {
+        // Given
+        Board board = boardService.createBoard("Test Board for Caching");
+        Integer columnId = board.getColumns().get(0).getId();
+        long hitsBefore = cache.getColumnStats().getHits();
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            taskService.createTask(columnId, "Cached task " + i);
+        }
+
+        // Then
+        assertTrue(cache.getColumnStats().getHits() - hitsBefore >= 4,
+            "Column checks after the first should hit the cache");
+    }
+
+    @Test
+    void testColumnWrites_ShouldInvalidateCachedMetadata() throws SQLException, ValidationException {
+        // Given
+        Board board = boardService.createBoard("Test Board for Invalidation");
+        Column column = board.getColumns().get(0);
+        assertEquals(3, columnService.getColumnsByBoard(board.getId()).size(), "Board should list 3 columns");
+
+        // When
+        columnService.updateColumnName(column.getId(), "Renamed");
+        columnService.addColumn(board.getId(), "Extra");
+
+        // Then
+        assertEquals("Renamed", columnService.getColumnsByBoard(board.getId()).get(0).getName(),
+            "Rename should invalidate the cached column list");
+        assertEquals(4, columnService.getColumnsByBoard(board.getId()).size(),
+            "Added column should invalidate the cached column list");
+        assertEquals(4, columnService.getColumnsByBoard(board.getId()).get(3).getPosition(),
+            "Next position should count the columns after the add");
+    }
+
+    @Test
+    void testDeletedBoard_ShouldNotBeServedFromCache() throws SQLException, ValidationException {
+        // Given
+        Board board = boardService.createBoard("Test Board for Deletion");
+        columnService.addColumn(board.getId(), "Cached board check");
+
+        // When
+        boardService.deleteBoard(board.getId());
+
+        // Then
+        ValidationException exception = assertThrows(ValidationException.class,
+            () -> columnService.addColumn(board.getId(), "After delete"));
+        assertEquals("Board not found with ID: " + board.getId(), exception.getMessage());
+    }
+}
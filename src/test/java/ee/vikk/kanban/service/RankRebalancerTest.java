@@ -0,0 +1,36 @@
+package ee.vikk.kanban.service;
+
+import ee.vikk.kanban.metrics.Metrics;
+import ee.vikk.kanban.metrics.OperationMetrics;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for RankRebalancer
+ */
+class RankRebalancerTest {
+
+    @Test
+    void testSchedule_WhenDatabaseIsBusy_ShouldRetryAndCountFailures() {
+        // Given
+        RankRebalancer rebalancer = new RankRebalancer(Runnable::run);
+        OperationMetrics metrics = Metrics.service("RankRebalancer.rebalance");
+        long errorsBefore = metrics.getErrorCount();
+        int[] attempts = new int[1];
+
+        // When
+        rebalancer.schedule("tasks:1", () -> {
+            attempts[0]++;
+            if (attempts[0] < 3) {
+                throw new SQLException("[SQLITE_BUSY] The database file is locked");
+            }
+        });
+
+        // Then
+        assertEquals(3, attempts[0], "Rebalance should be retried until it succeeds");
+        assertEquals(errorsBefore + 2, metrics.getErrorCount(), "Failed attempts should be counted");
+    }
+}
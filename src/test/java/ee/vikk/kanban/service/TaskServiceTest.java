@@ -3,12 +3,18 @@ package ee.vikk.kanban.service;
 import ee.vikk.kanban.database.DatabaseConnection;
 import ee.vikk.kanban.model.Board;
 import ee.vikk.kanban.model.Column;
+import ee.vikk.kanban.model.ColumnDAO;
+import ee.vikk.kanban.model.Rank;
 import ee.vikk.kanban.model.Task;
+import ee.vikk.kanban.model.TaskDAO;
+import ee.vikk.kanban.model.TaskSearchResult;
+import ee.vikk.kanban.repository.TaskQuery;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.AfterEach;
 
 import java.sql.SQLException;
+import java.time.LocalDate;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -65,7 +71,7 @@ class TaskServiceTest {
         assertEquals(testColumn.getId(), createdTask.getColumnId(), "Task should belong to the specified column");
         assertNotNull(createdTask.getCreatedAt(), "Task should have creation timestamp");
         assertEquals(Task.Priority.MEDIUM, createdTask.getPriority(), "Task should have default MEDIUM priority");
-        assertEquals(1, createdTask.getPosition(), "First task should be at position 1");
+        assertNotNull(createdTask.getRank(), "Task should be ranked in its column");
 
         // Verify task is saved to database
         Task retrievedTask = taskService.getTask(createdTask.getId());
@@ -91,7 +97,7 @@ class TaskServiceTest {
     }
 
     @Test
-    void testCreateTask_MultipleTasksInSameColumn_ShouldHaveCorrectPositions() throws SQLException, ValidationException {
+    void testCreateTask_MultipleTasksInSameColumn_ShouldHaveIncreasingRanks() throws SQLException, ValidationException {
         // Given
         String task1Title = "First task";
         String task2Title = "Second task";
@@ -103,9 +109,8 @@ class TaskServiceTest {
         Task task3 = taskService.createTask(testColumn.getId(), task3Title);
 
         // Then
-        assertEquals(1, task1.getPosition(), "First task should be at position 1");
-        assertEquals(2, task2.getPosition(), "Second task should be at position 2");
-        assertEquals(3, task3.getPosition(), "Third task should be at position 3");
+        assertTrue(task1.getRank().compareTo(task2.getRank()) < 0, "Second task should rank after the first");
+        assertTrue(task2.getRank().compareTo(task3.getRank()) < 0, "Third task should rank after the second");
 
         // Verify tasks appear in column
         List<Task> columnTasks = taskService.getTasksByColumn(testColumn.getId());
@@ -198,9 +203,9 @@ class TaskServiceTest {
 
         // Then
         assertEquals(3, tasks.size(), "Column should contain 3 tasks");
-        assertEquals("Task A", tasks.get(0).getTitle(), "Tasks should be ordered by position");
-        assertEquals("Task B", tasks.get(1).getTitle(), "Tasks should be ordered by position");
-        assertEquals("Task C", tasks.get(2).getTitle(), "Tasks should be ordered by position");
+        assertEquals("Task A", tasks.get(0).getTitle(), "Tasks should be ordered by rank");
+        assertEquals("Task B", tasks.get(1).getTitle(), "Tasks should be ordered by rank");
+        assertEquals("Task C", tasks.get(2).getTitle(), "Tasks should be ordered by rank");
     }
 
     @Test
@@ -237,6 +242,145 @@ class TaskServiceTest {
         assertTrue(columnTasks.isEmpty(), "Column should be empty after task deletion");
     }
 
+    @Test
+    void testSetTaskPriority_ShouldUpdateOnlyPriority() throws SQLException, ValidationException {
+        // Given
+        Task task = taskService.createTask(testColumn.getId(), "Prioritized task", "Keep this description");
+
+        // When
+        taskService.setTaskPriority(task.getId(), Task.Priority.HIGH);
+
+        // Then
+        Task updatedTask = taskService.getTask(task.getId());
+        assertEquals(Task.Priority.HIGH, updatedTask.getPriority(), "Priority should be updated");
+        assertEquals("Prioritized task", updatedTask.getTitle(), "Title should be unchanged");
+        assertEquals("Keep this description", updatedTask.getDescription(), "Description should be unchanged");
+        assertEquals(task.getPosition(), updatedTask.getPosition(), "Position should be unchanged");
+    }
+
+    @Test
+    void testWritesOnNonExistentTask_ShouldThrowValidationException() {
+        // Given
+        Integer nonExistentTaskId = 99999;
+        String expectedMessage = "Task not found with ID: " + nonExistentTaskId;
+
+        // When & Then
+        assertEquals(expectedMessage, assertThrows(ValidationException.class,
+            () -> taskService.updateTask(nonExistentTaskId, "Title", null)).getMessage());
+        assertEquals(expectedMessage, assertThrows(ValidationException.class,
+            () -> taskService.setTaskPriority(nonExistentTaskId, Task.Priority.LOW)).getMessage());
+        assertEquals(expectedMessage, assertThrows(ValidationException.class,
+            () -> taskService.deleteTask(nonExistentTaskId)).getMessage());
+    }
+
+    @Test
+    void testReorderTask_BetweenTasks_ShouldOnlyChangeMovedTask() throws SQLException, ValidationException {
+        // Given
+        Task taskA = taskService.createTask(testColumn.getId(), "Task A");
+        Task taskB = taskService.createTask(testColumn.getId(), "Task B");
+        Task taskC = taskService.createTask(testColumn.getId(), "Task C");
+
+        // When
+        taskService.reorderTask(taskC.getId(), taskA.getId(), taskB.getId());
+
+        // Then
+        List<Task> tasks = taskService.getTasksByColumn(testColumn.getId());
+        assertEquals(List.of("Task A", "Task C", "Task B"), tasks.stream().map(Task::getTitle).toList(),
+            "Task C should be placed between A and B");
+        assertEquals(taskA.getRank(), taskService.getTask(taskA.getId()).getRank(), "Neighbour A should be untouched");
+        assertEquals(taskB.getRank(), taskService.getTask(taskB.getId()).getRank(), "Neighbour B should be untouched");
+    }
+
+    @Test
+    void testReorderTask_AfterFirstTaskOnly_ShouldPlaceBeforeItsSuccessor() throws SQLException, ValidationException {
+        // Given
+        Task taskA = taskService.createTask(testColumn.getId(), "Task A");
+        taskService.createTask(testColumn.getId(), "Task B");
+        Task taskC = taskService.createTask(testColumn.getId(), "Task C");
+
+        // When
+        taskService.reorderTask(taskC.getId(), taskA.getId(), null);
+
+        // Then
+        List<Task> tasks = taskService.getTasksByColumn(testColumn.getId());
+        assertEquals(List.of("Task A", "Task C", "Task B"), tasks.stream().map(Task::getTitle).toList(),
+            "Task C should be placed directly after A");
+        assertEquals(3, tasks.stream().map(Task::getRank).distinct().count(), "Ranks should stay unique");
+    }
+
+    @Test
+    void testReorderTask_WithNonAdjacentNeighbours_ShouldThrowValidationException() throws SQLException, ValidationException {
+        // Given
+        Task taskA = taskService.createTask(testColumn.getId(), "Task A");
+        taskService.createTask(testColumn.getId(), "Task B");
+        Task taskC = taskService.createTask(testColumn.getId(), "Task C");
+        Task taskD = taskService.createTask(testColumn.getId(), "Task D");
+
+        // When & Then
+        ValidationException exception = assertThrows(ValidationException.class,
+            () -> taskService.reorderTask(taskD.getId(), taskA.getId(), taskC.getId()));
+
+        assertEquals("Task " + taskA.getId() + " and task " + taskC.getId() + " are not next to each other",
+            exception.getMessage());
+        assertEquals(taskD.getRank(), taskService.getTask(taskD.getId()).getRank(), "Task D should not move");
+    }
+
+    @Test
+    void testReorderTask_IntoOtherColumn_ShouldMoveBeforeNeighbour() throws SQLException, ValidationException {
+        // Given
+        Column targetColumn = testBoard.getColumns().get(1);
+        Task task = taskService.createTask(testColumn.getId(), "Task to move");
+        Task existing = taskService.createTask(targetColumn.getId(), "Existing task");
+
+        // When
+        taskService.reorderTask(task.getId(), null, existing.getId());
+
+        // Then
+        List<Task> targetTasks = taskService.getTasksByColumn(targetColumn.getId());
+        assertEquals(List.of("Task to move", "Existing task"), targetTasks.stream().map(Task::getTitle).toList(),
+            "Moved task should be first in the target column");
+        assertTrue(taskService.getTasksByColumn(testColumn.getId()).isEmpty(), "Source column should be empty");
+    }
+
+    @Test
+    void testReorderTask_WhenKeysGrowTooLong_ShouldRebalanceColumn() throws SQLException, ValidationException {
+        // Given
+        TaskService service = new TaskService(new TaskDAO(), new ColumnDAO(),
+            new RankRebalancer(Runnable::run));
+        Task first = service.createTask(testColumn.getId(), "First");
+        Task second = service.createTask(testColumn.getId(), "Second");
+        Task third = service.createTask(testColumn.getId(), "Third");
+
+        // When - keep squeezing a task into the gap right after the first one
+        for (int i = 0; i < 100; i++) {
+            Task moved = i % 2 == 0 ? third : second;
+            Task next = service.getTasksByColumn(testColumn.getId()).get(1);
+            service.reorderTask(moved.getId(), first.getId(), next.getId());
+        }
+
+        // Then
+        List<Task> tasks = service.getTasksByColumn(testColumn.getId());
+        assertEquals(3, tasks.size());
+        assertEquals("First", tasks.get(0).getTitle(), "First task should stay first");
+        for (Task task : tasks) {
+            assertFalse(Rank.needsRebalance(task.getRank()), "Ranks should be rebalanced to short keys");
+        }
+    }
+
+    @Test
+    void testReorderTask_WithNeighboursInDifferentColumns_ShouldThrowValidationException() throws SQLException, ValidationException {
+        // Given
+        Task task = taskService.createTask(testColumn.getId(), "Task");
+        Task before = taskService.createTask(testColumn.getId(), "Before");
+        Task after = taskService.createTask(testBoard.getColumns().get(1).getId(), "After");
+
+        // When & Then
+        ValidationException exception = assertThrows(ValidationException.class,
+            () -> taskService.reorderTask(task.getId(), before.getId(), after.getId()));
+
+        assertEquals("Neighbouring tasks must be in the same column", exception.getMessage());
+    }
+
     /**
      * Test User Story #3: Task Movement
      * Acceptance Criteria:
@@ -261,7 +405,8 @@ class TaskServiceTest {
         // Then
         Task movedTask = taskService.getTask(task1.getId());
         assertEquals(targetColumn.getId(), movedTask.getColumnId(), "Task should be moved to target column");
-        assertEquals(2, movedTask.getPosition(), "Moved task should be positioned after existing tasks");
+        assertTrue(movedTask.getRank().compareTo(existingTaskInTarget.getRank()) > 0,
+            "Moved task should rank after existing tasks");
 
         // Verify source column still has task2
         List<Task> sourceColumnTasks = taskService.getTasksByColumn(sourceColumn.getId());
@@ -289,7 +434,6 @@ class TaskServiceTest {
         // Then
         Task movedTask = taskService.getTask(task.getId());
         assertEquals(emptyColumn.getId(), movedTask.getColumnId(), "Task should be moved to empty column");
-        assertEquals(1, movedTask.getPosition(), "Task should be at position 1 in empty column");
 
         List<Task> emptyColumnTasks = taskService.getTasksByColumn(emptyColumn.getId());
         assertEquals(1, emptyColumnTasks.size(), "Empty column should now have 1 task");
@@ -346,4 +490,59 @@ class TaskServiceTest {
 
         assertEquals("Column not found with ID: " + nonExistentColumnId, exception.getMessage());
     }
+
+    @Test
+    void testSearch_ShouldRankPrefixMatchesAndHighlightSnippets() throws SQLException, ValidationException {
+        // Given
+        Board otherBoard = boardService.createBoard("Other Board for Search");
+        taskService.createTask(otherBoard.getColumns().get(0).getId(), "Deploy pipeline");
+        Task inTitle = taskService.createTask(testColumn.getId(), "Deploy pipeline", "Ship the release build");
+        Task inDescription = taskService.createTask(testColumn.getId(), "Release notes", "Mention the deployment window");
+        taskService.createTask(testColumn.getId(), "Unrelated", "Nothing to see");
+
+        // When
+        List<TaskSearchResult> results = taskService.search(testBoard.getId(), "depl", 10);
+
+        // Then
+        assertEquals(List.of(inTitle.getId(), inDescription.getId()),
+            results.stream().map(result -> result.getTask().getId()).toList(),
+            "Prefix should match this board's tasks, title matches first");
+        assertTrue(results.get(0).getSnippet().contains(
+            TaskSearchResult.MATCH_START + "Deploy" + TaskSearchResult.MATCH_END), "Snippet should highlight the match");
+        assertFalse(results.get(0).getTask().isDescriptionLoaded(), "Results should hold task summaries");
+    }
+
+    @Test
+    void testSearch_ShouldFollowTaskUpdatesAndDeletes() throws SQLException, ValidationException {
+        // Given
+        Task task = taskService.createTask(testColumn.getId(), "Quarterly report");
+
+        // When
+        taskService.updateTask(task.getId(), "Annual summary", "\"Quoted\" OR text*");
+
+        // Then
+        assertTrue(taskService.search(testBoard.getId(), "quarterly", 10).isEmpty(), "Old title should not match");
+        assertEquals(1, taskService.search(testBoard.getId(), "annual \"quoted\" OR", 10).size(),
+            "New text should match, with operators in the query treated as words");
+
+        // When
+        taskService.deleteTask(task.getId());
+
+        // Then
+        assertTrue(taskService.search(testBoard.getId(), "annual", 10).isEmpty(), "Deleted task should not match");
+        assertTrue(taskService.search(testBoard.getId(), "  ** ", 10).isEmpty(), "Query without words should match nothing");
+    }
+
+    @Test
+    void testFindTasks_WithReversedDueRange_ShouldThrowValidationException() {
+        // Given
+        TaskQuery query = TaskQuery.builder()
+            .board(testBoard.getId())
+            .dueBetween(LocalDate.of(2030, 2, 1), LocalDate.of(2030, 1, 1))
+            .build();
+
+        // When & Then
+        ValidationException exception = assertThrows(ValidationException.class, () -> taskService.findTasks(query));
+        assertEquals("Due date range starts after it ends", exception.getMessage());
+    }
 }
@@ -0,0 +1,123 @@
+package ee.vikk.kanban.workload;
+
+import ee.vikk.kanban.model.Board;
+import ee.vikk.kanban.model.Column;
+import ee.vikk.kanban.model.Task;
+import ee.vikk.kanban.repository.memory.InMemoryStorage;
+import ee.vikk.kanban.service.BoardService;
+import ee.vikk.kanban.service.RankRebalancer;
+import ee.vikk.kanban.service.TaskService;
+import ee.vikk.kanban.service.ValidationException;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for WorkloadGenerator and WorkloadReplay on in-memory storage
+ */
+class WorkloadGeneratorTest {
+
+    private static final WorkloadSpec SPEC = WorkloadSpec.builder()
+        .seed(7)
+        .boards(3)
+        .columnsPerBoard(4)
+        .tasksPerBoard(20, 40)
+        .distribution(WorkloadSpec.TaskDistribution.FRONT_LOADED)
+        .descriptionLength(10, 50)
+        .tags(5, 3)
+        .dueDates(0.5, 10)
+        .build();
+
+    @Test
+    void testGenerate_SameSeed_ShouldProduceSameData() throws SQLException, ValidationException {
+        // Given
+        InMemoryStorage first = new InMemoryStorage();
+        InMemoryStorage second = new InMemoryStorage();
+
+        // When
+        GeneratedWorkload firstWorkload = generator(first).generate(SPEC);
+        GeneratedWorkload secondWorkload = generator(second).generate(SPEC);
+
+        // Then
+        assertEquals(3, firstWorkload.getBoardIds().size(), "Every board should be generated");
+        assertEquals(firstWorkload.getTaskCount(), secondWorkload.getTaskCount(), "Task counts should match");
+        assertEquals(describe(first, firstWorkload), describe(second, secondWorkload),
+            "Same seed should generate the same tasks");
+        assertTrue(firstWorkload.getTagAssignmentCount() > 0, "Tasks should carry tags");
+    }
+
+    @Test
+    void testGenerate_ShouldFollowSpec() throws SQLException, ValidationException {
+        // Given
+        InMemoryStorage storage = new InMemoryStorage();
+
+        // When
+        GeneratedWorkload workload = generator(storage).generate(SPEC);
+
+        // Then
+        BoardService boardService = new BoardService(storage.getBoardRepository(), storage.getColumnRepository(),
+            storage.getUnitOfWork());
+        for (Integer boardId : workload.getBoardIds()) {
+            Board board = boardService.getBoardWithTasks(boardId);
+            assertEquals(4, board.getColumns().size(), "Board should have the configured columns");
+            int tasks = board.getColumns().stream().mapToInt(column -> column.getTasks().size()).sum();
+            assertTrue(tasks >= 20 && tasks <= 40, "Task count should be within the range: " + tasks);
+            assertTrue(board.getColumns().get(0).getTasks().size() > board.getColumns().get(3).getTasks().size(),
+                "Front-loaded distribution should favour the first column");
+            for (Column column : board.getColumns()) {
+                for (Task task : column.getTasks()) {
+                    int length = task.getDescription().length();
+                    assertTrue(length >= 10 && length <= 50, "Description length should be within the range");
+                    assertTrue(task.getTags().size() <= 3, "Task should carry at most the configured tags");
+                }
+            }
+        }
+        assertThrows(ValidationException.class,
+            () -> generator(storage).generate(WorkloadSpec.builder().tasksPerBoard(5, 1).build()),
+            "Inverted task range should be rejected");
+    }
+
+    @Test
+    void testReplay_ShouldRunEveryOperationAndReportLatencies() throws SQLException, ValidationException {
+        // Given
+        InMemoryStorage storage = new InMemoryStorage();
+        GeneratedWorkload workload = generator(storage).generate(SPEC);
+        TaskService taskService = new TaskService(storage.getTaskRepository(), storage.getColumnRepository(),
+            new RankRebalancer(Runnable::run));
+
+        // When
+        ReplayReport report = new WorkloadReplay(taskService, 7).run(workload, WorkloadReplay.DEFAULT_MIX, 500, 0);
+
+        // Then
+        LatencySummary overall = report.getOverall();
+        assertEquals(500, overall.getCount(), "Every operation should be counted");
+        assertEquals(0, overall.getErrors(), "Replay on generated boards should not fail");
+        for (WorkloadReplay.Operation operation : WorkloadReplay.Operation.values()) {
+            assertTrue(report.getByOperation().get(operation).getCount() > 0, operation + " should run");
+        }
+        assertTrue(overall.getP50Nanos() <= overall.getP99Nanos() && overall.getP99Nanos() <= overall.getMaxNanos(),
+            "Percentiles should be ordered");
+        assertTrue(report.getThroughput() > 0, "Throughput should be positive");
+    }
+
+    private static WorkloadGenerator generator(InMemoryStorage storage) {
+        return new WorkloadGenerator(storage.getBoardRepository(), storage.getColumnRepository(),
+            storage.getTaskRepository(), storage.getTagRepository(), storage.getUnitOfWork());
+    }
+
+    private static List<String> describe(InMemoryStorage storage, GeneratedWorkload workload) throws SQLException {
+        List<String> tasks = new ArrayList<>();
+        for (Integer boardId : workload.getBoardIds()) {
+            for (Integer taskId : workload.getTaskIds(boardId)) {
+                Task task = storage.getTaskRepository().findById(taskId);
+                tasks.add(task.getTitle() + "|" + task.getDescription() + "|" + task.getPriority() + "|"
+                    + task.getDueDate() + "|" + task.getCreatedAt());
+            }
+        }
+        return tasks;
+    }
+}